@@ -0,0 +1,20 @@
+package com.turfBooking.config;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Marks a read-only service method whose concurrent calls with equal arguments may share one execution.
+ * Arguments must have meaningful toString() values; callers inside a transaction always run it themselves.
+ * Coalesced callers share the returned object, so callers must not modify it.
+ * A caller that waits longer than the timeout gets a CoalescedTimeoutException instead of the result.
+ */
+@Target(ElementType.METHOD)
+@Retention(RetentionPolicy.RUNTIME)
+public @interface Coalesced {
+
+    // How long callers wait for another call's execution; negative uses single-flight.timeout-ms
+    long timeoutMs() default -1;
+}
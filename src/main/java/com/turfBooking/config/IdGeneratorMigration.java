@@ -0,0 +1,55 @@
+package com.turfBooking.config;
+
+import jakarta.annotation.PostConstruct;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.DependsOn;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+
+/**
+ * Moves the pooled ID generators in id_generators past the IDs already stored in each table.
+ * Tables created while entities used IDENTITY columns keep their existing IDs; new rows get
+ * IDs from the generator, which must therefore start above the current maximum.
+ * Runs once the EntityManagerFactory (and with it the id_generators table) exists and
+ * before the web server starts taking requests; safe to run on every startup.
+ */
+@Component
+@DependsOn("entityManagerFactory")
+public class IdGeneratorMigration {
+
+    private static final Logger log = LoggerFactory.getLogger(IdGeneratorMigration.class);
+
+    // Must match allocationSize of the @TableGenerator declarations
+    private static final int ALLOCATION_SIZE = 50;
+
+    private static final String[] TABLES = {"users", "turfs", "turf_images", "bookings", "blocked_slots"};
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @PostConstruct
+    public void alignGenerators() {
+        jdbcTemplate.execute("CREATE TABLE IF NOT EXISTS id_generators " +
+                "(gen_name VARCHAR(255) NOT NULL PRIMARY KEY, gen_value BIGINT)");
+
+        for (String table : TABLES) {
+            Map<String, Object> row = jdbcTemplate.queryForMap("SELECT COALESCE(MAX(id), 0) AS max_id FROM " + table);
+            long maxId = ((Number) row.get("max_id")).longValue();
+            if (maxId == 0) {
+                continue;
+            }
+
+            // Leave a full block of headroom so no optimizer interpretation can hand out maxId or below
+            long floor = maxId + 1 + ALLOCATION_SIZE;
+            int changed = jdbcTemplate.update("INSERT INTO id_generators (gen_name, gen_value) VALUES (?, ?) " +
+                    "ON DUPLICATE KEY UPDATE gen_value = GREATEST(gen_value, VALUES(gen_value))", table, floor);
+            if (changed > 0) {
+                log.info("Moved id generator for {} past existing id {}", table, maxId);
+            }
+        }
+    }
+}
@@ -0,0 +1,65 @@
+package com.turfBooking.config;
+
+import com.turfBooking.service.implementation.SingleFlight;
+import org.aopalliance.intercept.MethodInterceptor;
+import org.springframework.aop.framework.ProxyFactory;
+import org.springframework.aop.support.AopUtils;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.annotation.AnnotatedElementUtils;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.util.ReflectionUtils;
+
+import java.lang.reflect.Method;
+import java.util.Arrays;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Puts a single-flight proxy in front of beans with {@link Coalesced} methods, outside their
+ * transactional proxy, so the service interfaces stay unchanged.
+ */
+@Configuration
+public class SingleFlightConfig {
+
+    @Bean
+    public static BeanPostProcessor singleFlightPostProcessor(ObjectProvider<SingleFlight> singleFlight) {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                Class<?> targetClass = AopUtils.getTargetClass(bean);
+                if (!hasCoalescedMethods(targetClass)) {
+                    return bean;
+                }
+                ProxyFactory proxyFactory = new ProxyFactory(bean);
+                proxyFactory.addAdvice((MethodInterceptor) invocation -> {
+                    Method method = AopUtils.getMostSpecificMethod(invocation.getMethod(), targetClass);
+                    Coalesced coalesced = AnnotatedElementUtils.findMergedAnnotation(method, Coalesced.class);
+                    if (coalesced == null || TransactionSynchronizationManager.isActualTransactionActive()) {
+                        return invocation.proceed();
+                    }
+                    String key = targetClass.getSimpleName() + "." + method.getName()
+                            + Arrays.deepToString(invocation.getArguments());
+                    return singleFlight.getObject().execute(key, coalesced.timeoutMs(), () -> {
+                        try {
+                            return invocation.proceed();
+                        } catch (RuntimeException | Error e) {
+                            throw e;
+                        } catch (Throwable e) {
+                            throw new RuntimeException(e);
+                        }
+                    });
+                });
+                return proxyFactory.getProxy();
+            }
+        };
+    }
+
+    private static boolean hasCoalescedMethods(Class<?> targetClass) {
+        AtomicBoolean found = new AtomicBoolean();
+        ReflectionUtils.doWithMethods(targetClass, method -> found.set(true),
+                method -> method.isAnnotationPresent(Coalesced.class));
+        return found.get();
+    }
+}
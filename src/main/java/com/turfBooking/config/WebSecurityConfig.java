@@ -2,6 +2,7 @@ package com.turfBooking.config;
 
 import com.turfBooking.security.JwtAuthenticationEntryPoint;
 import com.turfBooking.security.JwtRequestFilter;
+import jakarta.servlet.DispatcherType;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.security.authentication.AuthenticationManager;
@@ -19,6 +20,11 @@ import org.springframework.web.cors.UrlBasedCorsConfigurationSource;
 
 import java.util.Arrays;
 
+/**
+ * Stateless JWT security. Clients send "Authorization: Bearer <token>". Availability streams opened from a
+ * browser's EventSource, which cannot set headers, pass a short-lived single-use ticket as the ticket query
+ * parameter instead; the login token is never read from a URL (see {@link JwtRequestFilter}).
+ */
 @Configuration
 @EnableMethodSecurity
 public class WebSecurityConfig {
@@ -38,6 +44,8 @@ public class WebSecurityConfig {
                 .cors(cors -> cors.configurationSource(corsConfigurationSource()))
                 .csrf(csrf -> csrf.disable())
                 .authorizeHttpRequests(auth -> auth
+                        // Async dispatches of an SSE stream were already authorized when the stream was opened
+                        .dispatcherTypeMatchers(DispatcherType.ASYNC).permitAll()
                         // CRITICAL FIX: Allow public access to authentication and file serving endpoints
                         .requestMatchers("/api/auth/**").permitAll()
                         .requestMatchers("/api/files/**").permitAll()  // THIS IS THE KEY FIX
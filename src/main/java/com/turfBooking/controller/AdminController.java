@@ -1,17 +1,25 @@
 package com.turfBooking.controller;
 
 // Im the admin
-import com.turfBooking.dto.BookingResponseDTO;
-import com.turfBooking.dto.TurfResponseDTO;
-import com.turfBooking.dto.UserResponseDTO;
+import com.turfBooking.service.implementation.BookingExportService;
 import com.turfBooking.service.interfaces.BookingService;
 import com.turfBooking.service.interfaces.TurfService;
 import com.turfBooking.service.interfaces.UserService;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.server.ResponseStatusException;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.time.LocalDate;
+import java.util.HashMap;
+import java.util.Map;
 
-import java.util.List;
 //
 @RestController
 @RequestMapping("/api/admin")
@@ -28,10 +36,20 @@ public class AdminController {
     @Autowired
     private BookingService bookingService;
 
+    @Autowired
+    private BookingExportService bookingExportService;
+
     // User management
     @GetMapping("/users")
-    public List<UserResponseDTO> getAllUsers() {
-        return userService.getAllUsers();
+    public ResponseEntity<?> getAllUsers(@RequestParam(required = false) String cursor,
+                                         @RequestParam(required = false) Integer size) {
+        try {
+            return ResponseEntity.ok(userService.getUsersPage(cursor, size));
+        } catch (Exception e) {
+            Map<String, String> error = new HashMap<>();
+            error.put("error", e.getMessage());
+            return ResponseEntity.badRequest().body(error);
+        }
     }
 
     @DeleteMapping("/users/{id}")
@@ -41,8 +59,15 @@ public class AdminController {
 
     // Turf management
     @GetMapping("/turfs")
-    public List<TurfResponseDTO> getAllTurfs() {
-        return turfService.getAllTurfs();
+    public ResponseEntity<?> getAllTurfs(@RequestParam(required = false) String cursor,
+                                         @RequestParam(required = false) Integer size) {
+        try {
+            return ResponseEntity.ok(turfService.getTurfsPage(cursor, size));
+        } catch (Exception e) {
+            Map<String, String> error = new HashMap<>();
+            error.put("error", e.getMessage());
+            return ResponseEntity.badRequest().body(error);
+        }
     }
 
     @DeleteMapping("/turfs/{id}")
@@ -52,8 +77,34 @@ public class AdminController {
 
     // Booking management
     @GetMapping("/bookings")
-    public List<BookingResponseDTO> getAllBookings() {
-        return bookingService.getAllBookings();
+    public ResponseEntity<?> getAllBookings(@RequestParam(required = false) String cursor,
+                                            @RequestParam(required = false) Integer size) {
+        try {
+            return ResponseEntity.ok(bookingService.getBookingsPage(cursor, size));
+        } catch (Exception e) {
+            Map<String, String> error = new HashMap<>();
+            error.put("error", e.getMessage());
+            return ResponseEntity.badRequest().body(error);
+        }
+    }
+
+    @GetMapping("/bookings/export")
+    public ResponseEntity<StreamingResponseBody> exportBookings(@RequestParam(defaultValue = "ndjson") String format,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to) {
+        // The body type must stay StreamingResponseBody for Spring to stream it, so errors are thrown
+        if (!BookingExportService.isSupportedFormat(format) || from.isAfter(to)) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST,
+                    "Format must be ndjson or csv and 'from' must not be after 'to'");
+        }
+
+        StreamingResponseBody body = out -> bookingExportService.exportBookings(format, from, to, out);
+        boolean csv = BookingExportService.FORMAT_CSV.equals(format);
+        return ResponseEntity.ok()
+                .contentType(csv ? new MediaType("text", "csv") : new MediaType("application", "x-ndjson"))
+                .header(HttpHeaders.CONTENT_DISPOSITION,
+                        "attachment; filename=\"bookings-" + from + "-" + to + "." + format + "\"")
+                .body(body);
     }
 
     @DeleteMapping("/bookings/{id}")
@@ -0,0 +1,40 @@
+package com.turfBooking.controller;
+
+import com.turfBooking.dto.AvailabilityGridDTO;
+import com.turfBooking.service.interfaces.AvailabilityService;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.time.LocalDate;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+@RestController
+@RequestMapping("/api/availability")
+@CrossOrigin(origins = "*")
+public class AvailabilityController {
+
+    @Autowired
+    private AvailabilityService availabilityService;
+
+    // Slot states for several turfs over several days in one response
+    @GetMapping("/grid")
+    public ResponseEntity<?> getAvailabilityGrid(
+            @RequestParam List<Long> turfIds,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to,
+            @RequestParam(required = false) Integer slotMinutes) {
+        try {
+            AvailabilityGridDTO grid = availabilityService.getAvailabilityGrid(turfIds, from, to, slotMinutes);
+            return ResponseEntity.ok(grid);
+        } catch (Exception e) {
+            Map<String, String> error = new HashMap<>();
+            error.put("error", e.getMessage());
+            return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(error);
+        }
+    }
+}
@@ -2,10 +2,16 @@ package com.turfBooking.controller;
 
 import com.turfBooking.dto.BlockedSlotRequestDTO;
 import com.turfBooking.dto.BlockedSlotResponseDTO;
+import com.turfBooking.dto.BlockedSlotRuleRequestDTO;
+import com.turfBooking.dto.BlockedSlotRuleResponseDTO;
+import com.turfBooking.dto.BulkBlockedSlotRequestDTO;
+import com.turfBooking.dto.BulkBlockedSlotResponseDTO;
+import com.turfBooking.exception.SlotContendedException;
 import com.turfBooking.service.interfaces.BlockedSlotService;
 import jakarta.validation.Valid;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
@@ -30,6 +36,12 @@ import java.util.Map;
         try {
             BlockedSlotResponseDTO createdBlockedSlot = blockedSlotService.createBlockedSlot(requestDTO);
             return ResponseEntity.status(HttpStatus.CREATED).body(createdBlockedSlot);
+        } catch (SlotContendedException e) {
+            Map<String, String> error = new HashMap<>();
+            error.put("error", e.getMessage());
+            return ResponseEntity.status(HttpStatus.CONFLICT)
+                    .header(HttpHeaders.RETRY_AFTER, "1")
+                    .body(error);
         } catch (Exception e) {
             Map<String, String> error = new HashMap<>();
             error.put("error", e.getMessage());
@@ -39,9 +51,71 @@ import java.util.Map;
 
     // Get all blocked slots
     @GetMapping
-    public ResponseEntity<List<BlockedSlotResponseDTO>> getAllBlockedSlots() {
-        List<BlockedSlotResponseDTO> blockedSlots = blockedSlotService.getAllBlockedSlots();
-        return ResponseEntity.ok(blockedSlots);
+    public ResponseEntity<?> getAllBlockedSlots(@RequestParam(required = false) String cursor,
+                                                @RequestParam(required = false) Integer size) {
+        try {
+            return ResponseEntity.ok(blockedSlotService.getBlockedSlotsPage(cursor, size));
+        } catch (Exception e) {
+            Map<String, String> error = new HashMap<>();
+            error.put("error", e.getMessage());
+            return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(error);
+        }
+    }
+
+    // Block the same window on many turfs and dates; conflicting turf-days are reported, not failed
+    @PostMapping("/bulk")
+    @PreAuthorize("hasRole('TURF_OWNER') or hasRole('ADMIN')")
+    public ResponseEntity<?> createBlockedSlotsInBulk(@Valid @RequestBody BulkBlockedSlotRequestDTO requestDTO) {
+        try {
+            BulkBlockedSlotResponseDTO report = blockedSlotService.createBlockedSlotsInBulk(requestDTO);
+            return ResponseEntity.ok(report);
+        } catch (SlotContendedException e) {
+            Map<String, String> error = new HashMap<>();
+            error.put("error", e.getMessage());
+            return ResponseEntity.status(HttpStatus.CONFLICT)
+                    .header(HttpHeaders.RETRY_AFTER, "1")
+                    .body(error);
+        } catch (Exception e) {
+            Map<String, String> error = new HashMap<>();
+            error.put("error", e.getMessage());
+            return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(error);
+        }
+    }
+
+    // Create a recurring blocked-slot rule
+    @PostMapping("/rules")
+    @PreAuthorize("hasRole('TURF_OWNER') or hasRole('ADMIN')")
+    public ResponseEntity<?> createBlockedSlotRule(@Valid @RequestBody BlockedSlotRuleRequestDTO requestDTO) {
+        try {
+            BlockedSlotRuleResponseDTO createdRule = blockedSlotService.createBlockedSlotRule(requestDTO);
+            return ResponseEntity.status(HttpStatus.CREATED).body(createdRule);
+        } catch (Exception e) {
+            Map<String, String> error = new HashMap<>();
+            error.put("error", e.getMessage());
+            return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(error);
+        }
+    }
+
+    // Get recurring blocked-slot rules of a turf
+    @GetMapping("/rules/turf/{turfId}")
+    public ResponseEntity<List<BlockedSlotRuleResponseDTO>> getBlockedSlotRulesByTurfId(@PathVariable Long turfId) {
+        return ResponseEntity.ok(blockedSlotService.getBlockedSlotRulesByTurfId(turfId));
+    }
+
+    // Delete a recurring blocked-slot rule
+    @DeleteMapping("/rules/{id}")
+    @PreAuthorize("hasRole('TURF_OWNER') or hasRole('ADMIN')")
+    public ResponseEntity<?> deleteBlockedSlotRule(@PathVariable Long id) {
+        try {
+            blockedSlotService.deleteBlockedSlotRule(id);
+            Map<String, String> response = new HashMap<>();
+            response.put("message", "Blocked slot rule deleted successfully");
+            return ResponseEntity.ok(response);
+        } catch (Exception e) {
+            Map<String, String> error = new HashMap<>();
+            error.put("error", e.getMessage());
+            return ResponseEntity.status(HttpStatus.NOT_FOUND).body(error);
+        }
     }
 
     // Get blocked slot by ID
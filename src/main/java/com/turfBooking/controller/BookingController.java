@@ -4,15 +4,24 @@ import com.turfBooking.dto.BookingRequestDTO;
 import com.turfBooking.dto.BookingResponseDTO;
 import com.turfBooking.dto.BookingUpdateDTO;
 import com.turfBooking.dto.BookingSearchDTO;
+import com.turfBooking.dto.BookingSeriesRequestDTO;
+import com.turfBooking.dto.BookingSeriesResponseDTO;
 import com.turfBooking.enums.BookingStatus;
+import com.turfBooking.exception.CoalescedTimeoutException;
+import com.turfBooking.exception.SlotContendedException;
+import com.turfBooking.service.implementation.BookingExportService;
 import com.turfBooking.service.interfaces.BookingService;
 import jakarta.validation.Valid;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.server.ResponseStatusException;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import java.math.BigDecimal;
 import java.time.LocalDate;
@@ -29,6 +38,9 @@ public class BookingController {
     @Autowired
     private BookingService bookingService;
 
+    @Autowired
+    private BookingExportService bookingExportService;
+
     // Create new booking
     @PostMapping
     @PreAuthorize("hasRole('USER') or hasRole('ADMIN')")
@@ -36,6 +48,33 @@ public class BookingController {
         try {
             BookingResponseDTO createdBooking = bookingService.createBooking(bookingRequestDTO);
             return ResponseEntity.status(HttpStatus.CREATED).body(createdBooking);
+        } catch (SlotContendedException e) {
+            Map<String, String> error = new HashMap<>();
+            error.put("error", e.getMessage());
+            return ResponseEntity.status(HttpStatus.CONFLICT)
+                    .header(HttpHeaders.RETRY_AFTER, "1")
+                    .body(error);
+        } catch (Exception e) {
+            Map<String, String> error = new HashMap<>();
+            error.put("error", e.getMessage());
+            return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(error);
+        }
+    }
+
+    // Create recurring booking series
+    @PostMapping("/series")
+    @PreAuthorize("hasRole('USER') or hasRole('ADMIN')")
+    public ResponseEntity<?> createBookingSeries(@Valid @RequestBody BookingSeriesRequestDTO seriesRequestDTO) {
+        try {
+            BookingSeriesResponseDTO series = bookingService.createBookingSeries(seriesRequestDTO);
+            HttpStatus status = series.getCreatedCount() > 0 ? HttpStatus.CREATED : HttpStatus.CONFLICT;
+            return ResponseEntity.status(status).body(series);
+        } catch (SlotContendedException e) {
+            Map<String, String> error = new HashMap<>();
+            error.put("error", e.getMessage());
+            return ResponseEntity.status(HttpStatus.CONFLICT)
+                    .header(HttpHeaders.RETRY_AFTER, "1")
+                    .body(error);
         } catch (Exception e) {
             Map<String, String> error = new HashMap<>();
             error.put("error", e.getMessage());
@@ -46,9 +85,15 @@ public class BookingController {
     // Get all bookings
     @GetMapping
     @PreAuthorize("hasRole('ADMIN')")
-    public ResponseEntity<List<BookingResponseDTO>> getAllBookings() {
-        List<BookingResponseDTO> bookings = bookingService.getAllBookings();
-        return ResponseEntity.ok(bookings);
+    public ResponseEntity<?> getAllBookings(@RequestParam(required = false) String cursor,
+                                            @RequestParam(required = false) Integer size) {
+        try {
+            return ResponseEntity.ok(bookingService.getBookingsPage(cursor, size));
+        } catch (Exception e) {
+            Map<String, String> error = new HashMap<>();
+            error.put("error", e.getMessage());
+            return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(error);
+        }
     }
 
     // Get booking by ID
@@ -58,6 +103,12 @@ public class BookingController {
         try {
             BookingResponseDTO booking = bookingService.getBookingById(id);
             return ResponseEntity.ok(booking);
+        } catch (CoalescedTimeoutException e) {
+            Map<String, String> error = new HashMap<>();
+            error.put("error", e.getMessage());
+            return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                    .header(HttpHeaders.RETRY_AFTER, "1")
+                    .body(error);
         } catch (Exception e) {
             Map<String, String> error = new HashMap<>();
             error.put("error", e.getMessage());
@@ -73,6 +124,12 @@ public class BookingController {
         try {
             BookingResponseDTO updatedBooking = bookingService.updateBooking(id, bookingUpdateDTO);
             return ResponseEntity.ok(updatedBooking);
+        } catch (SlotContendedException e) {
+            Map<String, String> error = new HashMap<>();
+            error.put("error", e.getMessage());
+            return ResponseEntity.status(HttpStatus.CONFLICT)
+                    .header(HttpHeaders.RETRY_AFTER, "1")
+                    .body(error);
         } catch (Exception e) {
             Map<String, String> error = new HashMap<>();
             error.put("error", e.getMessage());
@@ -174,9 +231,38 @@ public class BookingController {
     // Get bookings for turf owner (all their turfs)
     @GetMapping("/owner/{ownerId}")
     @PreAuthorize("hasRole('TURF_OWNER') or hasRole('ADMIN')")
-    public ResponseEntity<List<BookingResponseDTO>> getBookingsForTurfOwner(@PathVariable Long ownerId) {
-        List<BookingResponseDTO> bookings = bookingService.getBookingsForTurfOwner(ownerId);
-        return ResponseEntity.ok(bookings);
+    public ResponseEntity<?> getBookingsForTurfOwner(@PathVariable Long ownerId,
+                                                     @RequestParam(required = false) String cursor,
+                                                     @RequestParam(required = false) Integer size) {
+        try {
+            return ResponseEntity.ok(bookingService.getBookingsForTurfOwnerPage(ownerId, cursor, size));
+        } catch (Exception e) {
+            Map<String, String> error = new HashMap<>();
+            error.put("error", e.getMessage());
+            return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(error);
+        }
+    }
+
+    // Export bookings for turf owner as NDJSON or CSV
+    @GetMapping("/owner/{ownerId}/export")
+    @PreAuthorize("hasRole('TURF_OWNER') or hasRole('ADMIN')")
+    public ResponseEntity<StreamingResponseBody> exportBookingsForTurfOwner(@PathVariable Long ownerId,
+            @RequestParam(defaultValue = "ndjson") String format,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to) {
+        // The body type must stay StreamingResponseBody for Spring to stream it, so errors are thrown
+        if (!BookingExportService.isSupportedFormat(format) || from.isAfter(to)) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST,
+                    "Format must be ndjson or csv and 'from' must not be after 'to'");
+        }
+
+        StreamingResponseBody body = out -> bookingExportService.exportBookingsForTurfOwner(ownerId, format, from, to, out);
+        boolean csv = BookingExportService.FORMAT_CSV.equals(format);
+        return ResponseEntity.ok()
+                .contentType(csv ? new MediaType("text", "csv") : new MediaType("application", "x-ndjson"))
+                .header(HttpHeaders.CONTENT_DISPOSITION,
+                        "attachment; filename=\"bookings-" + from + "-" + to + "." + format + "\"")
+                .body(body);
     }
 
     // Get upcoming bookings for turf owner
@@ -255,6 +341,12 @@ public class BookingController {
             response.put("startTime", startTime);
             response.put("endTime", endTime);
             return ResponseEntity.ok(response);
+        } catch (CoalescedTimeoutException e) {
+            Map<String, String> error = new HashMap<>();
+            error.put("error", e.getMessage());
+            return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                    .header(HttpHeaders.RETRY_AFTER, "1")
+                    .body(error);
         } catch (Exception e) {
             Map<String, String> error = new HashMap<>();
             error.put("error", e.getMessage());
@@ -321,4 +413,14 @@ public class BookingController {
             return ResponseEntity.status(HttpStatus.NOT_FOUND).body(error);
         }
     }
-}
\ No newline at end of file
+
+    // Endpoints without their own error handling; a coalesced read that gave up waiting is worth a retry
+    @ExceptionHandler(CoalescedTimeoutException.class)
+    public ResponseEntity<Map<String, String>> handleCoalescedTimeout(CoalescedTimeoutException e) {
+        Map<String, String> error = new HashMap<>();
+        error.put("error", e.getMessage());
+        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                .header(HttpHeaders.RETRY_AFTER, "1")
+                .body(error);
+    }
+}
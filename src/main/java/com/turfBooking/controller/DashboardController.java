@@ -1,10 +1,11 @@
 package com.turfBooking.controller;
 
-import com.turfBooking.dto.BookingResponseDTO;
 import com.turfBooking.dto.TurfResponseDTO;
-import com.turfBooking.dto.UserResponseDTO;
+import com.turfBooking.enums.UserRole;
 import com.turfBooking.security.CustomUserDetails;
+import com.turfBooking.service.implementation.DashboardSectionLoader;
 import com.turfBooking.service.interfaces.BookingService;
+import com.turfBooking.service.interfaces.StatisticsService;
 import com.turfBooking.service.interfaces.TurfService;
 import com.turfBooking.service.interfaces.UserService;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -13,6 +14,7 @@ import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.web.bind.annotation.*;
 
+import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -31,6 +33,12 @@ public class DashboardController {
     @Autowired
     private UserService userService;
 
+    @Autowired
+    private DashboardSectionLoader dashboardSectionLoader;
+
+    @Autowired
+    private StatisticsService statisticsService;
+
     // Universal dashboard endpoint - returns data based on user role
     @GetMapping
     public ResponseEntity<?> getDashboardData() {
@@ -41,19 +49,27 @@ public class DashboardController {
             String role = userDetails.getRole();
             Long userId = userDetails.getUserId();
 
-            Map<String, Object> dashboardData = new HashMap<>();
-            dashboardData.put("userInfo", userService.getUserById(userId));
-            dashboardData.put("role", role);
+            DashboardSectionLoader.Batch sections = dashboardSectionLoader.newBatch();
+            sections.submit("userInfo", () -> userService.getUserById(userId));
 
             switch (role) {
                 case "USER":
-                    return ResponseEntity.ok(getUserDashboardData(userId, dashboardData));
+                    sections.submit("availableTurfs", turfService::getAllTurfs);
+                    sections.submit("upcomingBookings", () -> bookingService.getUpcomingBookingsForUser(userId));
+                    sections.submit("bookingHistory", () -> bookingService.getBookingsByUserId(userId));
+                    return ResponseEntity.ok(getUserDashboardData(collect(sections, role)));
 
                 case "TURF_OWNER":
-                    return ResponseEntity.ok(getTurfOwnerDashboardData(userId, dashboardData));
+                    sections.submit("ownedTurfs", () -> turfService.getTurfsByOwnerId(userId));
+                    sections.submit("allBookings", () -> bookingService.getBookingsForTurfOwner(userId));
+                    sections.submit("upcomingBookings", () -> bookingService.getUpcomingBookingsForTurfOwner(userId));
+                    return ResponseEntity.ok(getTurfOwnerDashboardData(collect(sections, role)));
 
                 case "ADMIN":
-                    return ResponseEntity.ok(getAdminDashboardData(dashboardData));
+                    sections.submit("allTurfs", turfService::getAllTurfs);
+                    sections.submit("allBookings", bookingService::getAllBookings);
+                    sections.submit("allUsers", userService::getAllUsers);
+                    return ResponseEntity.ok(getAdminDashboardData(collect(sections, role)));
 
                 default:
                     return ResponseEntity.badRequest().body("Invalid user role");
@@ -65,25 +81,30 @@ public class DashboardController {
         }
     }
 
-    // User Dashboard Data
-    private Map<String, Object> getUserDashboardData(Long userId, Map<String, Object> dashboardData) {
-        // All available turfs for booking
-        List<TurfResponseDTO> allTurfs = turfService.getAllTurfs();
-        dashboardData.put("availableTurfs", allTurfs);
-
-        // User's upcoming bookings
-        List<BookingResponseDTO> upcomingBookings = bookingService.getUpcomingBookingsForUser(userId);
-        dashboardData.put("upcomingBookings", upcomingBookings);
+    // Wait for the submitted sections; missing sections are listed under failedSections
+    private Map<String, Object> collect(DashboardSectionLoader.Batch sections, String role) {
+        List<String> failedSections = new ArrayList<>();
+        Map<String, Object> dashboardData = new HashMap<>(sections.await(failedSections));
+        dashboardData.put("role", role);
+        dashboardData.put("partial", !failedSections.isEmpty());
+        dashboardData.put("failedSections", failedSections);
+        return dashboardData;
+    }
 
-        // User's all bookings (for history)
-        List<BookingResponseDTO> allBookings = bookingService.getBookingsByUserId(userId);
-        dashboardData.put("bookingHistory", allBookings);
+    // Stats only count sections that loaded
+    private static void putSize(Map<String, Object> stats, String key, Object section) {
+        if (section instanceof List<?> list) {
+            stats.put(key, list.size());
+        }
+    }
 
+    // User Dashboard Data
+    private Map<String, Object> getUserDashboardData(Map<String, Object> dashboardData) {
         // Quick stats
         Map<String, Object> stats = new HashMap<>();
-        stats.put("totalBookings", allBookings.size());
-        stats.put("upcomingBookingsCount", upcomingBookings.size());
-        stats.put("availableTurfsCount", allTurfs.size());
+        putSize(stats, "totalBookings", dashboardData.get("bookingHistory"));
+        putSize(stats, "upcomingBookingsCount", dashboardData.get("upcomingBookings"));
+        putSize(stats, "availableTurfsCount", dashboardData.get("availableTurfs"));
         dashboardData.put("stats", stats);
 
         dashboardData.put("dashboardType", "USER_DASHBOARD");
@@ -91,24 +112,12 @@ public class DashboardController {
     }
 
     // Turf Owner Dashboard Data
-    private Map<String, Object> getTurfOwnerDashboardData(Long ownerId, Map<String, Object> dashboardData) {
-        // Owner's turfs
-        List<TurfResponseDTO> ownedTurfs = turfService.getTurfsByOwnerId(ownerId);
-        dashboardData.put("ownedTurfs", ownedTurfs);
-
-        // Bookings for owner's turfs
-        List<BookingResponseDTO> allBookings = bookingService.getBookingsForTurfOwner(ownerId);
-        dashboardData.put("allBookings", allBookings);
-
-        // Upcoming bookings for owner's turfs
-        List<BookingResponseDTO> upcomingBookings = bookingService.getUpcomingBookingsForTurfOwner(ownerId);
-        dashboardData.put("upcomingBookings", upcomingBookings);
-
+    private Map<String, Object> getTurfOwnerDashboardData(Map<String, Object> dashboardData) {
         // Quick stats
         Map<String, Object> stats = new HashMap<>();
-        stats.put("totalTurfs", ownedTurfs.size());
-        stats.put("totalBookings", allBookings.size());
-        stats.put("upcomingBookingsCount", upcomingBookings.size());
+        putSize(stats, "totalTurfs", dashboardData.get("ownedTurfs"));
+        putSize(stats, "totalBookings", dashboardData.get("allBookings"));
+        putSize(stats, "upcomingBookingsCount", dashboardData.get("upcomingBookings"));
 
         // Revenue calculation (if you have pricing logic)
         // BigDecimal totalRevenue = calculateTotalRevenue(allBookings);
@@ -121,29 +130,16 @@ public class DashboardController {
 
     // Admin Dashboard Data
     private Map<String, Object> getAdminDashboardData(Map<String, Object> dashboardData) {
-        // All system data
-        List<TurfResponseDTO> allTurfs = turfService.getAllTurfs();
-        List<BookingResponseDTO> allBookings = bookingService.getAllBookings();
-        List<UserResponseDTO> allUsers = userService.getAllUsers();
-
-        dashboardData.put("allTurfs", allTurfs);
-        dashboardData.put("allBookings", allBookings);
-        dashboardData.put("allUsers", allUsers);
-
-        // System-wide stats
+        // System-wide stats from the in-memory counters
         Map<String, Object> stats = new HashMap<>();
-        stats.put("totalUsers", allUsers.size());
-        stats.put("totalTurfs", allTurfs.size());
-        stats.put("totalBookings", allBookings.size());
+        stats.put("totalUsers", statisticsService.getTotalUsersCount());
+        stats.put("totalTurfs", statisticsService.getTotalTurfsCount());
+        stats.put("totalBookings", statisticsService.getTotalBookingsCount());
 
         // Count by roles
-        long regularUsers = allUsers.stream().filter(u -> "USER".equals(u.getRole())).count();
-        long turfOwners = allUsers.stream().filter(u -> "TURF_OWNER".equals(u.getRole())).count();
-        long admins = allUsers.stream().filter(u -> "ADMIN".equals(u.getRole())).count();
-
-        stats.put("regularUsers", regularUsers);
-        stats.put("turfOwners", turfOwners);
-        stats.put("admins", admins);
+        stats.put("regularUsers", statisticsService.getUsersCountByRole(UserRole.USER));
+        stats.put("turfOwners", statisticsService.getUsersCountByRole(UserRole.TURF_OWNER));
+        stats.put("admins", statisticsService.getUsersCountByRole(UserRole.ADMIN));
 
         dashboardData.put("stats", stats);
         dashboardData.put("dashboardType", "ADMIN_DASHBOARD");
@@ -196,7 +192,7 @@ public class DashboardController {
 
                 case "TURF_OWNER":
                     long ownedTurfs = turfService.getTurfsCountByOwner(userId);
-                    long ownerBookings = bookingService.getBookingsForTurfOwner(userId).size();
+                    long ownerBookings = statisticsService.getBookingsCountByOwner(userId);
                     stats.put("totalTurfs", ownedTurfs);
                     stats.put("totalBookings", ownerBookings);
                     break;
@@ -0,0 +1,50 @@
+package com.turfBooking.controller;
+
+import com.turfBooking.dto.FeedFileDTO;
+import com.turfBooking.service.implementation.AvailabilityFeedService;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.core.io.FileSystemResource;
+import org.springframework.core.io.Resource;
+import org.springframework.http.CacheControl;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+@RestController
+@RequestMapping("/api/feeds")
+@CrossOrigin(origins = "*")
+public class FeedController {
+
+    @Autowired
+    private AvailabilityFeedService availabilityFeedService;
+
+    // Current availability snapshot and the deltas published after it, oldest first
+    @GetMapping("/availability")
+    public ResponseEntity<Map<String, Object>> getAvailabilityFeed() {
+        List<FeedFileDTO> files = availabilityFeedService.getFiles();
+        Map<String, Object> response = new HashMap<>();
+        response.put("snapshot", files.isEmpty() ? null : files.get(0));
+        response.put("deltas", files.isEmpty() ? List.of() : files.subList(1, files.size()));
+        return ResponseEntity.ok(response);
+    }
+
+    // Download a feed file; If-None-Match and Range requests are handled for the Resource body
+    @GetMapping("/availability/{name:.+}")
+    public ResponseEntity<Resource> downloadAvailabilityFeed(@PathVariable String name) {
+        // Only files listed in the manifest can be served
+        Optional<FeedFileDTO> file = availabilityFeedService.findFile(name);
+        if (file.isEmpty()) {
+            return ResponseEntity.notFound().build();
+        }
+        return ResponseEntity.ok()
+                .contentType(MediaType.parseMediaType("application/gzip"))
+                .eTag(file.get().getEtag())
+                .cacheControl(CacheControl.noCache())
+                .body(new FileSystemResource(availabilityFeedService.resolve(file.get())));
+    }
+}
@@ -1,18 +1,32 @@
 package com.turfBooking.controller;
 
+import com.turfBooking.dto.FreeSlotDTO;
+import com.turfBooking.dto.TurfDetailDTO;
 import com.turfBooking.dto.TurfRequestDTO;
 import com.turfBooking.dto.TurfResponseDTO;
 import com.turfBooking.dto.TurfSearchDTO;
+import com.turfBooking.dto.TurfSuggestionDTO;
 import com.turfBooking.dto.TurfUpdateDTO;
 import com.turfBooking.enums.SportType;
+import com.turfBooking.exception.CoalescedTimeoutException;
+import com.turfBooking.exception.IndexNotReadyException;
+import com.turfBooking.exception.TurfNotFoundException;
+import com.turfBooking.service.implementation.AvailabilityStreamHub;
+import com.turfBooking.service.implementation.StreamTicketService;
 import com.turfBooking.service.interfaces.TurfService;
 import jakarta.validation.Valid;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.server.ResponseStatusException;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
 import java.math.BigDecimal;
 import java.time.LocalDate;
@@ -29,6 +43,12 @@ public class TurfController {
     @Autowired
     private TurfService turfService;
 
+    @Autowired
+    private AvailabilityStreamHub availabilityStreamHub;
+
+    @Autowired
+    private StreamTicketService streamTicketService;
+
     // Create new turf
     @PostMapping
     @PreAuthorize("hasRole('TURF_OWNER') or hasRole('ADMIN')")
@@ -45,9 +65,15 @@ public class TurfController {
 
     // Get all turfs
     @GetMapping
-    public ResponseEntity<List<TurfResponseDTO>> getAllTurfs() {
-        List<TurfResponseDTO> turfs = turfService.getAllTurfs();
-        return ResponseEntity.ok(turfs);
+    public ResponseEntity<?> getAllTurfs(@RequestParam(required = false) String cursor,
+                                         @RequestParam(required = false) Integer size) {
+        try {
+            return ResponseEntity.ok(turfService.getTurfsPage(cursor, size));
+        } catch (Exception e) {
+            Map<String, String> error = new HashMap<>();
+            error.put("error", e.getMessage());
+            return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(error);
+        }
     }
 
     // Get turf by ID
@@ -56,6 +82,12 @@ public class TurfController {
         try {
             TurfResponseDTO turf = turfService.getTurfById(id);
             return ResponseEntity.ok(turf);
+        } catch (CoalescedTimeoutException e) {
+            Map<String, String> error = new HashMap<>();
+            error.put("error", e.getMessage());
+            return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                    .header(HttpHeaders.RETRY_AFTER, "1")
+                    .body(error);
         } catch (Exception e) {
             Map<String, String> error = new HashMap<>();
             error.put("error", e.getMessage());
@@ -131,21 +163,34 @@ public class TurfController {
         return ResponseEntity.ok(turfs);
     }
 
-    // Advanced search with multiple criteria
+    // Advanced search with multiple criteria; a date adds time window / free duration constraints
     @PostMapping("/search")
-    public ResponseEntity<List<TurfResponseDTO>> searchTurfs(@RequestBody TurfSearchDTO searchDTO) {
-        List<TurfResponseDTO> turfs = turfService.searchTurfs(searchDTO);
-        return ResponseEntity.ok(turfs);
+    public ResponseEntity<?> searchTurfs(@RequestBody TurfSearchDTO searchDTO) {
+        try {
+            List<TurfResponseDTO> turfs = turfService.searchTurfs(searchDTO);
+            return ResponseEntity.ok(turfs);
+        } catch (Exception e) {
+            Map<String, String> error = new HashMap<>();
+            error.put("error", e.getMessage());
+            return ResponseEntity.badRequest().body(error);
+        }
     }
 
     // Get available time slots for a turf on a specific date
     @GetMapping("/{id}/available-slots")
     public ResponseEntity<?> getAvailableTimeSlots(
             @PathVariable Long id,
-            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate date) {
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate date,
+            @RequestParam(required = false) Integer slotMinutes) {
         try {
-            List<LocalTime> availableSlots = turfService.getAvailableTimeSlots(id, date);
+            List<LocalTime> availableSlots = turfService.getAvailableTimeSlots(id, date, slotMinutes);
             return ResponseEntity.ok(availableSlots);
+        } catch (CoalescedTimeoutException e) {
+            Map<String, String> error = new HashMap<>();
+            error.put("error", e.getMessage());
+            return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                    .header(HttpHeaders.RETRY_AFTER, "1")
+                    .body(error);
         } catch (Exception e) {
             Map<String, String> error = new HashMap<>();
             error.put("error", e.getMessage());
@@ -153,6 +198,137 @@ public class TurfController {
         }
     }
 
+    // One-time ticket for opening the availability stream of a turf-day from a browser's EventSource
+    @PostMapping("/{id}/availability/stream-ticket")
+    public ResponseEntity<?> issueStreamTicket(
+            @PathVariable Long id,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate date) {
+        try {
+            turfService.getTurfById(id);
+            Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+            Map<String, Object> ticket = new HashMap<>();
+            ticket.put("ticket", streamTicketService.issue(authentication.getName(), id, date));
+            ticket.put("expiresInSeconds", streamTicketService.getTtlSeconds());
+            return ResponseEntity.ok(ticket);
+        } catch (CoalescedTimeoutException e) {
+            Map<String, String> error = new HashMap<>();
+            error.put("error", e.getMessage());
+            return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                    .header(HttpHeaders.RETRY_AFTER, "1")
+                    .body(error);
+        } catch (TurfNotFoundException e) {
+            Map<String, String> error = new HashMap<>();
+            error.put("error", e.getMessage());
+            return ResponseEntity.status(HttpStatus.NOT_FOUND).body(error);
+        } catch (Exception e) {
+            Map<String, String> error = new HashMap<>();
+            error.put("error", e.getMessage());
+            return ResponseEntity.badRequest().body(error);
+        }
+    }
+
+    // Live availability of a turf-day: a snapshot of free slots, then booked/released/blocked deltas.
+    // Browsers' EventSource cannot set headers, so it authenticates with ?ticket= from the endpoint above
+    @GetMapping(value = "/{id}/availability/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter streamAvailability(
+            @PathVariable Long id,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate date) {
+        // SseEmitter must be the declared return type, so failures are thrown rather than returned
+        try {
+            return availabilityStreamHub.subscribe(id, date, () ->
+                    AvailabilityStreamHub.snapshot(id, date, turfService.getAvailableTimeSlots(id, date)));
+        } catch (TurfNotFoundException e) {
+            throw new ResponseStatusException(HttpStatus.NOT_FOUND, e.getMessage());
+        } catch (RuntimeException e) {
+            throw new ResponseStatusException(HttpStatus.SERVICE_UNAVAILABLE, e.getMessage());
+        }
+    }
+
+    // Turf detail page in one call; answers 304 when If-None-Match carries the current version
+    @GetMapping("/{id}/detail")
+    public ResponseEntity<?> getTurfDetail(@PathVariable Long id, @RequestParam(required = false) Integer days) {
+        try {
+            TurfDetailDTO detail = turfService.getTurfDetail(id, days);
+            return ResponseEntity.ok().eTag(detail.getVersion()).body(detail);
+        } catch (CoalescedTimeoutException e) {
+            Map<String, String> error = new HashMap<>();
+            error.put("error", e.getMessage());
+            return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                    .header(HttpHeaders.RETRY_AFTER, "1")
+                    .body(error);
+        } catch (TurfNotFoundException e) {
+            Map<String, String> error = new HashMap<>();
+            error.put("error", e.getMessage());
+            return ResponseEntity.status(HttpStatus.NOT_FOUND).body(error);
+        } catch (Exception e) {
+            Map<String, String> error = new HashMap<>();
+            error.put("error", e.getMessage());
+            return ResponseEntity.badRequest().body(error);
+        }
+    }
+
+    // Next free slots from a date onward, e.g. when the turf is full today
+    @GetMapping("/{id}/next-free")
+    public ResponseEntity<?> getNextFreeSlots(
+            @PathVariable Long id,
+            @RequestParam(required = false) Integer count,
+            @RequestParam(required = false) Integer duration,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from) {
+        try {
+            List<FreeSlotDTO> slots = turfService.getNextFreeSlots(id, from, count, duration);
+            return ResponseEntity.ok(slots);
+        } catch (CoalescedTimeoutException e) {
+            Map<String, String> error = new HashMap<>();
+            error.put("error", e.getMessage());
+            return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                    .header(HttpHeaders.RETRY_AFTER, "1")
+                    .body(error);
+        } catch (Exception e) {
+            Map<String, String> error = new HashMap<>();
+            error.put("error", e.getMessage());
+            return ResponseEntity.badRequest().body(error);
+        }
+    }
+
+    // Search box suggestions while the user types
+    @GetMapping("/autocomplete")
+    public ResponseEntity<?> autocomplete(@RequestParam String q, @RequestParam(required = false) Integer limit) {
+        try {
+            List<TurfSuggestionDTO> suggestions = turfService.autocomplete(q, limit);
+            return ResponseEntity.ok(suggestions);
+        } catch (IndexNotReadyException e) {
+            Map<String, String> error = new HashMap<>();
+            error.put("error", e.getMessage());
+            return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                    .header(HttpHeaders.RETRY_AFTER, "5")
+                    .body(error);
+        } catch (Exception e) {
+            Map<String, String> error = new HashMap<>();
+            error.put("error", e.getMessage());
+            return ResponseEntity.badRequest().body(error);
+        }
+    }
+
+    // Located turfs closest to a point, e.g. the user's position
+    @GetMapping("/nearby")
+    public ResponseEntity<?> getNearbyTurfs(
+            @RequestParam double lat,
+            @RequestParam double lng,
+            @RequestParam(required = false) Double radiusKm,
+            @RequestParam(required = false) SportType type,
+            @RequestParam(required = false) BigDecimal minPrice,
+            @RequestParam(required = false) BigDecimal maxPrice,
+            @RequestParam(required = false) Integer limit) {
+        try {
+            List<TurfResponseDTO> turfs = turfService.getNearbyTurfs(lat, lng, radiusKm, type, minPrice, maxPrice, limit);
+            return ResponseEntity.ok(turfs);
+        } catch (Exception e) {
+            Map<String, String> error = new HashMap<>();
+            error.put("error", e.getMessage());
+            return ResponseEntity.badRequest().body(error);
+        }
+    }
+
     // Check if time slot is available
     @GetMapping("/{id}/check-availability")
     public ResponseEntity<Map<String, Boolean>> checkTimeSlotAvailability(
@@ -174,11 +350,12 @@ public class TurfController {
         return ResponseEntity.ok(turfs);
     }
 
-    // Get available turfs on a specific date
+    // Get turfs with free capacity on a specific date, optionally a contiguous free run of minFreeMinutes
     @GetMapping("/available")
     public ResponseEntity<List<TurfResponseDTO>> getAvailableTurfsOnDate(
-            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate date) {
-        List<TurfResponseDTO> turfs = turfService.getAvailableTurfsOnDate(date);
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate date,
+            @RequestParam(required = false) Integer minFreeMinutes) {
+        List<TurfResponseDTO> turfs = turfService.getAvailableTurfsOnDate(date, minFreeMinutes);
         return ResponseEntity.ok(turfs);
     }
 
@@ -233,4 +410,14 @@ public class TurfController {
         response.put("valid", isValid);
         return ResponseEntity.ok(response);
     }
-}
\ No newline at end of file
+
+    // Endpoints without their own error handling; a coalesced read that gave up waiting is worth a retry
+    @ExceptionHandler(CoalescedTimeoutException.class)
+    public ResponseEntity<Map<String, String>> handleCoalescedTimeout(CoalescedTimeoutException e) {
+        Map<String, String> error = new HashMap<>();
+        error.put("error", e.getMessage());
+        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                .header(HttpHeaders.RETRY_AFTER, "1")
+                .body(error);
+    }
+}
@@ -0,0 +1,36 @@
+// AvailabilityGridDTO.java
+package com.turfBooking.dto;
+
+import java.time.LocalDate;
+import java.util.List;
+
+public class AvailabilityGridDTO {
+
+    private LocalDate from;
+    private LocalDate to;
+    // Slot states are run-length encoded per day: "<count><F|B|X>...", F = free, B = booked, X = blocked
+    private String encoding = "RLE:F=free,B=booked,X=blocked";
+    private List<TurfAvailabilityRowDTO> turfs;
+
+    // Constructors
+    public AvailabilityGridDTO() {}
+
+    public AvailabilityGridDTO(LocalDate from, LocalDate to, List<TurfAvailabilityRowDTO> turfs) {
+        this.from = from;
+        this.to = to;
+        this.turfs = turfs;
+    }
+
+    // Getters and Setters
+    public LocalDate getFrom() { return from; }
+    public void setFrom(LocalDate from) { this.from = from; }
+
+    public LocalDate getTo() { return to; }
+    public void setTo(LocalDate to) { this.to = to; }
+
+    public String getEncoding() { return encoding; }
+    public void setEncoding(String encoding) { this.encoding = encoding; }
+
+    public List<TurfAvailabilityRowDTO> getTurfs() { return turfs; }
+    public void setTurfs(List<TurfAvailabilityRowDTO> turfs) { this.turfs = turfs; }
+}
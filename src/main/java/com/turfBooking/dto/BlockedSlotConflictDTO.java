@@ -0,0 +1,70 @@
+// BlockedSlotConflictDTO.java
+package com.turfBooking.dto;
+
+import com.fasterxml.jackson.annotation.JsonFormat;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+
+public class BlockedSlotConflictDTO {
+
+    public static final String BOOKING = "BOOKING";
+    public static final String BLOCKED_SLOT = "BLOCKED_SLOT";
+    public static final String RULE = "RULE";
+
+    public static final String SKIPPED = "SKIPPED";
+    public static final String BOOKING_CANCELLED = "BOOKING_CANCELLED";
+
+    private Long turfId;
+
+    @JsonFormat(pattern = "yyyy-MM-dd")
+    private LocalDate date;
+
+    // What is in the way, and its id
+    private String conflictType;
+    private Long conflictId;
+
+    @JsonFormat(pattern = "HH:mm")
+    private LocalTime startTime;
+
+    @JsonFormat(pattern = "HH:mm")
+    private LocalTime endTime;
+
+    private String resolution;
+
+    // Constructors
+    public BlockedSlotConflictDTO() {}
+
+    public BlockedSlotConflictDTO(Long turfId, LocalDate date, String conflictType, Long conflictId,
+                                  LocalTime startTime, LocalTime endTime, String resolution) {
+        this.turfId = turfId;
+        this.date = date;
+        this.conflictType = conflictType;
+        this.conflictId = conflictId;
+        this.startTime = startTime;
+        this.endTime = endTime;
+        this.resolution = resolution;
+    }
+
+    // Getters and Setters
+    public Long getTurfId() { return turfId; }
+    public void setTurfId(Long turfId) { this.turfId = turfId; }
+
+    public LocalDate getDate() { return date; }
+    public void setDate(LocalDate date) { this.date = date; }
+
+    public String getConflictType() { return conflictType; }
+    public void setConflictType(String conflictType) { this.conflictType = conflictType; }
+
+    public Long getConflictId() { return conflictId; }
+    public void setConflictId(Long conflictId) { this.conflictId = conflictId; }
+
+    public LocalTime getStartTime() { return startTime; }
+    public void setStartTime(LocalTime startTime) { this.startTime = startTime; }
+
+    public LocalTime getEndTime() { return endTime; }
+    public void setEndTime(LocalTime endTime) { this.endTime = endTime; }
+
+    public String getResolution() { return resolution; }
+    public void setResolution(String resolution) { this.resolution = resolution; }
+}
@@ -0,0 +1,65 @@
+// BlockedSlotRuleRequestDTO.java
+package com.turfBooking.dto;
+
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Positive;
+import com.fasterxml.jackson.annotation.JsonFormat;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.Set;
+
+public class BlockedSlotRuleRequestDTO {
+
+    @NotNull(message = "Turf ID is required")
+    @Positive(message = "Turf ID must be positive")
+    private Long turfId;
+
+    @NotEmpty(message = "At least one weekday is required")
+    private Set<DayOfWeek> weekdays;
+
+    @NotNull(message = "Start time is required")
+    @JsonFormat(pattern = "HH:mm")
+    private LocalTime startTime;
+
+    @NotNull(message = "End time is required")
+    @JsonFormat(pattern = "HH:mm")
+    private LocalTime endTime;
+
+    // Defaults to today
+    @JsonFormat(pattern = "yyyy-MM-dd")
+    private LocalDate validFrom;
+
+    // Optional; the rule has no end when absent
+    @JsonFormat(pattern = "yyyy-MM-dd")
+    private LocalDate validUntil;
+
+    private String reason;
+
+    // Constructors
+    public BlockedSlotRuleRequestDTO() {}
+
+    // Getters and Setters
+    public Long getTurfId() { return turfId; }
+    public void setTurfId(Long turfId) { this.turfId = turfId; }
+
+    public Set<DayOfWeek> getWeekdays() { return weekdays; }
+    public void setWeekdays(Set<DayOfWeek> weekdays) { this.weekdays = weekdays; }
+
+    public LocalTime getStartTime() { return startTime; }
+    public void setStartTime(LocalTime startTime) { this.startTime = startTime; }
+
+    public LocalTime getEndTime() { return endTime; }
+    public void setEndTime(LocalTime endTime) { this.endTime = endTime; }
+
+    public LocalDate getValidFrom() { return validFrom; }
+    public void setValidFrom(LocalDate validFrom) { this.validFrom = validFrom; }
+
+    public LocalDate getValidUntil() { return validUntil; }
+    public void setValidUntil(LocalDate validUntil) { this.validUntil = validUntil; }
+
+    public String getReason() { return reason; }
+    public void setReason(String reason) { this.reason = reason; }
+}
@@ -0,0 +1,64 @@
+// BlockedSlotRuleResponseDTO.java
+package com.turfBooking.dto;
+
+import com.fasterxml.jackson.annotation.JsonFormat;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.List;
+
+public class BlockedSlotRuleResponseDTO {
+
+    private Long id;
+    private List<DayOfWeek> weekdays;
+
+    @JsonFormat(pattern = "HH:mm")
+    private LocalTime startTime;
+
+    @JsonFormat(pattern = "HH:mm")
+    private LocalTime endTime;
+
+    @JsonFormat(pattern = "yyyy-MM-dd")
+    private LocalDate validFrom;
+
+    @JsonFormat(pattern = "yyyy-MM-dd")
+    private LocalDate validUntil;
+
+    private String reason;
+
+    // Turf details
+    private Long turfId;
+    private String turfName;
+
+    // Constructors
+    public BlockedSlotRuleResponseDTO() {}
+
+    // Getters and Setters
+    public Long getId() { return id; }
+    public void setId(Long id) { this.id = id; }
+
+    public List<DayOfWeek> getWeekdays() { return weekdays; }
+    public void setWeekdays(List<DayOfWeek> weekdays) { this.weekdays = weekdays; }
+
+    public LocalTime getStartTime() { return startTime; }
+    public void setStartTime(LocalTime startTime) { this.startTime = startTime; }
+
+    public LocalTime getEndTime() { return endTime; }
+    public void setEndTime(LocalTime endTime) { this.endTime = endTime; }
+
+    public LocalDate getValidFrom() { return validFrom; }
+    public void setValidFrom(LocalDate validFrom) { this.validFrom = validFrom; }
+
+    public LocalDate getValidUntil() { return validUntil; }
+    public void setValidUntil(LocalDate validUntil) { this.validUntil = validUntil; }
+
+    public String getReason() { return reason; }
+    public void setReason(String reason) { this.reason = reason; }
+
+    public Long getTurfId() { return turfId; }
+    public void setTurfId(Long turfId) { this.turfId = turfId; }
+
+    public String getTurfName() { return turfName; }
+    public void setTurfName(String turfName) { this.turfName = turfName; }
+}
@@ -0,0 +1,39 @@
+// BookingOccurrenceResultDTO.java
+package com.turfBooking.dto;
+
+import java.time.LocalDate;
+
+public class BookingOccurrenceResultDTO {
+
+    public static final String CREATED = "CREATED";
+    public static final String CONFLICT = "CONFLICT";
+    public static final String NOT_CREATED = "NOT_CREATED";
+
+    private LocalDate bookingDate;
+    private String result;
+    private Long bookingId;
+    private String message;
+
+    // Constructors
+    public BookingOccurrenceResultDTO() {}
+
+    public BookingOccurrenceResultDTO(LocalDate bookingDate, String result, Long bookingId, String message) {
+        this.bookingDate = bookingDate;
+        this.result = result;
+        this.bookingId = bookingId;
+        this.message = message;
+    }
+
+    // Getters and Setters
+    public LocalDate getBookingDate() { return bookingDate; }
+    public void setBookingDate(LocalDate bookingDate) { this.bookingDate = bookingDate; }
+
+    public String getResult() { return result; }
+    public void setResult(String result) { this.result = result; }
+
+    public Long getBookingId() { return bookingId; }
+    public void setBookingId(Long bookingId) { this.bookingId = bookingId; }
+
+    public String getMessage() { return message; }
+    public void setMessage(String message) { this.message = message; }
+}
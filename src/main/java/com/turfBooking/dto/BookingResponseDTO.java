@@ -2,6 +2,8 @@
 package com.turfBooking.dto;
 
 import com.turfBooking.enums.BookingStatus;
+import com.turfBooking.enums.SportType;
+import com.turfBooking.util.BookingPrice;
 import java.math.BigDecimal;
 import java.time.LocalDate;
 import java.time.LocalTime;
@@ -58,6 +60,20 @@ public class BookingResponseDTO {
         this.turfOwnerPhone = turfOwnerPhone;
     }
 
+    // Used by the BookingRepository projection queries; fills in the calculated fields as well
+    public BookingResponseDTO(Long id, LocalTime slotStartTime, LocalTime slotEndTime,
+                              LocalDate bookingDate, BookingStatus status,
+                              Long userId, String userName, String userPhone,
+                              Long turfId, String turfName, String turfLocation,
+                              SportType turfType, BigDecimal turfPrice,
+                              String turfOwnerName, String turfOwnerPhone) {
+        this(id, slotStartTime, slotEndTime, bookingDate, status, userId, userName, userPhone,
+                turfId, turfName, turfLocation, turfType.toString(), turfPrice, turfOwnerName, turfOwnerPhone);
+
+        this.durationHours = BookingPrice.chargedHours(slotStartTime, slotEndTime);
+        this.totalPrice = BookingPrice.total(turfPrice, durationHours);
+    }
+
     // Getters and Setters
     public Long getId() { return id; }
     public void setId(Long id) { this.id = id; }
@@ -0,0 +1,45 @@
+// BookingSeriesRequestDTO.java
+package com.turfBooking.dto;
+
+import com.turfBooking.enums.RecurrenceFrequency;
+import com.turfBooking.enums.SeriesMode;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotNull;
+import java.time.LocalDate;
+
+// Booking request plus a recurrence rule; bookingDate is the first occurrence
+public class BookingSeriesRequestDTO extends BookingRequestDTO {
+
+    @NotNull(message = "Frequency is required")
+    private RecurrenceFrequency frequency;
+
+    @Min(value = 1, message = "Interval must be at least 1")
+    private int interval = 1;
+
+    // Either untilDate or occurrences must be given
+    private LocalDate untilDate;
+
+    @Min(value = 1, message = "Occurrences must be at least 1")
+    private Integer occurrences;
+
+    private SeriesMode mode = SeriesMode.ALL_OR_NOTHING;
+
+    // Constructors
+    public BookingSeriesRequestDTO() {}
+
+    // Getters and Setters
+    public RecurrenceFrequency getFrequency() { return frequency; }
+    public void setFrequency(RecurrenceFrequency frequency) { this.frequency = frequency; }
+
+    public int getInterval() { return interval; }
+    public void setInterval(int interval) { this.interval = interval; }
+
+    public LocalDate getUntilDate() { return untilDate; }
+    public void setUntilDate(LocalDate untilDate) { this.untilDate = untilDate; }
+
+    public Integer getOccurrences() { return occurrences; }
+    public void setOccurrences(Integer occurrences) { this.occurrences = occurrences; }
+
+    public SeriesMode getMode() { return mode; }
+    public void setMode(SeriesMode mode) { this.mode = mode; }
+}
@@ -0,0 +1,42 @@
+// BookingSeriesResponseDTO.java
+package com.turfBooking.dto;
+
+import com.turfBooking.enums.SeriesMode;
+import java.util.List;
+
+public class BookingSeriesResponseDTO {
+
+    private SeriesMode mode;
+    private int requestedCount;
+    private int createdCount;
+    private int conflictCount;
+    private List<BookingOccurrenceResultDTO> occurrences;
+
+    // Constructors
+    public BookingSeriesResponseDTO() {}
+
+    public BookingSeriesResponseDTO(SeriesMode mode, int requestedCount, int createdCount, int conflictCount,
+                                    List<BookingOccurrenceResultDTO> occurrences) {
+        this.mode = mode;
+        this.requestedCount = requestedCount;
+        this.createdCount = createdCount;
+        this.conflictCount = conflictCount;
+        this.occurrences = occurrences;
+    }
+
+    // Getters and Setters
+    public SeriesMode getMode() { return mode; }
+    public void setMode(SeriesMode mode) { this.mode = mode; }
+
+    public int getRequestedCount() { return requestedCount; }
+    public void setRequestedCount(int requestedCount) { this.requestedCount = requestedCount; }
+
+    public int getCreatedCount() { return createdCount; }
+    public void setCreatedCount(int createdCount) { this.createdCount = createdCount; }
+
+    public int getConflictCount() { return conflictCount; }
+    public void setConflictCount(int conflictCount) { this.conflictCount = conflictCount; }
+
+    public List<BookingOccurrenceResultDTO> getOccurrences() { return occurrences; }
+    public void setOccurrences(List<BookingOccurrenceResultDTO> occurrences) { this.occurrences = occurrences; }
+}
@@ -0,0 +1,57 @@
+// BulkBlockedSlotRequestDTO.java
+package com.turfBooking.dto;
+
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import com.fasterxml.jackson.annotation.JsonFormat;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.List;
+
+public class BulkBlockedSlotRequestDTO {
+
+    @NotEmpty(message = "At least one turf ID is required")
+    private List<Long> turfIds;
+
+    @NotNull(message = "Start date is required")
+    @JsonFormat(pattern = "yyyy-MM-dd")
+    private LocalDate startDate;
+
+    @NotNull(message = "End date is required")
+    @JsonFormat(pattern = "yyyy-MM-dd")
+    private LocalDate endDate;
+
+    @NotNull(message = "Start time is required")
+    @JsonFormat(pattern = "HH:mm")
+    private LocalTime startTime;
+
+    @NotNull(message = "End time is required")
+    @JsonFormat(pattern = "HH:mm")
+    private LocalTime endTime;
+
+    // Cancel CONFIRMED bookings in the way instead of skipping their turf-days
+    private boolean cancelConflictingBookings;
+
+    // Constructors
+    public BulkBlockedSlotRequestDTO() {}
+
+    // Getters and Setters
+    public List<Long> getTurfIds() { return turfIds; }
+    public void setTurfIds(List<Long> turfIds) { this.turfIds = turfIds; }
+
+    public LocalDate getStartDate() { return startDate; }
+    public void setStartDate(LocalDate startDate) { this.startDate = startDate; }
+
+    public LocalDate getEndDate() { return endDate; }
+    public void setEndDate(LocalDate endDate) { this.endDate = endDate; }
+
+    public LocalTime getStartTime() { return startTime; }
+    public void setStartTime(LocalTime startTime) { this.startTime = startTime; }
+
+    public LocalTime getEndTime() { return endTime; }
+    public void setEndTime(LocalTime endTime) { this.endTime = endTime; }
+
+    public boolean isCancelConflictingBookings() { return cancelConflictingBookings; }
+    public void setCancelConflictingBookings(boolean cancelConflictingBookings) { this.cancelConflictingBookings = cancelConflictingBookings; }
+}
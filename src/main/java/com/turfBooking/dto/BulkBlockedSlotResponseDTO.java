@@ -0,0 +1,41 @@
+// BulkBlockedSlotResponseDTO.java
+package com.turfBooking.dto;
+
+import java.util.List;
+
+public class BulkBlockedSlotResponseDTO {
+
+    private int requestedCount;
+    private int createdCount;
+    private int skippedCount;
+    private int cancelledBookingCount;
+    private List<BlockedSlotConflictDTO> conflicts;
+
+    // Constructors
+    public BulkBlockedSlotResponseDTO() {}
+
+    public BulkBlockedSlotResponseDTO(int requestedCount, int createdCount, int skippedCount,
+                                      int cancelledBookingCount, List<BlockedSlotConflictDTO> conflicts) {
+        this.requestedCount = requestedCount;
+        this.createdCount = createdCount;
+        this.skippedCount = skippedCount;
+        this.cancelledBookingCount = cancelledBookingCount;
+        this.conflicts = conflicts;
+    }
+
+    // Getters and Setters
+    public int getRequestedCount() { return requestedCount; }
+    public void setRequestedCount(int requestedCount) { this.requestedCount = requestedCount; }
+
+    public int getCreatedCount() { return createdCount; }
+    public void setCreatedCount(int createdCount) { this.createdCount = createdCount; }
+
+    public int getSkippedCount() { return skippedCount; }
+    public void setSkippedCount(int skippedCount) { this.skippedCount = skippedCount; }
+
+    public int getCancelledBookingCount() { return cancelledBookingCount; }
+    public void setCancelledBookingCount(int cancelledBookingCount) { this.cancelledBookingCount = cancelledBookingCount; }
+
+    public List<BlockedSlotConflictDTO> getConflicts() { return conflicts; }
+    public void setConflicts(List<BlockedSlotConflictDTO> conflicts) { this.conflicts = conflicts; }
+}
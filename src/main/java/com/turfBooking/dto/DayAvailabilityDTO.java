@@ -0,0 +1,27 @@
+// DayAvailabilityDTO.java
+package com.turfBooking.dto;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.List;
+
+public class DayAvailabilityDTO {
+
+    private LocalDate date;
+    private List<LocalTime> availableSlots;
+
+    // Constructors
+    public DayAvailabilityDTO() {}
+
+    public DayAvailabilityDTO(LocalDate date, List<LocalTime> availableSlots) {
+        this.date = date;
+        this.availableSlots = availableSlots;
+    }
+
+    // Getters and Setters
+    public LocalDate getDate() { return date; }
+    public void setDate(LocalDate date) { this.date = date; }
+
+    public List<LocalTime> getAvailableSlots() { return availableSlots; }
+    public void setAvailableSlots(List<LocalTime> availableSlots) { this.availableSlots = availableSlots; }
+}
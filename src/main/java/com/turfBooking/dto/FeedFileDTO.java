@@ -0,0 +1,55 @@
+// FeedFileDTO.java
+package com.turfBooking.dto;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+public class FeedFileDTO {
+
+    private String name;
+    private String type;
+    private long version;
+    private LocalDate fromDate;
+    private int days;
+    private long size;
+    private LocalDateTime generatedAt;
+
+    // Constructors
+    public FeedFileDTO() {}
+
+    public FeedFileDTO(String name, String type, long version, LocalDate fromDate, int days, long size,
+                       LocalDateTime generatedAt) {
+        this.name = name;
+        this.type = type;
+        this.version = version;
+        this.fromDate = fromDate;
+        this.days = days;
+        this.size = size;
+        this.generatedAt = generatedAt;
+    }
+
+    // Files are immutable, so the version identifies the content
+    public String getEtag() { return "\"" + type + "-" + version + "\""; }
+
+    // Getters and Setters
+    public String getName() { return name; }
+    public void setName(String name) { this.name = name; }
+
+    public String getType() { return type; }
+    public void setType(String type) { this.type = type; }
+
+    public long getVersion() { return version; }
+    public void setVersion(long version) { this.version = version; }
+
+    public LocalDate getFromDate() { return fromDate; }
+    public void setFromDate(LocalDate fromDate) { this.fromDate = fromDate; }
+
+    public int getDays() { return days; }
+    public void setDays(int days) { this.days = days; }
+
+    public long getSize() { return size; }
+    public void setSize(long size) { this.size = size; }
+
+    public LocalDateTime getGeneratedAt() { return generatedAt; }
+    public void setGeneratedAt(LocalDateTime generatedAt) { this.generatedAt = generatedAt; }
+}
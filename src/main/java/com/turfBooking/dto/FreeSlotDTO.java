@@ -0,0 +1,31 @@
+// FreeSlotDTO.java
+package com.turfBooking.dto;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+
+public class FreeSlotDTO {
+
+    private LocalDate date;
+    private LocalTime startTime;
+    private LocalTime endTime;
+
+    // Constructors
+    public FreeSlotDTO() {}
+
+    public FreeSlotDTO(LocalDate date, LocalTime startTime, LocalTime endTime) {
+        this.date = date;
+        this.startTime = startTime;
+        this.endTime = endTime;
+    }
+
+    // Getters and Setters
+    public LocalDate getDate() { return date; }
+    public void setDate(LocalDate date) { this.date = date; }
+
+    public LocalTime getStartTime() { return startTime; }
+    public void setStartTime(LocalTime startTime) { this.startTime = startTime; }
+
+    public LocalTime getEndTime() { return endTime; }
+    public void setEndTime(LocalTime endTime) { this.endTime = endTime; }
+}
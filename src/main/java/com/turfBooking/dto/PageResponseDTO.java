@@ -0,0 +1,31 @@
+// PageResponseDTO.java
+package com.turfBooking.dto;
+
+import java.util.List;
+
+public class PageResponseDTO<T> {
+
+    private List<T> items;
+    private int size;
+    // Opaque token for the next page; null on the last page
+    private String nextCursor;
+
+    // Constructors
+    public PageResponseDTO() {}
+
+    public PageResponseDTO(List<T> items, String nextCursor) {
+        this.items = items;
+        this.size = items.size();
+        this.nextCursor = nextCursor;
+    }
+
+    // Getters and Setters
+    public List<T> getItems() { return items; }
+    public void setItems(List<T> items) { this.items = items; }
+
+    public int getSize() { return size; }
+    public void setSize(int size) { this.size = size; }
+
+    public String getNextCursor() { return nextCursor; }
+    public void setNextCursor(String nextCursor) { this.nextCursor = nextCursor; }
+}
@@ -0,0 +1,25 @@
+// TimeWindowDTO.java
+package com.turfBooking.dto;
+
+import java.time.LocalTime;
+
+public class TimeWindowDTO {
+
+    private LocalTime startTime;
+    private LocalTime endTime;
+
+    // Constructors
+    public TimeWindowDTO() {}
+
+    public TimeWindowDTO(LocalTime startTime, LocalTime endTime) {
+        this.startTime = startTime;
+        this.endTime = endTime;
+    }
+
+    // Getters and Setters
+    public LocalTime getStartTime() { return startTime; }
+    public void setStartTime(LocalTime startTime) { this.startTime = startTime; }
+
+    public LocalTime getEndTime() { return endTime; }
+    public void setEndTime(LocalTime endTime) { this.endTime = endTime; }
+}
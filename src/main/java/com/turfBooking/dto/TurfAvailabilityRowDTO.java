@@ -0,0 +1,43 @@
+// TurfAvailabilityRowDTO.java
+package com.turfBooking.dto;
+
+import java.time.LocalTime;
+import java.util.List;
+
+public class TurfAvailabilityRowDTO {
+
+    private Long turfId;
+    private String turfName;
+    // First slot of every day starts at openTime; each slot is slotMinutes long
+    private LocalTime openTime;
+    private int slotMinutes;
+    // One run-length encoded entry per day from the grid's 'from' date
+    private List<String> days;
+
+    // Constructors
+    public TurfAvailabilityRowDTO() {}
+
+    public TurfAvailabilityRowDTO(Long turfId, String turfName, LocalTime openTime, int slotMinutes, List<String> days) {
+        this.turfId = turfId;
+        this.turfName = turfName;
+        this.openTime = openTime;
+        this.slotMinutes = slotMinutes;
+        this.days = days;
+    }
+
+    // Getters and Setters
+    public Long getTurfId() { return turfId; }
+    public void setTurfId(Long turfId) { this.turfId = turfId; }
+
+    public String getTurfName() { return turfName; }
+    public void setTurfName(String turfName) { this.turfName = turfName; }
+
+    public LocalTime getOpenTime() { return openTime; }
+    public void setOpenTime(LocalTime openTime) { this.openTime = openTime; }
+
+    public int getSlotMinutes() { return slotMinutes; }
+    public void setSlotMinutes(int slotMinutes) { this.slotMinutes = slotMinutes; }
+
+    public List<String> getDays() { return days; }
+    public void setDays(List<String> days) { this.days = days; }
+}
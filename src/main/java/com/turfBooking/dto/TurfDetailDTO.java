@@ -0,0 +1,37 @@
+// TurfDetailDTO.java
+package com.turfBooking.dto;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+public class TurfDetailDTO {
+
+    private TurfResponseDTO turf;
+    // Price of one slot of the turf's slot length, as calculate-price would return it
+    private BigDecimal slotPrice;
+    private List<DayAvailabilityDTO> availability;
+    // Changes whenever a persisted part of the detail changes (not turf.totalBookings); also sent as the ETag
+    private String version;
+
+    // Constructors
+    public TurfDetailDTO() {}
+
+    public TurfDetailDTO(TurfResponseDTO turf, BigDecimal slotPrice, List<DayAvailabilityDTO> availability) {
+        this.turf = turf;
+        this.slotPrice = slotPrice;
+        this.availability = availability;
+    }
+
+    // Getters and Setters
+    public TurfResponseDTO getTurf() { return turf; }
+    public void setTurf(TurfResponseDTO turf) { this.turf = turf; }
+
+    public BigDecimal getSlotPrice() { return slotPrice; }
+    public void setSlotPrice(BigDecimal slotPrice) { this.slotPrice = slotPrice; }
+
+    public List<DayAvailabilityDTO> getAvailability() { return availability; }
+    public void setAvailability(List<DayAvailabilityDTO> availability) { this.availability = availability; }
+
+    public String getVersion() { return version; }
+    public void setVersion(String version) { this.version = version; }
+}
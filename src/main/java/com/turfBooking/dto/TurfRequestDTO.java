@@ -36,9 +36,21 @@ public class TurfRequestDTO {
     @NotNull(message = "Operating end time is required")
     private LocalTime operatingEndTime;
 
+    // Slot length in minutes (15-240, multiple of 15); defaults to 60
+    private Integer slotDurationMinutes;
+
     @NotNull(message = "Owner ID is required")
     private Long ownerId;
 
+    // Optional coordinates for "near me" search; both or neither
+    @DecimalMin(value = "-90.0", message = "Latitude must be between -90 and 90")
+    @DecimalMax(value = "90.0", message = "Latitude must be between -90 and 90")
+    private Double latitude;
+
+    @DecimalMin(value = "-180.0", message = "Longitude must be between -180 and 180")
+    @DecimalMax(value = "180.0", message = "Longitude must be between -180 and 180")
+    private Double longitude;
+
     // NEW: Image URLs
     private List<String> imageUrls;
 
@@ -86,9 +98,18 @@ public class TurfRequestDTO {
     public LocalTime getOperatingEndTime() { return operatingEndTime; }
     public void setOperatingEndTime(LocalTime operatingEndTime) { this.operatingEndTime = operatingEndTime; }
 
+    public Integer getSlotDurationMinutes() { return slotDurationMinutes; }
+    public void setSlotDurationMinutes(Integer slotDurationMinutes) { this.slotDurationMinutes = slotDurationMinutes; }
+
     public Long getOwnerId() { return ownerId; }
     public void setOwnerId(Long ownerId) { this.ownerId = ownerId; }
 
+    public Double getLatitude() { return latitude; }
+    public void setLatitude(Double latitude) { this.latitude = latitude; }
+
+    public Double getLongitude() { return longitude; }
+    public void setLongitude(Double longitude) { this.longitude = longitude; }
+
     public List<String> getImageUrls() { return imageUrls; }
     public void setImageUrls(List<String> imageUrls) { this.imageUrls = imageUrls; }
 }
\ No newline at end of file
@@ -16,16 +16,31 @@ public class TurfResponseDTO {
     private String description;
     private LocalTime operatingStartTime;
     private LocalTime operatingEndTime;
+    private Integer slotDurationMinutes;
     private Long ownerId;
     private String ownerName;
     private String ownerPhone;
     private int totalBookings;
     private int totalBlockedSlots;
 
+    private Double latitude;
+    private Double longitude;
+
+    // Distance from the searched point (nearby searches only)
+    private Double distanceKm;
+
     // NEW: Image fields
     private List<String> imageUrls;
     private String primaryImageUrl;
 
+    // Free capacity on a requested date (availability listings only)
+    private Integer freeMinutes;
+    private LocalTime firstFreeSlot;
+    private Integer longestFreeRun;
+
+    // Free windows matching an availability search
+    private List<TimeWindowDTO> freeWindows;
+
     // Constructors
     public TurfResponseDTO() {}
 
@@ -97,6 +112,9 @@ public class TurfResponseDTO {
     public LocalTime getOperatingEndTime() { return operatingEndTime; }
     public void setOperatingEndTime(LocalTime operatingEndTime) { this.operatingEndTime = operatingEndTime; }
 
+    public Integer getSlotDurationMinutes() { return slotDurationMinutes; }
+    public void setSlotDurationMinutes(Integer slotDurationMinutes) { this.slotDurationMinutes = slotDurationMinutes; }
+
     public Long getOwnerId() { return ownerId; }
     public void setOwnerId(Long ownerId) { this.ownerId = ownerId; }
 
@@ -112,9 +130,30 @@ public class TurfResponseDTO {
     public int getTotalBlockedSlots() { return totalBlockedSlots; }
     public void setTotalBlockedSlots(int totalBlockedSlots) { this.totalBlockedSlots = totalBlockedSlots; }
 
+    public Double getLatitude() { return latitude; }
+    public void setLatitude(Double latitude) { this.latitude = latitude; }
+
+    public Double getLongitude() { return longitude; }
+    public void setLongitude(Double longitude) { this.longitude = longitude; }
+
+    public Double getDistanceKm() { return distanceKm; }
+    public void setDistanceKm(Double distanceKm) { this.distanceKm = distanceKm; }
+
     public List<String> getImageUrls() { return imageUrls; }
     public void setImageUrls(List<String> imageUrls) { this.imageUrls = imageUrls; }
 
     public String getPrimaryImageUrl() { return primaryImageUrl; }
     public void setPrimaryImageUrl(String primaryImageUrl) { this.primaryImageUrl = primaryImageUrl; }
-}
\ No newline at end of file
+
+    public Integer getFreeMinutes() { return freeMinutes; }
+    public void setFreeMinutes(Integer freeMinutes) { this.freeMinutes = freeMinutes; }
+
+    public LocalTime getFirstFreeSlot() { return firstFreeSlot; }
+    public void setFirstFreeSlot(LocalTime firstFreeSlot) { this.firstFreeSlot = firstFreeSlot; }
+
+    public Integer getLongestFreeRun() { return longestFreeRun; }
+    public void setLongestFreeRun(Integer longestFreeRun) { this.longestFreeRun = longestFreeRun; }
+
+    public List<TimeWindowDTO> getFreeWindows() { return freeWindows; }
+    public void setFreeWindows(List<TimeWindowDTO> freeWindows) { this.freeWindows = freeWindows; }
+}
@@ -3,6 +3,8 @@ package com.turfBooking.dto;
 
 import com.turfBooking.enums.SportType;
 import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalTime;
 
 public class TurfSearchDTO {
 
@@ -12,6 +14,12 @@ public class TurfSearchDTO {
     private BigDecimal minPrice;
     private BigDecimal maxPrice;
 
+    // Availability constraints, applied only when a date is given
+    private LocalDate date;
+    private LocalTime startTime;
+    private LocalTime endTime;
+    private Integer minDurationMinutes;
+
     // Constructors
     public TurfSearchDTO() {}
 
@@ -38,4 +46,16 @@ public class TurfSearchDTO {
 
     public BigDecimal getMaxPrice() { return maxPrice; }
     public void setMaxPrice(BigDecimal maxPrice) { this.maxPrice = maxPrice; }
-}
\ No newline at end of file
+
+    public LocalDate getDate() { return date; }
+    public void setDate(LocalDate date) { this.date = date; }
+
+    public LocalTime getStartTime() { return startTime; }
+    public void setStartTime(LocalTime startTime) { this.startTime = startTime; }
+
+    public LocalTime getEndTime() { return endTime; }
+    public void setEndTime(LocalTime endTime) { this.endTime = endTime; }
+
+    public Integer getMinDurationMinutes() { return minDurationMinutes; }
+    public void setMinDurationMinutes(Integer minDurationMinutes) { this.minDurationMinutes = minDurationMinutes; }
+}
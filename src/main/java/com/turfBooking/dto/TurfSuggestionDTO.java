@@ -0,0 +1,40 @@
+// TurfSuggestionDTO.java
+package com.turfBooking.dto;
+
+import com.turfBooking.enums.SportType;
+
+public class TurfSuggestionDTO {
+
+    private Long id;
+    private String name;
+    private String location;
+    private SportType type;
+    private long totalBookings;
+
+    // Constructors
+    public TurfSuggestionDTO() {}
+
+    public TurfSuggestionDTO(Long id, String name, String location, SportType type, long totalBookings) {
+        this.id = id;
+        this.name = name;
+        this.location = location;
+        this.type = type;
+        this.totalBookings = totalBookings;
+    }
+
+    // Getters and Setters
+    public Long getId() { return id; }
+    public void setId(Long id) { this.id = id; }
+
+    public String getName() { return name; }
+    public void setName(String name) { this.name = name; }
+
+    public String getLocation() { return location; }
+    public void setLocation(String location) { this.location = location; }
+
+    public SportType getType() { return type; }
+    public void setType(SportType type) { this.type = type; }
+
+    public long getTotalBookings() { return totalBookings; }
+    public void setTotalBookings(long totalBookings) { this.totalBookings = totalBookings; }
+}
@@ -11,7 +11,9 @@ import java.time.LocalTime;
 public class BlockedSlot {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.TABLE, generator = "blocked_slot_id_gen")
+    @TableGenerator(name = "blocked_slot_id_gen", table = "id_generators", pkColumnName = "gen_name",
+            valueColumnName = "gen_value", pkColumnValue = "blocked_slots", allocationSize = 50)
     private Long id;
 
     @NotNull
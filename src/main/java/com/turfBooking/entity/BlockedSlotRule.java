@@ -0,0 +1,77 @@
+package com.turfBooking.entity;
+
+import jakarta.persistence.*;
+import jakarta.validation.constraints.NotNull;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.LocalTime;
+
+/**
+ * A time window blocked on the same weekdays every week, e.g. "Mondays 06:00-08:00".
+ * Rules are not expanded into blocked_slots rows; availability checks expand them for the dates they look at.
+ */
+@Entity
+@Table(name = "blocked_slot_rules", indexes = @Index(name = "idx_blocked_slot_rule_turf", columnList = "turf_id"))
+public class BlockedSlotRule {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.TABLE, generator = "blocked_slot_rule_id_gen")
+    @TableGenerator(name = "blocked_slot_rule_id_gen", table = "id_generators", pkColumnName = "gen_name",
+            valueColumnName = "gen_value", pkColumnValue = "blocked_slot_rules", allocationSize = 50)
+    private Long id;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "turf_id", nullable = false)
+    private Turf turf;
+
+    // Bit 0 = Monday ... bit 6 = Sunday
+    @Column(name = "weekday_mask", nullable = false)
+    private int weekdayMask;
+
+    @NotNull
+    private LocalTime startTime;
+
+    @NotNull
+    private LocalTime endTime;
+
+    @NotNull
+    private LocalDate validFrom;
+
+    // Null means the rule has no end
+    private LocalDate validUntil;
+
+    private String reason;
+
+    // Constructors
+    public BlockedSlotRule() {}
+
+    public static int maskOf(DayOfWeek dayOfWeek) {
+        return 1 << (dayOfWeek.getValue() - 1);
+    }
+
+    // Getters and Setters
+    public Long getId() { return id; }
+    public void setId(Long id) { this.id = id; }
+
+    public Turf getTurf() { return turf; }
+    public void setTurf(Turf turf) { this.turf = turf; }
+
+    public int getWeekdayMask() { return weekdayMask; }
+    public void setWeekdayMask(int weekdayMask) { this.weekdayMask = weekdayMask; }
+
+    public LocalTime getStartTime() { return startTime; }
+    public void setStartTime(LocalTime startTime) { this.startTime = startTime; }
+
+    public LocalTime getEndTime() { return endTime; }
+    public void setEndTime(LocalTime endTime) { this.endTime = endTime; }
+
+    public LocalDate getValidFrom() { return validFrom; }
+    public void setValidFrom(LocalDate validFrom) { this.validFrom = validFrom; }
+
+    public LocalDate getValidUntil() { return validUntil; }
+    public void setValidUntil(LocalDate validUntil) { this.validUntil = validUntil; }
+
+    public String getReason() { return reason; }
+    public void setReason(String reason) { this.reason = reason; }
+}
@@ -0,0 +1,70 @@
+package com.turfBooking.entity;
+
+import jakarta.persistence.*;
+
+import java.time.LocalDate;
+
+/**
+ * One fixed-length slot of a turf-day held by a CONFIRMED booking or a blocked slot.
+ * The unique key on (turf_id, booking_date, slot_index) lets the database reject a
+ * double booking across all application nodes.
+ */
+@Entity
+@Table(name = "booking_slot_claims",
+        uniqueConstraints = @UniqueConstraint(name = "uk_slot_claim",
+                columnNames = {"turf_id", "booking_date", "slot_index"}),
+        indexes = {
+                @Index(name = "idx_slot_claim_booking", columnList = "booking_id"),
+                @Index(name = "idx_slot_claim_blocked_slot", columnList = "blocked_slot_id")
+        })
+public class BookingSlotClaim {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "turf_id", nullable = false)
+    private Long turfId;
+
+    @Column(name = "booking_date", nullable = false)
+    private LocalDate bookingDate;
+
+    @Column(name = "slot_index", nullable = false)
+    private int slotIndex;
+
+    @Column(name = "booking_id")
+    private Long bookingId;
+
+    @Column(name = "blocked_slot_id")
+    private Long blockedSlotId;
+
+    // Constructors
+    public BookingSlotClaim() {}
+
+    public BookingSlotClaim(Long turfId, LocalDate bookingDate, int slotIndex, Long bookingId, Long blockedSlotId) {
+        this.turfId = turfId;
+        this.bookingDate = bookingDate;
+        this.slotIndex = slotIndex;
+        this.bookingId = bookingId;
+        this.blockedSlotId = blockedSlotId;
+    }
+
+    // Getters and Setters
+    public Long getId() { return id; }
+    public void setId(Long id) { this.id = id; }
+
+    public Long getTurfId() { return turfId; }
+    public void setTurfId(Long turfId) { this.turfId = turfId; }
+
+    public LocalDate getBookingDate() { return bookingDate; }
+    public void setBookingDate(LocalDate bookingDate) { this.bookingDate = bookingDate; }
+
+    public int getSlotIndex() { return slotIndex; }
+    public void setSlotIndex(int slotIndex) { this.slotIndex = slotIndex; }
+
+    public Long getBookingId() { return bookingId; }
+    public void setBookingId(Long bookingId) { this.bookingId = bookingId; }
+
+    public Long getBlockedSlotId() { return blockedSlotId; }
+    public void setBlockedSlotId(Long blockedSlotId) { this.blockedSlotId = blockedSlotId; }
+}
@@ -0,0 +1,60 @@
+package com.turfBooking.entity;
+
+import jakarta.persistence.*;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+/**
+ * One turf-day whose bookings or blocked slots changed, written in the same transaction as the change.
+ * Instances read the rows other instances wrote to drop those days from their availability store.
+ * A null {@code changeDate} means every day of the turf, e.g. after a recurring rule changed.
+ */
+@Entity
+@Table(name = "occupancy_changes",
+        indexes = @Index(name = "idx_occupancy_changes_changed_at", columnList = "changed_at"))
+public class OccupancyChange {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    // Random per process, so an instance can skip the changes it already applied itself
+    @Column(name = "node_id", nullable = false)
+    private Long nodeId;
+
+    @Column(name = "turf_id", nullable = false)
+    private Long turfId;
+
+    @Column(name = "change_date")
+    private LocalDate changeDate;
+
+    @Column(name = "changed_at", nullable = false)
+    private LocalDateTime changedAt;
+
+    // Constructors
+    public OccupancyChange() {}
+
+    public OccupancyChange(Long nodeId, Long turfId, LocalDate changeDate, LocalDateTime changedAt) {
+        this.nodeId = nodeId;
+        this.turfId = turfId;
+        this.changeDate = changeDate;
+        this.changedAt = changedAt;
+    }
+
+    // Getters and Setters
+    public Long getId() { return id; }
+    public void setId(Long id) { this.id = id; }
+
+    public Long getNodeId() { return nodeId; }
+    public void setNodeId(Long nodeId) { this.nodeId = nodeId; }
+
+    public Long getTurfId() { return turfId; }
+    public void setTurfId(Long turfId) { this.turfId = turfId; }
+
+    public LocalDate getChangeDate() { return changeDate; }
+    public void setChangeDate(LocalDate changeDate) { this.changeDate = changeDate; }
+
+    public LocalDateTime getChangedAt() { return changedAt; }
+    public void setChangedAt(LocalDateTime changedAt) { this.changedAt = changedAt; }
+}
@@ -0,0 +1,61 @@
+package com.turfBooking.entity;
+
+import jakarta.persistence.*;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+/**
+ * Short-lived, single-use credential for opening one availability stream. Browsers' EventSource
+ * cannot send an Authorization header, so the ticket travels in the query string instead of the
+ * login token. Only a SHA-256 hash of the ticket is stored; a ticket is redeemed by deleting its row,
+ * so it works once whichever instance the stream request lands on.
+ */
+@Entity
+@Table(name = "stream_tickets",
+        indexes = @Index(name = "idx_stream_tickets_expires_at", columnList = "expires_at"))
+public class StreamTicket {
+
+    @Id
+    @Column(name = "token_hash", length = 64)
+    private String tokenHash;
+
+    @Column(nullable = false)
+    private String username;
+
+    @Column(name = "turf_id", nullable = false)
+    private Long turfId;
+
+    @Column(name = "stream_date", nullable = false)
+    private LocalDate streamDate;
+
+    @Column(name = "expires_at", nullable = false)
+    private LocalDateTime expiresAt;
+
+    // Constructors
+    public StreamTicket() {}
+
+    public StreamTicket(String tokenHash, String username, Long turfId, LocalDate streamDate, LocalDateTime expiresAt) {
+        this.tokenHash = tokenHash;
+        this.username = username;
+        this.turfId = turfId;
+        this.streamDate = streamDate;
+        this.expiresAt = expiresAt;
+    }
+
+    // Getters and Setters
+    public String getTokenHash() { return tokenHash; }
+    public void setTokenHash(String tokenHash) { this.tokenHash = tokenHash; }
+
+    public String getUsername() { return username; }
+    public void setUsername(String username) { this.username = username; }
+
+    public Long getTurfId() { return turfId; }
+    public void setTurfId(Long turfId) { this.turfId = turfId; }
+
+    public LocalDate getStreamDate() { return streamDate; }
+    public void setStreamDate(LocalDate streamDate) { this.streamDate = streamDate; }
+
+    public LocalDateTime getExpiresAt() { return expiresAt; }
+    public void setExpiresAt(LocalDateTime expiresAt) { this.expiresAt = expiresAt; }
+}
@@ -7,13 +7,19 @@ import java.time.LocalTime;
 import java.util.ArrayList;
 import java.util.List;
 import com.turfBooking.enums.SportType;
+import com.turfBooking.util.GeoHash;
 
 @Entity
-@Table(name = "turfs")
+@Table(name = "turfs", indexes = @Index(name = "idx_turf_geohash", columnList = "geohash"))
 public class Turf {
 
+    // About 5 m x 5 m cells; any shorter prefix addresses a coarser cell
+    public static final int GEOHASH_PRECISION = 9;
+
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.TABLE, generator = "turf_id_gen")
+    @TableGenerator(name = "turf_id_gen", table = "id_generators", pkColumnName = "gen_name",
+            valueColumnName = "gen_value", pkColumnValue = "turfs", allocationSize = 50)
     private Long id;
 
     @NotBlank(message = "Turf name is required")
@@ -42,6 +48,20 @@ public class Turf {
     @NotNull(message = "Operating end time is required")
     private LocalTime operatingEndTime;
 
+    // Length of a bookable slot; null means the default of 60 minutes
+    private Integer slotDurationMinutes;
+
+    // Coordinates are optional; turfs without them never show up in nearby searches
+    @DecimalMin("-90.0") @DecimalMax("90.0")
+    private Double latitude;
+
+    @DecimalMin("-180.0") @DecimalMax("180.0")
+    private Double longitude;
+
+    // Derived from the coordinates so the database can answer prefix (cell) queries
+    @Column(length = 12)
+    private String geohash;
+
     // Owner relationship
     @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "owner_id", nullable = false)
@@ -55,6 +75,10 @@ public class Turf {
     @OneToMany(mappedBy = "turf", cascade = CascadeType.ALL, fetch = FetchType.LAZY)
     private List<BlockedSlot> blockedSlots;
 
+    // Recurring blocked-slot rules
+    @OneToMany(mappedBy = "turf", cascade = CascadeType.ALL, fetch = FetchType.LAZY)
+    private List<BlockedSlotRule> blockedSlotRules;
+
     // NEW: Images relationship
     @OneToMany(mappedBy = "turf", cascade = CascadeType.ALL, fetch = FetchType.LAZY, orphanRemoval = true)
     private List<TurfImage> images = new ArrayList<>();
@@ -166,6 +190,41 @@ public class Turf {
         this.operatingEndTime = operatingEndTime;
     }
 
+    public Integer getSlotDurationMinutes() {
+        return slotDurationMinutes;
+    }
+
+    public void setSlotDurationMinutes(Integer slotDurationMinutes) {
+        this.slotDurationMinutes = slotDurationMinutes;
+    }
+
+    public Double getLatitude() {
+        return latitude;
+    }
+
+    public void setLatitude(Double latitude) {
+        this.latitude = latitude;
+    }
+
+    public Double getLongitude() {
+        return longitude;
+    }
+
+    public void setLongitude(Double longitude) {
+        this.longitude = longitude;
+    }
+
+    public String getGeohash() {
+        return geohash;
+    }
+
+    @PrePersist
+    @PreUpdate
+    public void syncGeohash() {
+        geohash = GeoHash.isValid(latitude, longitude)
+                ? GeoHash.encode(latitude, longitude, GEOHASH_PRECISION) : null;
+    }
+
     public User getOwner() {
         return owner;
     }
@@ -190,6 +249,14 @@ public class Turf {
         this.blockedSlots = blockedSlots;
     }
 
+    public List<BlockedSlotRule> getBlockedSlotRules() {
+        return blockedSlotRules;
+    }
+
+    public void setBlockedSlotRules(List<BlockedSlotRule> blockedSlotRules) {
+        this.blockedSlotRules = blockedSlotRules;
+    }
+
     // NEW: Images getter and setter
     public List<TurfImage> getImages() {
         return images;
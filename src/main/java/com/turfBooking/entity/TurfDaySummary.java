@@ -0,0 +1,74 @@
+package com.turfBooking.entity;
+
+import jakarta.persistence.*;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+
+/**
+ * Free capacity of one turf on one day, kept in step with bookings and blocked slots so
+ * listings can filter and badge turfs without reading the reservations themselves.
+ * A missing row means nothing is booked or blocked on that day.
+ */
+@Entity
+@Table(name = "turf_day_summary",
+        uniqueConstraints = @UniqueConstraint(name = "uk_turf_day_summary",
+                columnNames = {"turf_id", "summary_date"}),
+        indexes = @Index(name = "idx_turf_day_summary_date", columnList = "summary_date, longest_free_run"))
+public class TurfDaySummary {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "turf_id", nullable = false)
+    private Long turfId;
+
+    @Column(name = "summary_date", nullable = false)
+    private LocalDate summaryDate;
+
+    // Minutes inside operating hours not covered by a booking or blocked slot
+    @Column(name = "free_minutes", nullable = false)
+    private int freeMinutes;
+
+    // Start of the first bookable slot of the turf's slot length, null when fully booked
+    @Column(name = "first_free_slot")
+    private LocalTime firstFreeSlot;
+
+    @Column(name = "longest_free_run", nullable = false)
+    private int longestFreeRun;
+
+    // Minutes covered by CONFIRMED bookings
+    @Column(name = "booked_minutes", nullable = false)
+    private int bookedMinutes;
+
+    // Constructors
+    public TurfDaySummary() {}
+
+    public TurfDaySummary(Long turfId, LocalDate summaryDate) {
+        this.turfId = turfId;
+        this.summaryDate = summaryDate;
+    }
+
+    // Getters and Setters
+    public Long getId() { return id; }
+    public void setId(Long id) { this.id = id; }
+
+    public Long getTurfId() { return turfId; }
+    public void setTurfId(Long turfId) { this.turfId = turfId; }
+
+    public LocalDate getSummaryDate() { return summaryDate; }
+    public void setSummaryDate(LocalDate summaryDate) { this.summaryDate = summaryDate; }
+
+    public int getFreeMinutes() { return freeMinutes; }
+    public void setFreeMinutes(int freeMinutes) { this.freeMinutes = freeMinutes; }
+
+    public LocalTime getFirstFreeSlot() { return firstFreeSlot; }
+    public void setFirstFreeSlot(LocalTime firstFreeSlot) { this.firstFreeSlot = firstFreeSlot; }
+
+    public int getLongestFreeRun() { return longestFreeRun; }
+    public void setLongestFreeRun(int longestFreeRun) { this.longestFreeRun = longestFreeRun; }
+
+    public int getBookedMinutes() { return bookedMinutes; }
+    public void setBookedMinutes(int bookedMinutes) { this.bookedMinutes = bookedMinutes; }
+}
@@ -8,7 +8,9 @@ import jakarta.validation.constraints.NotBlank;
 public class TurfImage {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.TABLE, generator = "turf_image_id_gen")
+    @TableGenerator(name = "turf_image_id_gen", table = "id_generators", pkColumnName = "gen_name",
+            valueColumnName = "gen_value", pkColumnValue = "turf_images", allocationSize = 50)
     private Long id;
 
     @NotBlank
@@ -0,0 +1,6 @@
+package com.turfBooking.enums;
+
+public enum RecurrenceFrequency {
+    DAILY,
+    WEEKLY
+}
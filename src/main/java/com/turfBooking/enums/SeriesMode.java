@@ -0,0 +1,6 @@
+package com.turfBooking.enums;
+
+public enum SeriesMode {
+    ALL_OR_NOTHING,
+    BEST_EFFORT
+}
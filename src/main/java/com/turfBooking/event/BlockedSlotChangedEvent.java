@@ -0,0 +1,23 @@
+package com.turfBooking.event;
+
+/**
+ * Published by the blocked slot service when a blocked slot is created or deleted.
+ * {@code before} is null for new slots and {@code after} is null for deleted ones.
+ */
+public class BlockedSlotChangedEvent {
+
+    private final Long blockedSlotId;
+    private final BlockedSlotSnapshot before;
+    private final BlockedSlotSnapshot after;
+
+    public BlockedSlotChangedEvent(Long blockedSlotId, BlockedSlotSnapshot before, BlockedSlotSnapshot after) {
+        this.blockedSlotId = blockedSlotId;
+        this.before = before;
+        this.after = after;
+    }
+
+    // Getters
+    public Long getBlockedSlotId() { return blockedSlotId; }
+    public BlockedSlotSnapshot getBefore() { return before; }
+    public BlockedSlotSnapshot getAfter() { return after; }
+}
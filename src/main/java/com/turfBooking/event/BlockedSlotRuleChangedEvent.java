@@ -0,0 +1,17 @@
+package com.turfBooking.event;
+
+/**
+ * Published when a recurring blocked-slot rule of a turf is created or deleted.
+ * Every day of the turf may be affected, so listeners drop or rebuild the whole turf.
+ */
+public class BlockedSlotRuleChangedEvent {
+
+    private final Long turfId;
+
+    public BlockedSlotRuleChangedEvent(Long turfId) {
+        this.turfId = turfId;
+    }
+
+    // Getters
+    public Long getTurfId() { return turfId; }
+}
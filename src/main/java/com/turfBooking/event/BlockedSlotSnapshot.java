@@ -0,0 +1,37 @@
+package com.turfBooking.event;
+
+import com.turfBooking.entity.BlockedSlot;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+
+// Immutable copy of a blocked slot taken inside the transaction
+public class BlockedSlotSnapshot {
+
+    private final Long turfId;
+    private final LocalDate blockedDate;
+    private final LocalTime startTime;
+    private final LocalTime endTime;
+
+    public BlockedSlotSnapshot(Long turfId, LocalDate blockedDate, LocalTime startTime, LocalTime endTime) {
+        this.turfId = turfId;
+        this.blockedDate = blockedDate;
+        this.startTime = startTime;
+        this.endTime = endTime;
+    }
+
+    public static BlockedSlotSnapshot of(BlockedSlot blockedSlot) {
+        return new BlockedSlotSnapshot(
+                blockedSlot.getTurf().getId(),
+                blockedSlot.getBlockedDate(),
+                blockedSlot.getStartTime(),
+                blockedSlot.getEndTime()
+        );
+    }
+
+    // Getters
+    public Long getTurfId() { return turfId; }
+    public LocalDate getBlockedDate() { return blockedDate; }
+    public LocalTime getStartTime() { return startTime; }
+    public LocalTime getEndTime() { return endTime; }
+}
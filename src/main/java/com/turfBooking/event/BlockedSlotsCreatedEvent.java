@@ -0,0 +1,42 @@
+package com.turfBooking.event;
+
+import java.time.LocalDate;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Published once per turf by a bulk blocked slot request, in place of one
+ * {@link BlockedSlotChangedEvent} per slot. Holds the new slots keyed by id and
+ * the first and last day they cover, so listeners can refresh the range in one go.
+ */
+public class BlockedSlotsCreatedEvent {
+
+    private final Long turfId;
+    private final Map<Long, BlockedSlotSnapshot> blockedSlots;
+    private final LocalDate fromDate;
+    private final LocalDate toDate;
+
+    public BlockedSlotsCreatedEvent(Long turfId, Map<Long, BlockedSlotSnapshot> blockedSlots) {
+        this.turfId = turfId;
+        this.blockedSlots = Collections.unmodifiableMap(new LinkedHashMap<>(blockedSlots));
+        LocalDate from = null;
+        LocalDate to = null;
+        for (BlockedSlotSnapshot snapshot : blockedSlots.values()) {
+            if (from == null || snapshot.getBlockedDate().isBefore(from)) {
+                from = snapshot.getBlockedDate();
+            }
+            if (to == null || snapshot.getBlockedDate().isAfter(to)) {
+                to = snapshot.getBlockedDate();
+            }
+        }
+        this.fromDate = from;
+        this.toDate = to;
+    }
+
+    // Getters
+    public Long getTurfId() { return turfId; }
+    public Map<Long, BlockedSlotSnapshot> getBlockedSlots() { return blockedSlots; }
+    public LocalDate getFromDate() { return fromDate; }
+    public LocalDate getToDate() { return toDate; }
+}
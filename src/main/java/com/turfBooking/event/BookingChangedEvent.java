@@ -0,0 +1,23 @@
+package com.turfBooking.event;
+
+/**
+ * Published by the booking service whenever a booking is created, changed or removed.
+ * {@code before} is null for new bookings and {@code after} is null for deleted ones.
+ */
+public class BookingChangedEvent {
+
+    private final Long bookingId;
+    private final BookingSnapshot before;
+    private final BookingSnapshot after;
+
+    public BookingChangedEvent(Long bookingId, BookingSnapshot before, BookingSnapshot after) {
+        this.bookingId = bookingId;
+        this.before = before;
+        this.after = after;
+    }
+
+    // Getters
+    public Long getBookingId() { return bookingId; }
+    public BookingSnapshot getBefore() { return before; }
+    public BookingSnapshot getAfter() { return after; }
+}
@@ -0,0 +1,51 @@
+package com.turfBooking.event;
+
+import com.turfBooking.entity.Booking;
+import com.turfBooking.enums.BookingStatus;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+
+// Immutable copy of the booking fields listeners care about, taken inside the transaction
+public class BookingSnapshot {
+
+    private final Long turfId;
+    private final Long userId;
+    private final LocalDate bookingDate;
+    private final LocalTime slotStartTime;
+    private final LocalTime slotEndTime;
+    private final BookingStatus status;
+
+    public BookingSnapshot(Long turfId, Long userId, LocalDate bookingDate,
+                           LocalTime slotStartTime, LocalTime slotEndTime, BookingStatus status) {
+        this.turfId = turfId;
+        this.userId = userId;
+        this.bookingDate = bookingDate;
+        this.slotStartTime = slotStartTime;
+        this.slotEndTime = slotEndTime;
+        this.status = status;
+    }
+
+    public static BookingSnapshot of(Booking booking) {
+        return new BookingSnapshot(
+                booking.getTurf().getId(),
+                booking.getUser().getId(),
+                booking.getBookingDate(),
+                booking.getSlotStartTime(),
+                booking.getSlotEndTime(),
+                booking.getStatus()
+        );
+    }
+
+    public boolean isConfirmed() {
+        return status == BookingStatus.CONFIRMED;
+    }
+
+    // Getters
+    public Long getTurfId() { return turfId; }
+    public Long getUserId() { return userId; }
+    public LocalDate getBookingDate() { return bookingDate; }
+    public LocalTime getSlotStartTime() { return slotStartTime; }
+    public LocalTime getSlotEndTime() { return slotEndTime; }
+    public BookingStatus getStatus() { return status; }
+}
@@ -0,0 +1,30 @@
+package com.turfBooking.event;
+
+import com.turfBooking.enums.SportType;
+
+/**
+ * Published by the turf service whenever a turf is created, updated or removed, so read-side
+ * copies of the catalog can reload that one turf after the transaction commits.
+ * {@code typeBefore} is null for new turfs and {@code typeAfter} is null for deleted ones;
+ * an update that keeps the type carries the same value in both.
+ */
+public class TurfChangedEvent {
+
+    private final Long turfId;
+    private final Long ownerId;
+    private final SportType typeBefore;
+    private final SportType typeAfter;
+
+    public TurfChangedEvent(Long turfId, Long ownerId, SportType typeBefore, SportType typeAfter) {
+        this.turfId = turfId;
+        this.ownerId = ownerId;
+        this.typeBefore = typeBefore;
+        this.typeAfter = typeAfter;
+    }
+
+    // Getters
+    public Long getTurfId() { return turfId; }
+    public Long getOwnerId() { return ownerId; }
+    public SportType getTypeBefore() { return typeBefore; }
+    public SportType getTypeAfter() { return typeAfter; }
+}
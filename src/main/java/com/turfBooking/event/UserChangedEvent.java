@@ -0,0 +1,25 @@
+package com.turfBooking.event;
+
+import com.turfBooking.enums.UserRole;
+
+/**
+ * Published by the user service whenever a user is created or removed.
+ * {@code roleBefore} is null for new users and {@code roleAfter} is null for deleted ones.
+ */
+public class UserChangedEvent {
+
+    private final Long userId;
+    private final UserRole roleBefore;
+    private final UserRole roleAfter;
+
+    public UserChangedEvent(Long userId, UserRole roleBefore, UserRole roleAfter) {
+        this.userId = userId;
+        this.roleBefore = roleBefore;
+        this.roleAfter = roleAfter;
+    }
+
+    // Getters
+    public Long getUserId() { return userId; }
+    public UserRole getRoleBefore() { return roleBefore; }
+    public UserRole getRoleAfter() { return roleAfter; }
+}
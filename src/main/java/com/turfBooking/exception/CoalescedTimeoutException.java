@@ -0,0 +1,9 @@
+package com.turfBooking.exception;
+
+// Thrown to a coalesced caller that gave up waiting for the shared execution, so controllers can answer 503
+public class CoalescedTimeoutException extends RuntimeException {
+
+    public CoalescedTimeoutException(String message) {
+        super(message);
+    }
+}
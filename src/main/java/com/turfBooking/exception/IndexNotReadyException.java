@@ -0,0 +1,9 @@
+package com.turfBooking.exception;
+
+// Thrown while an in-memory index has not finished its first build, so controllers can answer 503
+public class IndexNotReadyException extends RuntimeException {
+
+    public IndexNotReadyException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,9 @@
+package com.turfBooking.exception;
+
+// Thrown when another request holds the turf-day lock for longer than the configured wait
+public class SlotContendedException extends RuntimeException {
+
+    public SlotContendedException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,9 @@
+package com.turfBooking.exception;
+
+// Thrown when a turf id does not exist, so controllers can answer 404 instead of 400
+public class TurfNotFoundException extends RuntimeException {
+
+    public TurfNotFoundException(Long turfId) {
+        super("Turf not found with id: " + turfId);
+    }
+}
@@ -1,13 +1,16 @@
 package com.turfBooking.repository;
 
 import com.turfBooking.entity.BlockedSlot;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDate;
 import java.time.LocalTime;
+import java.util.Collection;
 import java.util.List;
 
 @Repository
@@ -33,6 +36,15 @@ public interface BlockedSlotRepository extends JpaRepository<BlockedSlot, Long>
                                                   @Param("startTime") LocalTime startTime,
                                                   @Param("endTime") LocalTime endTime);
 
+    // Find blocked slots overlapping a daily time window anywhere in a date range (booking series)
+    @Query("SELECT bs FROM BlockedSlot bs WHERE bs.turf.id = :turfId AND bs.blockedDate BETWEEN :startDate AND :endDate " +
+            "AND bs.startTime < :endTime AND bs.endTime > :startTime")
+    List<BlockedSlot> findConflictingBlockedSlotsBetween(@Param("turfId") Long turfId,
+                                                         @Param("startDate") LocalDate startDate,
+                                                         @Param("endDate") LocalDate endDate,
+                                                         @Param("startTime") LocalTime startTime,
+                                                         @Param("endTime") LocalTime endTime);
+
     // Find blocked slots for turf owner (all their turfs)
     @Query("SELECT bs FROM BlockedSlot bs WHERE bs.turf.owner.id = :ownerId")
     List<BlockedSlot> findBlockedSlotsByTurfOwnerId(@Param("ownerId") Long ownerId);
@@ -41,7 +53,32 @@ public interface BlockedSlotRepository extends JpaRepository<BlockedSlot, Long>
     @Query("SELECT bs FROM BlockedSlot bs WHERE bs.turf.id = :turfId AND bs.blockedDate >= :currentDate")
     List<BlockedSlot> findFutureBlockedSlotsByTurfId(@Param("turfId") Long turfId, @Param("currentDate") LocalDate currentDate);
 
+    // Find future blocked slots that hold no slot claims yet (claims backfill)
+    @Query("SELECT bs FROM BlockedSlot bs WHERE bs.blockedDate >= :fromDate AND " +
+            "NOT EXISTS (SELECT c.id FROM BookingSlotClaim c WHERE c.blockedSlotId = bs.id)")
+    List<BlockedSlot> findBlockedSlotsWithoutClaims(@Param("fromDate") LocalDate fromDate);
+
     // Delete old blocked slots (cleanup)
+    @Modifying
     @Query("DELETE FROM BlockedSlot bs WHERE bs.blockedDate < :date")
     void deleteOldBlockedSlots(@Param("date") LocalDate date);
-}
\ No newline at end of file
+
+    // Keyset page by id; pass 0 for the first page
+    List<BlockedSlot> findByIdGreaterThanOrderByIdAsc(Long id, Pageable pageable);
+
+    // (turfId, date, start, end) of blocked slots for several turfs over a date range (availability grid)
+    @Query("SELECT bs.turf.id, bs.blockedDate, bs.startTime, bs.endTime FROM BlockedSlot bs " +
+            "WHERE bs.turf.id IN :turfIds AND bs.blockedDate BETWEEN :startDate AND :endDate")
+    List<Object[]> findIntervalsForTurfsBetween(@Param("turfIds") Collection<Long> turfIds,
+                                                @Param("startDate") LocalDate startDate,
+                                                @Param("endDate") LocalDate endDate);
+
+    // (turfId, date, start, end) of blocked slots of a turf from a day onward (turf-day summary rebuild)
+    @Query("SELECT bs.turf.id, bs.blockedDate, bs.startTime, bs.endTime FROM BlockedSlot bs " +
+            "WHERE bs.turf.id = :turfId AND bs.blockedDate >= :date")
+    List<Object[]> findIntervalsForTurfFrom(@Param("turfId") Long turfId, @Param("date") LocalDate date);
+
+    // (turfId, count) of blocked slots for several turfs
+    @Query("SELECT bs.turf.id, COUNT(bs) FROM BlockedSlot bs WHERE bs.turf.id IN :turfIds GROUP BY bs.turf.id")
+    List<Object[]> countGroupedByTurf(@Param("turfIds") Collection<Long> turfIds);
+}
@@ -0,0 +1,21 @@
+package com.turfBooking.repository;
+
+import com.turfBooking.entity.BlockedSlotRule;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.Collection;
+import java.util.List;
+
+@Repository
+public interface BlockedSlotRuleRepository extends JpaRepository<BlockedSlotRule, Long> {
+
+    List<BlockedSlotRule> findByTurfIdOrderByIdAsc(Long turfId);
+
+    // (turfId, ruleId, weekdayMask, start, end, validFrom, validUntil) of several turfs (rule cache)
+    @Query("SELECT r.turf.id, r.id, r.weekdayMask, r.startTime, r.endTime, r.validFrom, r.validUntil " +
+            "FROM BlockedSlotRule r WHERE r.turf.id IN :turfIds")
+    List<Object[]> findCompiledFieldsByTurfIds(@Param("turfIds") Collection<Long> turfIds);
+}
@@ -1,21 +1,44 @@
 package com.turfBooking.repository;
 
+import com.turfBooking.dto.BookingResponseDTO;
 import com.turfBooking.entity.Booking;
 import com.turfBooking.entity.Turf;
 import com.turfBooking.entity.User;
 import com.turfBooking.enums.BookingStatus;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDate;
 import java.time.LocalTime;
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
 
 @Repository
 public interface BookingRepository extends JpaRepository<Booking, Long> {
 
+    // Booking with its user, turf and turf owner columns in one joined select (no lazy loads per row)
+    String RESPONSE_SELECT = "SELECT new com.turfBooking.dto.BookingResponseDTO(" +
+            "b.id, b.slotStartTime, b.slotEndTime, b.bookingDate, b.status, " +
+            "u.id, u.name, u.phone, t.id, t.name, t.location, t.type, t.pricePerSlot, o.name, o.phone) " +
+            "FROM Booking b JOIN b.user u JOIN b.turf t JOIN t.owner o ";
+
+    String UPCOMING_CONDITION = "(b.bookingDate > :currentDate OR (b.bookingDate = :currentDate AND b.slotStartTime > :currentTime)) " +
+            "AND b.status = 'CONFIRMED' ";
+
+    // Rows strictly after the cursor row in (bookingDate, slotStartTime, id) descending order
+    String SEEK_CONDITION = "(b.bookingDate < :date OR (b.bookingDate = :date AND " +
+            "(b.slotStartTime < :time OR (b.slotStartTime = :time AND b.id < :id)))) ";
+
+    String SEEK_ORDER = "ORDER BY b.bookingDate DESC, b.slotStartTime DESC, b.id DESC";
+
     // Find bookings by user
     List<Booking> findByUser(User user);
 
@@ -49,6 +72,9 @@ public interface BookingRepository extends JpaRepository<Booking, Long> {
     // Find bookings by turf and date
     List<Booking> findByTurfAndBookingDate(Turf turf, LocalDate bookingDate);
 
+    // Find bookings by turf ID, date and status
+    List<Booking> findByTurfIdAndBookingDateAndStatus(Long turfId, LocalDate bookingDate, BookingStatus status);
+
     // Check for conflicting bookings (time overlap)
     @Query("SELECT b FROM Booking b WHERE b.turf.id = :turfId AND b.bookingDate = :date AND b.status = 'CONFIRMED' AND " +
             "((:startTime < b.slotEndTime AND :endTime > b.slotStartTime))")
@@ -57,6 +83,15 @@ public interface BookingRepository extends JpaRepository<Booking, Long> {
                                           @Param("startTime") LocalTime startTime,
                                           @Param("endTime") LocalTime endTime);
 
+    // Find confirmed bookings overlapping a daily time window anywhere in a date range (booking series)
+    @Query("SELECT b FROM Booking b WHERE b.turf.id = :turfId AND b.bookingDate BETWEEN :startDate AND :endDate " +
+            "AND b.status = 'CONFIRMED' AND (:startTime < b.slotEndTime AND :endTime > b.slotStartTime)")
+    List<Booking> findConflictingBookingsBetween(@Param("turfId") Long turfId,
+                                                 @Param("startDate") LocalDate startDate,
+                                                 @Param("endDate") LocalDate endDate,
+                                                 @Param("startTime") LocalTime startTime,
+                                                 @Param("endTime") LocalTime endTime);
+
     // Find upcoming bookings for a user
     @Query("SELECT b FROM Booking b WHERE b.user.id = :userId AND " +
             "(b.bookingDate > :currentDate OR (b.bookingDate = :currentDate AND b.slotStartTime > :currentTime)) " +
@@ -111,6 +146,108 @@ public interface BookingRepository extends JpaRepository<Booking, Long> {
                                  @Param("startDate") LocalDate startDate,
                                  @Param("endDate") LocalDate endDate);
 
+    // Find future confirmed bookings that hold no slot claims yet (claims backfill)
+    @Query("SELECT b FROM Booking b WHERE b.status = 'CONFIRMED' AND b.bookingDate >= :fromDate AND " +
+            "NOT EXISTS (SELECT c.id FROM BookingSlotClaim c WHERE c.bookingId = b.id)")
+    List<Booking> findConfirmedBookingsWithoutClaims(@Param("fromDate") LocalDate fromDate);
+
+    // Response projections used by the booking list endpoints
+
+    @Query(RESPONSE_SELECT + "WHERE b.id = :id")
+    Optional<BookingResponseDTO> findResponseById(@Param("id") Long id);
+
+    @Query(RESPONSE_SELECT)
+    List<BookingResponseDTO> findAllResponses();
+
+    @Query(RESPONSE_SELECT + "WHERE u.id = :userId")
+    List<BookingResponseDTO> findResponsesByUserId(@Param("userId") Long userId);
+
+    @Query(RESPONSE_SELECT + "WHERE t.id = :turfId")
+    List<BookingResponseDTO> findResponsesByTurfId(@Param("turfId") Long turfId);
+
+    @Query(RESPONSE_SELECT + "WHERE b.status = :status")
+    List<BookingResponseDTO> findResponsesByStatus(@Param("status") BookingStatus status);
+
+    @Query(RESPONSE_SELECT + "WHERE b.bookingDate BETWEEN :startDate AND :endDate")
+    List<BookingResponseDTO> findResponsesByBookingDateBetween(@Param("startDate") LocalDate startDate,
+                                                               @Param("endDate") LocalDate endDate);
+
+    @Query(RESPONSE_SELECT + "WHERE u.id = :userId AND " + UPCOMING_CONDITION +
+            "ORDER BY b.bookingDate ASC, b.slotStartTime ASC")
+    List<BookingResponseDTO> findUpcomingResponsesForUser(@Param("userId") Long userId,
+                                                          @Param("currentDate") LocalDate currentDate,
+                                                          @Param("currentTime") LocalTime currentTime);
+
+    @Query(RESPONSE_SELECT + "WHERE t.id = :turfId AND " + UPCOMING_CONDITION +
+            "ORDER BY b.bookingDate ASC, b.slotStartTime ASC")
+    List<BookingResponseDTO> findUpcomingResponsesForTurf(@Param("turfId") Long turfId,
+                                                          @Param("currentDate") LocalDate currentDate,
+                                                          @Param("currentTime") LocalTime currentTime);
+
+    @Query(RESPONSE_SELECT + "WHERE o.id = :ownerId ORDER BY b.bookingDate DESC, b.slotStartTime DESC")
+    List<BookingResponseDTO> findResponsesForTurfOwner(@Param("ownerId") Long ownerId);
+
+    @Query(RESPONSE_SELECT + "WHERE o.id = :ownerId AND " + UPCOMING_CONDITION +
+            "ORDER BY b.bookingDate ASC, b.slotStartTime ASC")
+    List<BookingResponseDTO> findUpcomingResponsesForTurfOwner(@Param("ownerId") Long ownerId,
+                                                               @Param("currentDate") LocalDate currentDate,
+                                                               @Param("currentTime") LocalTime currentTime);
+
+    @Query(RESPONSE_SELECT + "WHERE " +
+            "(:userId IS NULL OR u.id = :userId) AND " +
+            "(:turfId IS NULL OR t.id = :turfId) AND " +
+            "(:status IS NULL OR b.status = :status) AND " +
+            "(:startDate IS NULL OR b.bookingDate >= :startDate) AND " +
+            "(:endDate IS NULL OR b.bookingDate <= :endDate) " +
+            "ORDER BY b.bookingDate DESC, b.slotStartTime DESC")
+    List<BookingResponseDTO> searchBookingResponses(@Param("userId") Long userId,
+                                                    @Param("turfId") Long turfId,
+                                                    @Param("status") BookingStatus status,
+                                                    @Param("startDate") LocalDate startDate,
+                                                    @Param("endDate") LocalDate endDate);
+
+    // Keyset pages, newest first; the first page has no cursor
+
+    @Query(RESPONSE_SELECT + SEEK_ORDER)
+    List<BookingResponseDTO> findResponsePage(Pageable pageable);
+
+    @Query(RESPONSE_SELECT + "WHERE " + SEEK_CONDITION + SEEK_ORDER)
+    List<BookingResponseDTO> findResponsePageAfter(@Param("date") LocalDate date,
+                                                   @Param("time") LocalTime time,
+                                                   @Param("id") Long id,
+                                                   Pageable pageable);
+
+    @Query(RESPONSE_SELECT + "WHERE o.id = :ownerId " + SEEK_ORDER)
+    List<BookingResponseDTO> findResponsePageForTurfOwner(@Param("ownerId") Long ownerId, Pageable pageable);
+
+    @Query(RESPONSE_SELECT + "WHERE o.id = :ownerId AND " + SEEK_CONDITION + SEEK_ORDER)
+    List<BookingResponseDTO> findResponsePageForTurfOwnerAfter(@Param("ownerId") Long ownerId,
+                                                               @Param("date") LocalDate date,
+                                                               @Param("time") LocalTime time,
+                                                               @Param("id") Long id,
+                                                               Pageable pageable);
+
+    // Forward-only streams for exports; MySQL Connector/J streams row by row when the fetch size is Integer.MIN_VALUE
+
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "" + Integer.MIN_VALUE),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    @Query(RESPONSE_SELECT + "WHERE b.bookingDate BETWEEN :startDate AND :endDate " +
+            "ORDER BY b.bookingDate ASC, b.slotStartTime ASC, b.id ASC")
+    Stream<BookingResponseDTO> streamResponsesBetween(@Param("startDate") LocalDate startDate,
+                                                      @Param("endDate") LocalDate endDate);
+
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "" + Integer.MIN_VALUE),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    @Query(RESPONSE_SELECT + "WHERE o.id = :ownerId AND b.bookingDate BETWEEN :startDate AND :endDate " +
+            "ORDER BY b.bookingDate ASC, b.slotStartTime ASC, b.id ASC")
+    Stream<BookingResponseDTO> streamResponsesForTurfOwnerBetween(@Param("ownerId") Long ownerId,
+                                                                  @Param("startDate") LocalDate startDate,
+                                                                  @Param("endDate") LocalDate endDate);
+
     // Check if user has existing booking for same turf and time slot
     @Query("SELECT COUNT(b) > 0 FROM Booking b WHERE b.user.id = :userId AND b.turf.id = :turfId AND " +
             "b.bookingDate = :date AND b.slotStartTime = :startTime AND b.slotEndTime = :endTime AND b.status = 'CONFIRMED'")
@@ -119,4 +256,20 @@ public interface BookingRepository extends JpaRepository<Booking, Long> {
                                    @Param("date") LocalDate date,
                                    @Param("startTime") LocalTime startTime,
                                    @Param("endTime") LocalTime endTime);
-}
\ No newline at end of file
+
+    // Booking counts per (status, user, turf) in one pass, used to seed the statistics counters
+    @Query("SELECT b.status, b.user.id, b.turf.id, COUNT(b) FROM Booking b GROUP BY b.status, b.user.id, b.turf.id")
+    List<Object[]> countGroupedByStatusUserAndTurf();
+
+    // (turfId, date, start, end) of CONFIRMED bookings for several turfs over a date range (availability grid)
+    @Query("SELECT b.turf.id, b.bookingDate, b.slotStartTime, b.slotEndTime FROM Booking b " +
+            "WHERE b.turf.id IN :turfIds AND b.bookingDate BETWEEN :startDate AND :endDate AND b.status = 'CONFIRMED'")
+    List<Object[]> findConfirmedIntervalsForTurfsBetween(@Param("turfIds") Collection<Long> turfIds,
+                                                         @Param("startDate") LocalDate startDate,
+                                                         @Param("endDate") LocalDate endDate);
+
+    // (turfId, date, start, end) of CONFIRMED bookings of a turf from a day onward (turf-day summary rebuild)
+    @Query("SELECT b.turf.id, b.bookingDate, b.slotStartTime, b.slotEndTime FROM Booking b " +
+            "WHERE b.turf.id = :turfId AND b.bookingDate >= :date AND b.status = 'CONFIRMED'")
+    List<Object[]> findConfirmedIntervalsForTurfFrom(@Param("turfId") Long turfId, @Param("date") LocalDate date);
+}
@@ -0,0 +1,50 @@
+package com.turfBooking.repository;
+
+import com.turfBooking.entity.BookingSlotClaim;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDate;
+import java.util.Collection;
+import java.util.List;
+
+@Repository
+public interface BookingSlotClaimRepository extends JpaRepository<BookingSlotClaim, Long>, BookingSlotClaimRepositoryCustom {
+
+    // Release claims held by a booking
+    @Modifying
+    @Query("DELETE FROM BookingSlotClaim c WHERE c.bookingId = :bookingId")
+    int deleteByBookingId(@Param("bookingId") Long bookingId);
+
+    // Release claims held by several bookings (bulk cancellation)
+    @Modifying
+    @Query("DELETE FROM BookingSlotClaim c WHERE c.bookingId IN :bookingIds")
+    int deleteByBookingIdIn(@Param("bookingIds") Collection<Long> bookingIds);
+
+    // (bookingId, claim count) of several bookings; a booking that lost a slot holds fewer than it asked for
+    @Query("SELECT c.bookingId, COUNT(c) FROM BookingSlotClaim c WHERE c.bookingId IN :bookingIds GROUP BY c.bookingId")
+    List<Object[]> countByBookingIdIn(@Param("bookingIds") Collection<Long> bookingIds);
+
+    // Release claims held by a blocked slot
+    @Modifying
+    @Query("DELETE FROM BookingSlotClaim c WHERE c.blockedSlotId = :blockedSlotId")
+    int deleteByBlockedSlotId(@Param("blockedSlotId") Long blockedSlotId);
+
+    // Release every claim of a turf
+    @Modifying
+    @Query("DELETE FROM BookingSlotClaim c WHERE c.turfId = :turfId")
+    int deleteByTurfId(@Param("turfId") Long turfId);
+
+    // Release blocked slot claims before a date (blocked slot cleanup)
+    @Modifying
+    @Query("DELETE FROM BookingSlotClaim c WHERE c.blockedSlotId IS NOT NULL AND c.bookingDate < :date")
+    int deleteBlockedSlotClaimsBefore(@Param("date") LocalDate date);
+
+    // Purge claims for days that have passed
+    @Modifying
+    @Query("DELETE FROM BookingSlotClaim c WHERE c.bookingDate < :date")
+    int deleteClaimsBefore(@Param("date") LocalDate date);
+}
@@ -0,0 +1,14 @@
+package com.turfBooking.repository;
+
+import com.turfBooking.entity.BookingSlotClaim;
+
+import java.util.List;
+
+public interface BookingSlotClaimRepositoryCustom {
+
+    // Insert claims in one JDBC batch; a taken slot surfaces as DataIntegrityViolationException
+    void insertClaims(List<BookingSlotClaim> claims);
+
+    // Insert claims in one JDBC batch, silently skipping slots that are already taken
+    void insertClaimsIgnoringConflicts(List<BookingSlotClaim> claims);
+}
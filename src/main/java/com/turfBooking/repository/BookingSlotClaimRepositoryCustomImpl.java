@@ -0,0 +1,55 @@
+package com.turfBooking.repository;
+
+import com.turfBooking.entity.BookingSlotClaim;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.sql.Date;
+import java.sql.Types;
+import java.util.List;
+
+public class BookingSlotClaimRepositoryCustomImpl implements BookingSlotClaimRepositoryCustom {
+
+    private static final String INSERT_SQL =
+            "INSERT INTO booking_slot_claims (turf_id, booking_date, slot_index, booking_id, blocked_slot_id) " +
+                    "VALUES (?, ?, ?, ?, ?)";
+
+    private static final String INSERT_IGNORE_SQL =
+            "INSERT IGNORE INTO booking_slot_claims (turf_id, booking_date, slot_index, booking_id, blocked_slot_id) " +
+                    "VALUES (?, ?, ?, ?, ?)";
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Override
+    public void insertClaims(List<BookingSlotClaim> claims) {
+        batchInsert(INSERT_SQL, claims);
+    }
+
+    @Override
+    public void insertClaimsIgnoringConflicts(List<BookingSlotClaim> claims) {
+        batchInsert(INSERT_IGNORE_SQL, claims);
+    }
+
+    // Runs on the JPA transaction's connection; with rewriteBatchedStatements the batch is one round trip
+    private void batchInsert(String sql, List<BookingSlotClaim> claims) {
+        if (claims.isEmpty()) {
+            return;
+        }
+        jdbcTemplate.batchUpdate(sql, claims, claims.size(), (ps, claim) -> {
+            ps.setLong(1, claim.getTurfId());
+            ps.setDate(2, Date.valueOf(claim.getBookingDate()));
+            ps.setInt(3, claim.getSlotIndex());
+            if (claim.getBookingId() != null) {
+                ps.setLong(4, claim.getBookingId());
+            } else {
+                ps.setNull(4, Types.BIGINT);
+            }
+            if (claim.getBlockedSlotId() != null) {
+                ps.setLong(5, claim.getBlockedSlotId());
+            } else {
+                ps.setNull(5, Types.BIGINT);
+            }
+        });
+    }
+}
@@ -0,0 +1,24 @@
+package com.turfBooking.repository;
+
+import com.turfBooking.entity.OccupancyChange;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Repository
+public interface OccupancyChangeRepository extends JpaRepository<OccupancyChange, Long> {
+
+    // Changes written by other instances since a point in time (availability store recheck)
+    @Query("SELECT c FROM OccupancyChange c WHERE c.changedAt >= :since AND c.nodeId <> :nodeId ORDER BY c.id")
+    List<OccupancyChange> findChangesSince(@Param("since") LocalDateTime since, @Param("nodeId") Long nodeId);
+
+    // Purge changes every instance has long since read
+    @Modifying
+    @Query("DELETE FROM OccupancyChange c WHERE c.changedAt < :before")
+    int deleteOlderThan(@Param("before") LocalDateTime before);
+}
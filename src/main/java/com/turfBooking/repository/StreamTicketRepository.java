@@ -0,0 +1,24 @@
+package com.turfBooking.repository;
+
+import com.turfBooking.entity.StreamTicket;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+
+@Repository
+public interface StreamTicketRepository extends JpaRepository<StreamTicket, String> {
+
+    // Redeem a ticket; 1 for the one caller that wins it, 0 when it was used, expired or never issued
+    @Modifying
+    @Query("DELETE FROM StreamTicket t WHERE t.tokenHash = :tokenHash AND t.expiresAt > :now")
+    int consume(@Param("tokenHash") String tokenHash, @Param("now") LocalDateTime now);
+
+    // Purge tickets that were never redeemed
+    @Modifying
+    @Query("DELETE FROM StreamTicket t WHERE t.expiresAt <= :now")
+    int deleteExpired(@Param("now") LocalDateTime now);
+}
@@ -0,0 +1,47 @@
+package com.turfBooking.repository;
+
+import com.turfBooking.entity.TurfDaySummary;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+@Repository
+public interface TurfDaySummaryRepository extends JpaRepository<TurfDaySummary, Long> {
+
+    Optional<TurfDaySummary> findByTurfIdAndSummaryDate(Long turfId, LocalDate summaryDate);
+
+    // Summaries of several turfs on one day (listing badges)
+    List<TurfDaySummary> findByTurfIdInAndSummaryDate(Collection<Long> turfIds, LocalDate summaryDate);
+
+    // Summaries of a turf from a day onward (rebuild, operating hours change)
+    List<TurfDaySummary> findByTurfIdAndSummaryDateGreaterThanEqual(Long turfId, LocalDate summaryDate);
+
+    // Insert or overwrite the summary of a turf-day; a concurrent insert of the same day never fails on the unique key
+    @Modifying
+    @Query(value = "INSERT INTO turf_day_summary (turf_id, summary_date, free_minutes, first_free_slot, " +
+            "longest_free_run, booked_minutes) VALUES (:turfId, :summaryDate, :freeMinutes, :firstFreeSlot, " +
+            ":longestFreeRun, :bookedMinutes) ON DUPLICATE KEY UPDATE free_minutes = VALUES(free_minutes), " +
+            "first_free_slot = VALUES(first_free_slot), longest_free_run = VALUES(longest_free_run), " +
+            "booked_minutes = VALUES(booked_minutes)", nativeQuery = true)
+    int upsert(@Param("turfId") Long turfId, @Param("summaryDate") LocalDate summaryDate,
+               @Param("freeMinutes") int freeMinutes, @Param("firstFreeSlot") LocalTime firstFreeSlot,
+               @Param("longestFreeRun") int longestFreeRun, @Param("bookedMinutes") int bookedMinutes);
+
+    // Drop every summary of a turf
+    @Modifying
+    @Query("DELETE FROM TurfDaySummary s WHERE s.turfId = :turfId")
+    int deleteByTurfId(@Param("turfId") Long turfId);
+
+    // Purge summaries for days that have passed
+    @Modifying
+    @Query("DELETE FROM TurfDaySummary s WHERE s.summaryDate < :date")
+    int deleteSummariesBefore(@Param("date") LocalDate date);
+}
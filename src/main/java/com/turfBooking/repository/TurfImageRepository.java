@@ -4,10 +4,14 @@ import com.turfBooking.entity.TurfImage;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 
 @Repository
 public interface TurfImageRepository extends JpaRepository<TurfImage, Long> {
     List<TurfImage> findByTurfId(Long turfId);
+
+    // Images of several turfs in one query
+    List<TurfImage> findByTurfIdIn(Collection<Long> turfIds);
     void deleteByTurfId(Long turfId);
 }
\ No newline at end of file
@@ -3,12 +3,14 @@ package com.turfBooking.repository;
 import com.turfBooking.entity.Turf;
 import com.turfBooking.entity.User;
 import com.turfBooking.enums.SportType;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.math.BigDecimal;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -37,7 +39,7 @@ public interface TurfRepository extends JpaRepository<Turf, Long> {
     List<Turf> findByPricePerSlotLessThanEqual(BigDecimal maxPrice);
 
     // Search turfs by multiple criteria
-    @Query("SELECT t FROM Turf t WHERE " +
+    @Query("SELECT t FROM Turf t JOIN FETCH t.owner WHERE " +
             "(:name IS NULL OR LOWER(t.name) LIKE LOWER(CONCAT('%', :name, '%'))) AND " +
             "(:location IS NULL OR LOWER(t.location) LIKE LOWER(CONCAT('%', :location, '%'))) AND " +
             "(:type IS NULL OR t.type = :type) AND " +
@@ -62,8 +64,51 @@ public interface TurfRepository extends JpaRepository<Turf, Long> {
     // Check if turf name exists for owner (to prevent duplicate names per owner)
     boolean existsByNameAndOwner(String name, User owner);
 
-    // Find available turfs (not having bookings in a specific time slot - to be used with additional logic)
-    @Query("SELECT DISTINCT t FROM Turf t WHERE t.id NOT IN " +
-            "(SELECT b.turf.id FROM Booking b WHERE b.bookingDate = :date)")
-    List<Turf> findAvailableTurfsOnDate(@Param("date") java.time.LocalDate date);
-}
\ No newline at end of file
+    // Turfs with a free slot on a date and a contiguous free run of at least minFreeMinutes;
+    // turfs without a turf_day_summary row have nothing booked or blocked that day
+    @Query("SELECT t FROM Turf t WHERE NOT EXISTS (SELECT s.id FROM TurfDaySummary s " +
+            "WHERE s.turfId = t.id AND s.summaryDate = :date " +
+            "AND (s.firstFreeSlot IS NULL OR s.longestFreeRun < :minFreeMinutes))")
+    List<Turf> findTurfsWithFreeCapacityOnDate(@Param("date") java.time.LocalDate date,
+                                               @Param("minFreeMinutes") int minFreeMinutes);
+
+    // Turf with its owner in one query (turf detail)
+    @Query("SELECT t FROM Turf t JOIN FETCH t.owner WHERE t.id = :id")
+    Optional<Turf> findWithOwnerById(@Param("id") Long id);
+
+    // Keyset page by id; pass 0 for the first page
+    List<Turf> findByIdGreaterThanOrderByIdAsc(Long id, Pageable pageable);
+
+    // Searchable fields of every turf, used to build the in-memory catalog index
+    @Query("SELECT t.id, t.name, t.location, t.type, t.pricePerSlot FROM Turf t")
+    List<Object[]> findCatalogFields();
+
+    @Query("SELECT t.id, t.name, t.location, t.type, t.pricePerSlot FROM Turf t WHERE t.id = :id")
+    List<Object[]> findCatalogFieldsById(@Param("id") Long id);
+
+    // Coordinates, sport type and price of every located turf, used to build the nearby index
+    @Query("SELECT t.id, t.latitude, t.longitude, t.type, t.pricePerSlot FROM Turf t " +
+            "WHERE t.latitude IS NOT NULL AND t.longitude IS NOT NULL")
+    List<Object[]> findGeoFields();
+
+    @Query("SELECT t.id, t.latitude, t.longitude, t.type, t.pricePerSlot FROM Turf t " +
+            "WHERE t.id = :id AND t.latitude IS NOT NULL AND t.longitude IS NOT NULL")
+    List<Object[]> findGeoFieldsById(@Param("id") Long id);
+
+    // Located turfs whose geohash column was never filled (rows written before it existed)
+    List<Turf> findByGeohashIsNullAndLatitudeIsNotNullAndLongitudeIsNotNull();
+
+    // Located turfs inside a latitude/longitude box; nearby search before its index is built
+    @Query("SELECT t FROM Turf t JOIN FETCH t.owner WHERE t.latitude BETWEEN :minLat AND :maxLat " +
+            "AND t.longitude BETWEEN :minLng AND :maxLng")
+    List<Turf> findLocatedWithin(@Param("minLat") double minLat, @Param("maxLat") double maxLat,
+                                 @Param("minLng") double minLng, @Param("maxLng") double maxLng);
+
+    // Turfs with their owners by primary key (results of the catalog index)
+    @Query("SELECT t FROM Turf t JOIN FETCH t.owner WHERE t.id IN :ids")
+    List<Turf> findWithOwnerByIdIn(@Param("ids") Collection<Long> ids);
+
+    // Turf id, owner id and sport type of every turf, used to seed the statistics counters
+    @Query("SELECT t.id, t.owner.id, t.type FROM Turf t")
+    List<Object[]> findTurfOwnersAndTypes();
+}
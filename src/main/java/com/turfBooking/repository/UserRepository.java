@@ -2,6 +2,7 @@ package com.turfBooking.repository;
 
 import com.turfBooking.entity.User;
 import com.turfBooking.enums.UserRole;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
@@ -36,4 +37,10 @@ public interface UserRepository extends JpaRepository<User, Long> {
     // Count users by role
     long countByRole(UserRole role);
 
-}
\ No newline at end of file
+    // Keyset page by id; pass 0 for the first page
+    List<User> findByIdGreaterThanOrderByIdAsc(Long id, Pageable pageable);
+
+    // User counts per role, used to seed the statistics counters
+    @Query("SELECT u.role, COUNT(u) FROM User u GROUP BY u.role")
+    List<Object[]> countGroupedByRole();
+}
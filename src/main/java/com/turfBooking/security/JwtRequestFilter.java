@@ -1,6 +1,7 @@
 package com.turfBooking.security;
 
 import com.turfBooking.service.implementation.CustomUserDetailsService;
+import com.turfBooking.service.implementation.StreamTicketService;
 import com.turfBooking.util.JwtUtil;
 import io.jsonwebtoken.ExpiredJwtException;
 import jakarta.servlet.FilterChain;
@@ -17,16 +18,26 @@ import org.springframework.stereotype.Component;
 import org.springframework.web.filter.OncePerRequestFilter;
 
 import java.io.IOException;
+import java.time.LocalDate;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
 
 @Component
 public class JwtRequestFilter extends OncePerRequestFilter {
 
+    // EventSource cannot send headers, so availability streams authenticate with a one-time ticket instead
+    private static final Pattern STREAM_PATH = Pattern.compile("/api/turfs/(\\d+)/availability/stream");
+    private static final String STREAM_TICKET_PARAMETER = "ticket";
+
     private final JwtUtil jwtUtil;
     private final CustomUserDetailsService userDetailsService;
+    private final StreamTicketService streamTicketService;
 
-    public JwtRequestFilter(JwtUtil jwtUtil, @Lazy CustomUserDetailsService userDetailsService) {
+    public JwtRequestFilter(JwtUtil jwtUtil, @Lazy CustomUserDetailsService userDetailsService,
+                            @Lazy StreamTicketService streamTicketService) {
         this.jwtUtil = jwtUtil;
         this.userDetailsService = userDetailsService;
+        this.streamTicketService = streamTicketService;
     }
 
     @Override
@@ -41,6 +52,13 @@ public class JwtRequestFilter extends OncePerRequestFilter {
         // JWT Token is in the form "Bearer token". Remove Bearer word and get only the Token
         if (requestTokenHeader != null && requestTokenHeader.startsWith("Bearer ")) {
             jwtToken = requestTokenHeader.substring(7);
+        } else if (request.getParameter(STREAM_TICKET_PARAMETER) != null) {
+            authenticateStream(request);
+        } else {
+            logger.debug("JWT Token does not begin with Bearer String");
+        }
+
+        if (jwtToken != null) {
             try {
                 username = jwtUtil.extractUsername(jwtToken);
             } catch (IllegalArgumentException e) {
@@ -48,8 +66,6 @@ public class JwtRequestFilter extends OncePerRequestFilter {
             } catch (ExpiredJwtException e) {
                 logger.warn("JWT Token has expired: " + e.getMessage());
             }
-        } else {
-            logger.debug("JWT Token does not begin with Bearer String");
         }
 
         // Once we get the token validate it.
@@ -72,4 +88,26 @@ public class JwtRequestFilter extends OncePerRequestFilter {
         }
         chain.doFilter(request, response);
     }
+
+    // A ticket only opens the stream of the turf and day it was issued for, and only once
+    private void authenticateStream(HttpServletRequest request) {
+        Matcher matcher = STREAM_PATH.matcher(request.getRequestURI());
+        if (!matcher.matches() || SecurityContextHolder.getContext().getAuthentication() != null) {
+            return;
+        }
+        LocalDate date;
+        try {
+            date = LocalDate.parse(request.getParameter("date"));
+        } catch (RuntimeException e) {
+            return;
+        }
+        streamTicketService.redeem(request.getParameter(STREAM_TICKET_PARAMETER), Long.valueOf(matcher.group(1)), date)
+                .ifPresent(username -> {
+                    UserDetails userDetails = this.userDetailsService.loadUserByUsername(username);
+                    UsernamePasswordAuthenticationToken authentication =
+                            new UsernamePasswordAuthenticationToken(userDetails, null, userDetails.getAuthorities());
+                    authentication.setDetails(new WebAuthenticationDetailsSource().buildDetails(request));
+                    SecurityContextHolder.getContext().setAuthentication(authentication);
+                });
+    }
 }
\ No newline at end of file
@@ -0,0 +1,355 @@
+package com.turfBooking.service.implementation;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.turfBooking.dto.FeedFileDTO;
+import com.turfBooking.entity.Turf;
+import com.turfBooking.repository.TurfRepository;
+import com.turfBooking.util.BusyIntervals;
+import com.turfBooking.util.DayOccupancy;
+import com.turfBooking.util.SlotSweeper;
+import jakarta.annotation.PostConstruct;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.Stream;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Writes the partner availability feed: a gzip-compressed NDJSON snapshot of every turf for the
+ * next days, plus deltas carrying only the turf-days that changed since the previous file.
+ * Turfs are read a page at a time with one bookings and one blocked slots query per page, and
+ * lines are written as they are produced, so memory use does not grow with the catalog.
+ *
+ * Every file starts with a header line; a turf line holds one string per day with one character
+ * per slot on the turf's grid ('1' free, '0' booked or blocked).
+ */
+@Service
+public class AvailabilityFeedService {
+
+    public static final String SNAPSHOT = "snapshot";
+    public static final String DELTA = "delta";
+
+    private static final Logger log = LoggerFactory.getLogger(AvailabilityFeedService.class);
+    private static final Pattern FILE_NAME = Pattern.compile("availability-(snapshot|delta)-(\\d+)\\.ndjson\\.gz");
+
+    @Autowired
+    private TurfRepository turfRepository;
+
+    @Autowired
+    private BusyIntervalReader busyIntervalReader;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Value("${feeds.availability.dir:data/feeds}")
+    private String dir;
+
+    @Value("${feeds.availability.days:14}")
+    private int days;
+
+    @Value("${feeds.availability.page-size:500}")
+    private int pageSize;
+
+    private TransactionTemplate readOnlyTransaction;
+
+    // Published files, oldest first: the current snapshot and the deltas written after it
+    private volatile List<FeedFileDTO> files = new ArrayList<>();
+
+    // Day strings as last published, by turf-day key; null until a snapshot was written by this node
+    private Map<Long, String> published;
+    private long lastVersion;
+
+    @PostConstruct
+    public void init() {
+        readOnlyTransaction = new TransactionTemplate(transactionManager);
+        readOnlyTransaction.setReadOnly(true);
+        files = restore();
+    }
+
+    public List<FeedFileDTO> getFiles() {
+        return files;
+    }
+
+    public Optional<FeedFileDTO> findFile(String name) {
+        return files.stream().filter(file -> file.getName().equals(name)).findFirst();
+    }
+
+    public Path resolve(FeedFileDTO file) {
+        return Paths.get(dir).resolve(file.getName());
+    }
+
+    @Scheduled(cron = "${feeds.availability.snapshot-cron:0 5 0 * * *}")
+    public synchronized void writeSnapshot() {
+        generate(true);
+    }
+
+    // A delta needs the previous state in memory; after a restart the first run writes a snapshot instead
+    @Scheduled(fixedDelayString = "${feeds.availability.delta-interval-ms:300000}",
+            initialDelayString = "${feeds.availability.initial-delay-ms:60000}")
+    public synchronized void writeDelta() {
+        generate(published == null);
+    }
+
+    private void generate(boolean snapshot) {
+        String type = snapshot ? SNAPSHOT : DELTA;
+        long version = Math.max(lastVersion + 1, System.currentTimeMillis());
+        LocalDate from = LocalDate.now();
+        LocalDateTime generatedAt = LocalDateTime.now();
+        String name = "availability-" + type + "-" + version + ".ndjson.gz";
+
+        try {
+            Path directory = Files.createDirectories(Paths.get(dir));
+            Path temp = Files.createTempFile(directory, "availability-", ".tmp");
+            Map<Long, String> next = new HashMap<>();
+            int lines;
+            try (Writer writer = new BufferedWriter(new OutputStreamWriter(
+                    new GZIPOutputStream(Files.newOutputStream(temp), 64 * 1024), StandardCharsets.UTF_8))) {
+                Map<String, Object> header = new LinkedHashMap<>();
+                header.put("type", type);
+                header.put("version", version);
+                header.put("baseVersion", snapshot ? null : lastVersion);
+                header.put("fromDate", from);
+                header.put("days", days);
+                header.put("generatedAt", generatedAt);
+                writeLine(writer, header);
+                lines = writeTurfs(writer, from, snapshot, next);
+            }
+
+            if (!snapshot && lines == 0) {
+                Files.delete(temp);
+                return;
+            }
+            Path target = directory.resolve(name);
+            Files.move(temp, target, StandardCopyOption.ATOMIC_MOVE);
+
+            FeedFileDTO file = new FeedFileDTO(name, type, version, from, days, Files.size(target), generatedAt);
+            List<FeedFileDTO> updated = snapshot ? new ArrayList<>() : new ArrayList<>(files);
+            updated.add(file);
+            List<FeedFileDTO> previous = files;
+            files = updated;
+            published = next;
+            lastVersion = version;
+            if (snapshot) {
+                deleteOlderThan(previous);
+            }
+            log.info("Wrote availability feed {} ({} turf lines, {} bytes)", name, lines, file.getSize());
+        } catch (IOException | UncheckedIOException e) {
+            log.error("Failed to write availability feed {}: {}", name, e.getMessage());
+        }
+    }
+
+    // Writes turf lines page by page and returns how many were written
+    private int writeTurfs(Writer writer, LocalDate from, boolean snapshot, Map<Long, String> next) {
+        LocalDate to = from.plusDays(days - 1L);
+        Set<Long> seen = new HashSet<>();
+        int lines = 0;
+        long lastId = 0;
+        while (true) {
+            long afterId = lastId;
+            List<Map<String, Object>> page = readOnlyTransaction.execute(status -> readPage(afterId, from, to));
+            if (page == null || page.isEmpty()) {
+                break;
+            }
+            for (Map<String, Object> line : page) {
+                Long turfId = (Long) line.get("turfId");
+                seen.add(turfId);
+                lastId = turfId;
+                if (keep(line, from, snapshot, next)) {
+                    writeLine(writer, line);
+                    lines++;
+                }
+            }
+        }
+
+        // Turfs deleted since the previous file
+        if (!snapshot) {
+            Set<Long> removed = new HashSet<>();
+            for (Long key : published.keySet()) {
+                if (!seen.contains(key >>> 24)) {
+                    removed.add(key >>> 24);
+                }
+            }
+            for (Long turfId : removed) {
+                Map<String, Object> line = new LinkedHashMap<>();
+                line.put("turfId", turfId);
+                line.put("removed", true);
+                writeLine(writer, line);
+                lines++;
+            }
+        }
+        return lines;
+    }
+
+    // Records the turf's day strings; in a delta, keeps only days that differ from the last file
+    @SuppressWarnings("unchecked")
+    private boolean keep(Map<String, Object> line, LocalDate from, boolean snapshot, Map<Long, String> next) {
+        Long turfId = (Long) line.get("turfId");
+        List<String> dayStrings = (List<String>) line.get("days");
+        Map<String, String> changed = new LinkedHashMap<>();
+        for (int day = 0; day < dayStrings.size(); day++) {
+            LocalDate date = from.plusDays(day);
+            long key = (turfId << 24) | (date.toEpochDay() & 0xFFFFFFL);
+            String value = line.get("slotMinutes") + "@" + line.get("open") + ":" + dayStrings.get(day);
+            next.put(key, value);
+            if (!snapshot && !value.equals(published.get(key))) {
+                changed.put(date.toString(), dayStrings.get(day));
+            }
+        }
+        if (snapshot) {
+            return true;
+        }
+        line.remove("days");
+        line.put("changedDays", changed);
+        return !changed.isEmpty();
+    }
+
+    private List<Map<String, Object>> readPage(long afterId, LocalDate from, LocalDate to) {
+        List<Turf> turfs = turfRepository.findByIdGreaterThanOrderByIdAsc(afterId, PageRequest.of(0, pageSize));
+        if (turfs.isEmpty()) {
+            return List.of();
+        }
+        List<Long> ids = turfs.stream().map(Turf::getId).toList();
+        BusyIntervals busy = busyIntervalReader.busyIntervals(ids, from, to);
+
+        List<Map<String, Object>> lines = new ArrayList<>(turfs.size());
+        for (Turf turf : turfs) {
+            int slotMinutes = turf.getSlotDurationMinutes() != null
+                    ? turf.getSlotDurationMinutes() : SlotSweeper.DEFAULT_SLOT_MINUTES;
+            List<String> dayStrings = new ArrayList<>(days);
+            for (int day = 0; day < days; day++) {
+                dayStrings.add(slotBitmap(turf, slotMinutes, busy.all(turf.getId(), from.plusDays(day))));
+            }
+            Map<String, Object> line = new LinkedHashMap<>();
+            line.put("turfId", turf.getId());
+            line.put("open", turf.getOperatingStartTime());
+            line.put("close", turf.getOperatingEndTime());
+            line.put("slotMinutes", slotMinutes);
+            line.put("days", dayStrings);
+            lines.add(line);
+        }
+        return lines;
+    }
+
+    // One character per slot on the grid starting at opening time
+    private static String slotBitmap(Turf turf, int slotMinutes, List<int[]> busy) {
+        int open = DayOccupancy.startMinute(turf.getOperatingStartTime());
+        int close = DayOccupancy.endMinute(turf.getOperatingEndTime());
+        StringBuilder bitmap = new StringBuilder(Math.max(0, (close - open) / slotMinutes));
+        List<LocalTime> free = SlotSweeper.freeSlots(turf.getOperatingStartTime(), turf.getOperatingEndTime(),
+                slotMinutes, busy);
+        int next = 0;
+        for (int start = open; start + slotMinutes <= close; start += slotMinutes) {
+            boolean isFree = next < free.size() && DayOccupancy.startMinute(free.get(next)) == start;
+            if (isFree) {
+                next++;
+            }
+            bitmap.append(isFree ? '1' : '0');
+        }
+        return bitmap.toString();
+    }
+
+    private void writeLine(Writer writer, Map<String, Object> line) {
+        try {
+            writer.write(objectMapper.writeValueAsString(line));
+            writer.write('\n');
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    // Keeps only files still listed; partners mid-download of an older snapshot get one full cycle
+    private void deleteOlderThan(List<FeedFileDTO> previous) {
+        Set<String> keep = new HashSet<>();
+        files.forEach(file -> keep.add(file.getName()));
+        previous.forEach(file -> keep.add(file.getName()));
+        try (Stream<Path> paths = Files.list(Paths.get(dir))) {
+            paths.filter(path -> FILE_NAME.matcher(path.getFileName().toString()).matches())
+                    .filter(path -> !keep.contains(path.getFileName().toString()))
+                    .forEach(path -> path.toFile().delete());
+        } catch (IOException e) {
+            log.warn("Could not clean up old availability feed files: {}", e.getMessage());
+        }
+    }
+
+    // Lists the newest snapshot on disk and the deltas after it, reading each file's header line
+    private List<FeedFileDTO> restore() {
+        Path directory = Paths.get(dir);
+        if (!Files.isDirectory(directory)) {
+            return new ArrayList<>();
+        }
+        List<FeedFileDTO> found = new ArrayList<>();
+        try (Stream<Path> paths = Files.list(directory)) {
+            for (Path path : paths.toList()) {
+                Matcher matcher = FILE_NAME.matcher(path.getFileName().toString());
+                if (matcher.matches()) {
+                    found.add(readHeader(path, matcher.group(1), Long.parseLong(matcher.group(2))));
+                }
+            }
+        } catch (IOException | RuntimeException e) {
+            log.warn("Could not read existing availability feed files: {}", e.getMessage());
+            return new ArrayList<>();
+        }
+        found.sort(Comparator.comparingLong(FeedFileDTO::getVersion));
+
+        int latestSnapshot = -1;
+        for (int i = 0; i < found.size(); i++) {
+            if (SNAPSHOT.equals(found.get(i).getType())) {
+                latestSnapshot = i;
+            }
+        }
+        if (latestSnapshot < 0) {
+            return new ArrayList<>();
+        }
+        List<FeedFileDTO> restored = new ArrayList<>(found.subList(latestSnapshot, found.size()));
+        lastVersion = restored.get(restored.size() - 1).getVersion();
+        return restored;
+    }
+
+    private FeedFileDTO readHeader(Path path, String type, long version) throws IOException {
+        try (BufferedReader reader = new BufferedReader(new InputStreamReader(
+                new GZIPInputStream(Files.newInputStream(path)), StandardCharsets.UTF_8))) {
+            JsonNode header = objectMapper.readTree(reader.readLine());
+            return new FeedFileDTO(path.getFileName().toString(), type, version,
+                    LocalDate.parse(header.get("fromDate").asText()), header.get("days").asInt(),
+                    Files.size(path), LocalDateTime.parse(header.get("generatedAt").asText()));
+        }
+    }
+}
@@ -0,0 +1,83 @@
+package com.turfBooking.service.implementation;
+
+import com.turfBooking.dto.AvailabilityGridDTO;
+import com.turfBooking.dto.TurfAvailabilityRowDTO;
+import com.turfBooking.entity.Turf;
+import com.turfBooking.repository.TurfRepository;
+import com.turfBooking.service.interfaces.AvailabilityService;
+import com.turfBooking.util.BusyIntervals;
+import com.turfBooking.util.SlotStateEncoder;
+import com.turfBooking.util.SlotSweeper;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+@Service
+@Transactional(readOnly = true)
+public class AvailabilityServiceImplementation implements AvailabilityService {
+
+    @Autowired
+    private TurfRepository turfRepository;
+
+    @Autowired
+    private BusyIntervalReader busyIntervalReader;
+
+    @Value("${availability.grid.max-cells:500}")
+    private int maxCells;
+
+    @Override
+    public AvailabilityGridDTO getAvailabilityGrid(List<Long> turfIds, LocalDate from, LocalDate to, Integer slotMinutes) {
+        if (turfIds == null || turfIds.isEmpty()) {
+            throw new RuntimeException("At least one turf id is required");
+        }
+        if (from.isAfter(to)) {
+            throw new RuntimeException("'from' must not be after 'to'");
+        }
+        if (slotMinutes != null && !SlotSweeper.isValidSlotLength(slotMinutes)) {
+            throw new RuntimeException("Slot length must be a multiple of " + SlotSweeper.MIN_SLOT_MINUTES +
+                    " minutes between " + SlotSweeper.MIN_SLOT_MINUTES + " and " + SlotSweeper.MAX_SLOT_MINUTES);
+        }
+
+        Set<Long> ids = new LinkedHashSet<>(turfIds);
+        int dayCount = (int) ChronoUnit.DAYS.between(from, to) + 1;
+        if ((long) ids.size() * dayCount > maxCells) {
+            throw new RuntimeException("Grid too large: turfs x days must not exceed " + maxCells);
+        }
+
+        Map<Long, Turf> turfs = new HashMap<>();
+        for (Turf turf : turfRepository.findAllById(ids)) {
+            turfs.put(turf.getId(), turf);
+        }
+
+        // Two range queries cover every turf-day of the grid; rules come from the cache
+        BusyIntervals busy = busyIntervalReader.busyIntervals(ids, from, to);
+
+        List<TurfAvailabilityRowDTO> rows = new ArrayList<>();
+        for (Long turfId : ids) {
+            Turf turf = turfs.get(turfId);
+            if (turf == null) {
+                throw new RuntimeException("Turf not found with id: " + turfId);
+            }
+            int length = slotMinutes != null ? slotMinutes
+                    : turf.getSlotDurationMinutes() != null ? turf.getSlotDurationMinutes() : SlotSweeper.DEFAULT_SLOT_MINUTES;
+
+            List<String> days = new ArrayList<>(dayCount);
+            for (LocalDate date = from; !date.isAfter(to); date = date.plusDays(1)) {
+                days.add(SlotStateEncoder.encode(turf.getOperatingStartTime(), turf.getOperatingEndTime(), length,
+                        busy.booked(turfId, date), busy.blocked(turfId, date)));
+            }
+            rows.add(new TurfAvailabilityRowDTO(turfId, turf.getName(), turf.getOperatingStartTime(), length, days));
+        }
+        return new AvailabilityGridDTO(from, to, rows);
+    }
+}
@@ -0,0 +1,403 @@
+package com.turfBooking.service.implementation;
+
+import com.turfBooking.entity.OccupancyChange;
+import com.turfBooking.util.DayOccupancy;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.BooleanSupplier;
+import java.util.function.LongPredicate;
+
+/**
+ * Occupancy bitmaps of (turf, day) in a memory-mapped file. While it is open this is where the
+ * occupancy index reads and caches days, so the cached days live off-heap and survive a restart.
+ *
+ * Layout: a 128-byte header followed by {@code capacity} fixed-size records (key, 23 bitmap words),
+ * addressed by open addressing on the turf-day key.
+ * Other instances' writes are found through the {@link OccupancyChangeLog}: every few seconds
+ * {@link #recheck} reads the change rows written since the previous check (minus a slack for commits
+ * in flight and clock skew) and drops those days, or every day of a turf when a rule changed.
+ * Records are only served while the last successful check is recent, so a database outage turns the
+ * store off instead of serving days that may have changed.
+ * The header keeps the time of the last check at a clean shutdown; on the next start the file is
+ * caught up from there, or wiped after a crash or when the change log no longer reaches back that far.
+ * The store is a cache: a full probe sequence or any I/O problem simply skips the write.
+ */
+@Component
+public class AvailabilityStore {
+
+    private static final Logger log = LoggerFactory.getLogger(AvailabilityStore.class);
+
+    private static final int MAGIC = 0x4B4F4156;
+    private static final int VERSION = 3;
+    private static final int HEADER_SIZE = 128;
+    private static final int RECORD_SIZE = 8 + DayOccupancy.WORDS * 8;
+    private static final int MAX_PROBES = 32;
+
+    // Records are locked per region; a probe sequence never spans more than two adjacent regions
+    private static final int REGION_RECORDS = 1024;
+
+    private static final long EMPTY = 0L;
+    private static final long TOMBSTONE = -1L;
+
+    // Header offsets
+    private static final int H_MAGIC = 0;
+    private static final int H_VERSION = 4;
+    private static final int H_CAPACITY = 8;
+    private static final int H_CLEAN = 12;
+    private static final int H_CHECKED_AT = 16;
+
+    @Autowired
+    private OccupancyChangeLog occupancyChangeLog;
+
+    @Value("${availability.store.enabled:true}")
+    private boolean enabled;
+
+    @Value("${availability.store.path:data/availability.store}")
+    private String path;
+
+    // Rounded up to a power of two
+    @Value("${availability.store.capacity:262144}")
+    private int capacity;
+
+    // How far back each check looks beyond the previous one
+    @Value("${availability.store.change-slack-ms:30000}")
+    private long changeSlackMillis;
+
+    // Records are not served once the last successful check is older than this
+    @Value("${availability.store.max-lag-ms:30000}")
+    private long maxLagMillis;
+
+    // Shared by record operations, exclusive while the file is opened or closed
+    private final ReentrantReadWriteLock lifecycle = new ReentrantReadWriteLock();
+
+    // Bumped before a check drops records, so loads that started earlier are not written back
+    private final AtomicLong generation = new AtomicLong();
+
+    // Change ids already applied that are still inside the slack window; only touched by recheck
+    private final Map<Long, LocalDateTime> applied = new HashMap<>();
+
+    private ReentrantLock[] regions;
+    private MappedByteBuffer buffer;
+    private FileChannel channel;
+    private int mask;
+    private volatile boolean ready;
+
+    // Epoch millis at which the last successful check started
+    private volatile long checkedAt;
+
+    public void open() {
+        if (!enabled) {
+            return;
+        }
+        lifecycle.writeLock().lock();
+        try {
+            int slots = Integer.highestOneBit(Math.max(capacity - 1, 1)) << 1;
+            long size = HEADER_SIZE + (long) slots * RECORD_SIZE;
+            Path file = Paths.get(path);
+            if (file.getParent() != null) {
+                Files.createDirectories(file.getParent());
+            }
+            channel = FileChannel.open(file, StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE);
+            buffer = channel.map(FileChannel.MapMode.READ_WRITE, 0, size);
+            mask = slots - 1;
+            regions = new ReentrantLock[Math.max(slots / REGION_RECORDS, 1)];
+            for (int region = 0; region < regions.length; region++) {
+                regions[region] = new ReentrantLock();
+            }
+
+            long now = System.currentTimeMillis();
+            long oldestChange = now - TimeUnit.HOURS.toMillis(occupancyChangeLog.getRetentionHours());
+            boolean trusted = buffer.getInt(H_MAGIC) == MAGIC && buffer.getInt(H_VERSION) == VERSION
+                    && buffer.getInt(H_CAPACITY) == slots && buffer.getInt(H_CLEAN) == 1
+                    && buffer.getLong(H_CHECKED_AT) - changeSlackMillis > oldestChange;
+            if (trusted) {
+                checkedAt = buffer.getLong(H_CHECKED_AT);
+                log.info("Availability store at {} is caught up from the change log", file);
+            } else {
+                wipe(slots);
+                // Nothing is cached yet, so there is nothing older to check
+                checkedAt = now;
+                log.info("Availability store at {} could not be caught up and was reset", file);
+            }
+
+            // Cleared until the next clean shutdown so a crash invalidates the file
+            buffer.putInt(H_CLEAN, 0);
+            buffer.force();
+            ready = true;
+        } catch (IOException | RuntimeException e) {
+            log.warn("Availability store disabled: {}", e.getMessage());
+            ready = false;
+        } finally {
+            lifecycle.writeLock().unlock();
+        }
+        recheck();
+    }
+
+    @PreDestroy
+    public void close() {
+        lifecycle.writeLock().lock();
+        try {
+            if (!ready) {
+                return;
+            }
+            ready = false;
+            buffer.putLong(H_CHECKED_AT, checkedAt);
+            buffer.putInt(H_CLEAN, 1);
+            buffer.force();
+            channel.close();
+        } catch (IOException | RuntimeException e) {
+            log.warn("Availability store not closed cleanly: {}", e.getMessage());
+        } finally {
+            lifecycle.writeLock().unlock();
+        }
+    }
+
+    // True while reads may be answered from the file
+    public boolean isServing() {
+        return ready && System.currentTimeMillis() - checkedAt <= maxLagMillis;
+    }
+
+    public long generation() {
+        return generation.get();
+    }
+
+    // Drops the days other instances changed since the previous check
+    @Scheduled(fixedDelayString = "${availability.store.recheck-ms:5000}")
+    public synchronized void recheck() {
+        if (!ready) {
+            return;
+        }
+        long startedAt = System.currentTimeMillis();
+        LocalDateTime since = toLocalDateTime(checkedAt - changeSlackMillis);
+        List<OccupancyChange> changes;
+        try {
+            changes = occupancyChangeLog.changesSince(since);
+        } catch (RuntimeException e) {
+            log.warn("Availability store recheck failed: {}", e.getMessage());
+            return;
+        }
+
+        applied.values().removeIf(changedAt -> changedAt.isBefore(since));
+        boolean bumped = false;
+        for (OccupancyChange change : changes) {
+            if (applied.putIfAbsent(change.getId(), change.getChangedAt()) != null) {
+                continue;
+            }
+            if (!bumped) {
+                generation.incrementAndGet();
+                bumped = true;
+            }
+            if (change.getChangeDate() == null) {
+                removeTurf(change.getTurfId());
+            } else {
+                remove((change.getTurfId() << 24) | (change.getChangeDate().toEpochDay() & 0xFFFFFFL));
+            }
+        }
+        checkedAt = startedAt;
+    }
+
+    // The stored bitmap, or null when the day is not stored or the store is not serving
+    public long[] read(long key) {
+        if (!isServing()) {
+            return null;
+        }
+        long[][] found = new long[1][];
+        withRecords(key, () -> {
+            int record = find(key);
+            if (record >= 0) {
+                long[] bits = new long[DayOccupancy.WORDS];
+                int offset = offset(record);
+                for (int word = 0; word < bits.length; word++) {
+                    bits[word] = buffer.getLong(offset + 8 + word * 8);
+                }
+                found[0] = bits;
+            }
+        });
+        return found[0];
+    }
+
+    // Stores a freshly loaded day unless 'unchanged' turns false; it is evaluated under the record lock,
+    // so a change applied through merge() or remove() right after it cannot be overwritten
+    public void write(long key, long[] bits, BooleanSupplier unchanged) {
+        withRecords(key, () -> {
+            if (!unchanged.getAsBoolean()) {
+                return;
+            }
+            int record = find(key);
+            if (record < 0) {
+                record = freeRecord(key);
+                if (record < 0) {
+                    return;
+                }
+            }
+            int offset = offset(record);
+            for (int word = 0; word < bits.length; word++) {
+                buffer.putLong(offset + 8 + word * 8, bits[word]);
+            }
+            buffer.putLong(offset, key);
+        });
+    }
+
+    // Marks additional minutes occupied in a stored day; a day that is not stored is left to the next load
+    public void merge(long key, long[] bits) {
+        withRecords(key, () -> {
+            int record = find(key);
+            if (record < 0) {
+                return;
+            }
+            int offset = offset(record);
+            for (int word = 0; word < bits.length; word++) {
+                int at = offset + 8 + word * 8;
+                buffer.putLong(at, buffer.getLong(at) | bits[word]);
+            }
+        });
+    }
+
+    public void remove(long key) {
+        withRecords(key, () -> {
+            int record = find(key);
+            if (record >= 0) {
+                buffer.putLong(offset(record), TOMBSTONE);
+            }
+        });
+    }
+
+    // Every day of one turf, e.g. after a rule that applies to many days changed
+    public void removeTurf(long turfId) {
+        removeWhere(key -> (key >>> 24) == turfId);
+    }
+
+    // Days in the past are never asked for again
+    @Scheduled(cron = "${availability.store.prune-cron:0 45 3 * * *}")
+    public void prunePastDays() {
+        long today = LocalDate.now().toEpochDay();
+        int pruned = removeWhere(key -> (key & 0xFFFFFFL) < today);
+        log.info("Pruned {} past turf-days from the availability store", pruned);
+    }
+
+    // Locks the (at most two) regions the probe sequence of this key can touch, lower index first
+    private void withRecords(long key, Runnable action) {
+        lifecycle.readLock().lock();
+        try {
+            if (!ready) {
+                return;
+            }
+            int region = home(key) / REGION_RECORDS;
+            int next = (region + 1) % regions.length;
+            ReentrantLock first = regions[Math.min(region, next)];
+            ReentrantLock second = regions[Math.max(region, next)];
+            first.lock();
+            second.lock();
+            try {
+                action.run();
+            } finally {
+                second.unlock();
+                first.unlock();
+            }
+        } finally {
+            lifecycle.readLock().unlock();
+        }
+    }
+
+    // Scans region by region, so writes elsewhere in the file are not held up
+    private int removeWhere(LongPredicate matches) {
+        lifecycle.readLock().lock();
+        try {
+            if (!ready) {
+                return 0;
+            }
+            int removed = 0;
+            int regionRecords = (mask + 1) / regions.length;
+            for (int region = 0; region < regions.length; region++) {
+                regions[region].lock();
+                try {
+                    for (int record = region * regionRecords; record < (region + 1) * regionRecords; record++) {
+                        long key = buffer.getLong(offset(record));
+                        if (key != EMPTY && key != TOMBSTONE && matches.test(key)) {
+                            buffer.putLong(offset(record), TOMBSTONE);
+                            removed++;
+                        }
+                    }
+                } finally {
+                    regions[region].unlock();
+                }
+            }
+            return removed;
+        } finally {
+            lifecycle.readLock().unlock();
+        }
+    }
+
+    private int find(long key) {
+        int record = home(key);
+        for (int probe = 0; probe < MAX_PROBES; probe++) {
+            long stored = buffer.getLong(offset(record));
+            if (stored == key) {
+                return record;
+            }
+            if (stored == EMPTY) {
+                return -1;
+            }
+            record = (record + 1) & mask;
+        }
+        return -1;
+    }
+
+    private int freeRecord(long key) {
+        int record = home(key);
+        for (int probe = 0; probe < MAX_PROBES; probe++) {
+            long stored = buffer.getLong(offset(record));
+            if (stored == EMPTY || stored == TOMBSTONE) {
+                return record;
+            }
+            record = (record + 1) & mask;
+        }
+        return -1;
+    }
+
+    private int home(long key) {
+        long hash = key * 0x9E3779B97F4A7C15L;
+        return (int) (hash ^ (hash >>> 32)) & mask;
+    }
+
+    private static int offset(int record) {
+        return HEADER_SIZE + record * RECORD_SIZE;
+    }
+
+    private void wipe(int slots) {
+        for (int record = 0; record < slots; record++) {
+            buffer.putLong(offset(record), EMPTY);
+        }
+        buffer.putInt(H_MAGIC, MAGIC);
+        buffer.putInt(H_VERSION, VERSION);
+        buffer.putInt(H_CAPACITY, slots);
+    }
+
+    private static LocalDateTime toLocalDateTime(long epochMillis) {
+        return LocalDateTime.ofInstant(Instant.ofEpochMilli(epochMillis), ZoneId.systemDefault());
+    }
+}
@@ -0,0 +1,332 @@
+package com.turfBooking.service.implementation;
+
+import com.turfBooking.event.BlockedSlotChangedEvent;
+import com.turfBooking.event.BlockedSlotRuleChangedEvent;
+import com.turfBooking.event.BlockedSlotSnapshot;
+import com.turfBooking.event.BlockedSlotsCreatedEvent;
+import com.turfBooking.event.BookingChangedEvent;
+import com.turfBooking.event.BookingSnapshot;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.BlockingDeque;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.LinkedBlockingDeque;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+/**
+ * Pushes slot availability changes of a turf-day to SSE subscribers after the writing transaction commits.
+ * Connections are async servlet requests, so an idle subscriber holds no thread; frames are queued per
+ * subscriber and written by a small shared pool. A subscriber whose queue fills up, or whose client stops
+ * reading for longer than the send timeout, is disconnected rather than allowed to slow down everyone else.
+ *
+ * Deltas only come from this instance's commits. Writes committed on other instances reach subscribers
+ * through {@link AvailabilityStreamResync}, which re-reads every subscribed turf-day on a short interval
+ * and sends a fresh snapshot frame when the day changed.
+ */
+@Component
+public class AvailabilityStreamHub {
+
+    public static final String SNAPSHOT = "snapshot";
+    public static final String CHANGE = "change";
+
+    private final Map<Long, Set<Subscriber>> subscribers = new ConcurrentHashMap<>();
+    private final AtomicInteger connections = new AtomicInteger();
+    private final Counter droppedCounter;
+    private final ThreadPoolTaskExecutor writer;
+
+    @Value("${availability.stream.timeout-ms:1800000}")
+    private long timeoutMs;
+
+    @Value("${availability.stream.max-connections:50000}")
+    private int maxConnections;
+
+    @Value("${availability.stream.queue-capacity:32}")
+    private int queueCapacity;
+
+    @Value("${availability.stream.send-timeout-ms:5000}")
+    private long sendTimeoutMs;
+
+    public AvailabilityStreamHub(MeterRegistry meterRegistry,
+                                 @Value("${availability.stream.writer-threads:4}") int writerThreads) {
+        this.droppedCounter = Counter.builder("availability.stream.dropped")
+                .description("Subscribers disconnected because they fell behind")
+                .register(meterRegistry);
+        Gauge.builder("availability.stream.connections", connections, AtomicInteger::get)
+                .description("Open availability stream connections")
+                .register(meterRegistry);
+
+        writer = new ThreadPoolTaskExecutor();
+        writer.setThreadNamePrefix("availability-stream-");
+        writer.setCorePoolSize(writerThreads);
+        writer.setMaxPoolSize(writerThreads);
+        writer.initialize();
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        subscribers.values().forEach(set -> set.forEach(subscriber -> subscriber.emitter.complete()));
+        writer.shutdown();
+    }
+
+    /**
+     * Opens a stream whose first frame is the current state of the turf-day. The subscriber is registered
+     * before the snapshot is read, so no change committed meanwhile is missed; such changes are held back
+     * and sent after the snapshot, where re-applying one the snapshot already shows changes nothing.
+     */
+    public SseEmitter subscribe(Long turfId, LocalDate date, Supplier<?> snapshot) {
+        if (connections.incrementAndGet() > maxConnections) {
+            connections.decrementAndGet();
+            throw new RuntimeException("Too many availability streams, please retry later");
+        }
+        long key = key(turfId, date);
+        Subscriber subscriber = new Subscriber(key, new SseEmitter(timeoutMs), queueCapacity);
+        subscriber.emitter.onCompletion(() -> remove(subscriber));
+        subscriber.emitter.onTimeout(() -> remove(subscriber));
+        subscriber.emitter.onError(error -> remove(subscriber));
+
+        subscribers.computeIfAbsent(key, k -> ConcurrentHashMap.newKeySet()).add(subscriber);
+        Object state;
+        try {
+            state = snapshot.get();
+        } catch (RuntimeException e) {
+            remove(subscriber);
+            throw e;
+        }
+        if (!subscriber.frames.offerFirst(SseEmitter.event().name(SNAPSHOT).data(state))) {
+            drop(subscriber);
+            return subscriber.emitter;
+        }
+        subscriber.started = true;
+        scheduleDrain(subscriber);
+        return subscriber.emitter;
+    }
+
+    // First frame of a stream, and the frame a resync sends when another instance changed the day
+    public static Map<String, Object> snapshot(Long turfId, LocalDate date, List<LocalTime> availableSlots) {
+        Map<String, Object> snapshot = new LinkedHashMap<>();
+        snapshot.put("turfId", turfId);
+        snapshot.put("date", date);
+        snapshot.put("availableSlots", availableSlots);
+        return snapshot;
+    }
+
+    // Turf-days with at least one open stream, as turf-day keys
+    public Set<Long> subscribedKeys() {
+        return Set.copyOf(subscribers.keySet());
+    }
+
+    // Replaces what the subscribers of a turf-day show; see AvailabilityStreamResync
+    public void resync(Long turfId, LocalDate date, List<LocalTime> availableSlots) {
+        Set<Subscriber> set = subscribers.get(key(turfId, date));
+        if (set == null || set.isEmpty()) {
+            return;
+        }
+        Map<String, Object> snapshot = snapshot(turfId, date, availableSlots);
+        for (Subscriber subscriber : set) {
+            offer(subscriber, SseEmitter.event().name(SNAPSHOT).data(snapshot));
+        }
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onBookingChanged(BookingChangedEvent event) {
+        BookingSnapshot before = event.getBefore();
+        BookingSnapshot after = event.getAfter();
+
+        if (before != null && before.isConfirmed()) {
+            publish(before.getTurfId(), before.getBookingDate(), "RELEASED", before.getSlotStartTime(), before.getSlotEndTime());
+        }
+        if (after != null && after.isConfirmed()) {
+            publish(after.getTurfId(), after.getBookingDate(), "BOOKED", after.getSlotStartTime(), after.getSlotEndTime());
+        }
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onBlockedSlotChanged(BlockedSlotChangedEvent event) {
+        BlockedSlotSnapshot before = event.getBefore();
+        BlockedSlotSnapshot after = event.getAfter();
+
+        if (before != null) {
+            publish(before.getTurfId(), before.getBlockedDate(), "UNBLOCKED", before.getStartTime(), before.getEndTime());
+        }
+        if (after != null) {
+            publish(after.getTurfId(), after.getBlockedDate(), "BLOCKED", after.getStartTime(), after.getEndTime());
+        }
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onBlockedSlotsCreated(BlockedSlotsCreatedEvent event) {
+        for (BlockedSlotSnapshot slot : event.getBlockedSlots().values()) {
+            publish(slot.getTurfId(), slot.getBlockedDate(), "BLOCKED", slot.getStartTime(), slot.getEndTime());
+        }
+    }
+
+    // A rule may change any day of the turf; subscribers reload instead of applying a delta
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onRuleChanged(BlockedSlotRuleChangedEvent event) {
+        Map<String, Object> delta = new LinkedHashMap<>();
+        delta.put("change", "RULES_CHANGED");
+        for (Map.Entry<Long, Set<Subscriber>> entry : subscribers.entrySet()) {
+            if ((entry.getKey() >>> 24) == event.getTurfId()) {
+                for (Subscriber subscriber : entry.getValue()) {
+                    offer(subscriber, SseEmitter.event().name(CHANGE).data(delta));
+                }
+            }
+        }
+    }
+
+    // Comment frames keep proxies from closing idle connections and reveal dead ones
+    @Scheduled(fixedRateString = "${availability.stream.heartbeat-ms:15000}")
+    public void heartbeat() {
+        for (Set<Subscriber> set : subscribers.values()) {
+            for (Subscriber subscriber : set) {
+                offer(subscriber, SseEmitter.event().comment("heartbeat"));
+            }
+        }
+    }
+
+    private void publish(Long turfId, LocalDate date, String change, LocalTime startTime, LocalTime endTime) {
+        Set<Subscriber> set = subscribers.get(key(turfId, date));
+        if (set == null || set.isEmpty()) {
+            return;
+        }
+        Map<String, Object> delta = new LinkedHashMap<>();
+        delta.put("change", change);
+        delta.put("start", startTime);
+        delta.put("end", endTime);
+        for (Subscriber subscriber : set) {
+            offer(subscriber, SseEmitter.event().name(CHANGE).data(delta));
+        }
+    }
+
+    /**
+     * Writes to a client that stopped reading block once its socket buffer is full. Such a subscriber is
+     * dropped and its writer thread interrupted, so it cannot hold one of the few writer threads; a write
+     * the container does not abort on interrupt still ends at the connector's write timeout.
+     */
+    @Scheduled(fixedDelayString = "${availability.stream.send-timeout-ms:5000}")
+    public void dropStalled() {
+        long now = System.nanoTime();
+        for (Set<Subscriber> set : subscribers.values()) {
+            for (Subscriber subscriber : set) {
+                Thread sender = subscriber.sender;
+                long since = subscriber.sendingSinceNanos;
+                if (sender != null && now - since > TimeUnit.MILLISECONDS.toNanos(sendTimeoutMs)
+                        && subscriber.sender == sender) {
+                    droppedCounter.increment();
+                    remove(subscriber);
+                    sender.interrupt();
+                }
+            }
+        }
+    }
+
+    private void offer(Subscriber subscriber, SseEmitter.SseEventBuilder frame) {
+        if (subscriber.removed.get()) {
+            return;
+        }
+        if (!subscriber.frames.offerLast(frame)) {
+            drop(subscriber);
+            return;
+        }
+        // Held back until the snapshot is queued ahead of it
+        if (subscriber.started) {
+            scheduleDrain(subscriber);
+        }
+    }
+
+    private void drop(Subscriber subscriber) {
+        droppedCounter.increment();
+        remove(subscriber);
+        subscriber.emitter.complete();
+    }
+
+    private void scheduleDrain(Subscriber subscriber) {
+        if (subscriber.draining.compareAndSet(false, true)) {
+            writer.execute(() -> drain(subscriber));
+        }
+    }
+
+    private void drain(Subscriber subscriber) {
+        try {
+            SseEmitter.SseEventBuilder frame;
+            while (!subscriber.removed.get() && (frame = subscriber.frames.poll()) != null) {
+                subscriber.sendingSinceNanos = System.nanoTime();
+                subscriber.sender = Thread.currentThread();
+                try {
+                    subscriber.emitter.send(frame);
+                } finally {
+                    subscriber.sender = null;
+                }
+            }
+        } catch (IOException | IllegalStateException e) {
+            remove(subscriber);
+            subscriber.emitter.completeWithError(e);
+            return;
+        } finally {
+            // An interrupt from dropStalled must not leak into the next task of this pool thread
+            Thread.interrupted();
+            subscriber.draining.set(false);
+        }
+        if (subscriber.removed.get()) {
+            subscriber.emitter.complete();
+            return;
+        }
+        // A frame queued after the last poll but before the flag was cleared
+        if (!subscriber.frames.isEmpty()) {
+            scheduleDrain(subscriber);
+        }
+    }
+
+    private void remove(Subscriber subscriber) {
+        if (subscriber.removed.compareAndSet(false, true)) {
+            connections.decrementAndGet();
+            subscribers.computeIfPresent(subscriber.key, (k, set) -> {
+                set.remove(subscriber);
+                return set.isEmpty() ? null : set;
+            });
+        }
+    }
+
+    // Turf id in the high bits, epoch day in the low 24 bits
+    private static long key(Long turfId, LocalDate date) {
+        return (turfId << 24) | (date.toEpochDay() & 0xFFFFFFL);
+    }
+
+    private static class Subscriber {
+        private final long key;
+        private final SseEmitter emitter;
+        private final BlockingDeque<SseEmitter.SseEventBuilder> frames;
+        private final AtomicBoolean draining = new AtomicBoolean();
+        private final AtomicBoolean removed = new AtomicBoolean();
+        // Set once the snapshot is queued; frames offered before that wait behind it
+        private volatile boolean started;
+        // The writer thread currently blocked in send, if any, and since when
+        private volatile Thread sender;
+        private volatile long sendingSinceNanos;
+
+        private Subscriber(long key, SseEmitter emitter, int queueCapacity) {
+            this.key = key;
+            this.emitter = emitter;
+            this.frames = new LinkedBlockingDeque<>(queueCapacity);
+        }
+    }
+}
@@ -0,0 +1,76 @@
+package com.turfBooking.service.implementation;
+
+import com.turfBooking.entity.Turf;
+import com.turfBooking.repository.TurfRepository;
+import com.turfBooking.util.BusyIntervals;
+import com.turfBooking.util.SlotSweeper;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Keeps availability streams correct when several instances serve the API. The stream hub only hears
+ * about this instance's commits, so every few seconds the free slots of all subscribed turf-days are
+ * recomputed straight from the database (two range queries for all of them, not the occupancy cache)
+ * and a snapshot frame is sent for each day whose slots differ from the last resync.
+ * The first resync of a day always sends, covering changes between its stream's snapshot and now.
+ */
+@Component
+public class AvailabilityStreamResync {
+
+    @Autowired
+    private AvailabilityStreamHub availabilityStreamHub;
+
+    @Autowired
+    private BusyIntervalReader busyIntervalReader;
+
+    @Autowired
+    private TurfRepository turfRepository;
+
+    // Free slots last sent per turf-day key; forgotten once the day has no subscribers
+    private final Map<Long, List<LocalTime>> lastSent = new ConcurrentHashMap<>();
+
+    @Scheduled(fixedDelayString = "${availability.stream.resync-ms:10000}")
+    public void resync() {
+        Set<Long> keys = availabilityStreamHub.subscribedKeys();
+        lastSent.keySet().retainAll(keys);
+        if (keys.isEmpty()) {
+            return;
+        }
+        TreeSet<Long> turfIds = new TreeSet<>();
+        TreeSet<LocalDate> dates = new TreeSet<>();
+        for (long key : keys) {
+            turfIds.add(key >>> 24);
+            dates.add(LocalDate.ofEpochDay(key & 0xFFFFFFL));
+        }
+        Map<Long, Turf> turfs = new HashMap<>();
+        for (Turf turf : turfRepository.findAllById(turfIds)) {
+            turfs.put(turf.getId(), turf);
+        }
+        BusyIntervals busy = busyIntervalReader.busyIntervals(turfIds, dates.first(), dates.last());
+
+        for (long key : keys) {
+            Turf turf = turfs.get(key >>> 24);
+            if (turf == null) {
+                continue;
+            }
+            LocalDate date = LocalDate.ofEpochDay(key & 0xFFFFFFL);
+            int slotMinutes = turf.getSlotDurationMinutes() != null
+                    ? turf.getSlotDurationMinutes() : SlotSweeper.DEFAULT_SLOT_MINUTES;
+            List<LocalTime> slots = SlotSweeper.freeSlots(turf.getOperatingStartTime(), turf.getOperatingEndTime(),
+                    slotMinutes, busy.all(turf.getId(), date));
+            if (!slots.equals(lastSent.put(key, slots))) {
+                availabilityStreamHub.resync(turf.getId(), date, slots);
+            }
+        }
+    }
+}
@@ -0,0 +1,208 @@
+package com.turfBooking.service.implementation;
+
+import com.turfBooking.entity.BlockedSlotRule;
+import com.turfBooking.event.BlockedSlotRuleChangedEvent;
+import com.turfBooking.repository.BlockedSlotRuleRepository;
+import com.turfBooking.util.DayOccupancy;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Recurring blocked-slot rules of each turf, compiled to plain arrays and kept in memory.
+ * Rules are never materialized as blocked_slots rows; callers expand them for the dates they look at.
+ * Turfs without rules are cached too, so the common case costs one map lookup.
+ * Entries are refreshed after a rule change commits and expire after a TTL so rules changed on other
+ * application nodes are picked up; booking writes only read the cache.
+ */
+@Component
+public class BlockedSlotRuleCache {
+
+    @Autowired
+    private BlockedSlotRuleRepository blockedSlotRuleRepository;
+
+    @Value("${blocked-slot-rules.cache-ttl-seconds:300}")
+    private long ttlSeconds;
+
+    private final ConcurrentHashMap<Long, TurfRules> turfs = new ConcurrentHashMap<>();
+
+    // Blocked [startMinute, endMinute) intervals of a turf on one day
+    public List<int[]> intervals(Long turfId, LocalDate date) {
+        TurfRules rules = get(turfId);
+        if (rules.weekdayMask == 0) {
+            return List.of();
+        }
+        List<int[]> intervals = new ArrayList<>(2);
+        int bit = BlockedSlotRule.maskOf(date.getDayOfWeek());
+        long day = date.toEpochDay();
+        for (CompiledRule rule : rules.rules) {
+            if (rule.appliesTo(bit, day)) {
+                intervals.add(new int[]{rule.startMinute, rule.endMinute});
+            }
+        }
+        return intervals;
+    }
+
+    // True when a rule blocks any minute of [startTime, endTime) on the date
+    public boolean blocks(Long turfId, LocalDate date, LocalTime startTime, LocalTime endTime) {
+        int start = DayOccupancy.startMinute(startTime);
+        int end = DayOccupancy.endMinute(endTime);
+        for (int[] interval : intervals(turfId, date)) {
+            if (interval[0] < end && start < interval[1]) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Rules of several turfs expanded over [from, to], as (turfId, date, startTime, endTime, ruleId) rows
+     * in the same shape as the blocked slot interval queries, so callers can merge both lists.
+     */
+    public List<Object[]> expand(Collection<Long> turfIds, LocalDate from, LocalDate to) {
+        Map<Long, TurfRules> byTurf = getAll(turfIds);
+        List<Object[]> rows = new ArrayList<>();
+        for (Map.Entry<Long, TurfRules> entry : byTurf.entrySet()) {
+            TurfRules rules = entry.getValue();
+            if (rules.weekdayMask == 0) {
+                continue;
+            }
+            for (LocalDate date = from; !date.isAfter(to); date = date.plusDays(1)) {
+                int bit = BlockedSlotRule.maskOf(date.getDayOfWeek());
+                if ((rules.weekdayMask & bit) == 0) {
+                    continue;
+                }
+                long day = date.toEpochDay();
+                for (CompiledRule rule : rules.rules) {
+                    if (rule.appliesTo(bit, day)) {
+                        rows.add(new Object[]{entry.getKey(), date, rule.startTime, rule.endTime, rule.id});
+                    }
+                }
+            }
+        }
+        return rows;
+    }
+
+    // Load the rules of many turfs with one query before they are asked for one by one
+    public void preload(Collection<Long> turfIds) {
+        getAll(turfIds);
+    }
+
+    // Reload a turf's rules from the database
+    public void refresh(Long turfId) {
+        turfs.remove(turfId);
+        get(turfId);
+    }
+
+    // Drop a turf's rules without reloading them, e.g. once the turf is deleted
+    public void evict(Long turfId) {
+        turfs.remove(turfId);
+    }
+
+    // Ahead of the other rule listeners, which read the refreshed rules
+    @Order(Ordered.HIGHEST_PRECEDENCE)
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onRuleChanged(BlockedSlotRuleChangedEvent event) {
+        refresh(event.getTurfId());
+    }
+
+    private TurfRules get(Long turfId) {
+        TurfRules rules = turfs.get(turfId);
+        if (rules != null && !isExpired(rules)) {
+            return rules;
+        }
+        return getAll(List.of(turfId)).get(turfId);
+    }
+
+    // Cached entries plus one query for all missing or expired turfs
+    private Map<Long, TurfRules> getAll(Collection<Long> turfIds) {
+        Map<Long, TurfRules> result = new HashMap<>();
+        Set<Long> missing = new LinkedHashSet<>();
+        for (Long turfId : turfIds) {
+            TurfRules rules = turfs.get(turfId);
+            if (rules != null && !isExpired(rules)) {
+                result.put(turfId, rules);
+            } else {
+                missing.add(turfId);
+            }
+        }
+        if (missing.isEmpty()) {
+            return result;
+        }
+
+        Map<Long, List<CompiledRule>> loaded = new HashMap<>();
+        for (Object[] row : blockedSlotRuleRepository.findCompiledFieldsByTurfIds(missing)) {
+            loaded.computeIfAbsent((Long) row[0], id -> new ArrayList<>()).add(new CompiledRule(row));
+        }
+        long now = System.nanoTime();
+        for (Long turfId : missing) {
+            TurfRules compiled = new TurfRules(loaded.getOrDefault(turfId, List.of()), now);
+            turfs.put(turfId, compiled);
+            result.put(turfId, compiled);
+        }
+        return result;
+    }
+
+    private boolean isExpired(TurfRules rules) {
+        return System.nanoTime() - rules.loadedAtNanos > TimeUnit.SECONDS.toNanos(ttlSeconds);
+    }
+
+    private static class TurfRules {
+        private final CompiledRule[] rules;
+        // Union of all weekday masks; a date on another weekday needs no further work
+        private final int weekdayMask;
+        private final long loadedAtNanos;
+
+        private TurfRules(List<CompiledRule> rules, long loadedAtNanos) {
+            this.rules = rules.toArray(new CompiledRule[0]);
+            int mask = 0;
+            for (CompiledRule rule : rules) {
+                mask |= rule.weekdayMask;
+            }
+            this.weekdayMask = mask;
+            this.loadedAtNanos = loadedAtNanos;
+        }
+    }
+
+    private static class CompiledRule {
+        private final Long id;
+        private final int weekdayMask;
+        private final LocalTime startTime;
+        private final LocalTime endTime;
+        private final int startMinute;
+        private final int endMinute;
+        private final long fromDay;
+        private final long untilDay;
+
+        // Row of (turfId, ruleId, weekdayMask, start, end, validFrom, validUntil)
+        private CompiledRule(Object[] row) {
+            this.id = (Long) row[1];
+            this.weekdayMask = (Integer) row[2];
+            this.startTime = (LocalTime) row[3];
+            this.endTime = (LocalTime) row[4];
+            this.startMinute = DayOccupancy.startMinute(startTime);
+            this.endMinute = DayOccupancy.endMinute(endTime);
+            this.fromDay = ((LocalDate) row[5]).toEpochDay();
+            this.untilDay = row[6] != null ? ((LocalDate) row[6]).toEpochDay() : Long.MAX_VALUE;
+        }
+
+        private boolean appliesTo(int weekdayBit, long epochDay) {
+            return (weekdayMask & weekdayBit) != 0 && epochDay >= fromDay && epochDay <= untilDay;
+        }
+    }
+}
@@ -1,33 +1,91 @@
 // BlockedSlotServiceImpl.java
 package com.turfBooking.service.implementation;
 
+import com.turfBooking.dto.BlockedSlotConflictDTO;
 import com.turfBooking.dto.BlockedSlotRequestDTO;
 import com.turfBooking.dto.BlockedSlotResponseDTO;
+import com.turfBooking.dto.BlockedSlotRuleRequestDTO;
+import com.turfBooking.dto.BlockedSlotRuleResponseDTO;
+import com.turfBooking.dto.BulkBlockedSlotRequestDTO;
+import com.turfBooking.dto.BulkBlockedSlotResponseDTO;
+import com.turfBooking.dto.PageResponseDTO;
 import com.turfBooking.entity.BlockedSlot;
+import com.turfBooking.entity.BlockedSlotRule;
+import com.turfBooking.entity.Booking;
 import com.turfBooking.entity.Turf;
+import com.turfBooking.enums.BookingStatus;
+import com.turfBooking.event.BlockedSlotChangedEvent;
+import com.turfBooking.event.BlockedSlotRuleChangedEvent;
+import com.turfBooking.event.BlockedSlotSnapshot;
+import com.turfBooking.event.BlockedSlotsCreatedEvent;
+import com.turfBooking.event.BookingChangedEvent;
+import com.turfBooking.event.BookingSnapshot;
 import com.turfBooking.repository.BlockedSlotRepository;
+import com.turfBooking.repository.BlockedSlotRuleRepository;
+import com.turfBooking.repository.BookingRepository;
 import com.turfBooking.repository.TurfRepository;
 import com.turfBooking.service.interfaces.BlockedSlotService;
+import com.turfBooking.util.PageCursor;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Isolation;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.DayOfWeek;
 import java.time.LocalDate;
+import java.time.LocalTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.TreeSet;
 import java.util.stream.Collectors;
 
 @Service
 @Transactional
 public class BlockedSlotServiceImplementation implements BlockedSlotService {
 
+    // Upper bound for open-ended rules; the largest date MySQL stores
+    private static final LocalDate LAST_DATE = LocalDate.of(9999, 12, 31);
+
     @Autowired
     private BlockedSlotRepository blockedSlotRepository;
 
+    @Autowired
+    private BlockedSlotRuleRepository blockedSlotRuleRepository;
+
+    @Autowired
+    private BookingRepository bookingRepository;
+
     @Autowired
     private TurfRepository turfRepository;
 
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+
+    @Autowired
+    private TurfDayLockManager turfDayLockManager;
+
+    @Autowired
+    private SlotClaimService slotClaimService;
+
+    @Autowired
+    private BlockedSlotRuleCache blockedSlotRuleCache;
+
+    @Value("${blocked-slots.bulk.max-slots:2000}")
+    private int bulkMaxSlots;
+
     @Override
+    @Transactional(isolation = Isolation.READ_COMMITTED)
     public BlockedSlotResponseDTO createBlockedSlot(BlockedSlotRequestDTO requestDTO) {
+        // Serialize with bookings being written for the same turf-day
+        turfDayLockManager.lockUntilCompletion(requestDTO.getTurfId(), requestDTO.getBlockedDate());
+
         // Validate turf exists
         Turf turf = turfRepository.findById(requestDTO.getTurfId())
                 .orElseThrow(() -> new RuntimeException("Turf not found with ID: " + requestDTO.getTurfId()));
@@ -42,6 +100,7 @@ public class BlockedSlotServiceImplementation implements BlockedSlotService {
                 requestDTO.getEndTime().isAfter(turf.getOperatingEndTime())) {
             throw new RuntimeException("Blocked slot must be within turf operating hours");
         }
+        slotClaimService.requireOnGrid(requestDTO.getStartTime(), requestDTO.getEndTime());
 
         // Create blocked slot
         BlockedSlot blockedSlot = new BlockedSlot();
@@ -50,10 +109,145 @@ public class BlockedSlotServiceImplementation implements BlockedSlotService {
         blockedSlot.setStartTime(requestDTO.getStartTime());
         blockedSlot.setEndTime(requestDTO.getEndTime());
 
+        // Claim the slots in the same transaction; fails if a booking or blocked slot already holds them
         BlockedSlot savedBlockedSlot = blockedSlotRepository.save(blockedSlot);
+        slotClaimService.claimForBlockedSlot(savedBlockedSlot);
+        eventPublisher.publishEvent(new BlockedSlotChangedEvent(savedBlockedSlot.getId(), null,
+                BlockedSlotSnapshot.of(savedBlockedSlot)));
         return convertToResponseDTO(savedBlockedSlot);
     }
 
+    @Override
+    @Transactional(isolation = Isolation.READ_COMMITTED)
+    public BulkBlockedSlotResponseDTO createBlockedSlotsInBulk(BulkBlockedSlotRequestDTO requestDTO) {
+        LocalDate startDate = requestDTO.getStartDate();
+        LocalDate endDate = requestDTO.getEndDate();
+        LocalTime startTime = requestDTO.getStartTime();
+        LocalTime endTime = requestDTO.getEndTime();
+
+        if (!startTime.isBefore(endTime)) {
+            throw new RuntimeException("Start time must be before end time");
+        }
+        // Every slot of the request shares these times, so an off-grid time is rejected up front
+        // instead of surfacing later as a claim conflict
+        slotClaimService.requireOnGrid(startTime, endTime);
+        if (endDate.isBefore(startDate)) {
+            throw new RuntimeException("End date must not be before start date");
+        }
+        if (startDate.isBefore(LocalDate.now())) {
+            throw new RuntimeException("Cannot block slots on past dates");
+        }
+        // Ascending turf order, so two bulk requests lock their turf-days in the same order
+        TreeSet<Long> turfIds = new TreeSet<>(requestDTO.getTurfIds());
+        int dayCount = (int) ChronoUnit.DAYS.between(startDate, endDate) + 1;
+        if ((long) turfIds.size() * dayCount > bulkMaxSlots) {
+            throw new RuntimeException("Too many slots: turfs x days must not exceed " + bulkMaxSlots);
+        }
+        List<LocalDate> dates = startDate.datesUntil(endDate.plusDays(1)).toList();
+
+        // One fetch validates every turf before anything is locked or written
+        Map<Long, Turf> turfs = new HashMap<>();
+        for (Turf turf : turfRepository.findAllById(turfIds)) {
+            turfs.put(turf.getId(), turf);
+        }
+        for (Long turfId : turfIds) {
+            Turf turf = turfs.get(turfId);
+            if (turf == null) {
+                throw new RuntimeException("Turf not found with ID: " + turfId);
+            }
+            if (startTime.isBefore(turf.getOperatingStartTime()) || endTime.isAfter(turf.getOperatingEndTime())) {
+                throw new RuntimeException("Blocked slot must be within operating hours of turf " + turfId);
+            }
+        }
+
+        List<BlockedSlotConflictDTO> conflicts = new ArrayList<>();
+        List<BlockedSlot> blockedSlots = new ArrayList<>();
+        List<Booking> cancelled = new ArrayList<>();
+        int skipped = 0;
+        for (Long turfId : turfIds) {
+            turfDayLockManager.lockUntilCompletion(turfId, dates.toArray(new LocalDate[0]));
+            Turf turf = turfs.get(turfId);
+
+            // One range query each for bookings and blocked slots of the turf, plus its rules
+            Map<LocalDate, List<Booking>> bookingsByDate = new HashMap<>();
+            for (Booking booking : bookingRepository.findConflictingBookingsBetween(turfId, startDate, endDate, startTime, endTime)) {
+                bookingsByDate.computeIfAbsent(booking.getBookingDate(), date -> new ArrayList<>()).add(booking);
+            }
+            Map<LocalDate, List<BlockedSlotConflictDTO>> fixedByDate = new HashMap<>();
+            for (BlockedSlot existing : blockedSlotRepository.findConflictingBlockedSlotsBetween(turfId, startDate, endDate, startTime, endTime)) {
+                fixedByDate.computeIfAbsent(existing.getBlockedDate(), date -> new ArrayList<>()).add(new BlockedSlotConflictDTO(
+                        turfId, existing.getBlockedDate(), BlockedSlotConflictDTO.BLOCKED_SLOT, existing.getId(),
+                        existing.getStartTime(), existing.getEndTime(), BlockedSlotConflictDTO.SKIPPED));
+            }
+            for (Object[] row : blockedSlotRuleCache.expand(List.of(turfId), startDate, endDate)) {
+                LocalTime ruleStart = (LocalTime) row[2];
+                LocalTime ruleEnd = (LocalTime) row[3];
+                if (ruleStart.isBefore(endTime) && startTime.isBefore(ruleEnd)) {
+                    fixedByDate.computeIfAbsent((LocalDate) row[1], date -> new ArrayList<>()).add(new BlockedSlotConflictDTO(
+                            turfId, (LocalDate) row[1], BlockedSlotConflictDTO.RULE, (Long) row[4],
+                            ruleStart, ruleEnd, BlockedSlotConflictDTO.SKIPPED));
+                }
+            }
+
+            for (LocalDate date : dates) {
+                List<Booking> bookings = bookingsByDate.getOrDefault(date, List.of());
+                List<BlockedSlotConflictDTO> fixed = fixedByDate.get(date);
+                // Blocked slots and rules cannot be moved aside, so their days are always skipped
+                boolean skip = fixed != null || (!bookings.isEmpty() && !requestDTO.isCancelConflictingBookings());
+                if (fixed != null) {
+                    conflicts.addAll(fixed);
+                }
+                for (Booking booking : bookings) {
+                    conflicts.add(new BlockedSlotConflictDTO(turfId, date, BlockedSlotConflictDTO.BOOKING, booking.getId(),
+                            booking.getSlotStartTime(), booking.getSlotEndTime(),
+                            skip ? BlockedSlotConflictDTO.SKIPPED : BlockedSlotConflictDTO.BOOKING_CANCELLED));
+                }
+                if (skip) {
+                    skipped++;
+                    continue;
+                }
+                cancelled.addAll(bookings);
+
+                BlockedSlot blockedSlot = new BlockedSlot();
+                blockedSlot.setTurf(turf);
+                blockedSlot.setBlockedDate(date);
+                blockedSlot.setStartTime(startTime);
+                blockedSlot.setEndTime(endTime);
+                blockedSlots.add(blockedSlot);
+            }
+        }
+
+        // Cancelled bookings release their claims before the blocked slots claim the same slots
+        List<BookingSnapshot> beforeCancel = new ArrayList<>(cancelled.size());
+        for (Booking booking : cancelled) {
+            beforeCancel.add(BookingSnapshot.of(booking));
+            booking.setStatus(BookingStatus.CANCELLED);
+        }
+        bookingRepository.saveAll(cancelled);
+        slotClaimService.releaseForBookings(cancelled.stream().map(Booking::getId).toList());
+
+        // Blocked slots and their claims are each written as a JDBC batch
+        blockedSlots = blockedSlotRepository.saveAll(blockedSlots);
+        slotClaimService.claimForBlockedSlots(blockedSlots);
+
+        for (int i = 0; i < cancelled.size(); i++) {
+            Booking booking = cancelled.get(i);
+            eventPublisher.publishEvent(new BookingChangedEvent(booking.getId(), beforeCancel.get(i), BookingSnapshot.of(booking)));
+        }
+        // One event per turf, so listeners refresh each turf's date range once instead of once per slot
+        Map<Long, Map<Long, BlockedSlotSnapshot>> createdByTurf = new TreeMap<>();
+        for (BlockedSlot blockedSlot : blockedSlots) {
+            createdByTurf.computeIfAbsent(blockedSlot.getTurf().getId(), turfId -> new LinkedHashMap<>())
+                    .put(blockedSlot.getId(), BlockedSlotSnapshot.of(blockedSlot));
+        }
+        for (Map.Entry<Long, Map<Long, BlockedSlotSnapshot>> entry : createdByTurf.entrySet()) {
+            eventPublisher.publishEvent(new BlockedSlotsCreatedEvent(entry.getKey(), entry.getValue()));
+        }
+
+        return new BulkBlockedSlotResponseDTO(turfIds.size() * dayCount, blockedSlots.size(), skipped,
+                cancelled.size(), conflicts);
+    }
+
     @Override
     public List<BlockedSlotResponseDTO> getAllBlockedSlots() {
         return blockedSlotRepository.findAll()
@@ -62,6 +256,15 @@ public class BlockedSlotServiceImplementation implements BlockedSlotService {
                 .collect(Collectors.toList());
     }
 
+    @Override
+    public PageResponseDTO<BlockedSlotResponseDTO> getBlockedSlotsPage(String cursor, Integer size) {
+        int pageSize = PageCursor.pageSize(size);
+        long afterId = PageCursor.afterId(cursor);
+
+        List<BlockedSlot> rows = blockedSlotRepository.findByIdGreaterThanOrderByIdAsc(afterId, PageCursor.probe(pageSize));
+        return PageCursor.page(rows, pageSize, this::convertToResponseDTO, row -> new Object[]{row.getId()});
+    }
+
     @Override
     public BlockedSlotResponseDTO getBlockedSlotById(Long id) {
         BlockedSlot blockedSlot = blockedSlotRepository.findById(id)
@@ -71,10 +274,12 @@ public class BlockedSlotServiceImplementation implements BlockedSlotService {
 
     @Override
     public void deleteBlockedSlot(Long id) {
-        if (!blockedSlotRepository.existsById(id)) {
-            throw new RuntimeException("Blocked slot not found with ID: " + id);
-        }
-        blockedSlotRepository.deleteById(id);
+        BlockedSlot blockedSlot = blockedSlotRepository.findById(id)
+                .orElseThrow(() -> new RuntimeException("Blocked slot not found with ID: " + id));
+        BlockedSlotSnapshot before = BlockedSlotSnapshot.of(blockedSlot);
+        slotClaimService.releaseForBlockedSlot(id);
+        blockedSlotRepository.delete(blockedSlot);
+        eventPublisher.publishEvent(new BlockedSlotChangedEvent(id, before, null));
     }
 
     @Override
@@ -127,9 +332,74 @@ public class BlockedSlotServiceImplementation implements BlockedSlotService {
 
     @Override
     public void cleanupOldBlockedSlots(LocalDate beforeDate) {
+        slotClaimService.releaseBlockedSlotClaimsBefore(beforeDate);
         blockedSlotRepository.deleteOldBlockedSlots(beforeDate);
     }
 
+    @Override
+    public BlockedSlotRuleResponseDTO createBlockedSlotRule(BlockedSlotRuleRequestDTO requestDTO) {
+        Turf turf = turfRepository.findById(requestDTO.getTurfId())
+                .orElseThrow(() -> new RuntimeException("Turf not found with ID: " + requestDTO.getTurfId()));
+
+        if (!requestDTO.getStartTime().isBefore(requestDTO.getEndTime())) {
+            throw new RuntimeException("Start time must be before end time");
+        }
+        if (requestDTO.getStartTime().isBefore(turf.getOperatingStartTime()) ||
+                requestDTO.getEndTime().isAfter(turf.getOperatingEndTime())) {
+            throw new RuntimeException("Blocked slot rule must be within turf operating hours");
+        }
+        LocalDate today = LocalDate.now();
+        LocalDate validFrom = requestDTO.getValidFrom() != null ? requestDTO.getValidFrom() : today;
+        if (requestDTO.getValidUntil() != null && requestDTO.getValidUntil().isBefore(validFrom)) {
+            throw new RuntimeException("Valid until must not be before valid from");
+        }
+
+        int weekdayMask = 0;
+        for (DayOfWeek dayOfWeek : requestDTO.getWeekdays()) {
+            weekdayMask |= BlockedSlotRule.maskOf(dayOfWeek);
+        }
+
+        // A rule must not silently overrun bookings that are already confirmed
+        LocalDate checkFrom = validFrom.isAfter(today) ? validFrom : today;
+        LocalDate checkUntil = requestDTO.getValidUntil() != null ? requestDTO.getValidUntil() : LAST_DATE;
+        for (Booking booking : bookingRepository.findConflictingBookingsBetween(turf.getId(), checkFrom, checkUntil,
+                requestDTO.getStartTime(), requestDTO.getEndTime())) {
+            if ((weekdayMask & BlockedSlotRule.maskOf(booking.getBookingDate().getDayOfWeek())) != 0) {
+                throw new RuntimeException("Rule overlaps a confirmed booking on " + booking.getBookingDate());
+            }
+        }
+
+        BlockedSlotRule rule = new BlockedSlotRule();
+        rule.setTurf(turf);
+        rule.setWeekdayMask(weekdayMask);
+        rule.setStartTime(requestDTO.getStartTime());
+        rule.setEndTime(requestDTO.getEndTime());
+        rule.setValidFrom(validFrom);
+        rule.setValidUntil(requestDTO.getValidUntil());
+        rule.setReason(requestDTO.getReason());
+
+        BlockedSlotRule savedRule = blockedSlotRuleRepository.save(rule);
+        eventPublisher.publishEvent(new BlockedSlotRuleChangedEvent(turf.getId()));
+        return convertToRuleResponseDTO(savedRule);
+    }
+
+    @Override
+    public List<BlockedSlotRuleResponseDTO> getBlockedSlotRulesByTurfId(Long turfId) {
+        return blockedSlotRuleRepository.findByTurfIdOrderByIdAsc(turfId)
+                .stream()
+                .map(this::convertToRuleResponseDTO)
+                .collect(Collectors.toList());
+    }
+
+    @Override
+    public void deleteBlockedSlotRule(Long id) {
+        BlockedSlotRule rule = blockedSlotRuleRepository.findById(id)
+                .orElseThrow(() -> new RuntimeException("Blocked slot rule not found with ID: " + id));
+        Long turfId = rule.getTurf().getId();
+        blockedSlotRuleRepository.delete(rule);
+        eventPublisher.publishEvent(new BlockedSlotRuleChangedEvent(turfId));
+    }
+
     // Helper method to convert BlockedSlot entity to BlockedSlotResponseDTO
     private BlockedSlotResponseDTO convertToResponseDTO(BlockedSlot blockedSlot) {
         BlockedSlotResponseDTO dto = new BlockedSlotResponseDTO();
@@ -147,4 +417,28 @@ public class BlockedSlotServiceImplementation implements BlockedSlotService {
 
         return dto;
     }
-}
\ No newline at end of file
+
+    private BlockedSlotRuleResponseDTO convertToRuleResponseDTO(BlockedSlotRule rule) {
+        BlockedSlotRuleResponseDTO dto = new BlockedSlotRuleResponseDTO();
+
+        dto.setId(rule.getId());
+        List<DayOfWeek> weekdays = new ArrayList<>();
+        for (DayOfWeek dayOfWeek : DayOfWeek.values()) {
+            if ((rule.getWeekdayMask() & BlockedSlotRule.maskOf(dayOfWeek)) != 0) {
+                weekdays.add(dayOfWeek);
+            }
+        }
+        dto.setWeekdays(weekdays);
+        dto.setStartTime(rule.getStartTime());
+        dto.setEndTime(rule.getEndTime());
+        dto.setValidFrom(rule.getValidFrom());
+        dto.setValidUntil(rule.getValidUntil());
+        dto.setReason(rule.getReason());
+
+        Turf turf = rule.getTurf();
+        dto.setTurfId(turf.getId());
+        dto.setTurfName(turf.getName());
+
+        return dto;
+    }
+}
@@ -0,0 +1,104 @@
+package com.turfBooking.service.implementation;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.turfBooking.dto.BookingResponseDTO;
+import com.turfBooking.repository.BookingRepository;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.Iterator;
+import java.util.stream.Stream;
+
+/**
+ * Writes booking history as NDJSON or CSV straight from a forward-only database cursor.
+ * Rows are DTO projections, so nothing is attached to the persistence context and memory
+ * use stays flat no matter how many rows are exported.
+ */
+@Service
+public class BookingExportService {
+
+    public static final String FORMAT_NDJSON = "ndjson";
+    public static final String FORMAT_CSV = "csv";
+
+    private static final String CSV_HEADER = "id,bookingDate,slotStartTime,slotEndTime,status,userId,userName,userPhone," +
+            "turfId,turfName,turfLocation,turfType,turfPrice,durationHours,totalPrice";
+
+    @Autowired
+    private BookingRepository bookingRepository;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    public static boolean isSupportedFormat(String format) {
+        return FORMAT_NDJSON.equals(format) || FORMAT_CSV.equals(format);
+    }
+
+    @Transactional(readOnly = true)
+    public void exportBookings(String format, LocalDate from, LocalDate to, OutputStream out) throws IOException {
+        try (Stream<BookingResponseDTO> rows = bookingRepository.streamResponsesBetween(from, to)) {
+            write(format, rows, out);
+        }
+    }
+
+    @Transactional(readOnly = true)
+    public void exportBookingsForTurfOwner(Long ownerId, String format, LocalDate from, LocalDate to,
+                                           OutputStream out) throws IOException {
+        try (Stream<BookingResponseDTO> rows = bookingRepository.streamResponsesForTurfOwnerBetween(ownerId, from, to)) {
+            write(format, rows, out);
+        }
+    }
+
+    private void write(String format, Stream<BookingResponseDTO> rows, OutputStream out) throws IOException {
+        Writer writer = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8), 64 * 1024);
+        boolean csv = FORMAT_CSV.equals(format);
+        if (csv) {
+            writer.write(CSV_HEADER);
+            writer.write('\n');
+        }
+
+        Iterator<BookingResponseDTO> iterator = rows.iterator();
+        while (iterator.hasNext()) {
+            BookingResponseDTO row = iterator.next();
+            if (csv) {
+                writeCsvRow(writer, row);
+            } else {
+                writer.write(objectMapper.writeValueAsString(row));
+            }
+            writer.write('\n');
+        }
+        writer.flush();
+    }
+
+    private void writeCsvRow(Writer writer, BookingResponseDTO row) throws IOException {
+        Object[] values = {row.getId(), row.getBookingDate(), row.getSlotStartTime(), row.getSlotEndTime(),
+                row.getStatus(), row.getUserId(), row.getUserName(), row.getUserPhone(), row.getTurfId(),
+                row.getTurfName(), row.getTurfLocation(), row.getTurfType(), row.getTurfPrice(),
+                row.getDurationHours(), row.getTotalPrice()};
+        for (int i = 0; i < values.length; i++) {
+            if (i > 0) {
+                writer.write(',');
+            }
+            writer.write(csvField(values[i]));
+        }
+    }
+
+    // Quote fields containing separators, quotes or line breaks (RFC 4180)
+    private static String csvField(Object value) {
+        if (value == null) {
+            return "";
+        }
+        String text = value.toString();
+        if (text.indexOf(',') < 0 && text.indexOf('"') < 0 && text.indexOf('\n') < 0 && text.indexOf('\r') < 0) {
+            return text;
+        }
+        return '"' + text.replace("\"", "\"\"") + '"';
+    }
+}
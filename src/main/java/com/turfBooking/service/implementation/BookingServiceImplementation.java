@@ -1,27 +1,45 @@
 package com.turfBooking.service.implementation;
 
+import com.turfBooking.config.Coalesced;
 import com.turfBooking.dto.BookingRequestDTO;
 import com.turfBooking.dto.BookingResponseDTO;
 import com.turfBooking.dto.BookingUpdateDTO;
 import com.turfBooking.dto.BookingSearchDTO;
+import com.turfBooking.dto.BookingOccurrenceResultDTO;
+import com.turfBooking.dto.BookingSeriesRequestDTO;
+import com.turfBooking.dto.BookingSeriesResponseDTO;
+import com.turfBooking.dto.PageResponseDTO;
+import com.turfBooking.entity.BlockedSlot;
 import com.turfBooking.entity.Booking;
 import com.turfBooking.entity.Turf;
 import com.turfBooking.entity.User;
 import com.turfBooking.enums.BookingStatus;
+import com.turfBooking.enums.RecurrenceFrequency;
+import com.turfBooking.enums.SeriesMode;
+import com.turfBooking.event.BookingChangedEvent;
+import com.turfBooking.event.BookingSnapshot;
+import com.turfBooking.repository.BlockedSlotRepository;
 import com.turfBooking.repository.BookingRepository;
 import com.turfBooking.repository.TurfRepository;
 import com.turfBooking.repository.UserRepository;
 import com.turfBooking.service.interfaces.BookingService;
+import com.turfBooking.service.interfaces.StatisticsService;
+import com.turfBooking.util.BookingPrice;
+import com.turfBooking.util.PageCursor;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Isolation;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.math.BigDecimal;
-import java.time.Duration;
 import java.time.LocalDate;
 import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.HashSet;
 import java.util.List;
-import java.util.stream.Collectors;
+import java.util.Set;
 
 @Service
 @Transactional
@@ -35,8 +53,36 @@ public class BookingServiceImplementation implements BookingService {
     @Autowired
     private TurfRepository turfRepository;
 
+    @Autowired
+    private BlockedSlotRepository blockedSlotRepository;
+
+    @Autowired
+    private SlotOccupancyIndex slotOccupancyIndex;
+
+    @Autowired
+    private BlockedSlotRuleCache blockedSlotRuleCache;
+
+    @Autowired
+    private TurfDayLockManager turfDayLockManager;
+
+    @Autowired
+    private SlotClaimService slotClaimService;
+
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+
+    @Autowired
+    private StatisticsService statisticsService;
+
+    @Value("${booking.series.max-occurrences:104}")
+    private int maxSeriesOccurrences;
+
     @Override
+    @Transactional(isolation = Isolation.READ_COMMITTED)
     public BookingResponseDTO createBooking(BookingRequestDTO bookingRequestDTO) {
+        // Serialize concurrent writers for this turf-day before anything is read
+        turfDayLockManager.lockUntilCompletion(bookingRequestDTO.getTurfId(), bookingRequestDTO.getBookingDate());
+
         // Validate user exists
         User user = userRepository.findById(bookingRequestDTO.getUserId())
                 .orElseThrow(() -> new RuntimeException("User not found with id: " + bookingRequestDTO.getUserId()));
@@ -51,8 +97,10 @@ public class BookingServiceImplementation implements BookingService {
                 bookingRequestDTO.getSlotEndTime())) {
             throw new RuntimeException("Invalid booking time: outside turf operating hours");
         }
+        slotClaimService.requireOnGrid(bookingRequestDTO.getSlotStartTime(), bookingRequestDTO.getSlotEndTime());
 
-        // Check if slot is available
+        // Check if slot is available - the in-memory index rejects most conflicts,
+        // the slot claims written below are the authoritative check
         if (!isSlotAvailable(bookingRequestDTO.getTurfId(),
                 bookingRequestDTO.getBookingDate(),
                 bookingRequestDTO.getSlotStartTime(),
@@ -60,6 +108,14 @@ public class BookingServiceImplementation implements BookingService {
             throw new RuntimeException("Time slot is not available");
         }
 
+        // Recurring rules hold no slot claims, so check them against the rule cache
+        if (blockedSlotRuleCache.blocks(bookingRequestDTO.getTurfId(),
+                bookingRequestDTO.getBookingDate(),
+                bookingRequestDTO.getSlotStartTime(),
+                bookingRequestDTO.getSlotEndTime())) {
+            throw new RuntimeException("Time slot is not available");
+        }
+
         // Check for duplicate booking
         if (isDuplicateBooking(bookingRequestDTO.getUserId(),
                 bookingRequestDTO.getTurfId(),
@@ -83,42 +139,170 @@ public class BookingServiceImplementation implements BookingService {
         booking.setTurf(turf);
         booking.setStatus(bookingRequestDTO.getStatus());
 
-        // Save booking
+        // Save booking and claim its slots in the same transaction
         Booking savedBooking = bookingRepository.save(booking);
+        if (savedBooking.getStatus() == BookingStatus.CONFIRMED) {
+            slotClaimService.claimForBooking(savedBooking);
+        }
+        eventPublisher.publishEvent(new BookingChangedEvent(savedBooking.getId(), null, BookingSnapshot.of(savedBooking)));
 
         return convertToResponseDTO(savedBooking);
     }
 
     @Override
+    @Transactional(isolation = Isolation.READ_COMMITTED)
+    public BookingSeriesResponseDTO createBookingSeries(BookingSeriesRequestDTO seriesRequestDTO) {
+        List<LocalDate> dates = expandOccurrences(seriesRequestDTO);
+        Long turfId = seriesRequestDTO.getTurfId();
+        LocalTime startTime = seriesRequestDTO.getSlotStartTime();
+        LocalTime endTime = seriesRequestDTO.getSlotEndTime();
+
+        // Serialize with other writers on every turf-day of the series
+        turfDayLockManager.lockUntilCompletion(turfId, dates.toArray(new LocalDate[0]));
+
+        User user = userRepository.findById(seriesRequestDTO.getUserId())
+                .orElseThrow(() -> new RuntimeException("User not found with id: " + seriesRequestDTO.getUserId()));
+        Turf turf = turfRepository.findById(turfId)
+                .orElseThrow(() -> new RuntimeException("Turf not found with id: " + turfId));
+
+        // Validate booking time against the already loaded turf
+        if (!startTime.isBefore(endTime) ||
+                startTime.isBefore(turf.getOperatingStartTime()) ||
+                endTime.isAfter(turf.getOperatingEndTime())) {
+            throw new RuntimeException("Invalid booking time: outside turf operating hours");
+        }
+        slotClaimService.requireOnGrid(startTime, endTime);
+        if (dates.get(0).isBefore(LocalDate.now())) {
+            throw new RuntimeException("Cannot book for past dates");
+        }
+
+        // One range query each for bookings and blocked slots covering every occurrence, plus the rules
+        LocalDate firstDate = dates.get(0);
+        LocalDate lastDate = dates.get(dates.size() - 1);
+        Set<LocalDate> conflictDates = new HashSet<>();
+        for (Booking existing : bookingRepository.findConflictingBookingsBetween(turfId, firstDate, lastDate, startTime, endTime)) {
+            conflictDates.add(existing.getBookingDate());
+        }
+        for (BlockedSlot blockedSlot : blockedSlotRepository.findConflictingBlockedSlotsBetween(turfId, firstDate, lastDate, startTime, endTime)) {
+            conflictDates.add(blockedSlot.getBlockedDate());
+        }
+        for (LocalDate date : dates) {
+            if (blockedSlotRuleCache.blocks(turfId, date, startTime, endTime)) {
+                conflictDates.add(date);
+            }
+        }
+
+        SeriesMode mode = seriesRequestDTO.getMode() != null ? seriesRequestDTO.getMode() : SeriesMode.ALL_OR_NOTHING;
+        boolean createAny = conflictDates.isEmpty() || mode == SeriesMode.BEST_EFFORT;
+
+        List<Booking> bookings = new ArrayList<>();
+        if (createAny) {
+            for (LocalDate date : dates) {
+                if (!conflictDates.contains(date)) {
+                    bookings.add(new Booking(startTime, endTime, date, user, turf, BookingStatus.CONFIRMED));
+                }
+            }
+            // Bookings and their slot claims are each written as a batch
+            bookings = bookingRepository.saveAll(bookings);
+            if (mode == SeriesMode.BEST_EFFORT) {
+                // Each occurrence claims its slots on its own; one taken since the check above is dropped alone
+                Set<Long> lost = slotClaimService.claimAvailableForBookings(bookings);
+                if (!lost.isEmpty()) {
+                    List<Booking> kept = new ArrayList<>();
+                    List<Booking> dropped = new ArrayList<>();
+                    for (Booking booking : bookings) {
+                        if (lost.contains(booking.getId())) {
+                            dropped.add(booking);
+                            conflictDates.add(booking.getBookingDate());
+                        } else {
+                            kept.add(booking);
+                        }
+                    }
+                    bookingRepository.deleteAll(dropped);
+                    bookings = kept;
+                }
+            } else {
+                slotClaimService.claimForBookings(bookings);
+            }
+            for (Booking booking : bookings) {
+                eventPublisher.publishEvent(new BookingChangedEvent(booking.getId(), null, BookingSnapshot.of(booking)));
+            }
+        }
+
+        List<BookingOccurrenceResultDTO> results = new ArrayList<>();
+        int created = 0;
+        for (LocalDate date : dates) {
+            if (conflictDates.contains(date)) {
+                results.add(new BookingOccurrenceResultDTO(date, BookingOccurrenceResultDTO.CONFLICT, null,
+                        "Time slot is not available"));
+            } else if (createAny) {
+                results.add(new BookingOccurrenceResultDTO(date, BookingOccurrenceResultDTO.CREATED,
+                        bookings.get(created++).getId(), null));
+            } else {
+                results.add(new BookingOccurrenceResultDTO(date, BookingOccurrenceResultDTO.NOT_CREATED, null,
+                        "Series not created because other occurrences conflict"));
+            }
+        }
+
+        return new BookingSeriesResponseDTO(mode, dates.size(), created, conflictDates.size(), results);
+    }
+
+    // A primary-key read; waiting longer means the shared query is stuck, not slow
+    @Override
+    @Coalesced(timeoutMs = 1000)
     @Transactional(readOnly = true)
     public BookingResponseDTO getBookingById(Long id) {
-        Booking booking = bookingRepository.findById(id)
+        return bookingRepository.findResponseById(id)
                 .orElseThrow(() -> new RuntimeException("Booking not found with id: " + id));
-
-        return convertToResponseDTO(booking);
     }
 
     @Override
     @Transactional(readOnly = true)
     public List<BookingResponseDTO> getAllBookings() {
-        return bookingRepository.findAll()
-                .stream()
-                .map(this::convertToResponseDTO)
-                .collect(Collectors.toList());
+        return bookingRepository.findAllResponses();
     }
 
     @Override
+    @Transactional(readOnly = true)
+    public PageResponseDTO<BookingResponseDTO> getBookingsPage(String cursor, Integer size) {
+        int pageSize = PageCursor.pageSize(size);
+        String[] key = PageCursor.decode(cursor, 3);
+        List<BookingResponseDTO> rows = key == null
+                ? bookingRepository.findResponsePage(PageCursor.probe(pageSize))
+                : bookingRepository.findResponsePageAfter(PageCursor.parseDate(key[0]), PageCursor.parseTime(key[1]),
+                        PageCursor.parseId(key[2]), PageCursor.probe(pageSize));
+        return toBookingPage(rows, pageSize);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public PageResponseDTO<BookingResponseDTO> getBookingsForTurfOwnerPage(Long ownerId, String cursor, Integer size) {
+        int pageSize = PageCursor.pageSize(size);
+        String[] key = PageCursor.decode(cursor, 3);
+        List<BookingResponseDTO> rows = key == null
+                ? bookingRepository.findResponsePageForTurfOwner(ownerId, PageCursor.probe(pageSize))
+                : bookingRepository.findResponsePageForTurfOwnerAfter(ownerId, PageCursor.parseDate(key[0]),
+                        PageCursor.parseTime(key[1]), PageCursor.parseId(key[2]), PageCursor.probe(pageSize));
+        return toBookingPage(rows, pageSize);
+    }
+
+    @Override
+    @Transactional(isolation = Isolation.READ_COMMITTED)
     public BookingResponseDTO updateBooking(Long id, BookingUpdateDTO bookingUpdateDTO) {
         Booking booking = bookingRepository.findById(id)
                 .orElseThrow(() -> new RuntimeException("Booking not found with id: " + id));
 
+        // Lock both the current and the target day so a reschedule cannot race another writer
+        turfDayLockManager.lockUntilCompletion(booking.getTurf().getId(),
+                booking.getBookingDate(), bookingUpdateDTO.getBookingDate());
+
         // Only allow updates for future bookings or confirmed bookings
         if (booking.getBookingDate().isBefore(LocalDate.now()) &&
                 booking.getStatus() != BookingStatus.CONFIRMED) {
             throw new RuntimeException("Cannot update past or non-confirmed bookings");
         }
 
-        boolean needsAvailabilityCheck = false;
+        BookingSnapshot before = BookingSnapshot.of(booking);
 
         // Update time slots if provided
         if (bookingUpdateDTO.getSlotStartTime() != null && bookingUpdateDTO.getSlotEndTime() != null) {
@@ -127,7 +311,7 @@ public class BookingServiceImplementation implements BookingService {
                     bookingUpdateDTO.getSlotEndTime())) {
                 throw new RuntimeException("Invalid booking time: outside turf operating hours");
             }
-            needsAvailabilityCheck = true;
+            slotClaimService.requireOnGrid(bookingUpdateDTO.getSlotStartTime(), bookingUpdateDTO.getSlotEndTime());
             booking.setSlotStartTime(bookingUpdateDTO.getSlotStartTime());
             booking.setSlotEndTime(bookingUpdateDTO.getSlotEndTime());
         }
@@ -137,34 +321,29 @@ public class BookingServiceImplementation implements BookingService {
             if (bookingUpdateDTO.getBookingDate().isBefore(LocalDate.now())) {
                 throw new RuntimeException("Cannot update to past dates");
             }
-            needsAvailabilityCheck = true;
             booking.setBookingDate(bookingUpdateDTO.getBookingDate());
         }
 
-        // Check availability if time or date changed
-        if (needsAvailabilityCheck) {
-            // Temporarily exclude current booking from availability check
-            Long currentBookingId = booking.getId();
-            List<Booking> conflictingBookings = bookingRepository.findConflictingBookings(
-                    booking.getTurf().getId(), booking.getBookingDate(),
-                    booking.getSlotStartTime(), booking.getSlotEndTime());
-
-            // Remove current booking from conflicts
-            conflictingBookings = conflictingBookings.stream()
-                    .filter(b -> !b.getId().equals(currentBookingId))
-                    .collect(Collectors.toList());
-
-            if (!conflictingBookings.isEmpty()) {
-                throw new RuntimeException("Updated time slot is not available");
-            }
-        }
-
         // Update status if provided
         if (bookingUpdateDTO.getStatus() != null) {
             booking.setStatus(bookingUpdateDTO.getStatus());
         }
 
+        // Slot claims do not cover recurring rules; only a newly taken slot needs checking
+        boolean sameSlot = before.isConfirmed() && before.getBookingDate().equals(booking.getBookingDate())
+                && before.getSlotStartTime().equals(booking.getSlotStartTime())
+                && before.getSlotEndTime().equals(booking.getSlotEndTime());
+        if (booking.getStatus() == BookingStatus.CONFIRMED && !sameSlot) {
+            if (blockedSlotRuleCache.blocks(booking.getTurf().getId(), booking.getBookingDate(),
+                    booking.getSlotStartTime(), booking.getSlotEndTime())) {
+                throw new RuntimeException("Time slot is not available");
+            }
+        }
+
+        // Move slot claims if time, date or status changed; a taken slot fails here and rolls the update back
         Booking updatedBooking = bookingRepository.save(booking);
+        slotClaimService.syncBookingClaims(before, updatedBooking);
+        eventPublisher.publishEvent(new BookingChangedEvent(updatedBooking.getId(), before, BookingSnapshot.of(updatedBooking)));
         return convertToResponseDTO(updatedBooking);
     }
 
@@ -178,8 +357,11 @@ public class BookingServiceImplementation implements BookingService {
             throw new RuntimeException("Only confirmed bookings can be cancelled");
         }
 
+        BookingSnapshot before = BookingSnapshot.of(booking);
         booking.setStatus(BookingStatus.CANCELLED);
         Booking cancelledBooking = bookingRepository.save(booking);
+        slotClaimService.releaseForBooking(cancelledBooking.getId());
+        eventPublisher.publishEvent(new BookingChangedEvent(cancelledBooking.getId(), before, BookingSnapshot.of(cancelledBooking)));
         return convertToResponseDTO(cancelledBooking);
     }
 
@@ -187,55 +369,42 @@ public class BookingServiceImplementation implements BookingService {
 
     @Override
     public void deleteBooking(Long id) {
-        if (!bookingRepository.existsById(id)) {
-            throw new RuntimeException("Booking not found with id: " + id);
-        }
-        bookingRepository.deleteById(id);
+        Booking booking = bookingRepository.findById(id)
+                .orElseThrow(() -> new RuntimeException("Booking not found with id: " + id));
+        BookingSnapshot before = BookingSnapshot.of(booking);
+        slotClaimService.releaseForBooking(id);
+        bookingRepository.delete(booking);
+        eventPublisher.publishEvent(new BookingChangedEvent(id, before, null));
     }
 
     @Override
     @Transactional(readOnly = true)
     public List<BookingResponseDTO> getBookingsByUserId(Long userId) {
-        return bookingRepository.findByUserId(userId)
-                .stream()
-                .map(this::convertToResponseDTO)
-                .collect(Collectors.toList());
+        return bookingRepository.findResponsesByUserId(userId);
     }
 
     @Override
     @Transactional(readOnly = true)
     public List<BookingResponseDTO> getBookingsByTurfId(Long turfId) {
-        return bookingRepository.findByTurfId(turfId)
-                .stream()
-                .map(this::convertToResponseDTO)
-                .collect(Collectors.toList());
+        return bookingRepository.findResponsesByTurfId(turfId);
     }
 
     @Override
     @Transactional(readOnly = true)
     public List<BookingResponseDTO> getBookingsByStatus(BookingStatus status) {
-        return bookingRepository.findByStatus(status)
-                .stream()
-                .map(this::convertToResponseDTO)
-                .collect(Collectors.toList());
+        return bookingRepository.findResponsesByStatus(status);
     }
 
     @Override
     @Transactional(readOnly = true)
     public List<BookingResponseDTO> getBookingsByDate(LocalDate date) {
-        return bookingRepository.findByBookingDate(date)
-                .stream()
-                .map(this::convertToResponseDTO)
-                .collect(Collectors.toList());
+        return bookingRepository.findResponsesByBookingDateBetween(date, date);
     }
 
     @Override
     @Transactional(readOnly = true)
     public List<BookingResponseDTO> getBookingsByDateRange(LocalDate startDate, LocalDate endDate) {
-        return bookingRepository.findByBookingDateBetween(startDate, endDate)
-                .stream()
-                .map(this::convertToResponseDTO)
-                .collect(Collectors.toList());
+        return bookingRepository.findResponsesByBookingDateBetween(startDate, endDate);
     }
 
     @Override
@@ -244,10 +413,7 @@ public class BookingServiceImplementation implements BookingService {
         LocalDate currentDate = LocalDate.now();
         LocalTime currentTime = LocalTime.now();
 
-        return bookingRepository.findUpcomingBookingsForUser(userId, currentDate, currentTime)
-                .stream()
-                .map(this::convertToResponseDTO)
-                .collect(Collectors.toList());
+        return bookingRepository.findUpcomingResponsesForUser(userId, currentDate, currentTime);
     }
 
     @Override
@@ -256,19 +422,13 @@ public class BookingServiceImplementation implements BookingService {
         LocalDate currentDate = LocalDate.now();
         LocalTime currentTime = LocalTime.now();
 
-        return bookingRepository.findUpcomingBookingsForTurf(turfId, currentDate, currentTime)
-                .stream()
-                .map(this::convertToResponseDTO)
-                .collect(Collectors.toList());
+        return bookingRepository.findUpcomingResponsesForTurf(turfId, currentDate, currentTime);
     }
 
     @Override
     @Transactional(readOnly = true)
     public List<BookingResponseDTO> getBookingsForTurfOwner(Long ownerId) {
-        return bookingRepository.findBookingsForTurfOwner(ownerId)
-                .stream()
-                .map(this::convertToResponseDTO)
-                .collect(Collectors.toList());
+        return bookingRepository.findResponsesForTurfOwner(ownerId);
     }
 
     @Override
@@ -277,32 +437,26 @@ public class BookingServiceImplementation implements BookingService {
         LocalDate currentDate = LocalDate.now();
         LocalTime currentTime = LocalTime.now();
 
-        return bookingRepository.findUpcomingBookingsForTurfOwner(ownerId, currentDate, currentTime)
-                .stream()
-                .map(this::convertToResponseDTO)
-                .collect(Collectors.toList());
+        return bookingRepository.findUpcomingResponsesForTurfOwner(ownerId, currentDate, currentTime);
     }
 
     @Override
     @Transactional(readOnly = true)
     public List<BookingResponseDTO> searchBookings(BookingSearchDTO searchDTO) {
-        return bookingRepository.searchBookings(
-                        searchDTO.getUserId(),
-                        searchDTO.getTurfId(),
-                        searchDTO.getStatus(),
-                        searchDTO.getStartDate(),
-                        searchDTO.getEndDate()
-                ).stream()
-                .map(this::convertToResponseDTO)
-                .collect(Collectors.toList());
+        return bookingRepository.searchBookingResponses(
+                searchDTO.getUserId(),
+                searchDTO.getTurfId(),
+                searchDTO.getStatus(),
+                searchDTO.getStartDate(),
+                searchDTO.getEndDate()
+        );
     }
 
     @Override
+    @Coalesced
     @Transactional(readOnly = true)
     public boolean isSlotAvailable(Long turfId, LocalDate date, LocalTime startTime, LocalTime endTime) {
-        List<Booking> conflictingBookings = bookingRepository.findConflictingBookings(
-                turfId, date, startTime, endTime);
-        return conflictingBookings.isEmpty();
+        return slotOccupancyIndex.isFree(turfId, date, startTime, endTime);
     }
 
     @Override
@@ -317,37 +471,42 @@ public class BookingServiceImplementation implements BookingService {
         Booking booking = bookingRepository.findById(id)
                 .orElseThrow(() -> new RuntimeException("Booking not found with id: " + id));
 
+        BookingSnapshot before = BookingSnapshot.of(booking);
         booking.setStatus(status);
         Booking updatedBooking = bookingRepository.save(booking);
+        slotClaimService.syncBookingClaims(before, updatedBooking);
+        eventPublisher.publishEvent(new BookingChangedEvent(updatedBooking.getId(), before, BookingSnapshot.of(updatedBooking)));
         return convertToResponseDTO(updatedBooking);
     }
 
     @Override
     @Transactional(readOnly = true)
     public long getTotalBookingsCount() {
-        return bookingRepository.count();
+        return statisticsService.getTotalBookingsCount();
     }
 
     @Override
     @Transactional(readOnly = true)
     public long getBookingsCountByStatus(BookingStatus status) {
-        return bookingRepository.countByStatus(status);
+        return statisticsService.getBookingsCountByStatus(status);
     }
 
     @Override
     @Transactional(readOnly = true)
     public long getBookingsCountByUser(Long userId) {
-        User user = userRepository.findById(userId)
-                .orElseThrow(() -> new RuntimeException("User not found with id: " + userId));
-        return bookingRepository.countByUser(user);
+        if (!userRepository.existsById(userId)) {
+            throw new RuntimeException("User not found with id: " + userId);
+        }
+        return statisticsService.getBookingsCountByUser(userId);
     }
 
     @Override
     @Transactional(readOnly = true)
     public long getBookingsCountByTurf(Long turfId) {
-        Turf turf = turfRepository.findById(turfId)
-                .orElseThrow(() -> new RuntimeException("Turf not found with id: " + turfId));
-        return bookingRepository.countByTurf(turf);
+        if (!turfRepository.existsById(turfId)) {
+            throw new RuntimeException("Turf not found with id: " + turfId);
+        }
+        return statisticsService.getBookingsCountByTurf(turfId);
     }
 
     @Override
@@ -373,21 +532,45 @@ public class BookingServiceImplementation implements BookingService {
     }
 
     @Override
+    @Coalesced
     @Transactional(readOnly = true)
     public BigDecimal calculateTotalPrice(Long turfId, LocalTime startTime, LocalTime endTime) {
         Turf turf = turfRepository.findById(turfId)
                 .orElseThrow(() -> new RuntimeException("Turf not found with id: " + turfId));
 
-        // Calculate duration in hours
-        Duration duration = Duration.between(startTime, endTime);
-        long hours = duration.toHours();
+        return BookingPrice.total(turf.getPricePerSlot(), BookingPrice.chargedHours(startTime, endTime));
+    }
+
+    // Expand the recurrence rule into occurrence dates, first occurrence included
+    private List<LocalDate> expandOccurrences(BookingSeriesRequestDTO seriesRequestDTO) {
+        if ((seriesRequestDTO.getUntilDate() == null) == (seriesRequestDTO.getOccurrences() == null)) {
+            throw new RuntimeException("Provide either an until date or a number of occurrences");
+        }
+
+        int step = seriesRequestDTO.getInterval() * (seriesRequestDTO.getFrequency() == RecurrenceFrequency.WEEKLY ? 7 : 1);
+        int limit = seriesRequestDTO.getOccurrences() != null ? seriesRequestDTO.getOccurrences() : Integer.MAX_VALUE;
+
+        List<LocalDate> dates = new ArrayList<>();
+        LocalDate date = seriesRequestDTO.getBookingDate();
+        while (dates.size() < limit &&
+                (seriesRequestDTO.getUntilDate() == null || !date.isAfter(seriesRequestDTO.getUntilDate()))) {
+            if (dates.size() == maxSeriesOccurrences) {
+                throw new RuntimeException("A series can have at most " + maxSeriesOccurrences + " occurrences");
+            }
+            dates.add(date);
+            date = date.plusDays(step);
+        }
 
-        // If there are remaining minutes, round up to next hour
-        if (duration.toMinutes() % 60 != 0) {
-            hours++;
+        if (dates.isEmpty()) {
+            throw new RuntimeException("Until date is before the first booking date");
         }
+        return dates;
+    }
 
-        return turf.getPricePerSlot().multiply(BigDecimal.valueOf(hours));
+    // Bookings are paged by (date, start time, id)
+    private static PageResponseDTO<BookingResponseDTO> toBookingPage(List<BookingResponseDTO> rows, int pageSize) {
+        return PageCursor.page(rows, pageSize, row -> row,
+                row -> new Object[]{row.getBookingDate(), row.getSlotStartTime(), row.getId()});
     }
 
     // Helper method to convert Booking entity to BookingResponseDTO
@@ -411,16 +594,11 @@ public class BookingServiceImplementation implements BookingService {
         );
 
         // Calculate additional fields
-        Duration duration = Duration.between(booking.getSlotStartTime(), booking.getSlotEndTime());
-        long hours = duration.toHours();
-        if (duration.toMinutes() % 60 != 0) {
-            hours++;
-        }
+        long hours = BookingPrice.chargedHours(booking.getSlotStartTime(), booking.getSlotEndTime());
         responseDTO.setDurationHours(hours);
-        responseDTO.setTotalPrice(booking.getTurf().getPricePerSlot().multiply(BigDecimal.valueOf(hours)));
+        responseDTO.setTotalPrice(BookingPrice.total(booking.getTurf().getPricePerSlot(), hours));
 
         return responseDTO;
     }
 }
 
-
@@ -0,0 +1,49 @@
+package com.turfBooking.service.implementation;
+
+import com.turfBooking.repository.BlockedSlotRepository;
+import com.turfBooking.repository.BookingRepository;
+import com.turfBooking.util.BusyIntervals;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDate;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Loads what occupies turf-days: CONFIRMED bookings, blocked slots and recurring blocked-slot rules.
+ * Two range queries cover any number of turfs and days; rules come from the {@link BlockedSlotRuleCache},
+ * loaded for all turfs at once.
+ */
+@Component
+public class BusyIntervalReader {
+
+    @Autowired
+    private BookingRepository bookingRepository;
+
+    @Autowired
+    private BlockedSlotRepository blockedSlotRepository;
+
+    @Autowired
+    private BlockedSlotRuleCache blockedSlotRuleCache;
+
+    public BusyIntervals busyIntervals(Collection<Long> turfIds, LocalDate from, LocalDate to) {
+        BusyIntervals busy = newBusyIntervals(turfIds);
+        busy.addBooked(bookingRepository.findConfirmedIntervalsForTurfsBetween(turfIds, from, to));
+        busy.addBlocked(blockedSlotRepository.findIntervalsForTurfsBetween(turfIds, from, to));
+        return busy;
+    }
+
+    // Open-ended variant for rebuilding everything of a turf from a day onward
+    public BusyIntervals busyIntervalsFrom(Long turfId, LocalDate from) {
+        BusyIntervals busy = newBusyIntervals(List.of(turfId));
+        busy.addBooked(bookingRepository.findConfirmedIntervalsForTurfFrom(turfId, from));
+        busy.addBlocked(blockedSlotRepository.findIntervalsForTurfFrom(turfId, from));
+        return busy;
+    }
+
+    private BusyIntervals newBusyIntervals(Collection<Long> turfIds) {
+        blockedSlotRuleCache.preload(turfIds);
+        return new BusyIntervals(blockedSlotRuleCache::intervals);
+    }
+}
@@ -0,0 +1,179 @@
+package com.turfBooking.service.implementation;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.task.AsyncTaskExecutor;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Supplier;
+
+/**
+ * Loads independent dashboard sections concurrently.
+ * Every section runs on a bounded pool in its own read-only transaction and has its own
+ * timeout; a section that fails, times out or finds the pool full is reported instead of failing
+ * the whole dashboard. The timeout is also the transaction timeout, which Hibernate applies to
+ * every statement as a JDBC query timeout, and a section still running at its deadline is
+ * interrupted, so abandoned sections do not keep holding a pool thread and a connection.
+ * Section latency is recorded as dashboard.section.latency tagged by section and outcome.
+ */
+@Component
+public class DashboardSectionLoader {
+
+    private static final Logger log = LoggerFactory.getLogger(DashboardSectionLoader.class);
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Value("${dashboard.section-timeout-ms:3000}")
+    private long sectionTimeoutMs;
+
+    @Value("${dashboard.executor.pool-size:16}")
+    private int poolSize;
+
+    @Value("${dashboard.executor.queue-capacity:200}")
+    private int queueCapacity;
+
+    // Needs a JDK with virtual threads (21+); the pool size then only caps concurrency
+    @Value("${dashboard.executor.virtual-threads:false}")
+    private boolean virtualThreads;
+
+    private AsyncTaskExecutor executor;
+    private TransactionTemplate readOnlyTransaction;
+
+    @PostConstruct
+    public void init() {
+        if (virtualThreads) {
+            SimpleAsyncTaskExecutor virtualExecutor = new SimpleAsyncTaskExecutor("dashboard-");
+            virtualExecutor.setVirtualThreads(true);
+            virtualExecutor.setConcurrencyLimit(poolSize);
+            virtualExecutor.setRejectTasksWhenLimitReached(true);
+            executor = virtualExecutor;
+        } else {
+            ThreadPoolTaskExecutor pool = new ThreadPoolTaskExecutor();
+            pool.setThreadNamePrefix("dashboard-");
+            pool.setCorePoolSize(poolSize);
+            pool.setMaxPoolSize(poolSize);
+            pool.setQueueCapacity(queueCapacity);
+            pool.initialize();
+            executor = pool;
+        }
+
+        readOnlyTransaction = new TransactionTemplate(transactionManager);
+        readOnlyTransaction.setReadOnly(true);
+        // Transaction timeouts are whole seconds
+        readOnlyTransaction.setTimeout((int) Math.max(1, TimeUnit.MILLISECONDS.toSeconds(sectionTimeoutMs + 999)));
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        if (executor instanceof ThreadPoolTaskExecutor pool) {
+            pool.shutdown();
+        }
+    }
+
+    public Batch newBatch() {
+        return new Batch();
+    }
+
+    public class Batch {
+
+        private final Map<String, Future<Object>> sections = new LinkedHashMap<>();
+        private final Map<String, Long> deadlines = new LinkedHashMap<>();
+
+        public void submit(String section, Supplier<?> loader) {
+            Future<Object> future;
+            try {
+                future = executor.submit(() -> {
+                    long start = System.nanoTime();
+                    String outcome = "success";
+                    try {
+                        return readOnlyTransaction.execute(status -> loader.get());
+                    } catch (RuntimeException e) {
+                        outcome = "error";
+                        throw e;
+                    } finally {
+                        Timer.builder("dashboard.section.latency")
+                                .tag("section", section)
+                                .tag("outcome", outcome)
+                                .register(meterRegistry)
+                                .record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+                    }
+                });
+            } catch (TaskRejectedException e) {
+                Counter.builder("dashboard.section.rejections")
+                        .tag("section", section)
+                        .register(meterRegistry)
+                        .increment();
+                future = CompletableFuture.failedFuture(e);
+            }
+            sections.put(section, future);
+            deadlines.put(section, System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(sectionTimeoutMs));
+        }
+
+        /**
+         * Waits for all submitted sections. Returns the loaded values by section name;
+         * names of sections that failed, timed out or were rejected are added to failedSections.
+         */
+        public Map<String, Object> await(List<String> failedSections) {
+            Map<String, Object> results = new LinkedHashMap<>();
+            for (Map.Entry<String, Future<Object>> entry : sections.entrySet()) {
+                String section = entry.getKey();
+                Future<Object> future = entry.getValue();
+                try {
+                    long remaining = deadlines.get(section) - System.nanoTime();
+                    results.put(section, future.get(Math.max(remaining, 0L), TimeUnit.NANOSECONDS));
+                } catch (TimeoutException e) {
+                    // Interrupts the section; its statement is bounded by the query timeout either way
+                    future.cancel(true);
+                    failedSections.add(section);
+                    Counter.builder("dashboard.section.timeouts")
+                            .tag("section", section)
+                            .register(meterRegistry)
+                            .increment();
+                    log.warn("Dashboard section {} timed out after {} ms", section, sectionTimeoutMs);
+                } catch (ExecutionException e) {
+                    failedSections.add(section);
+                    if (e.getCause() instanceof TaskRejectedException) {
+                        log.warn("Dashboard section {} rejected: the section pool is full", section);
+                    } else {
+                        log.warn("Dashboard section {} failed: {}", section, e.getCause().getMessage());
+                    }
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    cancelRemaining();
+                    throw new IllegalStateException("Interrupted while loading the dashboard", e);
+                }
+            }
+            return results;
+        }
+
+        private void cancelRemaining() {
+            for (Future<Object> future : sections.values()) {
+                future.cancel(true);
+            }
+        }
+    }
+}
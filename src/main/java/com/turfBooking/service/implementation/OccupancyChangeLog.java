@@ -0,0 +1,127 @@
+package com.turfBooking.service.implementation;
+
+import com.turfBooking.entity.OccupancyChange;
+import com.turfBooking.event.BlockedSlotChangedEvent;
+import com.turfBooking.event.BlockedSlotRuleChangedEvent;
+import com.turfBooking.event.BlockedSlotSnapshot;
+import com.turfBooking.event.BlockedSlotsCreatedEvent;
+import com.turfBooking.event.BookingChangedEvent;
+import com.turfBooking.event.BookingSnapshot;
+import com.turfBooking.repository.OccupancyChangeRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.security.SecureRandom;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+
+/**
+ * Writes an {@link OccupancyChange} row for every turf-day a transaction changes, right before it
+ * commits, so other instances can find out which days of their {@link AvailabilityStore} went stale.
+ * The row is inserted as the last statement of the writing transaction, which keeps the gap between
+ * its changed_at and the moment it becomes visible to the seconds the commit itself takes.
+ * Nothing is written while the store is disabled; enable it on all instances or none.
+ */
+@Service
+@Transactional
+public class OccupancyChangeLog {
+
+    private static final Logger log = LoggerFactory.getLogger(OccupancyChangeLog.class);
+
+    private final long nodeId = new SecureRandom().nextLong();
+
+    @Autowired
+    private OccupancyChangeRepository occupancyChangeRepository;
+
+    @Value("${availability.store.enabled:true}")
+    private boolean enabled;
+
+    @Value("${availability.changes.retention-hours:24}")
+    private long retentionHours;
+
+    public long getRetentionHours() {
+        return retentionHours;
+    }
+
+    // Changes other instances wrote at or after 'since', oldest first
+    public List<OccupancyChange> changesSince(LocalDateTime since) {
+        return occupancyChangeRepository.findChangesSince(since, nodeId);
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.BEFORE_COMMIT, fallbackExecution = true)
+    public void onBookingChanged(BookingChangedEvent event) {
+        BookingSnapshot before = event.getBefore();
+        BookingSnapshot after = event.getAfter();
+        List<OccupancyChange> changes = new ArrayList<>(2);
+        if (before != null) {
+            changes.add(change(before.getTurfId(), before.getBookingDate()));
+        }
+        if (after != null && (before == null || !Objects.equals(before.getTurfId(), after.getTurfId())
+                || !Objects.equals(before.getBookingDate(), after.getBookingDate()))) {
+            changes.add(change(after.getTurfId(), after.getBookingDate()));
+        }
+        record(changes);
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.BEFORE_COMMIT, fallbackExecution = true)
+    public void onBlockedSlotChanged(BlockedSlotChangedEvent event) {
+        BlockedSlotSnapshot before = event.getBefore();
+        BlockedSlotSnapshot after = event.getAfter();
+        List<OccupancyChange> changes = new ArrayList<>(2);
+        if (before != null) {
+            changes.add(change(before.getTurfId(), before.getBlockedDate()));
+        }
+        if (after != null && (before == null || !Objects.equals(before.getTurfId(), after.getTurfId())
+                || !Objects.equals(before.getBlockedDate(), after.getBlockedDate()))) {
+            changes.add(change(after.getTurfId(), after.getBlockedDate()));
+        }
+        record(changes);
+    }
+
+    // One row per day of the bulk request, not per blocked slot
+    @TransactionalEventListener(phase = TransactionPhase.BEFORE_COMMIT, fallbackExecution = true)
+    public void onBlockedSlotsCreated(BlockedSlotsCreatedEvent event) {
+        Set<LocalDate> dates = new LinkedHashSet<>();
+        for (BlockedSlotSnapshot slot : event.getBlockedSlots().values()) {
+            dates.add(slot.getBlockedDate());
+        }
+        List<OccupancyChange> changes = new ArrayList<>(dates.size());
+        for (LocalDate date : dates) {
+            changes.add(change(event.getTurfId(), date));
+        }
+        record(changes);
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.BEFORE_COMMIT, fallbackExecution = true)
+    public void onRuleChanged(BlockedSlotRuleChangedEvent event) {
+        record(List.of(change(event.getTurfId(), null)));
+    }
+
+    @Scheduled(cron = "${availability.changes.purge-cron:0 50 3 * * *}")
+    public void purge() {
+        int purged = occupancyChangeRepository.deleteOlderThan(LocalDateTime.now().minusHours(retentionHours));
+        log.info("Purged {} occupancy changes", purged);
+    }
+
+    private void record(List<OccupancyChange> changes) {
+        if (enabled) {
+            occupancyChangeRepository.saveAll(changes);
+        }
+    }
+
+    private OccupancyChange change(Long turfId, LocalDate date) {
+        return new OccupancyChange(nodeId, turfId, date, LocalDateTime.now());
+    }
+}
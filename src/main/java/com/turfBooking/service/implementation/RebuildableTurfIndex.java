@@ -0,0 +1,67 @@
+package com.turfBooking.service.implementation;
+
+import com.turfBooking.event.TurfChangedEvent;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Lifecycle shared by the in-memory turf indexes (catalog, geo, autocomplete).
+ *
+ * A rebuild loads a complete copy without holding the index lock and then swaps it in; each committed
+ * turf change reloads that one turf into the current copy. A change that arrives while a rebuild is
+ * loading lands in the copy about to be replaced, so the turf is remembered and reloaded again once
+ * the new copy is in place.
+ *
+ * Subclasses annotate their own {@code rebuild()} override with the schedule they run on.
+ *
+ * @param <T> the structure a rebuild loads and installs
+ */
+abstract class RebuildableTurfIndex<T> {
+
+    // Turfs changed while a rebuild was loading; reloaded once the new copy is in place
+    private final Set<Long> changedDuringRebuild = ConcurrentHashMap.newKeySet();
+    private volatile boolean rebuilding;
+    private volatile boolean ready;
+
+    public boolean isReady() {
+        return ready;
+    }
+
+    public void rebuild() {
+        rebuilding = true;
+        changedDuringRebuild.clear();
+        try {
+            install(load());
+            ready = true;
+        } finally {
+            rebuilding = false;
+        }
+        for (Long turfId : changedDuringRebuild) {
+            reload(turfId);
+        }
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onTurfChanged(TurfChangedEvent event) {
+        noteChange(event.getTurfId());
+        reload(event.getTurfId());
+    }
+
+    // Call before applying any change to the current copy, so a rebuild in progress replays it
+    protected void noteChange(Long turfId) {
+        if (rebuilding) {
+            changedDuringRebuild.add(turfId);
+        }
+    }
+
+    // Reads every turf into a new structure; runs without the index lock
+    protected abstract T load();
+
+    // Swaps the loaded structure in under the index lock
+    protected abstract void install(T rebuilt);
+
+    // Replaces one turf in the current structure, or removes it when it no longer exists
+    protected abstract void reload(Long turfId);
+}
@@ -0,0 +1,114 @@
+package com.turfBooking.service.implementation;
+
+import com.turfBooking.exception.CoalescedTimeoutException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Supplier;
+
+/**
+ * Collapses concurrent identical reads into one computation. The first caller for a key runs the
+ * loader on its own thread; callers arriving while it runs wait for the same result or exception.
+ * Nothing is cached: the key is released as soon as the computation finishes.
+ * Every caller of a key receives the same result object, so results must be treated as read-only;
+ * collections are handed out unmodifiable, also to the leader, so a mutation fails on every call
+ * rather than only when calls happened to overlap.
+ * Waiters give up after a timeout, chosen per call (e.g. per {@code @Coalesced} method) or the default.
+ */
+@Component
+public class SingleFlight {
+
+    private final ConcurrentHashMap<String, CompletableFuture<Object>> inFlight = new ConcurrentHashMap<>();
+    private final Counter leaderCounter;
+    private final Counter coalescedCounter;
+    private final Counter timeoutCounter;
+
+    @Value("${single-flight.timeout-ms:5000}")
+    private long timeoutMs;
+
+    public SingleFlight(MeterRegistry meterRegistry) {
+        this.leaderCounter = counter(meterRegistry, "leader");
+        this.coalescedCounter = counter(meterRegistry, "coalesced");
+        this.timeoutCounter = counter(meterRegistry, "timeout");
+    }
+
+    public <T> T execute(String key, Supplier<T> loader) {
+        return execute(key, -1, loader);
+    }
+
+    // A negative timeoutMs uses single-flight.timeout-ms
+    @SuppressWarnings("unchecked")
+    public <T> T execute(String key, long timeoutMs, Supplier<T> loader) {
+        CompletableFuture<Object> future = new CompletableFuture<>();
+        CompletableFuture<Object> running = inFlight.putIfAbsent(key, future);
+        if (running != null) {
+            coalescedCounter.increment();
+            return (T) await(key, running, timeoutMs >= 0 ? timeoutMs : this.timeoutMs);
+        }
+
+        leaderCounter.increment();
+        try {
+            T result = readOnly(loader.get());
+            inFlight.remove(key, future);
+            future.complete(result);
+            return result;
+        } catch (RuntimeException | Error e) {
+            inFlight.remove(key, future);
+            future.completeExceptionally(e);
+            throw e;
+        }
+    }
+
+    private Object await(String key, CompletableFuture<Object> running, long timeoutMs) {
+        try {
+            return running.get(timeoutMs, TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            timeoutCounter.increment();
+            throw new CoalescedTimeoutException("Timed out waiting for a concurrent request for " + key);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new RuntimeException("Interrupted while waiting for a concurrent request for " + key);
+        } catch (ExecutionException e) {
+            // Rethrow the leader's exception so every waiter sees the same error
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            if (e.getCause() instanceof Error error) {
+                throw error;
+            }
+            throw new RuntimeException(e.getCause());
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T> T readOnly(T result) {
+        if (result instanceof List<?> list) {
+            return (T) Collections.unmodifiableList(list);
+        }
+        if (result instanceof Set<?> set) {
+            return (T) Collections.unmodifiableSet(set);
+        }
+        if (result instanceof Map<?, ?> map) {
+            return (T) Collections.unmodifiableMap(map);
+        }
+        return result;
+    }
+
+    private static Counter counter(MeterRegistry meterRegistry, String role) {
+        return Counter.builder("single.flight.calls")
+                .description("Coalescible read calls by whether they ran the query or shared another call's result")
+                .tag("role", role)
+                .register(meterRegistry);
+    }
+}
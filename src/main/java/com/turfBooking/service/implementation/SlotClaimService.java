@@ -0,0 +1,239 @@
+package com.turfBooking.service.implementation;
+
+import com.turfBooking.entity.BlockedSlot;
+import com.turfBooking.entity.Booking;
+import com.turfBooking.entity.BookingSlotClaim;
+import com.turfBooking.enums.BookingStatus;
+import com.turfBooking.event.BookingSnapshot;
+import com.turfBooking.repository.BlockedSlotRepository;
+import com.turfBooking.repository.BookingRepository;
+import com.turfBooking.repository.BookingSlotClaimRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+
+/**
+ * Maintains rows in booking_slot_claims for CONFIRMED bookings and blocked slots.
+ * Claims are written in the caller's transaction, so a slot already taken on any node
+ * fails the insert and rolls back the booking with it.
+ */
+@Service
+@Transactional
+public class SlotClaimService {
+
+    private static final Logger log = LoggerFactory.getLogger(SlotClaimService.class);
+
+    @Autowired
+    private BookingSlotClaimRepository claimRepository;
+
+    @Autowired
+    private BookingRepository bookingRepository;
+
+    @Autowired
+    private BlockedSlotRepository blockedSlotRepository;
+
+    private static final LocalTime END_OF_DAY = LocalTime.of(23, 59);
+
+    @Value("${booking.claims.slot-minutes:15}")
+    private int slotMinutes;
+
+    public void claimForBooking(Booking booking) {
+        List<BookingSlotClaim> claims = buildClaims(booking.getTurf().getId(), booking.getBookingDate(),
+                booking.getSlotStartTime(), booking.getSlotEndTime(), booking.getId(), null);
+        try {
+            claimRepository.insertClaims(claims);
+        } catch (DataIntegrityViolationException e) {
+            throw new RuntimeException("Time slot is not available");
+        }
+    }
+
+    // Claims for several bookings in a single batch (booking series)
+    public void claimForBookings(List<Booking> bookings) {
+        List<BookingSlotClaim> claims = new ArrayList<>();
+        for (Booking booking : bookings) {
+            if (booking.getStatus() == BookingStatus.CONFIRMED) {
+                claims.addAll(buildClaims(booking.getTurf().getId(), booking.getBookingDate(),
+                        booking.getSlotStartTime(), booking.getSlotEndTime(), booking.getId(), null));
+            }
+        }
+        try {
+            claimRepository.insertClaims(claims);
+        } catch (DataIntegrityViolationException e) {
+            throw new RuntimeException("One or more time slots were taken by another booking, please retry");
+        }
+    }
+
+    /**
+     * Claims each booking's slots on its own (best-effort series): slots another writer already holds
+     * are skipped instead of failing the batch, and a booking that did not get every one of its slots
+     * has its partial claims released again. Returns the ids of those bookings.
+     */
+    public Set<Long> claimAvailableForBookings(List<Booking> bookings) {
+        Map<Long, Integer> expected = new HashMap<>();
+        List<BookingSlotClaim> claims = new ArrayList<>();
+        for (Booking booking : bookings) {
+            List<BookingSlotClaim> own = buildClaims(booking.getTurf().getId(), booking.getBookingDate(),
+                    booking.getSlotStartTime(), booking.getSlotEndTime(), booking.getId(), null);
+            expected.put(booking.getId(), own.size());
+            claims.addAll(own);
+        }
+        if (claims.isEmpty()) {
+            return Set.of();
+        }
+        claimRepository.insertClaimsIgnoringConflicts(claims);
+
+        // Batched inserts do not report per-row counts once rewritten, so count what each booking holds
+        Map<Long, Long> claimed = new HashMap<>();
+        for (Object[] row : claimRepository.countByBookingIdIn(expected.keySet())) {
+            claimed.put((Long) row[0], (Long) row[1]);
+        }
+        Set<Long> lost = new HashSet<>();
+        for (Map.Entry<Long, Integer> entry : expected.entrySet()) {
+            if (claimed.getOrDefault(entry.getKey(), 0L) < entry.getValue()) {
+                lost.add(entry.getKey());
+            }
+        }
+        releaseForBookings(lost);
+        return lost;
+    }
+
+    public void releaseForBooking(Long bookingId) {
+        claimRepository.deleteByBookingId(bookingId);
+    }
+
+    public void releaseForBookings(Collection<Long> bookingIds) {
+        if (!bookingIds.isEmpty()) {
+            claimRepository.deleteByBookingIdIn(bookingIds);
+        }
+    }
+
+    // Moves claims after a reschedule or status change; 'before' is the state prior to the change
+    public void syncBookingClaims(BookingSnapshot before, Booking booking) {
+        boolean wasConfirmed = before.isConfirmed();
+        boolean isConfirmed = booking.getStatus() == BookingStatus.CONFIRMED;
+        boolean moved = !Objects.equals(before.getBookingDate(), booking.getBookingDate()) ||
+                !Objects.equals(before.getSlotStartTime(), booking.getSlotStartTime()) ||
+                !Objects.equals(before.getSlotEndTime(), booking.getSlotEndTime());
+
+        if (wasConfirmed && (!isConfirmed || moved)) {
+            releaseForBooking(booking.getId());
+        }
+        if (isConfirmed && (!wasConfirmed || moved)) {
+            claimForBooking(booking);
+        }
+    }
+
+    public void claimForBlockedSlot(BlockedSlot blockedSlot) {
+        List<BookingSlotClaim> claims = buildClaims(blockedSlot.getTurf().getId(), blockedSlot.getBlockedDate(),
+                blockedSlot.getStartTime(), blockedSlot.getEndTime(), null, blockedSlot.getId());
+        try {
+            claimRepository.insertClaims(claims);
+        } catch (DataIntegrityViolationException e) {
+            throw new RuntimeException("Blocked slot overlaps an existing booking or blocked slot");
+        }
+    }
+
+    // Claims for several blocked slots in a single batch (bulk blocking)
+    public void claimForBlockedSlots(List<BlockedSlot> blockedSlots) {
+        List<BookingSlotClaim> claims = new ArrayList<>();
+        for (BlockedSlot blockedSlot : blockedSlots) {
+            claims.addAll(buildClaims(blockedSlot.getTurf().getId(), blockedSlot.getBlockedDate(),
+                    blockedSlot.getStartTime(), blockedSlot.getEndTime(), null, blockedSlot.getId()));
+        }
+        try {
+            claimRepository.insertClaims(claims);
+        } catch (DataIntegrityViolationException e) {
+            throw new RuntimeException("One or more time slots were taken by another booking, please retry");
+        }
+    }
+
+    public void releaseForBlockedSlot(Long blockedSlotId) {
+        claimRepository.deleteByBlockedSlotId(blockedSlotId);
+    }
+
+    public void releaseBlockedSlotClaimsBefore(LocalDate date) {
+        claimRepository.deleteBlockedSlotClaimsBefore(date);
+    }
+
+    public void releaseForTurf(Long turfId) {
+        claimRepository.deleteByTurfId(turfId);
+    }
+
+    /**
+     * Claims cover whole cells, so a time between two cell boundaries would reserve the rest of its
+     * cell and reject a neighbour that does not really overlap. Writers therefore only accept times
+     * on the cell grid; an end time of 23:59 or later stands for the end of the day.
+     */
+    public void requireOnGrid(LocalTime startTime, LocalTime endTime) {
+        if (!isOnGrid(startTime) || !(isOnGrid(endTime) || !endTime.isBefore(END_OF_DAY))) {
+            throw new RuntimeException("Start and end times must fall on " + slotMinutes + "-minute boundaries");
+        }
+    }
+
+    private boolean isOnGrid(LocalTime time) {
+        return time.getSecond() == 0 && time.getNano() == 0 && time.getMinute() % slotMinutes == 0;
+    }
+
+    // Slot indexes covering [startTime, endTime); partial slots are claimed whole
+    public List<BookingSlotClaim> buildClaims(Long turfId, LocalDate date, LocalTime startTime, LocalTime endTime,
+                                              Long bookingId, Long blockedSlotId) {
+        int startMinute = startTime.toSecondOfDay() / 60;
+        int endMinute = (endTime.toSecondOfDay() + 59) / 60;
+        int firstSlot = startMinute / slotMinutes;
+        int lastSlot = (endMinute + slotMinutes - 1) / slotMinutes;
+
+        List<BookingSlotClaim> claims = new ArrayList<>(lastSlot - firstSlot);
+        for (int slot = firstSlot; slot < lastSlot; slot++) {
+            claims.add(new BookingSlotClaim(turfId, date, slot, bookingId, blockedSlotId));
+        }
+        return claims;
+    }
+
+    // Migration path: claim future bookings and blocked slots created before claims existed
+    @EventListener(ApplicationReadyEvent.class)
+    public void backfillMissingClaims() {
+        LocalDate today = LocalDate.now();
+        List<BookingSlotClaim> claims = new ArrayList<>();
+
+        List<Booking> bookings = bookingRepository.findConfirmedBookingsWithoutClaims(today);
+        for (Booking booking : bookings) {
+            claims.addAll(buildClaims(booking.getTurf().getId(), booking.getBookingDate(),
+                    booking.getSlotStartTime(), booking.getSlotEndTime(), booking.getId(), null));
+        }
+        List<BlockedSlot> blockedSlots = blockedSlotRepository.findBlockedSlotsWithoutClaims(today);
+        for (BlockedSlot blockedSlot : blockedSlots) {
+            claims.addAll(buildClaims(blockedSlot.getTurf().getId(), blockedSlot.getBlockedDate(),
+                    blockedSlot.getStartTime(), blockedSlot.getEndTime(), null, blockedSlot.getId()));
+        }
+
+        // Overlapping legacy rows cannot all be claimed; the first one wins
+        claimRepository.insertClaimsIgnoringConflicts(claims);
+        if (!claims.isEmpty()) {
+            log.info("Backfilled slot claims for {} bookings and {} blocked slots", bookings.size(), blockedSlots.size());
+        }
+    }
+
+    @Scheduled(cron = "${booking.claims.purge-cron:0 30 3 * * *}")
+    public void purgePastClaims() {
+        int purged = claimRepository.deleteClaimsBefore(LocalDate.now());
+        log.info("Purged {} past slot claims", purged);
+    }
+}
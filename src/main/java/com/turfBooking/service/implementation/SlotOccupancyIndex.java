@@ -0,0 +1,228 @@
+package com.turfBooking.service.implementation;
+
+import com.turfBooking.entity.BlockedSlot;
+import com.turfBooking.entity.Booking;
+import com.turfBooking.enums.BookingStatus;
+import com.turfBooking.event.BlockedSlotChangedEvent;
+import com.turfBooking.event.BlockedSlotRuleChangedEvent;
+import com.turfBooking.event.BlockedSlotSnapshot;
+import com.turfBooking.event.BlockedSlotsCreatedEvent;
+import com.turfBooking.event.BookingChangedEvent;
+import com.turfBooking.event.BookingSnapshot;
+import com.turfBooking.repository.BlockedSlotRepository;
+import com.turfBooking.repository.BookingRepository;
+import com.turfBooking.util.DayOccupancy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.function.Consumer;
+
+/**
+ * In-memory occupancy of CONFIRMED bookings, blocked slots and recurring blocked-slot rules per (turf, day).
+ * Days are loaded lazily from the database on first use and kept current from
+ * booking / blocked slot change events after the writing transaction commits.
+ * While the {@link AvailabilityStore} is serving, days are cached there as bitmaps and nothing is kept
+ * on the heap; the store drops days other application nodes changed. Otherwise days are cached in
+ * memory and expire after a TTL so changes made by other nodes are picked up.
+ */
+@Component
+public class SlotOccupancyIndex {
+
+    private static final Logger log = LoggerFactory.getLogger(SlotOccupancyIndex.class);
+
+    private static final int STAMP_STRIPES = 1024;
+
+    @Autowired
+    private BookingRepository bookingRepository;
+
+    @Autowired
+    private BlockedSlotRepository blockedSlotRepository;
+
+    @Autowired
+    private AvailabilityStore availabilityStore;
+
+    @Autowired
+    private BlockedSlotRuleCache blockedSlotRuleCache;
+
+    @Value("${booking.occupancy.ttl-seconds:60}")
+    private long ttlSeconds;
+
+    @Value("${booking.occupancy.max-entries:100000}")
+    private int maxEntries;
+
+    private final ConcurrentHashMap<Long, DayOccupancy> days = new ConcurrentHashMap<>();
+
+    // Bumped before a committed change is applied; a load that raced with a change is not cached
+    private final AtomicLongArray writeStamps = new AtomicLongArray(STAMP_STRIPES);
+
+    public boolean isFree(Long turfId, LocalDate date, LocalTime startTime, LocalTime endTime) {
+        return getDay(turfId, date).isFree(startTime, endTime);
+    }
+
+    public DayOccupancy getDay(Long turfId, LocalDate date) {
+        long key = key(turfId, date);
+        if (availabilityStore.isServing()) {
+            return getStoredDay(turfId, date, key);
+        }
+        DayOccupancy day = days.get(key);
+        if (day != null && !isExpired(day)) {
+            return day;
+        }
+
+        long stamp = writeStamps.get(stripe(key));
+        DayOccupancy loaded = load(turfId, date);
+        if (days.size() >= maxEntries) {
+            prune();
+            if (days.size() >= maxEntries) {
+                return loaded;
+            }
+        }
+        DayOccupancy cached = days.compute(key, (k, current) -> {
+            if (writeStamps.get(stripe(k)) == stamp) {
+                return loaded;
+            }
+            return current != null && !isExpired(current) ? current : null;
+        });
+        return cached != null ? cached : loaded;
+    }
+
+    // A miss is loaded from the database and stored unless a local change or a recheck raced with the load
+    private DayOccupancy getStoredDay(Long turfId, LocalDate date, long key) {
+        long[] bits = availabilityStore.read(key);
+        if (bits != null) {
+            return DayOccupancy.fromBitmap(bits, System.nanoTime());
+        }
+        long stamp = writeStamps.get(stripe(key));
+        long generation = availabilityStore.generation();
+        DayOccupancy loaded = load(turfId, date);
+        availabilityStore.write(key, loaded.bitmap(), () ->
+                writeStamps.get(stripe(key)) == stamp && availabilityStore.generation() == generation);
+        return loaded;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void openStore() {
+        availabilityStore.open();
+        log.info("Slot occupancy is {}", availabilityStore.isServing() ? "served from the availability store" : "cached in memory");
+    }
+
+    public void evictTurf(Long turfId) {
+        days.keySet().removeIf(key -> (key >>> 24) == turfId);
+        availabilityStore.removeTurf(turfId);
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onBookingChanged(BookingChangedEvent event) {
+        BookingSnapshot before = event.getBefore();
+        BookingSnapshot after = event.getAfter();
+
+        if (before != null) {
+            release(before.getTurfId(), before.getBookingDate(), day -> day.removeBooking(event.getBookingId()));
+        }
+        if (after != null && after.isConfirmed()) {
+            occupy(after.getTurfId(), after.getBookingDate(), day ->
+                    day.putBooking(event.getBookingId(), after.getSlotStartTime(), after.getSlotEndTime()));
+        }
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onBlockedSlotChanged(BlockedSlotChangedEvent event) {
+        BlockedSlotSnapshot before = event.getBefore();
+        BlockedSlotSnapshot after = event.getAfter();
+
+        if (before != null) {
+            release(before.getTurfId(), before.getBlockedDate(), day -> day.removeBlockedSlot(event.getBlockedSlotId()));
+        }
+        if (after != null) {
+            occupy(after.getTurfId(), after.getBlockedDate(), day ->
+                    day.putBlockedSlot(event.getBlockedSlotId(), after.getStartTime(), after.getEndTime()));
+        }
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onBlockedSlotsCreated(BlockedSlotsCreatedEvent event) {
+        for (Map.Entry<Long, BlockedSlotSnapshot> entry : event.getBlockedSlots().entrySet()) {
+            BlockedSlotSnapshot slot = entry.getValue();
+            occupy(slot.getTurfId(), slot.getBlockedDate(), day ->
+                    day.putBlockedSlot(entry.getKey(), slot.getStartTime(), slot.getEndTime()));
+        }
+    }
+
+    // A rule may touch any day of the turf; runs after the rule cache was refreshed
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onRuleChanged(BlockedSlotRuleChangedEvent event) {
+        evictTurf(event.getTurfId());
+    }
+
+    // Stored bitmaps take the new interval by OR-ing it in
+    private void occupy(Long turfId, LocalDate date, Consumer<DayOccupancy> change) {
+        long key = key(turfId, date);
+        apply(key, change);
+        DayOccupancy added = new DayOccupancy(System.nanoTime());
+        change.accept(added);
+        availabilityStore.merge(key, added.bitmap());
+    }
+
+    // A bitmap cannot drop a single interval, so the stored day is reloaded on next use instead
+    private void release(Long turfId, LocalDate date, Consumer<DayOccupancy> change) {
+        long key = key(turfId, date);
+        apply(key, change);
+        availabilityStore.remove(key);
+    }
+
+    private void apply(long key, Consumer<DayOccupancy> change) {
+        writeStamps.incrementAndGet(stripe(key));
+        days.computeIfPresent(key, (k, day) -> {
+            change.accept(day);
+            return day;
+        });
+    }
+
+    private DayOccupancy load(Long turfId, LocalDate date) {
+        DayOccupancy day = new DayOccupancy(System.nanoTime());
+        for (Booking booking : bookingRepository.findByTurfIdAndBookingDateAndStatus(turfId, date, BookingStatus.CONFIRMED)) {
+            day.putBooking(booking.getId(), booking.getSlotStartTime(), booking.getSlotEndTime());
+        }
+        for (BlockedSlot blockedSlot : blockedSlotRepository.findByTurfIdAndBlockedDate(turfId, date)) {
+            day.putBlockedSlot(blockedSlot.getId(), blockedSlot.getStartTime(), blockedSlot.getEndTime());
+        }
+        // Rule ids are negated so they never collide with blocked slot ids
+        for (Object[] row : blockedSlotRuleCache.expand(List.of(turfId), date, date)) {
+            day.putBlockedSlot(-(Long) row[4], (LocalTime) row[2], (LocalTime) row[3]);
+        }
+        return day;
+    }
+
+    // Drop expired entries and days that are already in the past
+    private void prune() {
+        long today = LocalDate.now().toEpochDay();
+        days.entrySet().removeIf(entry ->
+                isExpired(entry.getValue()) || (entry.getKey() & 0xFFFFFFL) < today);
+    }
+
+    private boolean isExpired(DayOccupancy day) {
+        return System.nanoTime() - day.getLoadedAtNanos() > TimeUnit.SECONDS.toNanos(ttlSeconds);
+    }
+
+    // Turf id in the high bits, epoch day in the low 24 bits
+    private static long key(Long turfId, LocalDate date) {
+        return (turfId << 24) | (date.toEpochDay() & 0xFFFFFFL);
+    }
+
+    private static int stripe(long key) {
+        return (int) (key ^ (key >>> 24)) & (STAMP_STRIPES - 1);
+    }
+}
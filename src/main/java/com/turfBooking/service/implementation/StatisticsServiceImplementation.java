@@ -0,0 +1,283 @@
+package com.turfBooking.service.implementation;
+
+import com.turfBooking.enums.BookingStatus;
+import com.turfBooking.enums.SportType;
+import com.turfBooking.enums.UserRole;
+import com.turfBooking.event.BookingChangedEvent;
+import com.turfBooking.event.BookingSnapshot;
+import com.turfBooking.event.TurfChangedEvent;
+import com.turfBooking.event.UserChangedEvent;
+import com.turfBooking.repository.BookingRepository;
+import com.turfBooking.repository.TurfRepository;
+import com.turfBooking.repository.UserRepository;
+import com.turfBooking.service.interfaces.StatisticsService;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * In-memory counters for bookings, turfs and users.
+ * Seeded from a handful of GROUP BY queries on first use, updated from change events after
+ * each writing transaction commits, and rebuilt on a schedule so drift (cascade deletes,
+ * writes on other nodes) is corrected.
+ */
+@Service
+public class StatisticsServiceImplementation implements StatisticsService {
+
+    private static final Logger log = LoggerFactory.getLogger(StatisticsServiceImplementation.class);
+
+    @Autowired
+    private BookingRepository bookingRepository;
+
+    @Autowired
+    private TurfRepository turfRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    private volatile Counters counters;
+
+    // Events apply deltas under the read lock. Reconcile holds the write lock from its snapshot queries
+    // until the swap, so a delta can neither land on counters being replaced nor be applied on top
+    // of a snapshot that already contains it.
+    private final ReentrantReadWriteLock swapLock = new ReentrantReadWriteLock();
+
+    @Override
+    public long getTotalBookingsCount() {
+        return sum(counters().bookingsByStatus);
+    }
+
+    @Override
+    public long getBookingsCountByStatus(BookingStatus status) {
+        return counters().bookingsByStatus.get(status).get();
+    }
+
+    @Override
+    public long getBookingsCountByUser(Long userId) {
+        return get(counters().bookingsByUser, userId);
+    }
+
+    @Override
+    public long getBookingsCountByTurf(Long turfId) {
+        return get(counters().bookingsByTurf, turfId);
+    }
+
+    @Override
+    public long getBookingsCountByOwner(Long ownerId) {
+        return get(counters().bookingsByOwner, ownerId);
+    }
+
+    @Override
+    public long getTotalTurfsCount() {
+        return sum(counters().turfsByType);
+    }
+
+    @Override
+    public long getTurfsCountBySportType(SportType type) {
+        return counters().turfsByType.get(type).get();
+    }
+
+    @Override
+    public long getTurfsCountByOwner(Long ownerId) {
+        return get(counters().turfsByOwner, ownerId);
+    }
+
+    @Override
+    public long getTotalUsersCount() {
+        return sum(counters().usersByRole);
+    }
+
+    @Override
+    public long getUsersCountByRole(UserRole role) {
+        return counters().usersByRole.get(role).get();
+    }
+
+    @Override
+    @Scheduled(fixedDelayString = "${statistics.reconcile-interval-ms:300000}",
+            initialDelayString = "${statistics.reconcile-interval-ms:300000}")
+    @Transactional(readOnly = true)
+    public void reconcile() {
+        swapLock.writeLock().lock();
+        try {
+            counters = snapshot(counters);
+        } finally {
+            swapLock.writeLock().unlock();
+        }
+    }
+
+    private Counters snapshot(Counters previous) {
+        Counters fresh = new Counters();
+
+        for (Object[] row : turfRepository.findTurfOwnersAndTypes()) {
+            Long turfId = (Long) row[0];
+            Long ownerId = (Long) row[1];
+            fresh.turfOwners.put(turfId, ownerId);
+            increment(fresh.turfsByOwner, ownerId, 1);
+            fresh.turfsByType.get((SportType) row[2]).incrementAndGet();
+        }
+
+        for (Object[] row : bookingRepository.countGroupedByStatusUserAndTurf()) {
+            long count = (Long) row[3];
+            Long turfId = (Long) row[2];
+            fresh.bookingsByStatus.get((BookingStatus) row[0]).addAndGet(count);
+            increment(fresh.bookingsByUser, (Long) row[1], count);
+            increment(fresh.bookingsByTurf, turfId, count);
+            Long ownerId = fresh.turfOwners.get(turfId);
+            if (ownerId != null) {
+                increment(fresh.bookingsByOwner, ownerId, count);
+            }
+        }
+
+        for (Object[] row : userRepository.countGroupedByRole()) {
+            fresh.usersByRole.get((UserRole) row[0]).addAndGet((Long) row[1]);
+        }
+
+        if (previous != null && sum(previous.bookingsByStatus) != sum(fresh.bookingsByStatus)) {
+            log.info("Statistics counters drifted: {} bookings counted, {} in database",
+                    sum(previous.bookingsByStatus), sum(fresh.bookingsByStatus));
+        }
+        return fresh;
+    }
+
+    // Counted ahead of other booking listeners, so readers of these counters see the change
+    @Order(Ordered.HIGHEST_PRECEDENCE)
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onBookingChanged(BookingChangedEvent event) {
+        swapLock.readLock().lock();
+        try {
+            Counters current = counters;
+            if (current == null) {
+                return;
+            }
+            if (event.getBefore() != null) {
+                applyBooking(current, event.getBefore(), -1);
+            }
+            if (event.getAfter() != null) {
+                applyBooking(current, event.getAfter(), 1);
+            }
+        } finally {
+            swapLock.readLock().unlock();
+        }
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onTurfChanged(TurfChangedEvent event) {
+        if (counters == null) {
+            return;
+        }
+        if (event.getTypeAfter() == null) {
+            // Deleting a turf cascades to its bookings, which publish no events of their own
+            reconcile();
+            return;
+        }
+        if (event.getTypeBefore() == event.getTypeAfter()) {
+            return;
+        }
+        swapLock.readLock().lock();
+        try {
+            Counters current = counters;
+            if (event.getTypeBefore() == null) {
+                current.turfOwners.put(event.getTurfId(), event.getOwnerId());
+                increment(current.turfsByOwner, event.getOwnerId(), 1);
+            } else {
+                current.turfsByType.get(event.getTypeBefore()).decrementAndGet();
+            }
+            current.turfsByType.get(event.getTypeAfter()).incrementAndGet();
+        } finally {
+            swapLock.readLock().unlock();
+        }
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onUserChanged(UserChangedEvent event) {
+        if (counters == null) {
+            return;
+        }
+        if (event.getRoleAfter() == null) {
+            // Deleting a user cascades to their bookings and turfs
+            reconcile();
+            return;
+        }
+        swapLock.readLock().lock();
+        try {
+            Counters current = counters;
+            if (event.getRoleBefore() != null) {
+                current.usersByRole.get(event.getRoleBefore()).decrementAndGet();
+            }
+            current.usersByRole.get(event.getRoleAfter()).incrementAndGet();
+        } finally {
+            swapLock.readLock().unlock();
+        }
+    }
+
+    private void applyBooking(Counters current, BookingSnapshot booking, long delta) {
+        current.bookingsByStatus.get(booking.getStatus()).addAndGet(delta);
+        increment(current.bookingsByUser, booking.getUserId(), delta);
+        increment(current.bookingsByTurf, booking.getTurfId(), delta);
+        Long ownerId = current.turfOwners.get(booking.getTurfId());
+        if (ownerId != null) {
+            increment(current.bookingsByOwner, ownerId, delta);
+        }
+    }
+
+    private Counters counters() {
+        Counters current = counters;
+        if (current == null) {
+            synchronized (this) {
+                if (counters == null) {
+                    reconcile();
+                }
+                current = counters;
+            }
+        }
+        return current;
+    }
+
+    private static void increment(Map<Long, AtomicLong> counts, Long key, long delta) {
+        counts.computeIfAbsent(key, k -> new AtomicLong()).addAndGet(delta);
+    }
+
+    private static long get(Map<Long, AtomicLong> counts, Long key) {
+        AtomicLong count = counts.get(key);
+        return count != null ? count.get() : 0L;
+    }
+
+    private static long sum(Map<?, AtomicLong> counts) {
+        long total = 0;
+        for (AtomicLong count : counts.values()) {
+            total += count.get();
+        }
+        return total;
+    }
+
+    private static <E extends Enum<E>> Map<E, AtomicLong> enumCounters(Class<E> type) {
+        Map<E, AtomicLong> counts = new EnumMap<>(type);
+        for (E value : type.getEnumConstants()) {
+            counts.put(value, new AtomicLong());
+        }
+        return counts;
+    }
+
+    private static class Counters {
+        private final Map<BookingStatus, AtomicLong> bookingsByStatus = enumCounters(BookingStatus.class);
+        private final Map<SportType, AtomicLong> turfsByType = enumCounters(SportType.class);
+        private final Map<UserRole, AtomicLong> usersByRole = enumCounters(UserRole.class);
+        private final Map<Long, AtomicLong> bookingsByUser = new ConcurrentHashMap<>();
+        private final Map<Long, AtomicLong> bookingsByTurf = new ConcurrentHashMap<>();
+        private final Map<Long, AtomicLong> bookingsByOwner = new ConcurrentHashMap<>();
+        private final Map<Long, AtomicLong> turfsByOwner = new ConcurrentHashMap<>();
+        private final Map<Long, Long> turfOwners = new ConcurrentHashMap<>();
+    }
+}
@@ -0,0 +1,80 @@
+package com.turfBooking.service.implementation;
+
+import com.turfBooking.entity.StreamTicket;
+import com.turfBooking.repository.StreamTicketRepository;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.security.SecureRandom;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Base64;
+import java.util.HexFormat;
+import java.util.Optional;
+
+/**
+ * Issues and redeems {@link StreamTicket}s. A ticket names the user, turf and day it was issued for,
+ * expires after a few seconds and is deleted on first use, so a ticket copied from an access log
+ * or browser history is worthless.
+ */
+@Service
+@Transactional
+public class StreamTicketService {
+
+    private static final int TICKET_BYTES = 32;
+
+    private final SecureRandom random = new SecureRandom();
+
+    @Autowired
+    private StreamTicketRepository streamTicketRepository;
+
+    @Value("${availability.stream.ticket-ttl-seconds:30}")
+    private long ttlSeconds;
+
+    public long getTtlSeconds() {
+        return ttlSeconds;
+    }
+
+    public String issue(String username, Long turfId, LocalDate date) {
+        byte[] bytes = new byte[TICKET_BYTES];
+        random.nextBytes(bytes);
+        String ticket = Base64.getUrlEncoder().withoutPadding().encodeToString(bytes);
+        streamTicketRepository.save(new StreamTicket(hash(ticket), username, turfId, date,
+                LocalDateTime.now().plusSeconds(ttlSeconds)));
+        return ticket;
+    }
+
+    // Username the ticket was issued to, or empty when it is unknown, used, expired or for another stream
+    public Optional<String> redeem(String ticket, Long turfId, LocalDate date) {
+        String tokenHash = hash(ticket);
+        Optional<StreamTicket> issued = streamTicketRepository.findById(tokenHash);
+        if (issued.isEmpty() || !issued.get().getTurfId().equals(turfId) || !issued.get().getStreamDate().equals(date)) {
+            return Optional.empty();
+        }
+        // Deleting is the redemption, so two concurrent requests with one ticket cannot both win
+        if (streamTicketRepository.consume(tokenHash, LocalDateTime.now()) != 1) {
+            return Optional.empty();
+        }
+        return Optional.of(issued.get().getUsername());
+    }
+
+    @Scheduled(fixedDelayString = "${availability.stream.ticket-purge-ms:600000}")
+    public void purgeExpired() {
+        streamTicketRepository.deleteExpired(LocalDateTime.now());
+    }
+
+    private static String hash(String ticket) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            return HexFormat.of().formatHex(digest.digest(ticket.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not available", e);
+        }
+    }
+}
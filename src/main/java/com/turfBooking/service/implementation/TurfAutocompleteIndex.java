@@ -0,0 +1,199 @@
+package com.turfBooking.service.implementation;
+
+import com.turfBooking.dto.TurfSuggestionDTO;
+import com.turfBooking.enums.SportType;
+import com.turfBooking.event.BookingChangedEvent;
+import com.turfBooking.event.BookingSnapshot;
+import com.turfBooking.repository.TurfRepository;
+import com.turfBooking.service.interfaces.StatisticsService;
+import com.turfBooking.util.PrefixTrie;
+import com.turfBooking.util.SuggestionKeys;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * Type-ahead suggestions for the turf search box, answered from memory.
+ *
+ * Names and locations are normalized (lowercase, accents and punctuation removed) and every
+ * word-start suffix is stored in a prefix trie, so "are" finds "Green Arena". Each trie node
+ * keeps its most booked turfs, so a lookup is one walk and never touches the database.
+ *
+ * Built when the application is ready and rebuilt on the catalog schedule; turfs are reloaded
+ * after each committed change and re-scored from the statistics counters per booking event.
+ */
+@Component
+public class TurfAutocompleteIndex extends RebuildableTurfIndex<TurfAutocompleteIndex.Suggestions> {
+
+    private static final Logger log = LoggerFactory.getLogger(TurfAutocompleteIndex.class);
+
+    @Autowired
+    private TurfRepository turfRepository;
+
+    @Autowired
+    private StatisticsService statisticsService;
+
+    @Value("${turf.autocomplete.top-k:10}")
+    private int topK;
+
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+    private PrefixTrie trie;
+    private Map<Long, Entry> entries = new HashMap<>();
+
+    public int maxLimit() {
+        return topK;
+    }
+
+    // Most booked turfs whose name or location has a word starting with the query
+    public List<TurfSuggestionDTO> suggest(String query, int limit) {
+        String prefix = SuggestionKeys.normalize(query);
+        List<TurfSuggestionDTO> suggestions = new ArrayList<>();
+        if (prefix.isEmpty()) {
+            return suggestions;
+        }
+        lock.readLock().lock();
+        try {
+            for (long turfId : trie.top(prefix, limit)) {
+                Entry entry = entries.get(turfId);
+                suggestions.add(new TurfSuggestionDTO(turfId, entry.name, entry.location, entry.type,
+                        trie.score(turfId)));
+            }
+            return suggestions;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(fixedDelayString = "${turf-catalog.rebuild-interval-ms:300000}",
+            initialDelayString = "${turf-catalog.rebuild-interval-ms:300000}")
+    @Override
+    public void rebuild() {
+        super.rebuild();
+    }
+
+    @Override
+    protected Suggestions load() {
+        Suggestions rebuilt = new Suggestions(new PrefixTrie(topK), new HashMap<>());
+        for (Object[] row : turfRepository.findCatalogFields()) {
+            Entry entry = new Entry(row);
+            rebuilt.trie.put(entry.turfId, keys(entry), statisticsService.getBookingsCountByTurf(entry.turfId));
+            rebuilt.entries.put(entry.turfId, entry);
+        }
+        return rebuilt;
+    }
+
+    @Override
+    protected void install(Suggestions rebuilt) {
+        lock.writeLock().lock();
+        try {
+            trie = rebuilt.trie;
+            entries = rebuilt.entries;
+        } finally {
+            lock.writeLock().unlock();
+        }
+        log.info("Turf autocomplete index built with {} turfs", rebuilt.trie.size());
+    }
+
+    // Scores are copied from the statistics counters, which count every booking of a turf whatever its status
+    // and are updated before this listener runs. Copying rather than adding means a change seen by a rebuild's
+    // load is never counted twice, and one that only reached the old trie is replayed after the swap.
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onBookingChanged(BookingChangedEvent event) {
+        BookingSnapshot before = event.getBefore();
+        BookingSnapshot after = event.getAfter();
+        Long turfBefore = before != null ? before.getTurfId() : null;
+        Long turfAfter = after != null ? after.getTurfId() : null;
+        if (turfBefore != null && turfBefore.equals(turfAfter)) {
+            return;
+        }
+        if (turfBefore != null) {
+            noteChange(turfBefore);
+            rescore(turfBefore);
+        }
+        if (turfAfter != null) {
+            noteChange(turfAfter);
+            rescore(turfAfter);
+        }
+    }
+
+    private void rescore(Long turfId) {
+        lock.writeLock().lock();
+        try {
+            if (trie != null && trie.contains(turfId)) {
+                trie.setScore(turfId, statisticsService.getBookingsCountByTurf(turfId));
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @Override
+    protected void reload(Long turfId) {
+        List<Object[]> rows = turfRepository.findCatalogFieldsById(turfId);
+        lock.writeLock().lock();
+        try {
+            if (trie == null) {
+                return;
+            }
+            if (rows.isEmpty()) {
+                trie.remove(turfId);
+                entries.remove(turfId);
+                return;
+            }
+            Entry entry = new Entry(rows.get(0));
+            trie.put(turfId, keys(entry), statisticsService.getBookingsCountByTurf(turfId));
+            entries.put(turfId, entry);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    // Every word-start suffix of the normalized name and location
+    private static Set<String> keys(Entry entry) {
+        Set<String> keys = new LinkedHashSet<>();
+        SuggestionKeys.addSuffixes(keys, SuggestionKeys.normalize(entry.name));
+        SuggestionKeys.addSuffixes(keys, SuggestionKeys.normalize(entry.location));
+        return keys;
+    }
+
+    // A loaded trie and the entries it suggests, swapped in together
+    static class Suggestions {
+        private final PrefixTrie trie;
+        private final Map<Long, Entry> entries;
+
+        private Suggestions(PrefixTrie trie, Map<Long, Entry> entries) {
+            this.trie = trie;
+            this.entries = entries;
+        }
+    }
+
+    // Row of (id, name, location, type, pricePerSlot)
+    private static class Entry {
+        private final Long turfId;
+        private final String name;
+        private final String location;
+        private final SportType type;
+
+        private Entry(Object[] row) {
+            this.turfId = (Long) row[0];
+            this.name = (String) row[1];
+            this.location = (String) row[2];
+            this.type = (SportType) row[3];
+        }
+    }
+}
@@ -0,0 +1,372 @@
+package com.turfBooking.service.implementation;
+
+import com.turfBooking.enums.SportType;
+import com.turfBooking.repository.TurfRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.math.BigDecimal;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * Read-optimized copy of the searchable turf fields, so catalog searches never run
+ * {@code LIKE '%term%'} scans against MySQL.
+ *
+ * Each turf gets a dense document number. Names and locations are indexed as trigrams with
+ * sorted posting lists; sport types are bitmaps; prices are a sorted map of bitmaps.
+ * A query intersects the posting lists of its terms (smallest first), then checks the remaining
+ * documents against type, price and the exact substring, which keeps LIKE semantics.
+ *
+ * Built when the application is ready, updated per turf after each committed change and rebuilt
+ * on a schedule to pick up changes made by cascades or other nodes. Until the first build the
+ * turf service keeps using the database queries.
+ */
+@Component
+public class TurfCatalogIndex extends RebuildableTurfIndex<TurfCatalogIndex.Catalog> {
+
+    private static final Logger log = LoggerFactory.getLogger(TurfCatalogIndex.class);
+
+    private static final int GRAM = 3;
+
+    @Autowired
+    private TurfRepository turfRepository;
+
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+    private Catalog catalog = new Catalog();
+
+    /**
+     * Ids of turfs matching every given criterion, in ascending id order.
+     * Text terms match case-insensitively anywhere in the field; null criteria are ignored.
+     */
+    public List<Long> search(String name, String location, SportType type, BigDecimal minPrice, BigDecimal maxPrice) {
+        String nameTerm = normalize(name);
+        String locationTerm = normalize(location);
+
+        lock.readLock().lock();
+        try {
+            Catalog current = catalog;
+            List<Long> turfIds = new ArrayList<>();
+            Query query = new Query(nameTerm, locationTerm, type, minPrice, maxPrice);
+
+            int[] textMatches = current.textCandidates(nameTerm, locationTerm);
+            if (textMatches != null) {
+                for (int doc : textMatches) {
+                    current.collect(doc, query, turfIds);
+                }
+            } else {
+                BitSet docs = current.structuralCandidates(type, minPrice, maxPrice);
+                for (int doc = docs.nextSetBit(0); doc >= 0; doc = docs.nextSetBit(doc + 1)) {
+                    current.collect(doc, query, turfIds);
+                }
+            }
+            turfIds.sort(Comparator.naturalOrder());
+            return turfIds;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(fixedDelayString = "${turf-catalog.rebuild-interval-ms:300000}",
+            initialDelayString = "${turf-catalog.rebuild-interval-ms:300000}")
+    @Override
+    public void rebuild() {
+        super.rebuild();
+    }
+
+    @Override
+    protected Catalog load() {
+        Catalog rebuilt = new Catalog();
+        for (Object[] row : turfRepository.findCatalogFields()) {
+            rebuilt.put(new Entry(row));
+        }
+        return rebuilt;
+    }
+
+    @Override
+    protected void install(Catalog rebuilt) {
+        lock.writeLock().lock();
+        try {
+            catalog = rebuilt;
+        } finally {
+            lock.writeLock().unlock();
+        }
+        log.info("Turf catalog index built with {} turfs", rebuilt.size());
+    }
+
+    @Override
+    protected void reload(Long turfId) {
+        List<Object[]> rows = turfRepository.findCatalogFieldsById(turfId);
+        lock.writeLock().lock();
+        try {
+            catalog.remove(turfId);
+            if (!rows.isEmpty()) {
+                catalog.put(new Entry(rows.get(0)));
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    // Same matching as LOWER(x) LIKE LOWER('%term%'); empty terms match everything
+    static String normalize(String value) {
+        return value == null || value.isEmpty() ? null : value.toLowerCase(Locale.ROOT);
+    }
+
+    static class Catalog {
+        private final Map<Long, Integer> docByTurf = new HashMap<>();
+        private final List<Entry> entries = new ArrayList<>();
+        private final ArrayDeque<Integer> freeDocs = new ArrayDeque<>();
+        private final BitSet live = new BitSet();
+        private final Map<String, Postings> nameGrams = new HashMap<>();
+        private final Map<String, Postings> locationGrams = new HashMap<>();
+        private final EnumMap<SportType, BitSet> byType = new EnumMap<>(SportType.class);
+        private final TreeMap<BigDecimal, BitSet> byPrice = new TreeMap<>();
+
+        private int size() {
+            return docByTurf.size();
+        }
+
+        private void put(Entry entry) {
+            Integer reused = freeDocs.poll();
+            int doc = reused != null ? reused : entries.size();
+            if (reused != null) {
+                entries.set(doc, entry);
+            } else {
+                entries.add(entry);
+            }
+            docByTurf.put(entry.turfId, doc);
+            live.set(doc);
+            for (String gram : grams(entry.name)) {
+                nameGrams.computeIfAbsent(gram, g -> new Postings()).add(doc);
+            }
+            for (String gram : grams(entry.location)) {
+                locationGrams.computeIfAbsent(gram, g -> new Postings()).add(doc);
+            }
+            if (entry.type != null) {
+                byType.computeIfAbsent(entry.type, t -> new BitSet()).set(doc);
+            }
+            if (entry.price != null) {
+                byPrice.computeIfAbsent(entry.price, p -> new BitSet()).set(doc);
+            }
+        }
+
+        private void remove(Long turfId) {
+            Integer doc = docByTurf.remove(turfId);
+            if (doc == null) {
+                return;
+            }
+            Entry entry = entries.get(doc);
+            for (String gram : grams(entry.name)) {
+                removePosting(nameGrams, gram, doc);
+            }
+            for (String gram : grams(entry.location)) {
+                removePosting(locationGrams, gram, doc);
+            }
+            if (entry.type != null) {
+                byType.get(entry.type).clear(doc);
+            }
+            if (entry.price != null) {
+                BitSet docs = byPrice.get(entry.price);
+                docs.clear(doc);
+                if (docs.isEmpty()) {
+                    byPrice.remove(entry.price);
+                }
+            }
+            live.clear(doc);
+            entries.set(doc, null);
+            freeDocs.push(doc);
+        }
+
+        /**
+         * Intersection of the posting lists of every trigram in the text terms, or null when no term
+         * is long enough to have trigrams. An empty array means a trigram occurs in no turf.
+         */
+        private int[] textCandidates(String nameTerm, String locationTerm) {
+            List<Postings> lists = new ArrayList<>();
+            if (!addPostings(lists, nameGrams, nameTerm) || !addPostings(lists, locationGrams, locationTerm)) {
+                return new int[0];
+            }
+            if (lists.isEmpty()) {
+                return null;
+            }
+            lists.sort(Comparator.comparingInt(postings -> postings.size));
+            int[] result = Arrays.copyOf(lists.get(0).docs, lists.get(0).size);
+            int length = result.length;
+            for (int i = 1; i < lists.size() && length > 0; i++) {
+                length = intersect(result, length, lists.get(i));
+            }
+            return Arrays.copyOf(result, length);
+        }
+
+        // Documents narrowed by type bitmap or price range when there is no usable text term
+        private BitSet structuralCandidates(SportType type, BigDecimal minPrice, BigDecimal maxPrice) {
+            if (type != null) {
+                BitSet docs = byType.get(type);
+                return docs != null ? docs : new BitSet();
+            }
+            if (minPrice == null && maxPrice == null) {
+                return live;
+            }
+            Map<BigDecimal, BitSet> range;
+            if (minPrice != null && maxPrice != null) {
+                if (minPrice.compareTo(maxPrice) > 0) {
+                    return new BitSet();
+                }
+                range = byPrice.subMap(minPrice, true, maxPrice, true);
+            } else if (minPrice != null) {
+                range = byPrice.tailMap(minPrice, true);
+            } else {
+                range = byPrice.headMap(maxPrice, true);
+            }
+            BitSet docs = new BitSet();
+            for (BitSet priced : range.values()) {
+                docs.or(priced);
+            }
+            return docs;
+        }
+
+        private void collect(int doc, Query query, List<Long> turfIds) {
+            Entry entry = entries.get(doc);
+            if (entry != null && query.matches(entry)) {
+                turfIds.add(entry.turfId);
+            }
+        }
+
+        // False when a trigram of the term occurs nowhere, i.e. nothing can match
+        private static boolean addPostings(List<Postings> lists, Map<String, Postings> index, String term) {
+            for (String gram : grams(term)) {
+                Postings postings = index.get(gram);
+                if (postings == null) {
+                    return false;
+                }
+                lists.add(postings);
+            }
+            return true;
+        }
+
+        // Keeps the first 'length' values of 'docs' that also occur in 'other'; returns the new length
+        private static int intersect(int[] docs, int length, Postings other) {
+            int kept = 0;
+            int j = 0;
+            for (int i = 0; i < length && j < other.size; i++) {
+                while (j < other.size && other.docs[j] < docs[i]) {
+                    j++;
+                }
+                if (j < other.size && other.docs[j] == docs[i]) {
+                    docs[kept++] = docs[i];
+                }
+            }
+            return kept;
+        }
+
+        private static void removePosting(Map<String, Postings> index, String gram, int doc) {
+            Postings postings = index.get(gram);
+            if (postings != null && postings.remove(doc) && postings.size == 0) {
+                index.remove(gram);
+            }
+        }
+    }
+
+    // Distinct trigrams of a normalized value; none for values shorter than a trigram
+    private static Set<String> grams(String value) {
+        if (value == null || value.length() < GRAM) {
+            return Set.of();
+        }
+        Set<String> grams = new LinkedHashSet<>();
+        for (int i = 0; i + GRAM <= value.length(); i++) {
+            grams.add(value.substring(i, i + GRAM));
+        }
+        return grams;
+    }
+
+    // Sorted, growable list of document numbers
+    private static class Postings {
+        private int[] docs = new int[4];
+        private int size;
+
+        private void add(int doc) {
+            int at = Arrays.binarySearch(docs, 0, size, doc);
+            if (at >= 0) {
+                return;
+            }
+            at = -at - 1;
+            if (size == docs.length) {
+                docs = Arrays.copyOf(docs, size * 2);
+            }
+            System.arraycopy(docs, at, docs, at + 1, size - at);
+            docs[at] = doc;
+            size++;
+        }
+
+        private boolean remove(int doc) {
+            int at = Arrays.binarySearch(docs, 0, size, doc);
+            if (at < 0) {
+                return false;
+            }
+            System.arraycopy(docs, at + 1, docs, at, size - at - 1);
+            size--;
+            return true;
+        }
+    }
+
+    private static class Entry {
+        private final Long turfId;
+        private final String name;
+        private final String location;
+        private final SportType type;
+        private final BigDecimal price;
+
+        // Row of (id, name, location, type, pricePerSlot)
+        private Entry(Object[] row) {
+            this.turfId = (Long) row[0];
+            this.name = normalize((String) row[1]);
+            this.location = normalize((String) row[2]);
+            this.type = (SportType) row[3];
+            this.price = (BigDecimal) row[4];
+        }
+    }
+
+    private static class Query {
+        private final String name;
+        private final String location;
+        private final SportType type;
+        private final BigDecimal minPrice;
+        private final BigDecimal maxPrice;
+
+        private Query(String name, String location, SportType type, BigDecimal minPrice, BigDecimal maxPrice) {
+            this.name = name;
+            this.location = location;
+            this.type = type;
+            this.minPrice = minPrice;
+            this.maxPrice = maxPrice;
+        }
+
+        // Trigrams only narrow the candidates; the substring check decides
+        private boolean matches(Entry entry) {
+            return (name == null || (entry.name != null && entry.name.contains(name)))
+                    && (location == null || (entry.location != null && entry.location.contains(location)))
+                    && (type == null || type == entry.type)
+                    && (minPrice == null || (entry.price != null && entry.price.compareTo(minPrice) >= 0))
+                    && (maxPrice == null || (entry.price != null && entry.price.compareTo(maxPrice) <= 0));
+        }
+    }
+}
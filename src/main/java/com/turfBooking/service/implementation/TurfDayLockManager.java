@@ -0,0 +1,131 @@
+package com.turfBooking.service.implementation;
+
+import com.turfBooking.exception.SlotContendedException;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.TreeSet;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Serializes writers that touch the same (turf, day) inside this JVM.
+ * Each turf-day gets its own lock, created on demand and dropped once nobody holds or
+ * waits for it, so writers for different turf-days never block each other.
+ * Locks are held until the surrounding transaction completes, so the next writer only
+ * runs its availability check after the previous booking has been committed.
+ */
+@Component
+public class TurfDayLockManager {
+
+    private final ConcurrentHashMap<Long, KeyLock> locks = new ConcurrentHashMap<>();
+    private final Timer acquiredTimer;
+    private final Timer timedOutTimer;
+
+    @Value("${booking.lock.timeout-ms:2000}")
+    private long timeoutMs;
+
+    public TurfDayLockManager(MeterRegistry meterRegistry) {
+        this.acquiredTimer = Timer.builder("booking.turfday.lock.wait")
+                .description("Time spent waiting for a turf-day write lock")
+                .tag("outcome", "acquired")
+                .register(meterRegistry);
+        this.timedOutTimer = Timer.builder("booking.turfday.lock.wait")
+                .description("Time spent waiting for a turf-day write lock")
+                .tag("outcome", "timeout")
+                .register(meterRegistry);
+        Gauge.builder("booking.turfday.lock.active", locks, ConcurrentHashMap::size)
+                .description("Turf-day locks currently held or awaited")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Locks the given days of a turf until the current transaction commits or rolls back.
+     * Days are locked in ascending order so two writers locking several days cannot deadlock.
+     */
+    public void lockUntilCompletion(Long turfId, LocalDate... dates) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            throw new IllegalStateException("Turf-day locks require an active transaction");
+        }
+
+        TreeSet<Long> keys = new TreeSet<>();
+        for (LocalDate date : dates) {
+            if (date != null) {
+                keys.add(key(turfId, date));
+            }
+        }
+
+        List<Long> acquired = new ArrayList<>();
+        try {
+            for (Long key : keys) {
+                acquire(key);
+                acquired.add(key);
+            }
+        } catch (RuntimeException e) {
+            acquired.forEach(this::release);
+            throw e;
+        }
+
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                acquired.forEach(TurfDayLockManager.this::release);
+            }
+        });
+    }
+
+    private void acquire(long key) {
+        KeyLock keyLock = locks.compute(key, (k, current) -> {
+            KeyLock lock = current != null ? current : new KeyLock();
+            lock.references++;
+            return lock;
+        });
+
+        long start = System.nanoTime();
+        boolean locked = false;
+        try {
+            locked = keyLock.lock.tryLock(timeoutMs, TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        long waited = System.nanoTime() - start;
+
+        if (!locked) {
+            dereference(key);
+            timedOutTimer.record(waited, TimeUnit.NANOSECONDS);
+            throw new SlotContendedException("Slot is being booked by another request, please retry");
+        }
+        acquiredTimer.record(waited, TimeUnit.NANOSECONDS);
+    }
+
+    private void release(long key) {
+        KeyLock keyLock = locks.get(key);
+        if (keyLock != null && keyLock.lock.isHeldByCurrentThread()) {
+            keyLock.lock.unlock();
+            dereference(key);
+        }
+    }
+
+    private void dereference(long key) {
+        locks.computeIfPresent(key, (k, lock) -> --lock.references == 0 ? null : lock);
+    }
+
+    // Turf id in the high bits, epoch day in the low 24 bits
+    private static long key(Long turfId, LocalDate date) {
+        return (turfId << 24) | (date.toEpochDay() & 0xFFFFFFL);
+    }
+
+    private static class KeyLock {
+        private final ReentrantLock lock = new ReentrantLock();
+        private int references;
+    }
+}
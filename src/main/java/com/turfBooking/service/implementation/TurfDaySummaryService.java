@@ -0,0 +1,245 @@
+package com.turfBooking.service.implementation;
+
+import com.turfBooking.entity.Turf;
+import com.turfBooking.entity.TurfDaySummary;
+import com.turfBooking.event.BlockedSlotChangedEvent;
+import com.turfBooking.event.BlockedSlotRuleChangedEvent;
+import com.turfBooking.event.BlockedSlotSnapshot;
+import com.turfBooking.event.BlockedSlotsCreatedEvent;
+import com.turfBooking.event.BookingChangedEvent;
+import com.turfBooking.event.BookingSnapshot;
+import com.turfBooking.repository.TurfDaySummaryRepository;
+import com.turfBooking.repository.TurfRepository;
+import com.turfBooking.util.BusyIntervals;
+import com.turfBooking.util.SlotSweeper;
+import jakarta.annotation.PostConstruct;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.TreeSet;
+
+/**
+ * Maintains turf_day_summary rows. Booking and blocked slot events are handled after the writing
+ * transaction commits, each turf-day (or each turf of a bulk request) in its own short transaction,
+ * so a write never pays for the recomputation. Rows are written with an upsert, so live refreshes and the rebuild job never collide
+ * on the unique key; a failed refresh leaves the drift for the rebuild job to correct.
+ * Recurring blocked-slot rules are folded into every row, and into {@link #emptyDay} for days without one.
+ */
+@Service
+@Transactional
+public class TurfDaySummaryService {
+
+    private static final Logger log = LoggerFactory.getLogger(TurfDaySummaryService.class);
+
+    @Autowired
+    private TurfDaySummaryRepository summaryRepository;
+
+    @Autowired
+    private TurfRepository turfRepository;
+
+    @Autowired
+    private BusyIntervalReader busyIntervalReader;
+
+    @Autowired
+    private BlockedSlotRuleCache blockedSlotRuleCache;
+
+    @Autowired
+    private TurfDayLockManager turfDayLockManager;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private TransactionTemplate perTurfTransaction;
+
+    @PostConstruct
+    public void init() {
+        perTurfTransaction = new TransactionTemplate(transactionManager);
+        // Listeners run while the writer's transaction is finishing, so they need one of their own
+        perTurfTransaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public void onBookingChanged(BookingChangedEvent event) {
+        BookingSnapshot before = event.getBefore();
+        BookingSnapshot after = event.getAfter();
+
+        if (before != null) {
+            refreshAfterCommit(before.getTurfId(), before.getBookingDate());
+        }
+        if (after != null && (before == null || !Objects.equals(before.getTurfId(), after.getTurfId())
+                || !Objects.equals(before.getBookingDate(), after.getBookingDate()))) {
+            refreshAfterCommit(after.getTurfId(), after.getBookingDate());
+        }
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public void onBlockedSlotChanged(BlockedSlotChangedEvent event) {
+        BlockedSlotSnapshot before = event.getBefore();
+        BlockedSlotSnapshot after = event.getAfter();
+
+        if (before != null) {
+            refreshAfterCommit(before.getTurfId(), before.getBlockedDate());
+        }
+        if (after != null && (before == null || !Objects.equals(before.getTurfId(), after.getTurfId())
+                || !Objects.equals(before.getBlockedDate(), after.getBlockedDate()))) {
+            refreshAfterCommit(after.getTurfId(), after.getBlockedDate());
+        }
+    }
+
+    // A bulk request refreshes each turf's days with one read of the whole range
+    @TransactionalEventListener(fallbackExecution = true)
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public void onBlockedSlotsCreated(BlockedSlotsCreatedEvent event) {
+        TreeSet<LocalDate> dates = new TreeSet<>();
+        for (BlockedSlotSnapshot slot : event.getBlockedSlots().values()) {
+            dates.add(slot.getBlockedDate());
+        }
+        try {
+            perTurfTransaction.executeWithoutResult(status -> refresh(event.getTurfId(), dates));
+        } catch (RuntimeException e) {
+            log.warn("Could not refresh summaries of turf {} from {} to {}: {}", event.getTurfId(),
+                    event.getFromDate(), event.getToDate(), e.getMessage());
+        }
+    }
+
+    // Runs after the rule committed and the rule cache was refreshed, so the summaries include the change
+    @TransactionalEventListener(fallbackExecution = true)
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public void onRuleChanged(BlockedSlotRuleChangedEvent event) {
+        try {
+            perTurfTransaction.executeWithoutResult(status ->
+                    turfRepository.findById(event.getTurfId()).ifPresent(turf -> refreshFrom(turf, LocalDate.now())));
+        } catch (RuntimeException e) {
+            log.warn("Could not refresh summaries of turf {}: {}", event.getTurfId(), e.getMessage());
+        }
+    }
+
+    // Recompute one turf-day from its CONFIRMED bookings, blocked slots and rules
+    public void refresh(Long turfId, LocalDate date) {
+        refresh(turfId, new TreeSet<>(List.of(date)));
+    }
+
+    // Recompute several days of a turf with one range read
+    public void refresh(Long turfId, TreeSet<LocalDate> dates) {
+        Turf turf = turfRepository.findById(turfId).orElse(null);
+        if (turf == null || dates.isEmpty()) {
+            return;
+        }
+        // Two refreshes of one day in this JVM run one after the other, so an older result never lands last
+        turfDayLockManager.lockUntilCompletion(turfId, dates.toArray(new LocalDate[0]));
+        BusyIntervals busy = busyIntervalReader.busyIntervals(List.of(turfId), dates.first(), dates.last());
+
+        for (LocalDate date : dates) {
+            TurfDaySummary summary = new TurfDaySummary(turfId, date);
+            fill(summary, turf, busy.booked(turfId, date), busy.blocked(turfId, date));
+            upsert(summary);
+        }
+    }
+
+    // Recompute every summary of a turf from a day onward (rebuild, operating hours change)
+    public void refreshFrom(Turf turf, LocalDate from) {
+        BusyIntervals busy = busyIntervalReader.busyIntervalsFrom(turf.getId(), from);
+
+        // Days whose reservations are all gone are overwritten with their empty values rather than deleted,
+        // so a booking committed in the meantime never loses the row its own refresh just wrote
+        TreeSet<LocalDate> dates = busy.reservedDates(turf.getId());
+        for (TurfDaySummary summary : summaryRepository.findByTurfIdAndSummaryDateGreaterThanEqual(turf.getId(), from)) {
+            dates.add(summary.getSummaryDate());
+        }
+
+        for (LocalDate date : dates) {
+            TurfDaySummary summary = new TurfDaySummary(turf.getId(), date);
+            fill(summary, turf, busy.booked(turf.getId(), date), busy.blocked(turf.getId(), date));
+            upsert(summary);
+        }
+    }
+
+    public void deleteForTurf(Long turfId) {
+        summaryRepository.deleteByTurfId(turfId);
+    }
+
+    // Free capacity of a turf-day with no row: the operating window minus any rules
+    @Transactional(readOnly = true)
+    public TurfDaySummary emptyDay(Turf turf, LocalDate date) {
+        TurfDaySummary summary = new TurfDaySummary(turf.getId(), date);
+        fill(summary, turf, List.of(), blockedSlotRuleCache.intervals(turf.getId(), date));
+        return summary;
+    }
+
+    // Back-fill on the first start after the table was introduced
+    @EventListener(ApplicationReadyEvent.class)
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public void backfillIfEmpty() {
+        if (summaryRepository.count() == 0) {
+            rebuild();
+        }
+    }
+
+    // One transaction per turf so a large catalog never holds one long transaction
+    @Scheduled(cron = "${turf-summary.rebuild-cron:0 15 4 * * *}")
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public void rebuild() {
+        LocalDate today = LocalDate.now();
+        List<Long> turfIds = turfRepository.findTurfOwnersAndTypes().stream().map(row -> (Long) row[0]).toList();
+        for (Long turfId : turfIds) {
+            perTurfTransaction.executeWithoutResult(status ->
+                    turfRepository.findById(turfId).ifPresent(turf -> refreshFrom(turf, today)));
+        }
+        int purged = perTurfTransaction.execute(status -> summaryRepository.deleteSummariesBefore(today));
+        log.info("Rebuilt turf-day summaries for {} turfs, purged {} past rows", turfIds.size(), purged);
+    }
+
+    // Runs once the writer committed; a failure only leaves the row for the rebuild job to correct
+    private void refreshAfterCommit(Long turfId, LocalDate date) {
+        try {
+            perTurfTransaction.executeWithoutResult(status -> refresh(turfId, date));
+        } catch (RuntimeException e) {
+            log.warn("Could not refresh summary of turf {} on {}: {}", turfId, date, e.getMessage());
+        }
+    }
+
+    private void upsert(TurfDaySummary summary) {
+        summaryRepository.upsert(summary.getTurfId(), summary.getSummaryDate(), summary.getFreeMinutes(),
+                summary.getFirstFreeSlot(), summary.getLongestFreeRun(), summary.getBookedMinutes());
+    }
+
+    private static void fill(TurfDaySummary summary, Turf turf, List<int[]> booked, List<int[]> blocked) {
+        List<int[]> busy = new ArrayList<>(booked.size() + blocked.size());
+        busy.addAll(booked);
+        busy.addAll(blocked);
+
+        int freeMinutes = 0;
+        int longestFreeRun = 0;
+        for (int[] run : SlotSweeper.freeRuns(turf.getOperatingStartTime(), turf.getOperatingEndTime(), busy)) {
+            freeMinutes += run[1] - run[0];
+            longestFreeRun = Math.max(longestFreeRun, run[1] - run[0]);
+        }
+        int slotMinutes = turf.getSlotDurationMinutes() != null
+                ? turf.getSlotDurationMinutes() : SlotSweeper.DEFAULT_SLOT_MINUTES;
+        List<LocalTime> slots = SlotSweeper.freeSlots(turf.getOperatingStartTime(), turf.getOperatingEndTime(),
+                slotMinutes, busy);
+
+        summary.setFreeMinutes(freeMinutes);
+        summary.setLongestFreeRun(longestFreeRun);
+        summary.setFirstFreeSlot(slots.isEmpty() ? null : slots.get(0));
+        summary.setBookedMinutes(SlotSweeper.coveredMinutes(booked));
+    }
+}
@@ -0,0 +1,131 @@
+package com.turfBooking.service.implementation;
+
+import com.turfBooking.entity.Turf;
+import com.turfBooking.enums.SportType;
+import com.turfBooking.repository.TurfRepository;
+import com.turfBooking.util.GeoGrid;
+import jakarta.annotation.PostConstruct;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+/**
+ * In-memory spatial index of every turf with coordinates, bucketed into geohash cells
+ * (the same cells as prefixes of the turfs.geohash column). Maintained like the catalog index:
+ * built when the application is ready and rebuilt on a schedule; see {@link RebuildableTurfIndex}.
+ */
+@Component
+public class TurfGeoIndex extends RebuildableTurfIndex<GeoGrid<TurfGeoIndex.Entry>> {
+
+    private static final Logger log = LoggerFactory.getLogger(TurfGeoIndex.class);
+
+    @Autowired
+    private TurfRepository turfRepository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    // Precision 5 cells are roughly 4.9 km x 4.9 km at the equator
+    @Value("${turf.nearby.cell-precision:5}")
+    private int cellPrecision;
+
+    @Value("${turf.nearby.max-rings:64}")
+    private int maxRings;
+
+    private TransactionTemplate transaction;
+    private GeoGrid<Entry> grid;
+
+    @PostConstruct
+    public void init() {
+        transaction = new TransactionTemplate(transactionManager);
+        grid = new GeoGrid<>(cellPrecision, maxRings);
+    }
+
+    // Fill the geohash column of turfs located before it existed, then build the index
+    @EventListener(ApplicationReadyEvent.class)
+    public void backfillAndBuild() {
+        int filled = transaction.execute(status -> {
+            List<Turf> turfs = turfRepository.findByGeohashIsNullAndLatitudeIsNotNullAndLongitudeIsNotNull();
+            turfs.forEach(Turf::syncGeohash);
+            return turfs.size();
+        });
+        if (filled > 0) {
+            log.info("Back-filled geohash for {} turfs", filled);
+        }
+        rebuild();
+    }
+
+    /**
+     * Up to {@code limit} turfs within {@code radiusKm}, closest first, optionally restricted
+     * to a sport type and price range.
+     */
+    public List<GeoGrid.Hit<Entry>> nearest(double latitude, double longitude, double radiusKm, int limit,
+                                            SportType type, BigDecimal minPrice, BigDecimal maxPrice) {
+        synchronized (this) {
+            return grid.nearest(latitude, longitude, radiusKm, limit, entry ->
+                    (type == null || type == entry.type)
+                            && (minPrice == null || entry.price.compareTo(minPrice) >= 0)
+                            && (maxPrice == null || entry.price.compareTo(maxPrice) <= 0));
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${turf-catalog.rebuild-interval-ms:300000}",
+            initialDelayString = "${turf-catalog.rebuild-interval-ms:300000}")
+    @Override
+    public void rebuild() {
+        super.rebuild();
+    }
+
+    @Override
+    protected GeoGrid<Entry> load() {
+        GeoGrid<Entry> rebuilt = new GeoGrid<>(cellPrecision, maxRings);
+        for (Object[] row : turfRepository.findGeoFields()) {
+            put(rebuilt, row);
+        }
+        return rebuilt;
+    }
+
+    @Override
+    protected void install(GeoGrid<Entry> rebuilt) {
+        synchronized (this) {
+            grid = rebuilt;
+        }
+        log.info("Turf geo index built with {} located turfs", rebuilt.size());
+    }
+
+    @Override
+    protected void reload(Long turfId) {
+        List<Object[]> rows = turfRepository.findGeoFieldsById(turfId);
+        synchronized (this) {
+            grid.remove(turfId);
+            if (!rows.isEmpty()) {
+                put(grid, rows.get(0));
+            }
+        }
+    }
+
+    // Row of (id, latitude, longitude, type, pricePerSlot)
+    private static void put(GeoGrid<Entry> grid, Object[] row) {
+        grid.put((Long) row[0], (Double) row[1], (Double) row[2], new Entry((SportType) row[3], (BigDecimal) row[4]));
+    }
+
+    public static class Entry {
+        private final SportType type;
+        private final BigDecimal price;
+
+        private Entry(SportType type, BigDecimal price) {
+            this.type = type;
+            this.price = price;
+        }
+    }
+}
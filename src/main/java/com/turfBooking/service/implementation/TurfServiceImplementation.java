@@ -1,28 +1,54 @@
 package com.turfBooking.service.implementation;
 
+import com.turfBooking.config.Coalesced;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.turfBooking.dto.DayAvailabilityDTO;
+import com.turfBooking.dto.FreeSlotDTO;
+import com.turfBooking.dto.TurfDetailDTO;
 import com.turfBooking.dto.TurfRequestDTO;
 import com.turfBooking.dto.TurfResponseDTO;
+import com.turfBooking.dto.PageResponseDTO;
 import com.turfBooking.dto.TurfUpdateDTO;
 import com.turfBooking.dto.TurfSearchDTO;
+import com.turfBooking.dto.TurfSuggestionDTO;
+import com.turfBooking.dto.TimeWindowDTO;
 import com.turfBooking.entity.Turf;
 import com.turfBooking.entity.User;
-import com.turfBooking.entity.Booking;
-import com.turfBooking.entity.BlockedSlot;
 import com.turfBooking.entity.TurfImage;
+import com.turfBooking.entity.TurfDaySummary;
 import com.turfBooking.enums.SportType;
+import com.turfBooking.event.TurfChangedEvent;
+import com.turfBooking.exception.IndexNotReadyException;
+import com.turfBooking.exception.TurfNotFoundException;
 import com.turfBooking.repository.TurfRepository;
 import com.turfBooking.repository.UserRepository;
 import com.turfBooking.repository.TurfImageRepository;
+import com.turfBooking.repository.TurfDaySummaryRepository;
+import com.turfBooking.repository.BlockedSlotRepository;
+import com.turfBooking.service.interfaces.StatisticsService;
 import com.turfBooking.service.interfaces.TurfService;
+import com.turfBooking.util.BusyIntervals;
+import com.turfBooking.util.BookingPrice;
+import com.turfBooking.util.DayOccupancy;
+import com.turfBooking.util.GeoGrid;
+import com.turfBooking.util.GeoHash;
+import com.turfBooking.util.PageCursor;
+import com.turfBooking.util.SlotSweeper;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.util.DigestUtils;
 
 import java.math.BigDecimal;
 import java.time.LocalDate;
 import java.time.LocalTime;
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.stream.Collectors;
 
 @Service
@@ -38,6 +64,72 @@ public class TurfServiceImplementation implements TurfService {
     @Autowired
     private TurfImageRepository turfImageRepository;
 
+    @Autowired
+    private SlotOccupancyIndex slotOccupancyIndex;
+
+    @Autowired
+    private SlotClaimService slotClaimService;
+
+    @Autowired
+    private TurfDaySummaryService turfDaySummaryService;
+
+    @Autowired
+    private TurfDaySummaryRepository turfDaySummaryRepository;
+
+    @Autowired
+    private BusyIntervalReader busyIntervalReader;
+
+    @Autowired
+    private BlockedSlotRepository blockedSlotRepository;
+
+    @Autowired
+    private BlockedSlotRuleCache blockedSlotRuleCache;
+
+    @Autowired
+    private TurfCatalogIndex turfCatalogIndex;
+
+    @Autowired
+    private TurfGeoIndex turfGeoIndex;
+
+    @Autowired
+    private TurfAutocompleteIndex turfAutocompleteIndex;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Value("${turf.detail.max-days:14}")
+    private int detailMaxDays;
+
+    @Value("${turf.next-free.horizon-days:60}")
+    private int nextFreeHorizonDays;
+
+    @Value("${turf.next-free.chunk-days:7}")
+    private int nextFreeChunkDays;
+
+    @Value("${turf.next-free.max-count:50}")
+    private int nextFreeMaxCount;
+
+    @Value("${turf.autocomplete.default-limit:8}")
+    private int autocompleteDefaultLimit;
+
+    @Value("${turf.nearby.default-radius-km:10}")
+    private double nearbyDefaultRadiusKm;
+
+    @Value("${turf.nearby.max-radius-km:100}")
+    private double nearbyMaxRadiusKm;
+
+    @Value("${turf.nearby.default-limit:20}")
+    private int nearbyDefaultLimit;
+
+    @Value("${turf.nearby.max-limit:100}")
+    private int nearbyMaxLimit;
+
+    @Autowired
+    private StatisticsService statisticsService;
+
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+
     @Override
     public TurfResponseDTO createTurf(TurfRequestDTO turfRequestDTO) {
         // Validate owner exists
@@ -48,6 +140,8 @@ public class TurfServiceImplementation implements TurfService {
         if (!validateOperatingHours(turfRequestDTO.getOperatingStartTime(), turfRequestDTO.getOperatingEndTime())) {
             throw new RuntimeException("Invalid operating hours: start time must be before end time");
         }
+        // Generated slots start at the opening time, so it must sit on the claim grid
+        slotClaimService.requireOnGrid(turfRequestDTO.getOperatingStartTime(), turfRequestDTO.getOperatingEndTime());
 
         // Check if turf name already exists for this owner
         if (turfNameExistsForOwner(turfRequestDTO.getName(), turfRequestDTO.getOwnerId())) {
@@ -64,21 +158,26 @@ public class TurfServiceImplementation implements TurfService {
         turf.setDescription(turfRequestDTO.getDescription());
         turf.setOperatingStartTime(turfRequestDTO.getOperatingStartTime());
         turf.setOperatingEndTime(turfRequestDTO.getOperatingEndTime());
+        turf.setSlotDurationMinutes(validSlotLength(turfRequestDTO.getSlotDurationMinutes()));
         turf.setOwner(owner);
+        setCoordinates(turf, turfRequestDTO.getLatitude(), turfRequestDTO.getLongitude());
 
         // Save turf first
         Turf savedTurf = turfRepository.save(turf);
+        eventPublisher.publishEvent(new TurfChangedEvent(savedTurf.getId(), owner.getId(), null, savedTurf.getType()));
 
         // Handle images - ADD THIS BLOCK
         if (turfRequestDTO.getImageUrls() != null && !turfRequestDTO.getImageUrls().isEmpty()) {
+            List<TurfImage> images = new ArrayList<>();
             for (int i = 0; i < turfRequestDTO.getImageUrls().size(); i++) {
                 TurfImage image = new TurfImage();
                 image.setImageUrl(turfRequestDTO.getImageUrls().get(i));
                 image.setImageName("Image " + (i + 1));
                 image.setPrimary(i == 0); // First image is primary
                 image.setTurf(savedTurf);
-                turfImageRepository.save(image);
+                images.add(image);
             }
+            turfImageRepository.saveAll(images);
 
             // Refresh the turf to get the images
             savedTurf = turfRepository.findById(savedTurf.getId()).orElse(savedTurf);
@@ -87,11 +186,13 @@ public class TurfServiceImplementation implements TurfService {
         return convertToDetailedResponseDTO(savedTurf);
     }
 
+    // A primary-key read; waiting longer means the shared query is stuck, not slow
     @Override
+    @Coalesced(timeoutMs = 1000)
     @Transactional(readOnly = true)
     public TurfResponseDTO getTurfById(Long id) {
         Turf turf = turfRepository.findById(id)
-                .orElseThrow(() -> new RuntimeException("Turf not found with id: " + id));
+                .orElseThrow(() -> new TurfNotFoundException(id));
 
         return convertToDetailedResponseDTO(turf);
     }
@@ -105,10 +206,21 @@ public class TurfServiceImplementation implements TurfService {
                 .collect(Collectors.toList());
     }
 
+    @Override
+    @Transactional(readOnly = true)
+    public PageResponseDTO<TurfResponseDTO> getTurfsPage(String cursor, Integer size) {
+        int pageSize = PageCursor.pageSize(size);
+        long afterId = PageCursor.afterId(cursor);
+
+        List<Turf> rows = turfRepository.findByIdGreaterThanOrderByIdAsc(afterId, PageCursor.probe(pageSize));
+        return PageCursor.page(rows, pageSize, this::convertToDetailedResponseDTO, row -> new Object[]{row.getId()});
+    }
+
     @Override
     public TurfResponseDTO updateTurf(Long id, TurfUpdateDTO turfUpdateDTO) {
         Turf turf = turfRepository.findById(id)
-                .orElseThrow(() -> new RuntimeException("Turf not found with id: " + id));
+                .orElseThrow(() -> new TurfNotFoundException(id));
+        SportType typeBefore = turf.getType();
 
         // Update only non-null fields
         if (turfUpdateDTO.getName() != null && !turfUpdateDTO.getName().trim().isEmpty()) {
@@ -157,6 +269,23 @@ public class TurfServiceImplementation implements TurfService {
             }
             turf.setOperatingEndTime(turfUpdateDTO.getOperatingEndTime());
         }
+        if (turfUpdateDTO.getOperatingStartTime() != null || turfUpdateDTO.getOperatingEndTime() != null) {
+            slotClaimService.requireOnGrid(turf.getOperatingStartTime(), turf.getOperatingEndTime());
+        }
+
+        if (turfUpdateDTO.getSlotDurationMinutes() != null) {
+            turf.setSlotDurationMinutes(validSlotLength(turfUpdateDTO.getSlotDurationMinutes()));
+        }
+
+        if (turfUpdateDTO.getLatitude() != null || turfUpdateDTO.getLongitude() != null) {
+            setCoordinates(turf, turfUpdateDTO.getLatitude(), turfUpdateDTO.getLongitude());
+        }
+
+        // Free capacity depends on operating hours and slot length
+        if (turfUpdateDTO.getOperatingStartTime() != null || turfUpdateDTO.getOperatingEndTime() != null
+                || turfUpdateDTO.getSlotDurationMinutes() != null) {
+            turfDaySummaryService.refreshFrom(turf, LocalDate.now());
+        }
 
         // Handle image updates - ADD THIS BLOCK
         if (turfUpdateDTO.getImageUrls() != null) {
@@ -164,17 +293,20 @@ public class TurfServiceImplementation implements TurfService {
             turfImageRepository.deleteByTurfId(id);
 
             // Add new images
+            List<TurfImage> images = new ArrayList<>();
             for (int i = 0; i < turfUpdateDTO.getImageUrls().size(); i++) {
                 TurfImage image = new TurfImage();
                 image.setImageUrl(turfUpdateDTO.getImageUrls().get(i));
                 image.setImageName("Image " + (i + 1));
                 image.setPrimary(i == 0);
                 image.setTurf(turf);
-                turfImageRepository.save(image);
+                images.add(image);
             }
+            turfImageRepository.saveAll(images);
         }
 
         Turf updatedTurf = turfRepository.save(turf);
+        eventPublisher.publishEvent(new TurfChangedEvent(id, turf.getOwner().getId(), typeBefore, turf.getType()));
         // Refresh to get updated images
         updatedTurf = turfRepository.findById(updatedTurf.getId()).orElse(updatedTurf);
 
@@ -183,11 +315,15 @@ public class TurfServiceImplementation implements TurfService {
 
     @Override
     public void deleteTurf(Long id) {
-        if (!turfRepository.existsById(id)) {
-            throw new RuntimeException("Turf not found with id: " + id);
-        }
-        // Images will be deleted automatically due to cascade
+        Turf turf = turfRepository.findById(id)
+                .orElseThrow(() -> new TurfNotFoundException(id));
+        // Images, bookings, blocked slots and rules are deleted by cascade; claims are plain rows
+        slotClaimService.releaseForTurf(id);
+        turfDaySummaryService.deleteForTurf(id);
         turfRepository.deleteById(id);
+        slotOccupancyIndex.evictTurf(id);
+        blockedSlotRuleCache.evict(id);
+        eventPublisher.publishEvent(new TurfChangedEvent(id, turf.getOwner().getId(), turf.getType(), null));
     }
 
     @Override
@@ -202,6 +338,9 @@ public class TurfServiceImplementation implements TurfService {
     @Override
     @Transactional(readOnly = true)
     public List<TurfResponseDTO> getTurfsBySportType(SportType type) {
+        if (turfCatalogIndex.isReady()) {
+            return convertToResponseDTOs(findIndexed(turfCatalogIndex.search(null, null, type, null, null)));
+        }
         return turfRepository.findByType(type)
                 .stream()
                 .map(this::convertToDetailedResponseDTO) // Changed
@@ -211,6 +350,9 @@ public class TurfServiceImplementation implements TurfService {
     @Override
     @Transactional(readOnly = true)
     public List<TurfResponseDTO> searchTurfsByLocation(String location) {
+        if (turfCatalogIndex.isReady()) {
+            return convertToResponseDTOs(findIndexed(turfCatalogIndex.search(null, location, null, null, null)));
+        }
         return turfRepository.findByLocationContainingIgnoreCase(location)
                 .stream()
                 .map(this::convertToDetailedResponseDTO) // Changed
@@ -220,6 +362,9 @@ public class TurfServiceImplementation implements TurfService {
     @Override
     @Transactional(readOnly = true)
     public List<TurfResponseDTO> searchTurfsByName(String name) {
+        if (turfCatalogIndex.isReady()) {
+            return convertToResponseDTOs(findIndexed(turfCatalogIndex.search(name, null, null, null, null)));
+        }
         return turfRepository.findByNameContainingIgnoreCase(name)
                 .stream()
                 .map(this::convertToDetailedResponseDTO) // Changed
@@ -229,6 +374,9 @@ public class TurfServiceImplementation implements TurfService {
     @Override
     @Transactional(readOnly = true)
     public List<TurfResponseDTO> getTurfsByPriceRange(BigDecimal minPrice, BigDecimal maxPrice) {
+        if (turfCatalogIndex.isReady()) {
+            return convertToResponseDTOs(findIndexed(turfCatalogIndex.search(null, null, null, minPrice, maxPrice)));
+        }
         return turfRepository.findByPricePerSlotBetween(minPrice, maxPrice)
                 .stream()
                 .map(this::convertToDetailedResponseDTO) // Changed
@@ -238,74 +386,342 @@ public class TurfServiceImplementation implements TurfService {
     @Override
     @Transactional(readOnly = true)
     public List<TurfResponseDTO> searchTurfs(TurfSearchDTO searchDTO) {
-        return turfRepository.searchTurfs(
-                        searchDTO.getName(),
-                        searchDTO.getLocation(),
-                        searchDTO.getType(),
-                        searchDTO.getMinPrice(),
-                        searchDTO.getMaxPrice()
-                ).stream()
-                .map(this::convertToDetailedResponseDTO) // Changed
-                .collect(Collectors.toList());
+        List<Turf> candidates;
+        if (turfCatalogIndex.isReady()) {
+            candidates = findIndexed(turfCatalogIndex.search(searchDTO.getName(), searchDTO.getLocation(),
+                    searchDTO.getType(), searchDTO.getMinPrice(), searchDTO.getMaxPrice()));
+        } else {
+            candidates = turfRepository.searchTurfs(
+                    searchDTO.getName(),
+                    searchDTO.getLocation(),
+                    searchDTO.getType(),
+                    searchDTO.getMinPrice(),
+                    searchDTO.getMaxPrice()
+            );
+        }
+        if (searchDTO.getDate() != null) {
+            return filterByAvailability(candidates, searchDTO);
+        }
+        return convertToResponseDTOs(candidates);
+    }
+
+    @Override
+    public List<TurfSuggestionDTO> autocomplete(String query, Integer limit) {
+        int wanted = limit != null ? limit : Math.min(autocompleteDefaultLimit, turfAutocompleteIndex.maxLimit());
+        if (wanted < 1 || wanted > turfAutocompleteIndex.maxLimit()) {
+            throw new RuntimeException("Limit must be between 1 and " + turfAutocompleteIndex.maxLimit());
+        }
+        if (!turfAutocompleteIndex.isReady()) {
+            throw new IndexNotReadyException("Suggestions are not available yet, please retry shortly");
+        }
+        return turfAutocompleteIndex.suggest(query, wanted);
     }
 
     @Override
     @Transactional(readOnly = true)
-    public List<LocalTime> getAvailableTimeSlots(Long turfId, LocalDate date) {
-        Turf turf = turfRepository.findById(turfId)
-                .orElseThrow(() -> new RuntimeException("Turf not found with id: " + turfId));
+    public List<TurfResponseDTO> getNearbyTurfs(double latitude, double longitude, Double radiusKm, SportType type,
+                                                BigDecimal minPrice, BigDecimal maxPrice, Integer limit) {
+        if (!GeoHash.isValid(latitude, longitude)) {
+            throw new RuntimeException("Latitude must be between -90 and 90 and longitude between -180 and 180");
+        }
+        double radius = radiusKm != null ? radiusKm : nearbyDefaultRadiusKm;
+        if (!(radius > 0) || radius > nearbyMaxRadiusKm) {
+            throw new RuntimeException("Radius must be greater than 0 and at most " + nearbyMaxRadiusKm + " km");
+        }
+        int wanted = limit != null ? limit : nearbyDefaultLimit;
+        if (wanted < 1 || wanted > nearbyMaxLimit) {
+            throw new RuntimeException("Limit must be between 1 and " + nearbyMaxLimit);
+        }
 
-        List<LocalTime> availableSlots = new ArrayList<>();
-        LocalTime currentTime = turf.getOperatingStartTime();
-        LocalTime endTime = turf.getOperatingEndTime();
+        List<Long> turfIds = new ArrayList<>();
+        Map<Long, Double> distances = new HashMap<>();
+        if (turfGeoIndex.isReady()) {
+            for (GeoGrid.Hit<TurfGeoIndex.Entry> hit : turfGeoIndex.nearest(latitude, longitude, radius, wanted,
+                    type, minPrice, maxPrice)) {
+                turfIds.add(hit.getId());
+                distances.put(hit.getId(), hit.getDistanceKm());
+            }
+        } else {
+            nearbyFromDatabase(latitude, longitude, radius, type, minPrice, maxPrice, wanted, turfIds, distances);
+        }
 
-        while (currentTime.isBefore(endTime)) {
-            LocalTime slotEndTime = currentTime.plusHours(1);
-            if (slotEndTime.isAfter(endTime)) {
-                break;
+        List<TurfResponseDTO> result = convertToResponseDTOs(findIndexed(turfIds));
+        for (TurfResponseDTO responseDTO : result) {
+            responseDTO.setDistanceKm(Math.round(distances.get(responseDTO.getId()) * 1000) / 1000.0);
+        }
+        return result;
+    }
+
+    // Bounding box query plus exact distances; only used until the geo index is first built
+    private void nearbyFromDatabase(double latitude, double longitude, double radiusKm, SportType type,
+                                    BigDecimal minPrice, BigDecimal maxPrice, int limit,
+                                    List<Long> turfIds, Map<Long, Double> distances) {
+        double latitudeDelta = radiusKm / 111.32;
+        double longitudeDelta = Math.min(180, latitudeDelta / Math.max(0.01, Math.cos(Math.toRadians(
+                Math.min(89.9, Math.abs(latitude) + latitudeDelta)))));
+        List<Turf> candidates = turfRepository.findLocatedWithin(latitude - latitudeDelta, latitude + latitudeDelta,
+                longitude - longitudeDelta, longitude + longitudeDelta);
+        for (Turf turf : candidates) {
+            if ((type != null && turf.getType() != type)
+                    || (minPrice != null && turf.getPricePerSlot().compareTo(minPrice) < 0)
+                    || (maxPrice != null && turf.getPricePerSlot().compareTo(maxPrice) > 0)) {
+                continue;
+            }
+            double distance = GeoHash.distanceKm(latitude, longitude, turf.getLatitude(), turf.getLongitude());
+            if (distance <= radiusKm) {
+                distances.put(turf.getId(), distance);
+            }
+        }
+        distances.entrySet().stream()
+                .sorted(Map.Entry.comparingByValue())
+                .limit(limit)
+                .forEach(entry -> turfIds.add(entry.getKey()));
+        distances.keySet().retainAll(turfIds);
+    }
+
+    // Turfs matched by the catalog index, loaded by primary key in the index's order
+    private List<Turf> findIndexed(List<Long> turfIds) {
+        if (turfIds.isEmpty()) {
+            return new ArrayList<>();
+        }
+        Map<Long, Turf> byId = new HashMap<>();
+        for (Turf turf : turfRepository.findWithOwnerByIdIn(turfIds)) {
+            byId.put(turf.getId(), turf);
+        }
+        List<Turf> turfs = new ArrayList<>(turfIds.size());
+        for (Long turfId : turfIds) {
+            // A turf deleted by a cascade stays in the index until the next rebuild
+            Turf turf = byId.get(turfId);
+            if (turf != null) {
+                turfs.add(turf);
             }
+        }
+        return turfs;
+    }
 
-            if (isTimeSlotAvailable(turfId, date, currentTime, slotEndTime)) {
-                availableSlots.add(currentTime);
+    /**
+     * Keeps candidates that are free for the whole [startTime, endTime) window, or that have a
+     * contiguous free run of minDurationMinutes inside it (one slot length when neither is given).
+     * Summary rows rule out most full turfs first; the rest are checked with one bookings query
+     * and one blocked slots query for all of them.
+     */
+    private List<TurfResponseDTO> filterByAvailability(List<Turf> candidates, TurfSearchDTO searchDTO) {
+        LocalDate date = searchDTO.getDate();
+        LocalTime from = searchDTO.getStartTime();
+        LocalTime to = searchDTO.getEndTime();
+        Integer duration = searchDTO.getMinDurationMinutes();
+        if (from != null && to != null && !from.isBefore(to)) {
+            throw new RuntimeException("Start time must be before end time");
+        }
+        if (duration != null && duration <= 0) {
+            throw new RuntimeException("Minimum duration must be positive");
+        }
+        boolean wholeWindow = duration == null && from != null && to != null;
+        if (candidates.isEmpty()) {
+            return new ArrayList<>();
+        }
+
+        Map<Long, TurfDaySummary> summaries = new HashMap<>();
+        for (TurfDaySummary summary : turfDaySummaryRepository.findByTurfIdInAndSummaryDate(
+                candidates.stream().map(Turf::getId).collect(Collectors.toList()), date)) {
+            summaries.put(summary.getTurfId(), summary);
+        }
+
+        Map<Long, int[]> windows = new HashMap<>();
+        Map<Long, Integer> required = new HashMap<>();
+        for (Turf turf : candidates) {
+            int open = DayOccupancy.startMinute(turf.getOperatingStartTime());
+            int close = DayOccupancy.endMinute(turf.getOperatingEndTime());
+            int start = from != null ? Math.max(open, DayOccupancy.startMinute(from)) : open;
+            int end = to != null ? Math.min(close, DayOccupancy.endMinute(to)) : close;
+            int minutes = duration != null ? duration : wholeWindow ? end - start : slotLength(turf);
+            if (wholeWindow && (start != DayOccupancy.startMinute(from) || end != DayOccupancy.endMinute(to))) {
+                continue;
+            }
+            TurfDaySummary summary = summaries.get(turf.getId());
+            if (end - start < minutes || (summary != null && summary.getLongestFreeRun() < minutes)) {
+                continue;
+            }
+            windows.put(turf.getId(), new int[]{start, end});
+            required.put(turf.getId(), minutes);
+        }
+        if (windows.isEmpty()) {
+            return new ArrayList<>();
+        }
+
+        BusyIntervals busy = busyIntervalReader.busyIntervals(windows.keySet(), date, date);
+
+        List<Turf> matches = new ArrayList<>();
+        Map<Long, List<TimeWindowDTO>> freeWindows = new HashMap<>();
+        for (Turf turf : candidates) {
+            int[] window = windows.get(turf.getId());
+            if (window == null) {
+                continue;
+            }
+            List<TimeWindowDTO> runs = new ArrayList<>();
+            for (int[] run : SlotSweeper.freeRuns(toTime(window[0]), toTime(window[1]), busy.all(turf.getId(), date))) {
+                if (run[1] - run[0] >= required.get(turf.getId())) {
+                    runs.add(new TimeWindowDTO(toTime(run[0]), toTime(run[1])));
+                }
+            }
+            if (!runs.isEmpty()) {
+                matches.add(turf);
+                freeWindows.put(turf.getId(), runs);
             }
+        }
 
-            currentTime = currentTime.plusHours(1);
+        List<TurfResponseDTO> result = convertToResponseDTOs(matches);
+        for (TurfResponseDTO responseDTO : result) {
+            responseDTO.setFreeWindows(freeWindows.get(responseDTO.getId()));
         }
+        return result;
+    }
 
-        return availableSlots;
+    // Minute of day as a time; the end of the day maps to 23:59:59.999999999
+    private static LocalTime toTime(int minute) {
+        return minute >= DayOccupancy.MINUTES_PER_DAY ? LocalTime.MAX : LocalTime.of(minute / 60, minute % 60);
     }
 
     @Override
+    @Coalesced
     @Transactional(readOnly = true)
-    public boolean isTimeSlotAvailable(Long turfId, LocalDate date, LocalTime startTime, LocalTime endTime) {
+    public List<LocalTime> getAvailableTimeSlots(Long turfId, LocalDate date) {
         Turf turf = turfRepository.findById(turfId)
-                .orElseThrow(() -> new RuntimeException("Turf not found with id: " + turfId));
+                .orElseThrow(() -> new TurfNotFoundException(turfId));
 
-        if (startTime.isBefore(turf.getOperatingStartTime()) || endTime.isAfter(turf.getOperatingEndTime())) {
-            return false;
+        return getAvailableTimeSlots(turf, date, slotLength(turf));
+    }
+
+    @Override
+    @Coalesced
+    @Transactional(readOnly = true)
+    public List<LocalTime> getAvailableTimeSlots(Long turfId, LocalDate date, Integer slotMinutes) {
+        Turf turf = turfRepository.findById(turfId)
+                .orElseThrow(() -> new TurfNotFoundException(turfId));
+
+        int length = slotMinutes != null ? validSlotLength(slotMinutes) : slotLength(turf);
+        return getAvailableTimeSlots(turf, date, length);
+    }
+
+    @Override
+    @Coalesced
+    @Transactional(readOnly = true)
+    public TurfDetailDTO getTurfDetail(Long id, Integer days) {
+        int dayCount = days != null ? days : 7;
+        if (dayCount < 1 || dayCount > detailMaxDays) {
+            throw new RuntimeException("Days must be between 1 and " + detailMaxDays);
         }
+        Turf turf = turfRepository.findWithOwnerById(id)
+                .orElseThrow(() -> new TurfNotFoundException(id));
 
-        if (turf.getBookings() != null) {
-            for (Booking booking : turf.getBookings()) {
-                if (booking.getBookingDate().equals(date)) {
-                    if (!(endTime.isBefore(booking.getSlotStartTime()) || startTime.isAfter(booking.getSlotEndTime()))) {
-                        return false;
-                    }
-                }
-            }
+        TurfResponseDTO responseDTO = toResponseDTO(turf);
+        List<Long> ids = List.of(id);
+        for (Object[] row : blockedSlotRepository.countGroupedByTurf(ids)) {
+            responseDTO.setTotalBlockedSlots(((Long) row[1]).intValue());
+        }
+        setImages(responseDTO, turfImageRepository.findByTurfId(id));
+
+        // One range query each for bookings and blocked slots over all days shown
+        LocalDate from = LocalDate.now();
+        LocalDate to = from.plusDays(dayCount - 1L);
+        BusyIntervals busy = busyIntervalReader.busyIntervals(ids, from, to);
+
+        int length = slotLength(turf);
+        List<DayAvailabilityDTO> availability = new ArrayList<>(dayCount);
+        for (LocalDate date = from; !date.isAfter(to); date = date.plusDays(1)) {
+            availability.add(new DayAvailabilityDTO(date, SlotSweeper.freeSlots(turf.getOperatingStartTime(),
+                    turf.getOperatingEndTime(), length, busy.all(id, date))));
         }
 
-        if (turf.getBlockedSlots() != null) {
-            for (BlockedSlot blockedSlot : turf.getBlockedSlots()) {
-                if (blockedSlot.getBlockedDate().equals(date)) {
-                    if (!(endTime.isBefore(blockedSlot.getStartTime()) || startTime.isAfter(blockedSlot.getEndTime()))) {
-                        return false;
+        BigDecimal slotPrice = BookingPrice.total(turf.getPricePerSlot(), BookingPrice.chargedHours(length));
+        TurfDetailDTO detail = new TurfDetailDTO(responseDTO, slotPrice, availability);
+        // Hashed before the booking count is added: it comes from this node's in-memory counters, and
+        // every node must derive the same version from the same rows
+        try {
+            detail.setVersion(DigestUtils.md5DigestAsHex(objectMapper.writeValueAsBytes(detail)));
+        } catch (JsonProcessingException e) {
+            throw new RuntimeException("Could not compute turf detail version", e);
+        }
+        responseDTO.setTotalBookings((int) statisticsService.getBookingsCountByTurf(id));
+        return detail;
+    }
+
+    // May scan the whole search horizon chunk by chunk, so waiters allow it longer than a single-day read
+    @Override
+    @Coalesced(timeoutMs = 10000)
+    @Transactional(readOnly = true)
+    public List<FreeSlotDTO> getNextFreeSlots(Long turfId, LocalDate from, Integer count, Integer durationMinutes) {
+        Turf turf = turfRepository.findById(turfId)
+                .orElseThrow(() -> new TurfNotFoundException(turfId));
+
+        int wanted = count != null ? count : 1;
+        if (wanted < 1 || wanted > nextFreeMaxCount) {
+            throw new RuntimeException("Count must be between 1 and " + nextFreeMaxCount);
+        }
+        int length = durationMinutes != null ? validSlotLength(durationMinutes) : slotLength(turf);
+        LocalDate today = LocalDate.now();
+        LocalDate start = from != null && from.isAfter(today) ? from : today;
+        LocalDate horizon = today.plusDays(nextFreeHorizonDays);
+        LocalTime now = LocalTime.now();
+
+        List<FreeSlotDTO> slots = new ArrayList<>();
+        // One bookings query and one blocked slots query per chunk of days
+        for (LocalDate chunkStart = start; !chunkStart.isAfter(horizon) && slots.size() < wanted;
+             chunkStart = chunkStart.plusDays(nextFreeChunkDays)) {
+            LocalDate chunkEnd = chunkStart.plusDays(nextFreeChunkDays - 1L);
+            if (chunkEnd.isAfter(horizon)) {
+                chunkEnd = horizon;
+            }
+            BusyIntervals busy = busyIntervalReader.busyIntervals(List.of(turfId), chunkStart, chunkEnd);
+
+            for (LocalDate date = chunkStart; !date.isAfter(chunkEnd) && slots.size() < wanted; date = date.plusDays(1)) {
+                for (LocalTime slotStart : SlotSweeper.freeSlots(turf.getOperatingStartTime(), turf.getOperatingEndTime(),
+                        length, busy.all(turfId, date))) {
+                    if (date.equals(today) && slotStart.isBefore(now)) {
+                        continue;
+                    }
+                    slots.add(new FreeSlotDTO(date, slotStart, slotStart.plusMinutes(length)));
+                    if (slots.size() == wanted) {
+                        break;
                     }
                 }
             }
         }
+        return slots;
+    }
+
+    // One sweep over the day's CONFIRMED bookings and blocked slots from the occupancy index
+    private List<LocalTime> getAvailableTimeSlots(Turf turf, LocalDate date, int slotMinutes) {
+        DayOccupancy occupancy = slotOccupancyIndex.getDay(turf.getId(), date);
+        return SlotSweeper.freeSlots(turf.getOperatingStartTime(), turf.getOperatingEndTime(),
+                slotMinutes, occupancy.intervals());
+    }
+
+    private static int slotLength(Turf turf) {
+        return turf.getSlotDurationMinutes() != null ? turf.getSlotDurationMinutes() : SlotSweeper.DEFAULT_SLOT_MINUTES;
+    }
+
+    private static Integer validSlotLength(Integer slotMinutes) {
+        if (slotMinutes != null && !SlotSweeper.isValidSlotLength(slotMinutes)) {
+            throw new RuntimeException("Slot length must be a multiple of " + SlotSweeper.MIN_SLOT_MINUTES +
+                    " minutes between " + SlotSweeper.MIN_SLOT_MINUTES + " and " + SlotSweeper.MAX_SLOT_MINUTES);
+        }
+        return slotMinutes;
+    }
+
+    @Override
+    @Coalesced
+    @Transactional(readOnly = true)
+    public boolean isTimeSlotAvailable(Long turfId, LocalDate date, LocalTime startTime, LocalTime endTime) {
+        Turf turf = turfRepository.findById(turfId)
+                .orElseThrow(() -> new TurfNotFoundException(turfId));
+
+        if (startTime.isBefore(turf.getOperatingStartTime()) || endTime.isAfter(turf.getOperatingEndTime())) {
+            return false;
+        }
 
-        return true;
+        // CONFIRMED bookings and blocked slots for the day come from the occupancy index
+        return slotOccupancyIndex.isFree(turfId, date, startTime, endTime);
     }
 
     @Override
@@ -320,30 +736,63 @@ public class TurfServiceImplementation implements TurfService {
     @Override
     @Transactional(readOnly = true)
     public List<TurfResponseDTO> getAvailableTurfsOnDate(LocalDate date) {
-        return turfRepository.findAvailableTurfsOnDate(date)
-                .stream()
-                .map(this::convertToDetailedResponseDTO) // Changed
-                .collect(Collectors.toList());
+        return getAvailableTurfsOnDate(date, null);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<TurfResponseDTO> getAvailableTurfsOnDate(LocalDate date, Integer minFreeMinutes) {
+        int minimum = minFreeMinutes != null ? Math.max(minFreeMinutes, 0) : 0;
+        List<Turf> turfs = turfRepository.findTurfsWithFreeCapacityOnDate(date, minimum);
+        if (turfs.isEmpty()) {
+            return new ArrayList<>();
+        }
+
+        Map<Long, TurfDaySummary> summaries = new HashMap<>();
+        for (TurfDaySummary summary : turfDaySummaryRepository.findByTurfIdInAndSummaryDate(
+                turfs.stream().map(Turf::getId).collect(Collectors.toList()), date)) {
+            summaries.put(summary.getTurfId(), summary);
+        }
+
+        blockedSlotRuleCache.preload(turfs.stream().map(Turf::getId).collect(Collectors.toList()));
+        List<TurfResponseDTO> result = new ArrayList<>();
+        for (Turf turf : turfs) {
+            // No row means nothing booked or blocked that day, but rules or the window itself may leave too little
+            TurfDaySummary summary = summaries.get(turf.getId());
+            if (summary == null) {
+                summary = turfDaySummaryService.emptyDay(turf, date);
+            }
+            if (summary.getFirstFreeSlot() == null || summary.getLongestFreeRun() < minimum) {
+                continue;
+            }
+            TurfResponseDTO responseDTO = convertToDetailedResponseDTO(turf);
+            responseDTO.setFreeMinutes(summary.getFreeMinutes());
+            responseDTO.setFirstFreeSlot(summary.getFirstFreeSlot());
+            responseDTO.setLongestFreeRun(summary.getLongestFreeRun());
+            result.add(responseDTO);
+        }
+        return result;
     }
 
     @Override
     @Transactional(readOnly = true)
     public long getTotalTurfsCount() {
-        return turfRepository.count();
+        return statisticsService.getTotalTurfsCount();
     }
 
     @Override
     @Transactional(readOnly = true)
     public long getTurfsCountBySportType(SportType type) {
-        return turfRepository.countByType(type);
+        return statisticsService.getTurfsCountBySportType(type);
     }
 
     @Override
     @Transactional(readOnly = true)
     public long getTurfsCountByOwner(Long ownerId) {
-        User owner = userRepository.findById(ownerId)
-                .orElseThrow(() -> new RuntimeException("Owner not found with id: " + ownerId));
-        return turfRepository.countByOwner(owner);
+        if (!userRepository.existsById(ownerId)) {
+            throw new RuntimeException("Owner not found with id: " + ownerId);
+        }
+        return statisticsService.getTurfsCountByOwner(ownerId);
     }
 
     @Override
@@ -359,8 +808,43 @@ public class TurfServiceImplementation implements TurfService {
         return turfRepository.existsByNameAndOwner(name, owner);
     }
 
+    // Same as convertToDetailedResponseDTO with images and counts fetched once for all turfs
+    private List<TurfResponseDTO> convertToResponseDTOs(List<Turf> turfs) {
+        List<Long> ids = turfs.stream().map(Turf::getId).collect(Collectors.toList());
+        Map<Long, List<TurfImage>> images = new HashMap<>();
+        for (TurfImage image : turfImageRepository.findByTurfIdIn(ids)) {
+            images.computeIfAbsent(image.getTurf().getId(), id -> new ArrayList<>()).add(image);
+        }
+        Map<Long, Long> blockedSlotCounts = new HashMap<>();
+        for (Object[] row : blockedSlotRepository.countGroupedByTurf(ids)) {
+            blockedSlotCounts.put((Long) row[0], (Long) row[1]);
+        }
+
+        List<TurfResponseDTO> result = new ArrayList<>(turfs.size());
+        for (Turf turf : turfs) {
+            TurfResponseDTO responseDTO = toResponseDTO(turf);
+            responseDTO.setTotalBookings((int) statisticsService.getBookingsCountByTurf(turf.getId()));
+            responseDTO.setTotalBlockedSlots(blockedSlotCounts.getOrDefault(turf.getId(), 0L).intValue());
+            setImages(responseDTO, images.get(turf.getId()));
+            result.add(responseDTO);
+        }
+        return result;
+    }
+
     // CORRECTED: This method now properly fetches and includes images
     private TurfResponseDTO convertToDetailedResponseDTO(Turf turf) {
+        TurfResponseDTO responseDTO = toResponseDTO(turf);
+
+        // Set counts
+        responseDTO.setTotalBookings(turf.getBookings() != null ? turf.getBookings().size() : 0);
+        responseDTO.setTotalBlockedSlots(turf.getBlockedSlots() != null ? turf.getBlockedSlots().size() : 0);
+
+        // CORRECTED: Properly fetch and set images
+        setImages(responseDTO, turfImageRepository.findByTurfId(turf.getId()));
+        return responseDTO;
+    }
+
+    private TurfResponseDTO toResponseDTO(Turf turf) {
         TurfResponseDTO responseDTO = new TurfResponseDTO(
                 turf.getId(),
                 turf.getName(),
@@ -375,13 +859,28 @@ public class TurfServiceImplementation implements TurfService {
                 turf.getOwner().getName(),
                 turf.getOwner().getPhone()
         );
+        responseDTO.setSlotDurationMinutes(slotLength(turf));
+        responseDTO.setLatitude(turf.getLatitude());
+        responseDTO.setLongitude(turf.getLongitude());
+        return responseDTO;
+    }
 
-        // Set counts
-        responseDTO.setTotalBookings(turf.getBookings() != null ? turf.getBookings().size() : 0);
-        responseDTO.setTotalBlockedSlots(turf.getBlockedSlots() != null ? turf.getBlockedSlots().size() : 0);
+    // Coordinates are optional but always set or cleared as a pair
+    private static void setCoordinates(Turf turf, Double latitude, Double longitude) {
+        if (latitude == null && longitude == null) {
+            return;
+        }
+        if (latitude == null || longitude == null) {
+            throw new RuntimeException("Latitude and longitude must be given together");
+        }
+        if (!GeoHash.isValid(latitude, longitude)) {
+            throw new RuntimeException("Latitude must be between -90 and 90 and longitude between -180 and 180");
+        }
+        turf.setLatitude(latitude);
+        turf.setLongitude(longitude);
+    }
 
-        // CORRECTED: Properly fetch and set images
-        List<TurfImage> images = turfImageRepository.findByTurfId(turf.getId());
+    private static void setImages(TurfResponseDTO responseDTO, List<TurfImage> images) {
         if (images != null && !images.isEmpty()) {
             List<String> imageUrls = images.stream()
                     .map(TurfImage::getImageUrl)
@@ -397,7 +896,5 @@ public class TurfServiceImplementation implements TurfService {
                             () -> responseDTO.setPrimaryImageUrl(imageUrls.get(0))
                     );
         }
-
-        return responseDTO;
     }
-}
\ No newline at end of file
+}
@@ -2,12 +2,17 @@ package com.turfBooking.service.implementation;
 
 import com.turfBooking.dto.UserRequestDTO;
 import com.turfBooking.dto.UserResponseDTO;
+import com.turfBooking.dto.PageResponseDTO;
 import com.turfBooking.dto.UserUpdateDTO;
 import com.turfBooking.entity.User;
 import com.turfBooking.enums.UserRole;
+import com.turfBooking.event.UserChangedEvent;
 import com.turfBooking.repository.UserRepository;
+import com.turfBooking.service.interfaces.StatisticsService;
 import com.turfBooking.service.interfaces.UserService;
+import com.turfBooking.util.PageCursor;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -27,6 +32,12 @@ public class UserServiceImplementation implements UserService {
     @Autowired
     private PasswordEncoder passwordEncoder;
 
+    @Autowired
+    private StatisticsService statisticsService;
+
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+
     @Override
     public UserResponseDTO createUser(UserRequestDTO userRequestDTO) {
         // Check if phone already exists
@@ -44,6 +55,7 @@ public class UserServiceImplementation implements UserService {
 
         // Save user
         User savedUser = userRepository.save(user);
+        eventPublisher.publishEvent(new UserChangedEvent(savedUser.getId(), null, savedUser.getRole()));
 
         return convertToResponseDTO(savedUser);
     }
@@ -66,6 +78,16 @@ public class UserServiceImplementation implements UserService {
                 .collect(Collectors.toList());
     }
 
+    @Override
+    @Transactional(readOnly = true)
+    public PageResponseDTO<UserResponseDTO> getUsersPage(String cursor, Integer size) {
+        int pageSize = PageCursor.pageSize(size);
+        long afterId = PageCursor.afterId(cursor);
+
+        List<User> rows = userRepository.findByIdGreaterThanOrderByIdAsc(afterId, PageCursor.probe(pageSize));
+        return PageCursor.page(rows, pageSize, this::convertToResponseDTO, row -> new Object[]{row.getId()});
+    }
+
     @Override
     public UserResponseDTO updateUser(Long id, UserUpdateDTO userUpdateDTO) {
         User user = userRepository.findById(id)
@@ -96,10 +118,10 @@ public class UserServiceImplementation implements UserService {
 
     @Override
     public void deleteUser(Long id) {
-        if (!userRepository.existsById(id)) {
-            throw new RuntimeException("User not found with id: " + id);
-        }
+        User user = userRepository.findById(id)
+                .orElseThrow(() -> new RuntimeException("User not found with id: " + id));
         userRepository.deleteById(id);
+        eventPublisher.publishEvent(new UserChangedEvent(id, user.getRole(), null));
     }
 
     @Override
@@ -156,13 +178,13 @@ public class UserServiceImplementation implements UserService {
     @Override
     @Transactional(readOnly = true)
     public long getTotalUsersCount() {
-        return userRepository.count();
+        return statisticsService.getTotalUsersCount();
     }
 
     @Override
     @Transactional(readOnly = true)
     public long getUsersCountByRole(UserRole role) {
-        return userRepository.countByRole(role);
+        return statisticsService.getUsersCountByRole(role);
     }
 
     // JWT AUTHENTICATION SPECIFIC METHODS
@@ -172,7 +194,9 @@ public class UserServiceImplementation implements UserService {
      */
     public User createUserEntity(User user) {
         user.setPassword(passwordEncoder.encode(user.getPassword()));
-        return userRepository.save(user);
+        User savedUser = userRepository.save(user);
+        eventPublisher.publishEvent(new UserChangedEvent(savedUser.getId(), null, savedUser.getRole()));
+        return savedUser;
     }
 
     /**
@@ -214,4 +238,4 @@ public class UserServiceImplementation implements UserService {
 
         return responseDTO;
     }
-}
\ No newline at end of file
+}
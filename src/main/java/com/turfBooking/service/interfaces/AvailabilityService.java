@@ -0,0 +1,12 @@
+package com.turfBooking.service.interfaces;
+
+import com.turfBooking.dto.AvailabilityGridDTO;
+
+import java.time.LocalDate;
+import java.util.List;
+
+public interface AvailabilityService {
+
+    // Slot states for several turfs over a date range; null slotMinutes uses each turf's own slot length
+    AvailabilityGridDTO getAvailabilityGrid(List<Long> turfIds, LocalDate from, LocalDate to, Integer slotMinutes);
+}
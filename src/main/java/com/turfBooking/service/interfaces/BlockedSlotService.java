@@ -3,6 +3,11 @@ package com.turfBooking.service.interfaces;
 
 import com.turfBooking.dto.BlockedSlotRequestDTO;
 import com.turfBooking.dto.BlockedSlotResponseDTO;
+import com.turfBooking.dto.BlockedSlotRuleRequestDTO;
+import com.turfBooking.dto.BlockedSlotRuleResponseDTO;
+import com.turfBooking.dto.BulkBlockedSlotRequestDTO;
+import com.turfBooking.dto.BulkBlockedSlotResponseDTO;
+import com.turfBooking.dto.PageResponseDTO;
 
 import java.time.LocalDate;
 import java.util.List;
@@ -10,7 +15,9 @@ import java.util.List;
 public interface BlockedSlotService {
 
     BlockedSlotResponseDTO createBlockedSlot(BlockedSlotRequestDTO requestDTO);
+    BulkBlockedSlotResponseDTO createBlockedSlotsInBulk(BulkBlockedSlotRequestDTO requestDTO);
     List<BlockedSlotResponseDTO> getAllBlockedSlots();
+    PageResponseDTO<BlockedSlotResponseDTO> getBlockedSlotsPage(String cursor, Integer size);
     BlockedSlotResponseDTO getBlockedSlotById(Long id);
     void deleteBlockedSlot(Long id);
 
@@ -23,4 +30,9 @@ public interface BlockedSlotService {
     List<BlockedSlotResponseDTO> getFutureBlockedSlotsByTurfId(Long turfId);
 
     void cleanupOldBlockedSlots(LocalDate beforeDate);
+
+    // Recurring rules
+    BlockedSlotRuleResponseDTO createBlockedSlotRule(BlockedSlotRuleRequestDTO requestDTO);
+    List<BlockedSlotRuleResponseDTO> getBlockedSlotRulesByTurfId(Long turfId);
+    void deleteBlockedSlotRule(Long id);
 }
@@ -1,9 +1,12 @@
 package com.turfBooking.service.interfaces;
 
 import com.turfBooking.dto.BookingRequestDTO;
+import com.turfBooking.dto.PageResponseDTO;
 import com.turfBooking.dto.BookingResponseDTO;
 import com.turfBooking.dto.BookingUpdateDTO;
 import com.turfBooking.dto.BookingSearchDTO;
+import com.turfBooking.dto.BookingSeriesRequestDTO;
+import com.turfBooking.dto.BookingSeriesResponseDTO;
 import com.turfBooking.enums.BookingStatus;
 
 import java.time.LocalDate;
@@ -14,12 +17,21 @@ public interface BookingService {
     // Create new booking
     BookingResponseDTO createBooking(BookingRequestDTO bookingRequestDTO);
 
+    // Create a recurring booking series in one transaction
+    BookingSeriesResponseDTO createBookingSeries(BookingSeriesRequestDTO seriesRequestDTO);
+
     // Get booking by ID
     BookingResponseDTO getBookingById(Long id);
 
     // Get all bookings
     List<BookingResponseDTO> getAllBookings();
 
+    // Get one keyset page of all bookings, newest first
+    PageResponseDTO<BookingResponseDTO> getBookingsPage(String cursor, Integer size);
+
+    // Get one keyset page of bookings for a turf owner, newest first
+    PageResponseDTO<BookingResponseDTO> getBookingsForTurfOwnerPage(Long ownerId, String cursor, Integer size);
+
     // Update booking
     BookingResponseDTO updateBooking(Long id, BookingUpdateDTO bookingUpdateDTO);
 
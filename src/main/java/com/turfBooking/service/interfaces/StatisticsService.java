@@ -0,0 +1,35 @@
+package com.turfBooking.service.interfaces;
+
+import com.turfBooking.enums.BookingStatus;
+import com.turfBooking.enums.SportType;
+import com.turfBooking.enums.UserRole;
+
+public interface StatisticsService {
+
+    // Booking counts
+    long getTotalBookingsCount();
+
+    long getBookingsCountByStatus(BookingStatus status);
+
+    long getBookingsCountByUser(Long userId);
+
+    long getBookingsCountByTurf(Long turfId);
+
+    // Bookings across all turfs of an owner
+    long getBookingsCountByOwner(Long ownerId);
+
+    // Turf counts
+    long getTotalTurfsCount();
+
+    long getTurfsCountBySportType(SportType type);
+
+    long getTurfsCountByOwner(Long ownerId);
+
+    // User counts
+    long getTotalUsersCount();
+
+    long getUsersCountByRole(UserRole role);
+
+    // Rebuild all counters from the database
+    void reconcile();
+}
@@ -1,9 +1,13 @@
 package com.turfBooking.service.interfaces;
 
+import com.turfBooking.dto.PageResponseDTO;
 import com.turfBooking.dto.TurfRequestDTO;
+import com.turfBooking.dto.FreeSlotDTO;
+import com.turfBooking.dto.TurfDetailDTO;
 import com.turfBooking.dto.TurfResponseDTO;
 import com.turfBooking.dto.TurfUpdateDTO;
 import com.turfBooking.dto.TurfSearchDTO;
+import com.turfBooking.dto.TurfSuggestionDTO;
 import com.turfBooking.enums.SportType;
 
 import java.math.BigDecimal;
@@ -22,6 +26,9 @@ public interface TurfService {
     // Get all turfs
     List<TurfResponseDTO> getAllTurfs();
 
+    // Get one keyset page of turfs ordered by id
+    PageResponseDTO<TurfResponseDTO> getTurfsPage(String cursor, Integer size);
+
     // Update turf
     TurfResponseDTO updateTurf(Long id, TurfUpdateDTO turfUpdateDTO);
 
@@ -49,6 +56,22 @@ public interface TurfService {
     // Get available time slots for a turf on a specific date
     List<LocalTime> getAvailableTimeSlots(Long turfId, LocalDate date);
 
+    // Get available time slots with an explicit slot length; null uses the turf's own length
+    List<LocalTime> getAvailableTimeSlots(Long turfId, LocalDate date, Integer slotMinutes);
+
+    // Turf, images, slot price and free slots for the next days, built from one turf load
+    TurfDetailDTO getTurfDetail(Long id, Integer days);
+
+    // First free slots from a date onward, scanning day by day up to the configured horizon
+    List<FreeSlotDTO> getNextFreeSlots(Long turfId, LocalDate from, Integer count, Integer durationMinutes);
+
+    // Most booked turfs with a name or location word starting with the query; served from memory
+    List<TurfSuggestionDTO> autocomplete(String query, Integer limit);
+
+    // Located turfs within radiusKm of a point, closest first, optionally filtered by sport type and price
+    List<TurfResponseDTO> getNearbyTurfs(double latitude, double longitude, Double radiusKm, SportType type,
+                                         BigDecimal minPrice, BigDecimal maxPrice, Integer limit);
+
     // Check if time slot is available
     boolean isTimeSlotAvailable(Long turfId, LocalDate date, LocalTime startTime, LocalTime endTime);
 
@@ -58,6 +81,9 @@ public interface TurfService {
     // Get available turfs on a specific date
     List<TurfResponseDTO> getAvailableTurfsOnDate(LocalDate date);
 
+    // Turfs with a free slot and a contiguous free run of at least minFreeMinutes on a date
+    List<TurfResponseDTO> getAvailableTurfsOnDate(LocalDate date, Integer minFreeMinutes);
+
     // Get total turfs count
     long getTotalTurfsCount();
 
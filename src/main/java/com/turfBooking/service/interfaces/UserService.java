@@ -1,5 +1,6 @@
 package com.turfBooking.service.interfaces;
 
+import com.turfBooking.dto.PageResponseDTO;
 import com.turfBooking.dto.UserRequestDTO;
 import com.turfBooking.dto.UserResponseDTO;
 import com.turfBooking.dto.UserUpdateDTO;
@@ -22,6 +23,9 @@ public interface UserService {
     // Get all users
     List<UserResponseDTO> getAllUsers();
 
+    // Get one keyset page of users ordered by id
+    PageResponseDTO<UserResponseDTO> getUsersPage(String cursor, Integer size);
+
     // Update user
     UserResponseDTO updateUser(Long id, UserUpdateDTO userUpdateDTO);
 
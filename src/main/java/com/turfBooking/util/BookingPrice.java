@@ -0,0 +1,28 @@
+package com.turfBooking.util;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.time.LocalTime;
+
+/**
+ * The one place a booking is priced: the turf's price per slot is charged for every started hour.
+ * Booking responses, the calculate-price endpoint and the turf detail page all go through here.
+ */
+public final class BookingPrice {
+
+    private BookingPrice() {
+    }
+
+    // Hours charged for [startTime, endTime); a partial hour counts as a whole one
+    public static long chargedHours(LocalTime startTime, LocalTime endTime) {
+        return chargedHours(Duration.between(startTime, endTime).toMinutes());
+    }
+
+    public static long chargedHours(long minutes) {
+        return (minutes + 59) / 60;
+    }
+
+    public static BigDecimal total(BigDecimal pricePerSlot, long chargedHours) {
+        return pricePerSlot.multiply(BigDecimal.valueOf(chargedHours));
+    }
+}
@@ -0,0 +1,79 @@
+package com.turfBooking.util;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeSet;
+import java.util.function.BiFunction;
+
+/**
+ * Booked and blocked [startMinute, endMinute) intervals of several turfs over a range of days,
+ * keyed by turf-day. Booking and blocked slot rows are added up front; recurring rule intervals
+ * are looked up per turf-day when asked for, so a range never has to be expanded day by day.
+ */
+public class BusyIntervals {
+
+    private final Map<Long, List<int[]>> booked = new HashMap<>();
+    private final Map<Long, List<int[]>> blocked = new HashMap<>();
+    private final BiFunction<Long, LocalDate, List<int[]>> rules;
+
+    public BusyIntervals(BiFunction<Long, LocalDate, List<int[]>> rules) {
+        this.rules = rules;
+    }
+
+    // Rows of (turfId, date, startTime, endTime)
+    public void addBooked(List<Object[]> rows) {
+        add(booked, rows);
+    }
+
+    // Rows of (turfId, date, startTime, endTime)
+    public void addBlocked(List<Object[]> rows) {
+        add(blocked, rows);
+    }
+
+    public List<int[]> booked(Long turfId, LocalDate date) {
+        return booked.getOrDefault(key(turfId, date), List.of());
+    }
+
+    // Blocked slots and rules together
+    public List<int[]> blocked(Long turfId, LocalDate date) {
+        List<int[]> intervals = new ArrayList<>(blocked.getOrDefault(key(turfId, date), List.of()));
+        intervals.addAll(rules.apply(turfId, date));
+        return intervals;
+    }
+
+    // Everything that makes a minute unavailable
+    public List<int[]> all(Long turfId, LocalDate date) {
+        List<int[]> intervals = blocked(turfId, date);
+        intervals.addAll(booked(turfId, date));
+        return intervals;
+    }
+
+    // Days of a turf with at least one booking or blocked slot; days covered only by rules are not listed
+    public TreeSet<LocalDate> reservedDates(Long turfId) {
+        TreeSet<LocalDate> dates = new TreeSet<>();
+        for (Map<Long, List<int[]>> intervals : List.of(booked, blocked)) {
+            for (Long key : intervals.keySet()) {
+                if ((key >>> 24) == turfId) {
+                    dates.add(LocalDate.ofEpochDay(key & 0xFFFFFFL));
+                }
+            }
+        }
+        return dates;
+    }
+
+    private static void add(Map<Long, List<int[]>> intervals, List<Object[]> rows) {
+        for (Object[] row : rows) {
+            intervals.computeIfAbsent(key((Long) row[0], (LocalDate) row[1]), key -> new ArrayList<>()).add(new int[]{
+                    DayOccupancy.startMinute((LocalTime) row[2]), DayOccupancy.endMinute((LocalTime) row[3])});
+        }
+    }
+
+    // Turf id in the high bits, epoch day in the low 24 bits
+    private static long key(Long turfId, LocalDate date) {
+        return (turfId << 24) | (date.toEpochDay() & 0xFFFFFFL);
+    }
+}
@@ -0,0 +1,171 @@
+package com.turfBooking.util;
+
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Minute-resolution occupancy of one turf on one day.
+ * Keeps the individual booking / blocked slot intervals so that removing one of them
+ * never clears minutes still covered by another, and derives a 1440-bit bitmap from them
+ * for constant-time overlap checks.
+ */
+public class DayOccupancy {
+
+    public static final int MINUTES_PER_DAY = 24 * 60;
+    public static final int WORDS = (MINUTES_PER_DAY + 63) / 64;
+
+    private final Map<Long, int[]> bookings = new HashMap<>();
+    private final Map<Long, int[]> blockedSlots = new HashMap<>();
+    private final long[] occupied = new long[WORDS];
+    private final long loadedAtNanos;
+    // Read back from a stored bitmap: readable, but individual intervals are unknown
+    private final boolean snapshot;
+
+    public DayOccupancy(long loadedAtNanos) {
+        this(loadedAtNanos, false);
+    }
+
+    private DayOccupancy(long loadedAtNanos, boolean snapshot) {
+        this.loadedAtNanos = loadedAtNanos;
+        this.snapshot = snapshot;
+    }
+
+    public static DayOccupancy fromBitmap(long[] bits, long loadedAtNanos) {
+        DayOccupancy day = new DayOccupancy(loadedAtNanos, true);
+        System.arraycopy(bits, 0, day.occupied, 0, WORDS);
+        return day;
+    }
+
+    public boolean isSnapshot() {
+        return snapshot;
+    }
+
+    public synchronized long[] bitmap() {
+        return occupied.clone();
+    }
+
+    public long getLoadedAtNanos() {
+        return loadedAtNanos;
+    }
+
+    public synchronized void putBooking(Long bookingId, LocalTime startTime, LocalTime endTime) {
+        put(bookings, bookingId, startTime, endTime);
+    }
+
+    public synchronized void removeBooking(Long bookingId) {
+        if (bookings.remove(bookingId) != null) {
+            rebuild();
+        }
+    }
+
+    public synchronized void putBlockedSlot(Long blockedSlotId, LocalTime startTime, LocalTime endTime) {
+        put(blockedSlots, blockedSlotId, startTime, endTime);
+    }
+
+    public synchronized void removeBlockedSlot(Long blockedSlotId) {
+        if (blockedSlots.remove(blockedSlotId) != null) {
+            rebuild();
+        }
+    }
+
+    // True when no booking or blocked slot overlaps [startTime, endTime)
+    public synchronized boolean isFree(LocalTime startTime, LocalTime endTime) {
+        return !anySet(occupied, startMinute(startTime), endMinute(endTime));
+    }
+
+    // Copies of all booking and blocked slot intervals as [startMinute, endMinute) pairs
+    public synchronized List<int[]> intervals() {
+        if (snapshot) {
+            return runs(occupied);
+        }
+        List<int[]> intervals = new ArrayList<>(bookings.size() + blockedSlots.size());
+        for (int[] interval : bookings.values()) {
+            intervals.add(interval.clone());
+        }
+        for (int[] interval : blockedSlots.values()) {
+            intervals.add(interval.clone());
+        }
+        return intervals;
+    }
+
+    private void put(Map<Long, int[]> intervals, Long id, LocalTime startTime, LocalTime endTime) {
+        int[] interval = {startMinute(startTime), endMinute(endTime)};
+        if (intervals.put(id, interval) != null) {
+            rebuild();
+        } else {
+            setRange(occupied, interval[0], interval[1]);
+        }
+    }
+
+    private void rebuild() {
+        Arrays.fill(occupied, 0L);
+        for (int[] interval : bookings.values()) {
+            setRange(occupied, interval[0], interval[1]);
+        }
+        for (int[] interval : blockedSlots.values()) {
+            setRange(occupied, interval[0], interval[1]);
+        }
+    }
+
+    // Maximal runs of set bits as [start, end) pairs
+    private static List<int[]> runs(long[] bits) {
+        List<int[]> runs = new ArrayList<>();
+        int start = -1;
+        for (int minute = 0; minute < MINUTES_PER_DAY; minute++) {
+            boolean set = (bits[minute >>> 6] & (1L << (minute & 63))) != 0;
+            if (set && start < 0) {
+                start = minute;
+            } else if (!set && start >= 0) {
+                runs.add(new int[]{start, minute});
+                start = -1;
+            }
+        }
+        if (start >= 0) {
+            runs.add(new int[]{start, MINUTES_PER_DAY});
+        }
+        return runs;
+    }
+
+    // Start minutes round down and end minutes round up so partial minutes count as occupied
+    public static int startMinute(LocalTime time) {
+        return time.getHour() * 60 + time.getMinute();
+    }
+
+    public static int endMinute(LocalTime time) {
+        int minute = time.getHour() * 60 + time.getMinute();
+        if (time.getSecond() != 0 || time.getNano() != 0) {
+            minute++;
+        }
+        return Math.min(minute, MINUTES_PER_DAY);
+    }
+
+    static void setRange(long[] bits, int from, int to) {
+        for (int word = from >>> 6; from < to; word++) {
+            int upto = Math.min(to, (word + 1) << 6);
+            bits[word] |= rangeMask(from, upto);
+            from = upto;
+        }
+    }
+
+    static boolean anySet(long[] bits, int from, int to) {
+        for (int word = from >>> 6; from < to; word++) {
+            int upto = Math.min(to, (word + 1) << 6);
+            if ((bits[word] & rangeMask(from, upto)) != 0) {
+                return true;
+            }
+            from = upto;
+        }
+        return false;
+    }
+
+    // Mask of bits [from, to) within the 64-bit word containing 'from'
+    private static long rangeMask(int from, int to) {
+        int width = to - from;
+        long mask = width == 64 ? -1L : (1L << width) - 1;
+        return mask << (from & 63);
+    }
+}
@@ -0,0 +1,158 @@
+package com.turfBooking.util;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.function.Predicate;
+
+/**
+ * Points bucketed into the geohash cells of one precision, addressed by cell row and column.
+ * A nearest-neighbour query scans rings of cells around the query cell and stops as soon as
+ * the k-th best distance is closer than anything the next ring could contain, or the ring
+ * lies entirely outside the search radius. Not thread-safe; callers synchronize.
+ */
+public class GeoGrid<T> {
+
+    // Rough km per degree of latitude
+    private static final double KM_PER_DEGREE = 111.32;
+
+    private final double latitudeSpan;
+    private final double longitudeSpan;
+    private final long columns;
+    private final int maxRings;
+
+    private final Map<Long, List<Point<T>>> cells = new HashMap<>();
+    private final Map<Long, Point<T>> points = new HashMap<>();
+
+    public GeoGrid(int precision, int maxRings) {
+        this.latitudeSpan = GeoHash.latitudeSpan(precision);
+        this.longitudeSpan = GeoHash.longitudeSpan(precision);
+        this.columns = Math.round(360.0 / longitudeSpan);
+        this.maxRings = maxRings;
+    }
+
+    public int size() {
+        return points.size();
+    }
+
+    public void put(long id, double latitude, double longitude, T value) {
+        remove(id);
+        Point<T> point = new Point<>(id, latitude, longitude, value, cell(row(latitude), column(longitude)));
+        points.put(id, point);
+        cells.computeIfAbsent(point.cell, c -> new ArrayList<>()).add(point);
+    }
+
+    public boolean remove(long id) {
+        Point<T> point = points.remove(id);
+        if (point == null) {
+            return false;
+        }
+        List<Point<T>> cell = cells.get(point.cell);
+        cell.remove(point);
+        if (cell.isEmpty()) {
+            cells.remove(point.cell);
+        }
+        return true;
+    }
+
+    // Up to 'limit' points within radiusKm that pass the filter, closest first
+    public List<Hit<T>> nearest(double latitude, double longitude, double radiusKm, int limit, Predicate<T> filter) {
+        // Farthest-from-equator latitude in range gives the narrowest cells, i.e. a safe lower bound
+        double widestLatitude = Math.min(89.9, Math.abs(latitude) + radiusKm / KM_PER_DEGREE);
+        double minCellKm = Math.min(latitudeSpan * KM_PER_DEGREE,
+                longitudeSpan * KM_PER_DEGREE * Math.cos(Math.toRadians(widestLatitude)));
+
+        PriorityQueue<Hit<T>> best = new PriorityQueue<>(Comparator.comparingDouble((Hit<T> hit) -> hit.distanceKm).reversed());
+        long centerRow = row(latitude);
+        long centerColumn = column(longitude);
+        for (int ring = 0; ring <= maxRings; ring++) {
+            // Every point in this ring is at least (ring - 1) whole cells away
+            double ringDistance = (ring - 1) * minCellKm;
+            if (ringDistance > radiusKm) {
+                break;
+            }
+            if (best.size() == limit && best.peek().distanceKm <= ringDistance) {
+                break;
+            }
+            for (long row = centerRow - ring; row <= centerRow + ring; row++) {
+                boolean edgeRow = row == centerRow - ring || row == centerRow + ring;
+                long step = edgeRow || ring == 0 ? 1 : 2L * ring;
+                for (long column = centerColumn - ring; column <= centerColumn + ring; column += step) {
+                    scan(cells.get(cell(row, Math.floorMod(column, columns))), latitude, longitude, radiusKm,
+                            limit, filter, best);
+                }
+            }
+        }
+
+        List<Hit<T>> hits = new ArrayList<>(best);
+        hits.sort(Comparator.comparingDouble(hit -> hit.distanceKm));
+        return hits;
+    }
+
+    private void scan(List<Point<T>> cell, double latitude, double longitude, double radiusKm, int limit,
+                      Predicate<T> filter, PriorityQueue<Hit<T>> best) {
+        if (cell == null) {
+            return;
+        }
+        for (Point<T> point : cell) {
+            double distance = GeoHash.distanceKm(latitude, longitude, point.latitude, point.longitude);
+            if (distance > radiusKm || (best.size() == limit && distance >= best.peek().distanceKm)) {
+                continue;
+            }
+            if (filter != null && !filter.test(point.value)) {
+                continue;
+            }
+            best.add(new Hit<>(point.id, point.value, distance));
+            if (best.size() > limit) {
+                best.poll();
+            }
+        }
+    }
+
+    private long row(double latitude) {
+        return (long) Math.floor((latitude + 90) / latitudeSpan);
+    }
+
+    private long column(double longitude) {
+        return Math.floorMod((long) Math.floor((longitude + 180) / longitudeSpan), columns);
+    }
+
+    private static long cell(long row, long column) {
+        return (row << 32) | column;
+    }
+
+    private static class Point<T> {
+        private final long id;
+        private final double latitude;
+        private final double longitude;
+        private final T value;
+        private final long cell;
+
+        private Point(long id, double latitude, double longitude, T value, long cell) {
+            this.id = id;
+            this.latitude = latitude;
+            this.longitude = longitude;
+            this.value = value;
+            this.cell = cell;
+        }
+    }
+
+    public static class Hit<T> {
+        private final long id;
+        private final T value;
+        private final double distanceKm;
+
+        private Hit(long id, T value, double distanceKm) {
+            this.id = id;
+            this.value = value;
+            this.distanceKm = distanceKm;
+        }
+
+        public long getId() { return id; }
+        public T getValue() { return value; }
+        public double getDistanceKm() { return distanceKm; }
+    }
+}
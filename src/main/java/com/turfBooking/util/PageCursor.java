@@ -0,0 +1,117 @@
+package com.turfBooking.util;
+
+import com.turfBooking.dto.PageResponseDTO;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+import java.util.List;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Opaque continuation tokens for keyset pagination.
+ * A token is the URL-safe Base64 form of the sort key of the last row on the previous page,
+ * so the next page is a seek on that key instead of an OFFSET scan.
+ */
+public final class PageCursor {
+
+    public static final int DEFAULT_PAGE_SIZE = 50;
+    public static final int MAX_PAGE_SIZE = 200;
+
+    private static final String SEPARATOR = "|";
+
+    private PageCursor() {
+    }
+
+    public static String encode(Object... keyParts) {
+        StringBuilder raw = new StringBuilder();
+        for (Object part : keyParts) {
+            if (raw.length() > 0) {
+                raw.append(SEPARATOR);
+            }
+            raw.append(part);
+        }
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.toString().getBytes(StandardCharsets.UTF_8));
+    }
+
+    // Returns the key parts of a token, or null for the first page
+    public static String[] decode(String cursor, int expectedParts) {
+        if (cursor == null || cursor.isBlank()) {
+            return null;
+        }
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            String[] parts = raw.split("\\|", -1);
+            if (parts.length == expectedParts) {
+                return parts;
+            }
+        } catch (IllegalArgumentException e) {
+            // fall through to the error below
+        }
+        throw new RuntimeException("Invalid page cursor");
+    }
+
+    // Last id of the previous page for lists ordered by id alone; 0 for the first page
+    public static long afterId(String cursor) {
+        String[] key = decode(cursor, 1);
+        return key == null ? 0L : parseId(key[0]);
+    }
+
+    public static long parseId(String value) {
+        try {
+            return Long.parseLong(value);
+        } catch (NumberFormatException e) {
+            throw new RuntimeException("Invalid page cursor");
+        }
+    }
+
+    public static LocalDate parseDate(String value) {
+        try {
+            return LocalDate.parse(value);
+        } catch (DateTimeParseException e) {
+            throw new RuntimeException("Invalid page cursor");
+        }
+    }
+
+    public static LocalTime parseTime(String value) {
+        try {
+            return LocalTime.parse(value);
+        } catch (DateTimeParseException e) {
+            throw new RuntimeException("Invalid page cursor");
+        }
+    }
+
+    public static int pageSize(Integer requested) {
+        if (requested == null) {
+            return DEFAULT_PAGE_SIZE;
+        }
+        if (requested < 1 || requested > MAX_PAGE_SIZE) {
+            throw new RuntimeException("Page size must be between 1 and " + MAX_PAGE_SIZE);
+        }
+        return requested;
+    }
+
+    // One extra row tells whether another page follows
+    public static Pageable probe(int size) {
+        return PageRequest.of(0, size + 1);
+    }
+
+    /**
+     * Page of rows fetched with {@link #probe}: drops the probe row, maps the rest and, when the probe
+     * row was there, encodes the sort key of the last row kept as the next cursor.
+     */
+    public static <R, T> PageResponseDTO<T> page(List<R> rows, int size, Function<R, T> mapper,
+                                                 Function<R, Object[]> sortKey) {
+        String nextCursor = null;
+        if (rows.size() > size) {
+            rows = rows.subList(0, size);
+            nextCursor = encode(sortKey.apply(rows.get(size - 1)));
+        }
+        return new PageResponseDTO<>(rows.stream().map(mapper).collect(Collectors.toList()), nextCursor);
+    }
+}
@@ -0,0 +1,244 @@
+package com.turfBooking.util;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Compressed (radix) prefix trie from string keys to scored item ids. Every node keeps the
+ * ids of the best {@code topK} items anywhere below it, ordered by score then id, so a prefix
+ * lookup is one walk down the trie with no search of the subtree.
+ *
+ * An item may be stored under several keys. Whenever an item is added, removed or rescored,
+ * the nodes on the paths of its keys are recomputed bottom-up from their children, which keeps
+ * every node's top list exact. Not thread-safe; callers synchronize.
+ */
+public class PrefixTrie {
+
+    private static final long[] NONE = new long[0];
+
+    private final int topK;
+    private final Node root = new Node("");
+    private final Map<Long, Long> scores = new HashMap<>();
+    private final Map<Long, String[]> keysById = new HashMap<>();
+
+    public PrefixTrie(int topK) {
+        this.topK = topK;
+    }
+
+    public int size() {
+        return scores.size();
+    }
+
+    public boolean contains(long id) {
+        return scores.containsKey(id);
+    }
+
+    public long score(long id) {
+        return scores.getOrDefault(id, 0L);
+    }
+
+    // Stores an item under the given keys, replacing any keys it had before
+    public void put(long id, Collection<String> keys, long score) {
+        remove(id);
+        String[] distinct = new LinkedHashSet<>(keys).stream()
+                .filter(key -> !key.isEmpty())
+                .toArray(String[]::new);
+        scores.put(id, score);
+        keysById.put(id, distinct);
+        for (String key : distinct) {
+            List<Node> path = insert(key);
+            Node leaf = path.get(path.size() - 1);
+            leaf.ids = append(leaf.ids, id);
+            recompute(path);
+        }
+    }
+
+    public void remove(long id) {
+        String[] keys = keysById.remove(id);
+        if (keys == null) {
+            return;
+        }
+        for (String key : keys) {
+            List<Node> path = find(key);
+            Node leaf = path.get(path.size() - 1);
+            leaf.ids = without(leaf.ids, id);
+            prune(path);
+            recompute(path);
+        }
+        // Dropped last: until every path is recomputed, other nodes may still list the id
+        scores.remove(id);
+    }
+
+    public void setScore(long id, long score) {
+        String[] keys = keysById.get(id);
+        if (keys == null) {
+            return;
+        }
+        scores.put(id, score);
+        for (String key : keys) {
+            recompute(find(key));
+        }
+    }
+
+    // Ids of the best items with a key starting with the prefix, best first
+    public long[] top(String prefix, int limit) {
+        Node node = root;
+        int i = 0;
+        while (i < prefix.length()) {
+            Node child = node.children.get(prefix.charAt(i));
+            if (child == null) {
+                return NONE;
+            }
+            int length = Math.min(child.label.length(), prefix.length() - i);
+            if (!child.label.regionMatches(0, prefix, i, length)) {
+                return NONE;
+            }
+            i += length;
+            node = child;
+        }
+        return Arrays.copyOf(node.top, Math.min(limit, node.top.length));
+    }
+
+    // Path from the root to the node of the key, splitting an edge where the key diverges
+    private List<Node> insert(String key) {
+        List<Node> path = new ArrayList<>();
+        Node node = root;
+        path.add(node);
+        int i = 0;
+        while (i < key.length()) {
+            char first = key.charAt(i);
+            Node child = node.children.get(first);
+            if (child == null) {
+                child = new Node(key.substring(i));
+                node.children.put(first, child);
+                path.add(child);
+                return path;
+            }
+            int common = commonPrefix(child.label, key, i);
+            if (common < child.label.length()) {
+                Node split = new Node(child.label.substring(0, common));
+                child.label = child.label.substring(common);
+                split.children.put(child.label.charAt(0), child);
+                split.top = child.top;
+                node.children.put(first, split);
+                child = split;
+            }
+            path.add(child);
+            node = child;
+            i += common;
+        }
+        return path;
+    }
+
+    // Path of a key known to be stored
+    private List<Node> find(String key) {
+        List<Node> path = new ArrayList<>();
+        Node node = root;
+        path.add(node);
+        int i = 0;
+        while (i < key.length()) {
+            node = node.children.get(key.charAt(i));
+            path.add(node);
+            i += node.label.length();
+        }
+        return path;
+    }
+
+    // Drops nodes left without ids or children and merges single-child chains back into one edge
+    private void prune(List<Node> path) {
+        for (int depth = path.size() - 1; depth > 0; depth--) {
+            Node node = path.get(depth);
+            Node parent = path.get(depth - 1);
+            if (node.ids.length == 0 && node.children.isEmpty()) {
+                parent.children.remove(node.label.charAt(0));
+                path.remove(depth);
+            } else if (node.ids.length == 0 && node.children.size() == 1) {
+                Node child = node.children.values().iterator().next();
+                child.label = node.label + child.label;
+                parent.children.put(child.label.charAt(0), child);
+                path.remove(depth);
+            }
+        }
+    }
+
+    private void recompute(List<Node> path) {
+        for (int depth = path.size() - 1; depth >= 0; depth--) {
+            recompute(path.get(depth));
+        }
+    }
+
+    // Merge of the node's own ids and its children's top lists, deduplicated, best topK kept
+    private void recompute(Node node) {
+        List<Long> candidates = new ArrayList<>();
+        for (long id : node.ids) {
+            candidates.add(id);
+        }
+        for (Node child : node.children.values()) {
+            for (long id : child.top) {
+                candidates.add(id);
+            }
+        }
+        candidates.sort((a, b) -> {
+            int byScore = Long.compare(scores.get(b), scores.get(a));
+            return byScore != 0 ? byScore : Long.compare(a, b);
+        });
+        long[] top = new long[Math.min(topK, candidates.size())];
+        int count = 0;
+        for (int i = 0; i < candidates.size() && count < top.length; i++) {
+            long id = candidates.get(i);
+            // Equal ids sort next to each other
+            if (count == 0 || top[count - 1] != id) {
+                top[count++] = id;
+            }
+        }
+        node.top = count == top.length ? top : Arrays.copyOf(top, count);
+    }
+
+    private static int commonPrefix(String label, String key, int offset) {
+        int length = Math.min(label.length(), key.length() - offset);
+        int i = 0;
+        while (i < length && label.charAt(i) == key.charAt(offset + i)) {
+            i++;
+        }
+        return i;
+    }
+
+    private static long[] append(long[] ids, long id) {
+        for (long existing : ids) {
+            if (existing == id) {
+                return ids;
+            }
+        }
+        long[] grown = Arrays.copyOf(ids, ids.length + 1);
+        grown[ids.length] = id;
+        return grown;
+    }
+
+    private static long[] without(long[] ids, long id) {
+        long[] kept = new long[ids.length];
+        int count = 0;
+        for (long existing : ids) {
+            if (existing != id) {
+                kept[count++] = existing;
+            }
+        }
+        return Arrays.copyOf(kept, count);
+    }
+
+    private static class Node {
+        private String label;
+        private final Map<Character, Node> children = new HashMap<>(4);
+        // Items whose key ends exactly here
+        private long[] ids = NONE;
+        private long[] top = NONE;
+
+        private Node(String label) {
+            this.label = label;
+        }
+    }
+}
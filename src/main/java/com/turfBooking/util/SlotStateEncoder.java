@@ -0,0 +1,54 @@
+package com.turfBooking.util;
+
+import java.time.LocalTime;
+import java.util.List;
+
+/**
+ * Run-length encodes the slot states of one turf-day, e.g. "4F2B1X3F" for four free slots,
+ * two booked, one blocked and three free. Blocked wins over booked when a slot overlaps both.
+ */
+public final class SlotStateEncoder {
+
+    public static final char FREE = 'F';
+    public static final char BOOKED = 'B';
+    public static final char BLOCKED = 'X';
+
+    private SlotStateEncoder() {
+    }
+
+    public static String encode(LocalTime open, LocalTime close, int slotMinutes,
+                                List<int[]> booked, List<int[]> blocked) {
+        long[] bookedBits = toBits(booked);
+        long[] blockedBits = toBits(blocked);
+        int closeMinute = DayOccupancy.endMinute(close);
+
+        StringBuilder runs = new StringBuilder();
+        char runState = 0;
+        int runLength = 0;
+        for (int start = DayOccupancy.startMinute(open); start + slotMinutes <= closeMinute; start += slotMinutes) {
+            int end = start + slotMinutes;
+            char state = DayOccupancy.anySet(blockedBits, start, end) ? BLOCKED
+                    : DayOccupancy.anySet(bookedBits, start, end) ? BOOKED : FREE;
+            if (state != runState && runLength > 0) {
+                runs.append(runLength).append(runState);
+                runLength = 0;
+            }
+            runState = state;
+            runLength++;
+        }
+        if (runLength > 0) {
+            runs.append(runLength).append(runState);
+        }
+        return runs.toString();
+    }
+
+    private static long[] toBits(List<int[]> intervals) {
+        long[] bits = new long[DayOccupancy.WORDS];
+        if (intervals != null) {
+            for (int[] interval : intervals) {
+                DayOccupancy.setRange(bits, interval[0], interval[1]);
+            }
+        }
+        return bits;
+    }
+}
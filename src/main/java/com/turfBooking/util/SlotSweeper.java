@@ -0,0 +1,111 @@
+package com.turfBooking.util;
+
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * Computes the free slots of one turf-day in a single sweep over that day's reservations.
+ * Reservations are sorted and merged (O(k log k)), then the operating window is walked once;
+ * slots stay on the grid that starts at opening time, as they did with fixed hourly slots.
+ */
+public final class SlotSweeper {
+
+    public static final int DEFAULT_SLOT_MINUTES = 60;
+
+    // Slot lengths stay on the 15-minute grid used by booking_slot_claims
+    public static final int MIN_SLOT_MINUTES = 15;
+    public static final int MAX_SLOT_MINUTES = 240;
+
+    private SlotSweeper() {
+    }
+
+    public static boolean isValidSlotLength(int slotMinutes) {
+        return slotMinutes >= MIN_SLOT_MINUTES && slotMinutes <= MAX_SLOT_MINUTES && slotMinutes % MIN_SLOT_MINUTES == 0;
+    }
+
+    /**
+     * Start times of every slot of {@code slotMinutes} inside [open, close) that overlaps none of
+     * the busy minute intervals ({@code [start, end)} pairs, in any order, possibly overlapping).
+     */
+    public static List<LocalTime> freeSlots(LocalTime open, LocalTime close, int slotMinutes, List<int[]> busy) {
+        int openMinute = DayOccupancy.startMinute(open);
+        int closeMinute = DayOccupancy.endMinute(close);
+        List<int[]> merged = merge(busy);
+
+        List<LocalTime> slots = new ArrayList<>();
+        int next = 0;
+        int slotStart = openMinute;
+        while (slotStart + slotMinutes <= closeMinute) {
+            int slotEnd = slotStart + slotMinutes;
+            while (next < merged.size() && merged.get(next)[1] <= slotStart) {
+                next++;
+            }
+            if (next < merged.size() && merged.get(next)[0] < slotEnd) {
+                // Jump to the first grid point at or after the end of the blocking interval
+                int blockedUntil = merged.get(next)[1];
+                slotStart = openMinute + ceilDiv(blockedUntil - openMinute, slotMinutes) * slotMinutes;
+            } else {
+                slots.add(LocalTime.of(slotStart / 60, slotStart % 60));
+                slotStart = slotEnd;
+            }
+        }
+        return slots;
+    }
+
+    // Maximal free intervals inside [open, close) as [startMinute, endMinute) pairs
+    public static List<int[]> freeRuns(LocalTime open, LocalTime close, List<int[]> busy) {
+        int openMinute = DayOccupancy.startMinute(open);
+        int closeMinute = DayOccupancy.endMinute(close);
+
+        List<int[]> runs = new ArrayList<>();
+        int cursor = openMinute;
+        for (int[] interval : merge(busy)) {
+            if (interval[1] <= cursor) {
+                continue;
+            }
+            if (interval[0] >= closeMinute) {
+                break;
+            }
+            if (interval[0] > cursor) {
+                runs.add(new int[]{cursor, interval[0]});
+            }
+            cursor = interval[1];
+        }
+        if (cursor < closeMinute) {
+            runs.add(new int[]{cursor, closeMinute});
+        }
+        return runs;
+    }
+
+    // Minutes covered by at least one of the intervals
+    public static int coveredMinutes(List<int[]> intervals) {
+        int minutes = 0;
+        for (int[] interval : merge(intervals)) {
+            minutes += interval[1] - interval[0];
+        }
+        return minutes;
+    }
+
+    // Sort by start and coalesce overlapping or touching intervals
+    static List<int[]> merge(List<int[]> intervals) {
+        List<int[]> sorted = new ArrayList<>(intervals);
+        sorted.sort(Comparator.comparingInt(interval -> interval[0]));
+
+        List<int[]> merged = new ArrayList<>();
+        for (int[] interval : sorted) {
+            int[] last = merged.isEmpty() ? null : merged.get(merged.size() - 1);
+            if (last != null && interval[0] <= last[1]) {
+                last[1] = Math.max(last[1], interval[1]);
+            } else {
+                merged.add(new int[]{interval[0], interval[1]});
+            }
+        }
+        return merged;
+    }
+
+    private static int ceilDiv(int value, int divisor) {
+        return -Math.floorDiv(-value, divisor);
+    }
+}
@@ -0,0 +1,39 @@
+package com.turfBooking.util;
+
+import java.text.Normalizer;
+import java.util.Locale;
+import java.util.Set;
+import java.util.regex.Pattern;
+
+/**
+ * Search-box text as the autocomplete trie stores it: lowercase, accents and punctuation removed,
+ * and one key per word start, so a query matching the beginning of any word finds the text.
+ */
+public final class SuggestionKeys {
+
+    private static final Pattern MARKS = Pattern.compile("\\p{M}+");
+    private static final Pattern SEPARATORS = Pattern.compile("[^\\p{L}\\p{N}]+");
+
+    private SuggestionKeys() {
+    }
+
+    // "Café  Green-Arena" -> "cafe green arena"
+    public static String normalize(String value) {
+        if (value == null) {
+            return "";
+        }
+        String stripped = MARKS.matcher(Normalizer.normalize(value, Normalizer.Form.NFD)).replaceAll("");
+        return SEPARATORS.matcher(stripped.toLowerCase(Locale.ROOT)).replaceAll(" ").trim();
+    }
+
+    // Every word-start suffix of normalized text: "green arena" -> "green arena", "arena"
+    public static void addSuffixes(Set<String> keys, String text) {
+        if (text.isEmpty()) {
+            return;
+        }
+        keys.add(text);
+        for (int i = text.indexOf(' '); i >= 0; i = text.indexOf(' ', i + 1)) {
+            keys.add(text.substring(i + 1));
+        }
+    }
+}
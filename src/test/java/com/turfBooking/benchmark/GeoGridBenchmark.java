@@ -0,0 +1,95 @@
+package com.turfBooking.benchmark;
+
+import com.turfBooking.util.GeoGrid;
+import com.turfBooking.util.GeoHash;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.util.PriorityQueue;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Nearby search through the geohash grid against a full scan of every turf.
+ * Turfs are spread over a metro-sized box; queries ask for the 20 closest within 10 km.
+ * Not part of the test run: start {@link #main} from the IDE, or {@code org.openjdk.jmh.Main}
+ * on the test classpath after {@code mvn test-compile}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class GeoGridBenchmark {
+
+    private static final double RADIUS_KM = 10;
+    private static final int LIMIT = 20;
+
+    @Param({"1000", "10000", "100000"})
+    private int turfs;
+
+    private GeoGrid<Integer> grid;
+    private double[] latitudes;
+    private double[] longitudes;
+    private double[][] queries;
+    private int next;
+
+    @Setup
+    public void setUp() {
+        Random random = new Random(7);
+        grid = new GeoGrid<>(5, 64);
+        latitudes = new double[turfs];
+        longitudes = new double[turfs];
+        for (int i = 0; i < turfs; i++) {
+            latitudes[i] = 12.7 + random.nextDouble() * 0.6;
+            longitudes[i] = 77.3 + random.nextDouble() * 0.6;
+            grid.put(i, latitudes[i], longitudes[i], i % 5);
+        }
+        queries = new double[1024][];
+        for (int i = 0; i < queries.length; i++) {
+            queries[i] = new double[]{12.7 + random.nextDouble() * 0.6, 77.3 + random.nextDouble() * 0.6};
+        }
+    }
+
+    @Benchmark
+    public int grid() {
+        double[] query = queries[next++ & 1023];
+        return grid.nearest(query[0], query[1], RADIUS_KM, LIMIT, type -> type != 0).size();
+    }
+
+    @Benchmark
+    public int fullScan() {
+        double[] query = queries[next++ & 1023];
+        PriorityQueue<Double> best = new PriorityQueue<>((a, b) -> Double.compare(b, a));
+        for (int i = 0; i < turfs; i++) {
+            if (i % 5 == 0) {
+                continue;
+            }
+            double distance = GeoHash.distanceKm(query[0], query[1], latitudes[i], longitudes[i]);
+            if (distance <= RADIUS_KM) {
+                best.add(distance);
+                if (best.size() > LIMIT) {
+                    best.poll();
+                }
+            }
+        }
+        return best.size();
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder().include(GeoGridBenchmark.class.getSimpleName()).build()).run();
+    }
+}
@@ -0,0 +1,111 @@
+package com.turfBooking.repository;
+
+import com.turfBooking.dto.BookingResponseDTO;
+import com.turfBooking.entity.Booking;
+import com.turfBooking.entity.Turf;
+import com.turfBooking.entity.User;
+import com.turfBooking.enums.BookingStatus;
+import com.turfBooking.enums.SportType;
+import com.turfBooking.enums.UserRole;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.List;
+import java.util.function.Supplier;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+// The booking list projections must stay one joined select however many bookings they return
+@DataJpaTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:bookings;MODE=MySQL;DATABASE_TO_LOWER=TRUE;DB_CLOSE_DELAY=-1",
+        "spring.datasource.username=sa",
+        "spring.datasource.password=",
+        "spring.jpa.database-platform=org.hibernate.dialect.H2Dialect",
+        "spring.jpa.hibernate.ddl-auto=create-drop",
+        "spring.jpa.show-sql=false",
+        "spring.jpa.properties.hibernate.generate_statistics=true"
+})
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+class BookingRepositoryTest {
+
+    private static final int MANY = 25;
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Autowired
+    private BookingRepository bookingRepository;
+
+    private Statistics statistics;
+    private User owner;
+    private User player;
+    private Turf turf;
+
+    @BeforeEach
+    void setUp() {
+        statistics = entityManager.getEntityManager().getEntityManagerFactory()
+                .unwrap(SessionFactory.class).getStatistics();
+        owner = entityManager.persist(new User("Owner", "9000000001", "secret1", UserRole.TURF_OWNER));
+        player = entityManager.persist(new User("Player", "9000000002", "secret2", UserRole.USER));
+        turf = entityManager.persist(new Turf("Green Arena", "9000000003", "Koramangala", SportType.FOOTBALL,
+                new BigDecimal("800.00"), null, LocalTime.of(6, 0), LocalTime.of(23, 0), owner));
+    }
+
+    @Test
+    void listsByUserInOneStatement() {
+        assertSingleStatement(() -> bookingRepository.findResponsesByUserId(player.getId()));
+    }
+
+    @Test
+    void listsByTurfOwnerInOneStatement() {
+        assertSingleStatement(() -> bookingRepository.findResponsesForTurfOwner(owner.getId()));
+    }
+
+    @Test
+    void searchesInOneStatement() {
+        assertSingleStatement(() -> bookingRepository.searchBookingResponses(
+                null, turf.getId(), BookingStatus.CONFIRMED, null, null));
+    }
+
+    // Loads the list with one booking and again with MANY, counting prepared statements each time
+    private void assertSingleStatement(Supplier<List<BookingResponseDTO>> list) {
+        addBookings(1);
+        assertEquals(1, statementsFor(list, 1));
+
+        addBookings(MANY - 1);
+        assertEquals(1, statementsFor(list, MANY));
+    }
+
+    private long statementsFor(Supplier<List<BookingResponseDTO>> list, int expectedSize) {
+        entityManager.flush();
+        entityManager.clear();
+        statistics.clear();
+        List<BookingResponseDTO> bookings = list.get();
+        assertEquals(expectedSize, bookings.size());
+        // Touch every field a response exposes; nothing may load lazily
+        for (BookingResponseDTO booking : bookings) {
+            assertEquals("Green Arena", booking.getTurfName());
+            assertEquals("Owner", booking.getTurfOwnerName());
+            assertEquals("Player", booking.getUserName());
+        }
+        return statistics.getPrepareStatementCount();
+    }
+
+    private void addBookings(int count) {
+        int existing = bookingRepository.findAll().size();
+        for (int i = 0; i < count; i++) {
+            int slot = existing + i;
+            entityManager.persist(new Booking(LocalTime.of(6 + slot % 16, 0), LocalTime.of(7 + slot % 16, 0),
+                    LocalDate.of(2026, 3, 2).plusDays(slot / 16), player, turf, BookingStatus.CONFIRMED));
+        }
+    }
+}
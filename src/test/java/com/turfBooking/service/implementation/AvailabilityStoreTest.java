@@ -0,0 +1,212 @@
+package com.turfBooking.service.implementation;
+
+import com.turfBooking.entity.OccupancyChange;
+import com.turfBooking.util.DayOccupancy;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class AvailabilityStoreTest {
+
+    private static final int DAY = 20000;
+
+    @TempDir
+    Path dir;
+
+    private OccupancyChangeLog changeLog;
+    private final List<OccupancyChange> changes = new ArrayList<>();
+
+    @BeforeEach
+    void setUp() {
+        changeLog = mock(OccupancyChangeLog.class);
+        when(changeLog.getRetentionHours()).thenReturn(24L);
+        when(changeLog.changesSince(any())).thenAnswer(invocation -> List.copyOf(changes));
+    }
+
+    @Test
+    void servesWrittenBitmapsAgainAfterCleanShutdown() {
+        long[] first = bitmap(0, 3);
+        long[] second = bitmap(5, 1L << 40);
+
+        AvailabilityStore store = store();
+        store.open();
+        assertTrue(store.isServing());
+        store.write(key(1, DAY), first, () -> true);
+        store.write(key(2, DAY), second, () -> true);
+        store.write(key(3, DAY), second, () -> true);
+        store.remove(key(3, DAY));
+        store.close();
+
+        AvailabilityStore reopened = store();
+        reopened.open();
+        assertArrayEquals(first, reopened.read(key(1, DAY)));
+        assertArrayEquals(second, reopened.read(key(2, DAY)));
+        assertNull(reopened.read(key(3, DAY)));
+    }
+
+    @Test
+    void mergesAdditionsIntoStoredDaysOnly() {
+        AvailabilityStore store = store();
+        store.open();
+        store.write(key(1, DAY), bitmap(0, 1), () -> true);
+        store.merge(key(1, DAY), bitmap(0, 4));
+        store.merge(key(2, DAY), bitmap(0, 4));
+
+        assertArrayEquals(bitmap(0, 5), store.read(key(1, DAY)));
+        assertNull(store.read(key(2, DAY)));
+    }
+
+    @Test
+    void skipsAWriteWhoseLoadRacedWithAChange() {
+        AvailabilityStore store = store();
+        store.open();
+        store.write(key(1, DAY), bitmap(0, 1), () -> false);
+
+        assertNull(store.read(key(1, DAY)));
+    }
+
+    @Test
+    void dropsDaysOtherInstancesChanged() {
+        AvailabilityStore store = store();
+        store.open();
+        for (int day = 0; day < 3; day++) {
+            store.write(key(1, DAY + day), bitmap(0, 1), () -> true);
+            store.write(key(2, DAY + day), bitmap(0, 1), () -> true);
+        }
+        long generation = store.generation();
+
+        changes.add(change(1L, 1L, DAY));
+        changes.add(change(2L, 2L, null));
+        store.recheck();
+
+        assertNull(store.read(key(1, DAY)));
+        assertNotNull(store.read(key(1, DAY + 1)));
+        assertNull(store.read(key(2, DAY + 1)));
+        assertTrue(store.generation() > generation);
+
+        // Changes inside the slack window come back on the next check but are only applied once
+        store.write(key(1, DAY), bitmap(0, 1), () -> true);
+        generation = store.generation();
+        store.recheck();
+        assertNotNull(store.read(key(1, DAY)));
+        assertEquals(generation, store.generation());
+    }
+
+    @Test
+    void catchesUpFromTheChangeLogAfterRestart() {
+        AvailabilityStore store = store();
+        store.open();
+        store.write(key(1, DAY), bitmap(0, 1), () -> true);
+        store.write(key(2, DAY), bitmap(0, 1), () -> true);
+        store.close();
+
+        // Booked on another instance while this one was down
+        changes.add(change(1L, 1L, DAY));
+        AvailabilityStore reopened = store();
+        reopened.open();
+        assertNull(reopened.read(key(1, DAY)));
+        assertNotNull(reopened.read(key(2, DAY)));
+    }
+
+    @Test
+    void wipesTheFileWhenTheChangeLogNoLongerCoversTheDowntime() {
+        AvailabilityStore store = store();
+        store.open();
+        store.write(key(1, DAY), bitmap(0, 1), () -> true);
+        store.close();
+
+        when(changeLog.getRetentionHours()).thenReturn(0L);
+        AvailabilityStore reopened = store();
+        reopened.open();
+        assertNull(reopened.read(key(1, DAY)));
+    }
+
+    @Test
+    void wipesTheFileAfterACrash() {
+        AvailabilityStore store = store();
+        store.open();
+        store.write(key(1, DAY), bitmap(0, 1), () -> true);
+        // no close(): the clean flag stays cleared
+
+        AvailabilityStore reopened = store();
+        reopened.open();
+        assertNull(reopened.read(key(1, DAY)));
+    }
+
+    @Test
+    void stopsServingWhenChecksFail() {
+        AvailabilityStore store = store();
+        store.open();
+        store.write(key(1, DAY), bitmap(0, 1), () -> true);
+        assertTrue(store.isServing());
+
+        // The last successful check was a minute ago and this one fails too
+        ReflectionTestUtils.setField(store, "checkedAt", System.currentTimeMillis() - 60_000L);
+        when(changeLog.changesSince(any())).thenThrow(new IllegalStateException("database down"));
+        store.recheck();
+
+        assertFalse(store.isServing());
+        assertNull(store.read(key(1, DAY)));
+    }
+
+    @Test
+    void removesEveryDayOfATurf() {
+        AvailabilityStore store = store();
+        store.open();
+        for (int day = 0; day < 50; day++) {
+            store.write(key(1, DAY + day), bitmap(0, 1), () -> true);
+            store.write(key(2, DAY + day), bitmap(0, 1), () -> true);
+        }
+        store.removeTurf(1);
+
+        for (int day = 0; day < 50; day++) {
+            assertNull(store.read(key(1, DAY + day)));
+            assertNotNull(store.read(key(2, DAY + day)));
+        }
+    }
+
+    private AvailabilityStore store() {
+        AvailabilityStore store = new AvailabilityStore();
+        ReflectionTestUtils.setField(store, "occupancyChangeLog", changeLog);
+        ReflectionTestUtils.setField(store, "enabled", true);
+        ReflectionTestUtils.setField(store, "path", dir.resolve("availability.store").toString());
+        ReflectionTestUtils.setField(store, "capacity", 4096);
+        ReflectionTestUtils.setField(store, "changeSlackMillis", 30_000L);
+        ReflectionTestUtils.setField(store, "maxLagMillis", 30_000L);
+        return store;
+    }
+
+    private static OccupancyChange change(Long id, Long turfId, Integer epochDay) {
+        OccupancyChange change = new OccupancyChange(7L, turfId,
+                epochDay != null ? LocalDate.ofEpochDay(epochDay) : null, LocalDateTime.now());
+        change.setId(id);
+        return change;
+    }
+
+    private static long[] bitmap(int word, long bits) {
+        long[] bitmap = new long[DayOccupancy.WORDS];
+        bitmap[word] = bits;
+        return bitmap;
+    }
+
+    private static long key(long turfId, long epochDay) {
+        return (turfId << 24) | epochDay;
+    }
+}
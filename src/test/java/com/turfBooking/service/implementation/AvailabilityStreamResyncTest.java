@@ -0,0 +1,70 @@
+package com.turfBooking.service.implementation;
+
+import com.turfBooking.entity.Turf;
+import com.turfBooking.repository.TurfRepository;
+import com.turfBooking.util.BusyIntervals;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class AvailabilityStreamResyncTest {
+
+    private static final LocalDate DATE = LocalDate.of(2026, 3, 2);
+    private static final long KEY = (1L << 24) | DATE.toEpochDay();
+
+    private AvailabilityStreamHub hub;
+    private final List<Object[]> bookings = new ArrayList<>();
+    private AvailabilityStreamResync resync;
+
+    @BeforeEach
+    void setUp() {
+        hub = mock(AvailabilityStreamHub.class);
+        when(hub.subscribedKeys()).thenReturn(Set.of(KEY));
+
+        Turf turf = new Turf();
+        turf.setId(1L);
+        turf.setOperatingStartTime(LocalTime.of(18, 0));
+        turf.setOperatingEndTime(LocalTime.of(21, 0));
+        TurfRepository turfRepository = mock(TurfRepository.class);
+        when(turfRepository.findAllById(any())).thenReturn(List.of(turf));
+
+        BusyIntervalReader reader = mock(BusyIntervalReader.class);
+        when(reader.busyIntervals(any(), eq(DATE), eq(DATE))).thenAnswer(invocation -> {
+            BusyIntervals busy = new BusyIntervals((turfId, date) -> List.of());
+            busy.addBooked(bookings);
+            return busy;
+        });
+
+        resync = new AvailabilityStreamResync();
+        ReflectionTestUtils.setField(resync, "availabilityStreamHub", hub);
+        ReflectionTestUtils.setField(resync, "busyIntervalReader", reader);
+        ReflectionTestUtils.setField(resync, "turfRepository", turfRepository);
+    }
+
+    @Test
+    void sendsASnapshotOnlyWhenTheDayChanged() {
+        resync.resync();
+        resync.resync();
+        verify(hub, times(1)).resync(1L, DATE, List.of(LocalTime.of(18, 0), LocalTime.of(19, 0), LocalTime.of(20, 0)));
+
+        // Booked on another instance
+        bookings.add(new Object[]{1L, DATE, LocalTime.of(19, 0), LocalTime.of(20, 0)});
+        resync.resync();
+        verify(hub).resync(1L, DATE, List.of(LocalTime.of(18, 0), LocalTime.of(20, 0)));
+        verify(hub, times(2)).resync(eq(1L), eq(DATE), anyList());
+    }
+}
@@ -0,0 +1,127 @@
+package com.turfBooking.service.implementation;
+
+import com.turfBooking.entity.BlockedSlotRule;
+import com.turfBooking.event.BlockedSlotRuleChangedEvent;
+import com.turfBooking.repository.BlockedSlotRuleRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class BlockedSlotRuleCacheTest {
+
+    private static final LocalDate MONDAY = LocalDate.of(2026, 3, 2);
+
+    private BlockedSlotRuleRepository repository;
+    private BlockedSlotRuleCache cache;
+    private final List<Object[]> rows = new ArrayList<>();
+
+    @BeforeEach
+    void setUp() {
+        repository = mock(BlockedSlotRuleRepository.class);
+        when(repository.findCompiledFieldsByTurfIds(anyCollection())).thenAnswer(invocation -> {
+            List<Object[]> matching = new ArrayList<>();
+            for (Object[] row : rows) {
+                if (invocation.<Collection<?>>getArgument(0).contains(row[0])) {
+                    matching.add(row);
+                }
+            }
+            return matching;
+        });
+        cache = new BlockedSlotRuleCache();
+        ReflectionTestUtils.setField(cache, "blockedSlotRuleRepository", repository);
+        ReflectionTestUtils.setField(cache, "ttlSeconds", 300L);
+    }
+
+    @Test
+    void appliesRulesOnTheirWeekdaysInsideTheValidRange() {
+        rows.add(rule(1L, 10L, mask(DayOfWeek.MONDAY, DayOfWeek.WEDNESDAY), 18, 20, MONDAY, MONDAY.plusDays(9)));
+
+        assertEquals(1, cache.intervals(1L, MONDAY).size());
+        assertArrayEquals(new int[]{18 * 60, 20 * 60}, cache.intervals(1L, MONDAY).get(0));
+        assertTrue(cache.intervals(1L, MONDAY.plusDays(1)).isEmpty());
+        assertEquals(1, cache.intervals(1L, MONDAY.plusDays(2)).size());
+        assertEquals(1, cache.intervals(1L, MONDAY.plusDays(7)).size());
+        // past validUntil
+        assertTrue(cache.intervals(1L, MONDAY.plusDays(14)).isEmpty());
+        // before validFrom
+        assertTrue(cache.intervals(1L, MONDAY.minusDays(7)).isEmpty());
+    }
+
+    @Test
+    void checksOverlapWithHalfOpenIntervals() {
+        rows.add(rule(1L, 10L, mask(DayOfWeek.MONDAY), 18, 20, MONDAY, null));
+
+        assertTrue(cache.blocks(1L, MONDAY, LocalTime.of(19, 0), LocalTime.of(21, 0)));
+        assertFalse(cache.blocks(1L, MONDAY, LocalTime.of(20, 0), LocalTime.of(21, 0)));
+        assertFalse(cache.blocks(1L, MONDAY, LocalTime.of(17, 0), LocalTime.of(18, 0)));
+        assertFalse(cache.blocks(2L, MONDAY, LocalTime.of(19, 0), LocalTime.of(21, 0)));
+    }
+
+    @Test
+    void expandsSeveralTurfsWithOneQuery() {
+        rows.add(rule(1L, 10L, mask(DayOfWeek.MONDAY), 18, 20, MONDAY, null));
+        rows.add(rule(2L, 11L, mask(DayOfWeek.TUESDAY), 6, 7, MONDAY, null));
+
+        List<Object[]> expanded = cache.expand(List.of(1L, 2L, 3L), MONDAY, MONDAY.plusDays(6));
+        assertEquals(2, expanded.size());
+        verify(repository, times(1)).findCompiledFieldsByTurfIds(anyCollection());
+
+        // Turf 3 has no rules and is cached as such
+        assertTrue(cache.intervals(3L, MONDAY).isEmpty());
+        verify(repository, times(1)).findCompiledFieldsByTurfIds(anyCollection());
+    }
+
+    @Test
+    void reloadsOnlyWhenARuleChanged() {
+        assertTrue(cache.intervals(1L, MONDAY).isEmpty());
+        rows.add(rule(1L, 10L, mask(DayOfWeek.MONDAY), 18, 20, MONDAY, null));
+
+        // Reads keep using the cached, empty rule set
+        assertFalse(cache.blocks(1L, MONDAY, LocalTime.of(18, 0), LocalTime.of(19, 0)));
+        verify(repository, times(1)).findCompiledFieldsByTurfIds(anyCollection());
+
+        cache.onRuleChanged(new BlockedSlotRuleChangedEvent(1L));
+        assertTrue(cache.blocks(1L, MONDAY, LocalTime.of(18, 0), LocalTime.of(19, 0)));
+        verify(repository, times(2)).findCompiledFieldsByTurfIds(anyCollection());
+    }
+
+    @Test
+    void reloadsExpiredEntries() {
+        ReflectionTestUtils.setField(cache, "ttlSeconds", 0L);
+        cache.intervals(1L, MONDAY);
+        rows.add(rule(1L, 10L, mask(DayOfWeek.MONDAY), 18, 20, MONDAY, null));
+
+        assertEquals(1, cache.intervals(1L, MONDAY).size());
+    }
+
+    private static Object[] rule(Long turfId, Long ruleId, int weekdayMask, int startHour, int endHour,
+                                 LocalDate validFrom, LocalDate validUntil) {
+        return new Object[]{turfId, ruleId, weekdayMask, LocalTime.of(startHour, 0), LocalTime.of(endHour, 0),
+                validFrom, validUntil};
+    }
+
+    private static int mask(DayOfWeek... days) {
+        int mask = 0;
+        for (DayOfWeek day : days) {
+            mask |= BlockedSlotRule.maskOf(day);
+        }
+        return mask;
+    }
+}
@@ -0,0 +1,91 @@
+package com.turfBooking.service.implementation;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+
+class DashboardSectionLoaderTest {
+
+    private DashboardSectionLoader loader;
+
+    @AfterEach
+    void tearDown() {
+        loader.shutdown();
+    }
+
+    @Test
+    void interruptsASectionThatMissesItsDeadline() throws InterruptedException {
+        loader = loader(2, 10);
+        CountDownLatch interrupted = new CountDownLatch(1);
+
+        DashboardSectionLoader.Batch batch = loader.newBatch();
+        batch.submit("fast", () -> "done");
+        batch.submit("slow", () -> {
+            try {
+                Thread.sleep(10_000);
+            } catch (InterruptedException e) {
+                interrupted.countDown();
+            }
+            return "late";
+        });
+        List<String> failed = new ArrayList<>();
+        Map<String, Object> results = batch.await(failed);
+
+        assertEquals(Map.of("fast", "done"), results);
+        assertEquals(List.of("slow"), failed);
+        assertTrue(interrupted.await(5, TimeUnit.SECONDS));
+    }
+
+    @Test
+    void reportsASectionThePoolRejectedAsFailed() throws InterruptedException {
+        loader = loader(1, 0);
+        CountDownLatch release = new CountDownLatch(1);
+        String caller = Thread.currentThread().getName();
+        List<String> ranOn = new ArrayList<>();
+
+        DashboardSectionLoader.Batch batch = loader.newBatch();
+        batch.submit("busy", () -> {
+            try {
+                release.await(5, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            return "busy";
+        });
+        batch.submit("rejected", () -> {
+            ranOn.add(Thread.currentThread().getName());
+            return "rejected";
+        });
+        release.countDown();
+        List<String> failed = new ArrayList<>();
+        Map<String, Object> results = batch.await(failed);
+
+        assertEquals(Map.of("busy", "busy"), results);
+        assertEquals(List.of("rejected"), failed);
+        // Never loaded inline on the request thread
+        assertTrue(ranOn.stream().noneMatch(caller::equals));
+    }
+
+    private static DashboardSectionLoader loader(int poolSize, int queueCapacity) {
+        DashboardSectionLoader loader = new DashboardSectionLoader();
+        ReflectionTestUtils.setField(loader, "transactionManager", mock(PlatformTransactionManager.class));
+        ReflectionTestUtils.setField(loader, "meterRegistry", new SimpleMeterRegistry());
+        ReflectionTestUtils.setField(loader, "sectionTimeoutMs", 200L);
+        ReflectionTestUtils.setField(loader, "poolSize", poolSize);
+        ReflectionTestUtils.setField(loader, "queueCapacity", queueCapacity);
+        loader.init();
+        return loader;
+    }
+}
@@ -0,0 +1,168 @@
+package com.turfBooking.service.implementation;
+
+import com.turfBooking.exception.CoalescedTimeoutException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class SingleFlightTest {
+
+    private SimpleMeterRegistry meterRegistry;
+    private SingleFlight singleFlight;
+    private ExecutorService executor;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        singleFlight = new SingleFlight(meterRegistry);
+        ReflectionTestUtils.setField(singleFlight, "timeoutMs", 5000L);
+        executor = Executors.newCachedThreadPool();
+    }
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    void concurrentCallersShareOneExecution() throws Exception {
+        CountDownLatch release = new CountDownLatch(1);
+        AtomicInteger loads = new AtomicInteger();
+        Future<String> leader = executor.submit(() -> singleFlight.execute("key", () -> {
+            loads.incrementAndGet();
+            await(release);
+            return "result";
+        }));
+        awaitLeader();
+        Future<String> waiter = executor.submit(() -> singleFlight.execute("key", () -> {
+            loads.incrementAndGet();
+            return "other";
+        }));
+        awaitCount("coalesced", 1);
+
+        release.countDown();
+        assertEquals("result", leader.get(5, TimeUnit.SECONDS));
+        assertEquals("result", waiter.get(5, TimeUnit.SECONDS));
+        assertEquals(1, loads.get());
+    }
+
+    @Test
+    void releasesTheKeyOnceFinished() {
+        AtomicInteger loads = new AtomicInteger();
+        singleFlight.execute("key", loads::incrementAndGet);
+        singleFlight.execute("key", loads::incrementAndGet);
+        assertEquals(2, loads.get());
+    }
+
+    @Test
+    void differentKeysDoNotWaitForEachOther() throws Exception {
+        CountDownLatch release = new CountDownLatch(1);
+        Future<String> slow = executor.submit(() -> singleFlight.execute("slow", () -> {
+            await(release);
+            return "slow";
+        }));
+        awaitLeader();
+
+        assertEquals("fast", singleFlight.execute("fast", () -> "fast"));
+        release.countDown();
+        assertEquals("slow", slow.get(5, TimeUnit.SECONDS));
+    }
+
+    @Test
+    void waitersGiveUpAfterTheTimeout() throws Exception {
+        ReflectionTestUtils.setField(singleFlight, "timeoutMs", 50L);
+        CountDownLatch release = new CountDownLatch(1);
+        Future<String> leader = executor.submit(() -> singleFlight.execute("key", () -> {
+            await(release);
+            return "result";
+        }));
+        awaitLeader();
+
+        CoalescedTimeoutException e = assertThrows(CoalescedTimeoutException.class,
+                () -> singleFlight.execute("key", () -> "other"));
+        assertTrue(e.getMessage().startsWith("Timed out"));
+        assertEquals(1.0, meterRegistry.get("single.flight.calls").tag("role", "timeout").counter().count());
+
+        release.countDown();
+        assertEquals("result", leader.get(5, TimeUnit.SECONDS));
+    }
+
+    @Test
+    void aCallsOwnTimeoutOverridesTheDefault() throws Exception {
+        CountDownLatch release = new CountDownLatch(1);
+        Future<String> leader = executor.submit(() -> singleFlight.execute("key", () -> {
+            await(release);
+            return "result";
+        }));
+        awaitLeader();
+
+        long start = System.nanoTime();
+        assertThrows(CoalescedTimeoutException.class, () -> singleFlight.execute("key", 50, () -> "other"));
+        assertTrue(System.nanoTime() - start < TimeUnit.SECONDS.toNanos(4), "waited for the 5 s default");
+
+        release.countDown();
+        assertEquals("result", leader.get(5, TimeUnit.SECONDS));
+    }
+
+    @Test
+    void waitersSeeTheLeadersException() throws Exception {
+        CountDownLatch release = new CountDownLatch(1);
+        IllegalStateException failure = new IllegalStateException("Turf not found");
+        Future<String> leader = executor.submit(() -> singleFlight.execute("key", () -> {
+            await(release);
+            throw failure;
+        }));
+        awaitLeader();
+        Future<String> waiter = executor.submit(() -> singleFlight.execute("key", () -> "other"));
+        awaitCount("coalesced", 1);
+
+        release.countDown();
+        ExecutionException leaderError = assertThrows(ExecutionException.class, () -> leader.get(5, TimeUnit.SECONDS));
+        ExecutionException waiterError = assertThrows(ExecutionException.class, () -> waiter.get(5, TimeUnit.SECONDS));
+        assertSame(failure, leaderError.getCause());
+        assertSame(failure, waiterError.getCause());
+    }
+
+    @Test
+    void sharedCollectionsAreReadOnly() {
+        List<String> result = singleFlight.execute("key", () -> new ArrayList<>(List.of("a")));
+        assertThrows(UnsupportedOperationException.class, () -> result.add("b"));
+    }
+
+    private void awaitLeader() throws InterruptedException {
+        awaitCount("leader", 1);
+    }
+
+    private void awaitCount(String role, int expected) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (meterRegistry.get("single.flight.calls").tag("role", role).counter().count() < expected) {
+            assertTrue(System.nanoTime() < deadline, "Timed out waiting for " + role);
+            Thread.sleep(1);
+        }
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
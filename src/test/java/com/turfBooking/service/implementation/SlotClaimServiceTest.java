@@ -0,0 +1,70 @@
+package com.turfBooking.service.implementation;
+
+import com.turfBooking.entity.Booking;
+import com.turfBooking.entity.Turf;
+import com.turfBooking.enums.BookingStatus;
+import com.turfBooking.repository.BookingSlotClaimRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class SlotClaimServiceTest {
+
+    private BookingSlotClaimRepository claimRepository;
+    private SlotClaimService service;
+    private Turf turf;
+
+    @BeforeEach
+    void setUp() {
+        claimRepository = mock(BookingSlotClaimRepository.class);
+        service = new SlotClaimService();
+        ReflectionTestUtils.setField(service, "claimRepository", claimRepository);
+        ReflectionTestUtils.setField(service, "slotMinutes", 15);
+        turf = new Turf();
+        turf.setId(1L);
+    }
+
+    @Test
+    void releasesOnlyTheOccurrencesThatLostASlot() {
+        // 18:00-19:00 is four 15-minute claims per occurrence
+        Booking first = booking(10L, LocalDate.of(2026, 3, 2));
+        Booking second = booking(11L, LocalDate.of(2026, 3, 9));
+        Booking third = booking(12L, LocalDate.of(2026, 3, 16));
+        when(claimRepository.countByBookingIdIn(any())).thenReturn(List.of(
+                new Object[]{10L, 4L}, new Object[]{11L, 2L}));
+
+        Set<Long> lost = service.claimAvailableForBookings(List.of(first, second, third));
+
+        assertEquals(Set.of(11L, 12L), lost);
+        verify(claimRepository).insertClaimsIgnoringConflicts(anyList());
+        verify(claimRepository).deleteByBookingIdIn(Set.of(11L, 12L));
+    }
+
+    @Test
+    void releasesNothingWhenEveryOccurrenceGotItsSlots() {
+        when(claimRepository.countByBookingIdIn(any())).thenReturn(List.<Object[]>of(new Object[]{10L, 4L}));
+
+        assertTrue(service.claimAvailableForBookings(List.of(booking(10L, LocalDate.of(2026, 3, 2)))).isEmpty());
+        verify(claimRepository, never()).deleteByBookingIdIn(any());
+    }
+
+    private Booking booking(Long id, LocalDate date) {
+        Booking booking = new Booking(LocalTime.of(18, 0), LocalTime.of(19, 0), date, null, turf, BookingStatus.CONFIRMED);
+        booking.setId(id);
+        return booking;
+    }
+}
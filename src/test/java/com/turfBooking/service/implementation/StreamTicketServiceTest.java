@@ -0,0 +1,83 @@
+package com.turfBooking.service.implementation;
+
+import com.turfBooking.entity.StreamTicket;
+import com.turfBooking.repository.StreamTicketRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class StreamTicketServiceTest {
+
+    private static final LocalDate DATE = LocalDate.of(2026, 3, 2);
+
+    private StreamTicketRepository repository;
+    private StreamTicketService service;
+
+    @BeforeEach
+    void setUp() {
+        repository = mock(StreamTicketRepository.class);
+        service = new StreamTicketService();
+        ReflectionTestUtils.setField(service, "streamTicketRepository", repository);
+        ReflectionTestUtils.setField(service, "ttlSeconds", 30L);
+    }
+
+    @Test
+    void storesOnlyAHashOfTheTicket() {
+        String ticket = service.issue("alice", 1L, DATE);
+
+        ArgumentCaptor<StreamTicket> saved = ArgumentCaptor.forClass(StreamTicket.class);
+        verify(repository).save(saved.capture());
+        assertNotEquals(ticket, saved.getValue().getTokenHash());
+        assertEquals(64, saved.getValue().getTokenHash().length());
+        assertTrue(saved.getValue().getExpiresAt().isBefore(LocalDateTime.now().plusSeconds(31)));
+    }
+
+    @Test
+    void redeemsForTheTurfAndDayItWasIssuedFor() {
+        String ticket = issued();
+        when(repository.consume(anyString(), any())).thenReturn(1);
+
+        assertEquals(Optional.of("alice"), service.redeem(ticket, 1L, DATE));
+    }
+
+    @Test
+    void rejectsAnotherStream() {
+        String ticket = issued();
+
+        assertFalse(service.redeem(ticket, 2L, DATE).isPresent());
+        assertFalse(service.redeem(ticket, 1L, DATE.plusDays(1)).isPresent());
+        verify(repository, never()).consume(anyString(), any());
+    }
+
+    @Test
+    void rejectsATicketSomeoneElseRedeemedFirst() {
+        String ticket = issued();
+        when(repository.consume(anyString(), any())).thenReturn(0);
+
+        assertFalse(service.redeem(ticket, 1L, DATE).isPresent());
+    }
+
+    private String issued() {
+        String ticket = service.issue("alice", 1L, DATE);
+        ArgumentCaptor<StreamTicket> saved = ArgumentCaptor.forClass(StreamTicket.class);
+        verify(repository).save(saved.capture());
+        when(repository.findById(saved.getValue().getTokenHash())).thenReturn(Optional.of(saved.getValue()));
+        return ticket;
+    }
+}
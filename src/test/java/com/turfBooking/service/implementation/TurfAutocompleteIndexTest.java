@@ -0,0 +1,89 @@
+package com.turfBooking.service.implementation;
+
+import com.turfBooking.enums.BookingStatus;
+import com.turfBooking.enums.SportType;
+import com.turfBooking.event.BookingChangedEvent;
+import com.turfBooking.event.BookingSnapshot;
+import com.turfBooking.repository.TurfRepository;
+import com.turfBooking.service.interfaces.StatisticsService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class TurfAutocompleteIndexTest {
+
+    private final Map<Long, Long> bookingCounts = new HashMap<>();
+    private StatisticsService statisticsService;
+    private TurfAutocompleteIndex index;
+
+    @BeforeEach
+    void setUp() {
+        TurfRepository turfRepository = mock(TurfRepository.class);
+        List<Object[]> rows = List.<Object[]>of(new Object[]{1L, "Green Arena", "Pune", SportType.FOOTBALL, null});
+        when(turfRepository.findCatalogFields()).thenReturn(rows);
+        when(turfRepository.findCatalogFieldsById(1L)).thenReturn(rows);
+
+        statisticsService = mock(StatisticsService.class);
+        when(statisticsService.getBookingsCountByTurf(anyLong()))
+                .thenAnswer(invocation -> bookingCounts.getOrDefault(invocation.<Long>getArgument(0), 0L));
+
+        index = new TurfAutocompleteIndex();
+        ReflectionTestUtils.setField(index, "turfRepository", turfRepository);
+        ReflectionTestUtils.setField(index, "statisticsService", statisticsService);
+        ReflectionTestUtils.setField(index, "topK", 10);
+        bookingCounts.put(1L, 3L);
+    }
+
+    @Test
+    void followsTheCountersOnBookingEvents() {
+        index.rebuild();
+        bookingCounts.put(1L, 4L);
+        index.onBookingChanged(newBooking(1L));
+
+        assertEquals(4, score("green"));
+    }
+
+    @Test
+    void replaysBookingsCommittedWhileRebuilding() {
+        // The booking commits after the rebuild read the count, so it only reaches the old trie
+        when(statisticsService.getBookingsCountByTurf(1L)).thenAnswer(invocation -> {
+            long counted = bookingCounts.get(1L);
+            bookingCounts.put(1L, counted + 1);
+            index.onBookingChanged(newBooking(1L));
+            return counted;
+        }).thenAnswer(invocation -> bookingCounts.get(1L));
+        index.rebuild();
+
+        assertEquals(4, score("arena"));
+    }
+
+    @Test
+    void doesNotCountABookingTheRebuildAlreadySaw() {
+        // The counters include the booking when the rebuild reads them; its event arrives after the swap
+        bookingCounts.put(1L, 4L);
+        index.rebuild();
+        index.onBookingChanged(newBooking(1L));
+
+        assertEquals(4, score("pune"));
+    }
+
+    private long score(String query) {
+        return index.suggest(query, 1).get(0).getTotalBookings();
+    }
+
+    private static BookingChangedEvent newBooking(Long turfId) {
+        return new BookingChangedEvent(100L, null, new BookingSnapshot(turfId, 7L, LocalDate.of(2026, 3, 2),
+                LocalTime.of(18, 0), LocalTime.of(19, 0), BookingStatus.CONFIRMED));
+    }
+}
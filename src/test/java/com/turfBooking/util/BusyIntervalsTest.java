@@ -0,0 +1,59 @@
+package com.turfBooking.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class BusyIntervalsTest {
+
+    private static final LocalDate MONDAY = LocalDate.of(2026, 3, 2);
+
+    @Test
+    void keepsBookedAndBlockedApartPerTurfDay() {
+        BusyIntervals busy = new BusyIntervals((turfId, date) -> List.of());
+        busy.addBooked(List.<Object[]>of(
+                row(1L, MONDAY, 9, 10),
+                row(1L, MONDAY.plusDays(1), 18, 19),
+                row(2L, MONDAY, 9, 11)));
+        busy.addBlocked(List.<Object[]>of(row(1L, MONDAY, 12, 13)));
+
+        assertEquals(1, busy.booked(1L, MONDAY).size());
+        assertArrayEquals(new int[]{540, 600}, busy.booked(1L, MONDAY).get(0));
+        assertArrayEquals(new int[]{720, 780}, busy.blocked(1L, MONDAY).get(0));
+        assertEquals(2, busy.all(1L, MONDAY).size());
+        assertArrayEquals(new int[]{540, 660}, busy.booked(2L, MONDAY).get(0));
+        assertTrue(busy.booked(2L, MONDAY.plusDays(1)).isEmpty());
+    }
+
+    @Test
+    void addsRuleIntervalsToBlockedOnly() {
+        BusyIntervals busy = new BusyIntervals((turfId, date) ->
+                turfId == 1L && date.equals(MONDAY) ? List.of(new int[]{360, 420}) : List.of());
+        busy.addBlocked(List.<Object[]>of(row(1L, MONDAY, 12, 13)));
+
+        assertEquals(2, busy.blocked(1L, MONDAY).size());
+        assertTrue(busy.booked(1L, MONDAY).isEmpty());
+        assertTrue(busy.blocked(2L, MONDAY).isEmpty());
+        assertEquals(2, busy.all(1L, MONDAY).size());
+    }
+
+    @Test
+    void listsDaysWithReservationsButNotRuleOnlyDays() {
+        BusyIntervals busy = new BusyIntervals((turfId, date) -> List.of(new int[]{0, 60}));
+        busy.addBooked(List.<Object[]>of(row(1L, MONDAY.plusDays(2), 9, 10), row(2L, MONDAY, 9, 10)));
+        busy.addBlocked(List.<Object[]>of(row(1L, MONDAY, 9, 10), row(1L, MONDAY.plusDays(2), 11, 12)));
+
+        assertEquals(List.of(MONDAY, MONDAY.plusDays(2)), List.copyOf(busy.reservedDates(1L)));
+        assertEquals(List.of(MONDAY), List.copyOf(busy.reservedDates(2L)));
+    }
+
+    private static Object[] row(Long turfId, LocalDate date, int startHour, int endHour) {
+        return new Object[]{turfId, date, LocalTime.of(startHour, 0), LocalTime.of(endHour, 0)};
+    }
+}
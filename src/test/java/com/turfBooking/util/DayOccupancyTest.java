@@ -0,0 +1,42 @@
+package com.turfBooking.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalTime;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class DayOccupancyTest {
+
+    @Test
+    void adjacentSlotsDoNotConflict() {
+        DayOccupancy day = new DayOccupancy(System.nanoTime());
+        day.putBooking(1L, LocalTime.of(10, 0), LocalTime.of(11, 0));
+
+        assertTrue(day.isFree(LocalTime.of(9, 0), LocalTime.of(10, 0)));
+        assertTrue(day.isFree(LocalTime.of(11, 0), LocalTime.of(12, 0)));
+        assertFalse(day.isFree(LocalTime.of(10, 59), LocalTime.of(11, 30)));
+    }
+
+    @Test
+    void removingOneIntervalKeepsOverlappingOnes() {
+        DayOccupancy day = new DayOccupancy(System.nanoTime());
+        day.putBooking(1L, LocalTime.of(18, 0), LocalTime.of(19, 0));
+        day.putBlockedSlot(7L, LocalTime.of(18, 30), LocalTime.of(20, 0));
+
+        day.removeBooking(1L);
+
+        assertTrue(day.isFree(LocalTime.of(18, 0), LocalTime.of(18, 30)));
+        assertFalse(day.isFree(LocalTime.of(19, 0), LocalTime.of(19, 30)));
+    }
+
+    @Test
+    void spansWordBoundaries() {
+        DayOccupancy day = new DayOccupancy(System.nanoTime());
+        day.putBlockedSlot(1L, LocalTime.of(0, 0), LocalTime.of(23, 59, 30));
+
+        assertFalse(day.isFree(LocalTime.of(23, 59), LocalTime.MAX));
+        assertFalse(day.isFree(LocalTime.of(1, 3), LocalTime.of(1, 5)));
+    }
+}
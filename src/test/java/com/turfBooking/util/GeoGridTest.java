@@ -0,0 +1,76 @@
+package com.turfBooking.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class GeoGridTest {
+
+    @Test
+    void encodesKnownGeohash() {
+        assertEquals("ezs42", GeoHash.encode(42.6, -5.6, 5));
+        assertEquals("u4pruydqqvj", GeoHash.encode(57.64911, 10.40744, 11));
+    }
+
+    @Test
+    void nearestMatchesBruteForce() {
+        Random random = new Random(42);
+        GeoGrid<Integer> grid = new GeoGrid<>(5, 64);
+        List<double[]> points = new ArrayList<>();
+        for (int i = 0; i < 5000; i++) {
+            double latitude = 12.8 + random.nextDouble() * 0.5;
+            double longitude = 77.4 + random.nextDouble() * 0.5;
+            grid.put(i, latitude, longitude, i % 3);
+            points.add(new double[]{i, latitude, longitude});
+        }
+
+        for (int query = 0; query < 50; query++) {
+            double latitude = 12.8 + random.nextDouble() * 0.5;
+            double longitude = 77.4 + random.nextDouble() * 0.5;
+            List<Long> expected = points.stream()
+                    .filter(point -> (int) point[0] % 3 == 0)
+                    .filter(point -> GeoHash.distanceKm(latitude, longitude, point[1], point[2]) <= 15)
+                    .sorted(Comparator.comparingDouble(point -> GeoHash.distanceKm(latitude, longitude, point[1], point[2])))
+                    .limit(10)
+                    .map(point -> (long) point[0])
+                    .collect(Collectors.toList());
+
+            List<Long> actual = grid.nearest(latitude, longitude, 15, 10, type -> type == 0).stream()
+                    .map(GeoGrid.Hit::getId)
+                    .collect(Collectors.toList());
+            assertEquals(expected, actual);
+        }
+    }
+
+    @Test
+    void findsNeighboursAcrossTheAntimeridian() {
+        GeoGrid<String> grid = new GeoGrid<>(5, 64);
+        grid.put(1, 0, 179.99, "east");
+        grid.put(2, 0, -179.99, "west");
+        grid.put(3, 0, 170, "far");
+
+        List<GeoGrid.Hit<String>> hits = grid.nearest(0, 179.999, 5, 10, null);
+
+        assertEquals(2, hits.size());
+        assertTrue(hits.get(0).getDistanceKm() <= hits.get(1).getDistanceKm());
+    }
+
+    @Test
+    void removedPointsAreNotReturned() {
+        GeoGrid<String> grid = new GeoGrid<>(5, 64);
+        grid.put(1, 19.07, 72.87, "a");
+        grid.put(1, 28.61, 77.20, "a");
+
+        assertTrue(grid.nearest(19.07, 72.87, 5, 5, null).isEmpty());
+        assertEquals(1, grid.nearest(28.61, 77.20, 5, 5, null).size());
+        grid.remove(1);
+        assertEquals(0, grid.size());
+    }
+}
@@ -0,0 +1,57 @@
+package com.turfBooking.util;
+
+import com.turfBooking.dto.PageResponseDTO;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class PageCursorTest {
+
+    @Test
+    void roundTripsCompositeKeys() {
+        String cursor = PageCursor.encode(LocalDate.of(2026, 3, 1), LocalTime.of(18, 30), 42L);
+        String[] key = PageCursor.decode(cursor, 3);
+
+        assertEquals(LocalDate.of(2026, 3, 1), PageCursor.parseDate(key[0]));
+        assertEquals(LocalTime.of(18, 30), PageCursor.parseTime(key[1]));
+        assertEquals(42L, PageCursor.parseId(key[2]));
+    }
+
+    @Test
+    void firstPageHasNoCursor() {
+        assertNull(PageCursor.decode(null, 1));
+        assertNull(PageCursor.decode(" ", 1));
+        assertEquals(0L, PageCursor.afterId(null));
+        assertEquals(7L, PageCursor.afterId(PageCursor.encode(7L)));
+    }
+
+    @Test
+    void rejectsMalformedCursorsAndSizes() {
+        assertThrows(RuntimeException.class, () -> PageCursor.decode("!!not-base64!!", 1));
+        assertThrows(RuntimeException.class, () -> PageCursor.decode(PageCursor.encode(1L, 2L), 1));
+        assertThrows(RuntimeException.class, () -> PageCursor.afterId(PageCursor.encode("abc")));
+        assertThrows(RuntimeException.class, () -> PageCursor.parseDate("2026-13-01"));
+        assertThrows(RuntimeException.class, () -> PageCursor.pageSize(0));
+        assertThrows(RuntimeException.class, () -> PageCursor.pageSize(PageCursor.MAX_PAGE_SIZE + 1));
+        assertEquals(PageCursor.DEFAULT_PAGE_SIZE, PageCursor.pageSize(null));
+    }
+
+    @Test
+    void trimsProbeRowAndPointsAtLastRowKept() {
+        PageResponseDTO<String> page = PageCursor.page(List.of(1L, 2L, 3L), 2, id -> "row" + id,
+                id -> new Object[]{id});
+
+        assertEquals(List.of("row1", "row2"), page.getItems());
+        assertArrayEquals(new String[]{"2"}, PageCursor.decode(page.getNextCursor(), 1));
+
+        PageResponseDTO<String> last = PageCursor.page(List.of(1L, 2L), 2, id -> "row" + id, id -> new Object[]{id});
+        assertNull(last.getNextCursor());
+    }
+}
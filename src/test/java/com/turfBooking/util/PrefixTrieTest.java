@@ -0,0 +1,53 @@
+package com.turfBooking.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+
+class PrefixTrieTest {
+
+    @Test
+    void ranksPrefixMatchesByScore() {
+        PrefixTrie trie = new PrefixTrie(3);
+        trie.put(1, List.of("green arena", "arena", "indiranagar"), 5);
+        trie.put(2, List.of("greenfield", "koramangala"), 9);
+        trie.put(3, List.of("grass hub", "hub", "indiranagar"), 1);
+
+        assertArrayEquals(new long[]{2, 1, 3}, trie.top("g", 10));
+        assertArrayEquals(new long[]{2, 1}, trie.top("green", 10));
+        assertArrayEquals(new long[]{1}, trie.top("green ar", 10));
+        assertArrayEquals(new long[]{1, 3}, trie.top("indira", 10));
+        assertArrayEquals(new long[0], trie.top("greens", 10));
+    }
+
+    @Test
+    void keepsTopListsExactAfterRescoreAndRemove() {
+        PrefixTrie trie = new PrefixTrie(2);
+        for (long id = 1; id <= 5; id++) {
+            trie.put(id, List.of("turf " + id, "city"), id);
+        }
+        assertArrayEquals(new long[]{5, 4}, trie.top("c", 10));
+
+        trie.setScore(1, 10);
+        assertArrayEquals(new long[]{1, 5}, trie.top("city", 10));
+
+        trie.remove(1);
+        trie.remove(5);
+        assertArrayEquals(new long[]{4, 3}, trie.top("", 10));
+        assertArrayEquals(new long[]{2}, trie.top("turf 2", 10));
+        assertArrayEquals(new long[0], trie.top("turf 1", 10));
+    }
+
+    @Test
+    void movesItemWhenKeysChange() {
+        PrefixTrie trie = new PrefixTrie(5);
+        trie.put(7, List.of("alpha"), 3);
+        trie.put(8, List.of("alps"), 1);
+        trie.put(7, List.of("beta"), 3);
+
+        assertArrayEquals(new long[]{8}, trie.top("al", 10));
+        assertArrayEquals(new long[]{7}, trie.top("b", 10));
+    }
+}
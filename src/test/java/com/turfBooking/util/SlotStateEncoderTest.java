@@ -0,0 +1,51 @@
+package com.turfBooking.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class SlotStateEncoderTest {
+
+    private static final LocalTime OPEN = LocalTime.of(8, 0);
+    private static final LocalTime CLOSE = LocalTime.of(18, 0);
+
+    @Test
+    void encodesAnEmptyDayAsOneFreeRun() {
+        assertEquals("10F", SlotStateEncoder.encode(OPEN, CLOSE, 60, List.of(), List.of()));
+        assertEquals("10F", SlotStateEncoder.encode(OPEN, CLOSE, 60, null, null));
+        assertEquals("20F", SlotStateEncoder.encode(OPEN, CLOSE, 30, List.of(), List.of()));
+    }
+
+    @Test
+    void runLengthEncodesBookedAndBlockedSlots() {
+        List<int[]> booked = List.of(minutes(12, 0, 14, 0));
+        List<int[]> blocked = List.of(minutes(14, 0, 15, 0));
+        assertEquals("4F2B1X3F", SlotStateEncoder.encode(OPEN, CLOSE, 60, booked, blocked));
+    }
+
+    @Test
+    void blockedWinsOverBookedAndPartialOverlapTakesTheSlot() {
+        List<int[]> booked = List.of(minutes(9, 0, 10, 0), minutes(11, 30, 11, 45));
+        List<int[]> blocked = List.of(minutes(9, 30, 9, 45));
+        assertEquals("1F1X1F1B6F", SlotStateEncoder.encode(OPEN, CLOSE, 60, booked, blocked));
+    }
+
+    @Test
+    void dropsTheTrailingPartialSlot() {
+        assertEquals("2F", SlotStateEncoder.encode(LocalTime.of(8, 0), LocalTime.of(10, 30), 60, List.of(), List.of()));
+        assertEquals("", SlotStateEncoder.encode(LocalTime.of(8, 0), LocalTime.of(8, 30), 60, List.of(), List.of()));
+    }
+
+    @Test
+    void coversTheEndOfTheDay() {
+        List<int[]> booked = List.of(minutes(23, 0, 24, 0));
+        assertEquals("1F1B", SlotStateEncoder.encode(LocalTime.of(22, 0), LocalTime.MAX, 60, booked, List.of()));
+    }
+
+    private static int[] minutes(int startHour, int startMinute, int endHour, int endMinute) {
+        return new int[]{startHour * 60 + startMinute, endHour * 60 + endMinute};
+    }
+}
@@ -0,0 +1,47 @@
+package com.turfBooking.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class SlotSweeperTest {
+
+    @Test
+    void skipsSlotsOverlappingReservationsAndStaysOnGrid() {
+        // 10:00-11:00 booked, 12:15-12:45 blocked, listed out of order
+        List<int[]> busy = List.of(new int[]{735, 765}, new int[]{600, 660});
+
+        List<LocalTime> slots = SlotSweeper.freeSlots(LocalTime.of(9, 0), LocalTime.of(14, 0), 60, busy);
+
+        assertEquals(List.of(LocalTime.of(9, 0), LocalTime.of(11, 0), LocalTime.of(13, 0)), slots);
+    }
+
+    @Test
+    void usesConfiguredSlotLengthAndDropsPartialLastSlot() {
+        List<int[]> busy = List.of(new int[]{540, 570}, new int[]{560, 600});
+
+        List<LocalTime> slots = SlotSweeper.freeSlots(LocalTime.of(9, 0), LocalTime.of(13, 0), 90, busy);
+
+        assertEquals(List.of(LocalTime.of(10, 30)), slots);
+        assertTrue(SlotSweeper.isValidSlotLength(30));
+        assertFalse(SlotSweeper.isValidSlotLength(50));
+    }
+
+    @Test
+    void freeRunsClipReservationsToOperatingHours() {
+        // 08:30-10:00 starts before opening, 11:00-12:00 and 11:30-12:30 overlap
+        List<int[]> busy = List.of(new int[]{690, 750}, new int[]{510, 600}, new int[]{660, 720});
+
+        List<int[]> runs = SlotSweeper.freeRuns(LocalTime.of(9, 0), LocalTime.of(14, 0), busy);
+
+        assertEquals(2, runs.size());
+        assertEquals(List.of(600, 660), List.of(runs.get(0)[0], runs.get(0)[1]));
+        assertEquals(List.of(750, 840), List.of(runs.get(1)[0], runs.get(1)[1]));
+        assertEquals(180, SlotSweeper.coveredMinutes(busy));
+    }
+}
@@ -0,0 +1,46 @@
+package com.turfBooking.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class SuggestionKeysTest {
+
+    @Test
+    void normalizesCaseAccentsAndPunctuation() {
+        assertEquals("cafe green arena", SuggestionKeys.normalize("Café  Green-Arena"));
+        assertEquals("sao paulo 5 a side", SuggestionKeys.normalize("  São Paulo (5-a-side)! "));
+        assertEquals("turf42", SuggestionKeys.normalize("TURF42"));
+    }
+
+    @Test
+    void normalizesMissingAndBlankTextToEmpty() {
+        assertEquals("", SuggestionKeys.normalize(null));
+        assertEquals("", SuggestionKeys.normalize(""));
+        assertEquals("", SuggestionKeys.normalize(" -- "));
+    }
+
+    @Test
+    void addsOneKeyPerWordStart() {
+        Set<String> keys = new LinkedHashSet<>();
+        SuggestionKeys.addSuffixes(keys, "green arena koramangala");
+
+        assertEquals(List.of("green arena koramangala", "arena koramangala", "koramangala"), List.copyOf(keys));
+    }
+
+    @Test
+    void addsNothingForEmptyTextAndNoDuplicates() {
+        Set<String> keys = new LinkedHashSet<>();
+        SuggestionKeys.addSuffixes(keys, "");
+        assertTrue(keys.isEmpty());
+
+        SuggestionKeys.addSuffixes(keys, "arena");
+        SuggestionKeys.addSuffixes(keys, "green arena");
+        assertEquals(List.of("arena", "green arena"), List.copyOf(keys));
+    }
+}